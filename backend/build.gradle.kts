@@ -2,6 +2,8 @@ plugins {
 	java
 	id("org.springframework.boot") version "4.0.0"
 	id("io.spring.dependency-management") version "1.1.7"
+	// 성능 측정 (src/jmh, ./gradlew jmh)
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.example"
@@ -51,10 +53,31 @@ dependencies {
 	
     // 이메일 발송 (Mail)
     implementation("org.springframework.boot:spring-boot-starter-mail")
+
+	// 조회 캐시 (Caffeine, W-TinyLFU)
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+}
+
+// 급여 집계 SIMD (SalaryVectorKernels) - 인큐베이터 모듈이라 컴파일/실행 모두 명시적으로 추가
+// (java -jar 로 띄울 때 빠지면 스칼라 루프로 계산한다)
+val vectorModule = "--add-modules=jdk.incubator.vector"
+
+tasks.withType<JavaCompile> {
+	options.compilerArgs.add(vectorModule)
+}
+
+tasks.named<JavaExec>("bootRun") {
+	jvmArgs(vectorModule)
+}
+
+jmh {
+	resultFormat = "JSON"
+	jvmArgs.add(vectorModule)
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
     // ▼ Java 21 이상에서 Mockito 경고 없애기 (허용 옵션 추가)
-    jvmArgs("-XX:+EnableDynamicAgentLoading") 
+    jvmArgs("-XX:+EnableDynamicAgentLoading", vectorModule) 
 }
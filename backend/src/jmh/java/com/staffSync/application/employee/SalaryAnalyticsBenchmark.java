@@ -0,0 +1,156 @@
+package com.staffSync.application.employee;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.SalaryAnalyticsDto;
+import com.staffSync.application.employee.dto.SalaryStatsDto;
+
+/**
+ * 급여 분석 집계 벤치마크 (./gradlew jmh)
+ *
+ * 부서 20개, 입사일 20년에 고르게 퍼진 직원으로 입사일 조건 집계(요청마다 계산)와
+ * 급여 변경 한 건 반영(쓰기마다 배열 복사)을 잰다.
+ * 스냅샷은 운영과 같이 rebuild() 로 채운다. (부서, 급여 순 행을 흘려주는 JdbcTemplate 대역)
+ * 비교 기준은 같은 통계를 직원 목록(findAll 결과)에서 groupingBy 로 구하는 스트림 구현이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SalaryAnalyticsBenchmark {
+
+    private static final LocalDate FIRST_HIRE = LocalDate.of(2005, 1, 1);
+    private static final int HIRE_DAYS = 365 * 20;
+    private static final int DEPARTMENTS = 20;
+
+    @Param({ "100000", "1000000" })
+    private int rows;
+
+    private SalaryAnalytics analytics;
+    private List<EmployeeDto> employees; // 스트림 비교 기준용 (findAll 결과)
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+        employees = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            employees.add(employee(i + 1, 2_000_000 + random.nextInt(rows) * 10.0));
+        }
+        // LOAD_SQL 의 ORDER BY department, salary, id 순서
+        List<EmployeeDto> sorted = new ArrayList<>(employees);
+        sorted.sort(Comparator.comparing(EmployeeDto::getDepartment)
+                .thenComparing(EmployeeDto::getSalary)
+                .thenComparing(EmployeeDto::getId));
+        analytics = new SalaryAnalytics(new JdbcTemplate() {
+            @Override
+            public void query(String sql, RowCallbackHandler rch) {
+                try {
+                    for (EmployeeDto row : sorted) {
+                        rch.processRow(resultSet(row));
+                    }
+                } catch (java.sql.SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        analytics.rebuild();
+    }
+
+    // rebuild 가 읽는 네 열만 돌려주는 한 행짜리 ResultSet
+    private static ResultSet resultSet(EmployeeDto row) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> switch (method.getName() + ":" + (args != null ? args[0] : "")) {
+                    case "getLong:id" -> row.getId();
+                    case "getDouble:salary" -> row.getSalary();
+                    case "getString:department" -> row.getDepartment();
+                    case "getDate:hire_date" -> Date.valueOf(row.getHireDate());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private EmployeeDto employee(long id, double salary) {
+        LocalDate hireDate = FIRST_HIRE.plusDays(random.nextInt(HIRE_DAYS));
+        return new EmployeeDto(id, "EMP" + id, "직원" + id, "e" + id + "@example.com", hireDate, salary,
+                "부서" + (id % DEPARTMENTS), null);
+    }
+
+    @Benchmark
+    public SalaryAnalyticsDto filteredByHireDate() {
+        return analytics.getAnalytics(LocalDate.of(2010, 1, 1), LocalDate.of(2019, 12, 31));
+    }
+
+    // 비교 기준: 요청마다 직원 목록을 걸러 부서별로 모으고 정렬해 같은 통계를 구한다
+    @Benchmark
+    public SalaryAnalyticsDto filteredByHireDateStreams() {
+        LocalDate from = LocalDate.of(2010, 1, 1);
+        LocalDate to = LocalDate.of(2019, 12, 31);
+        Map<String, double[]> byDepartment = employees.stream()
+                .filter(e -> !e.getHireDate().isBefore(from) && !e.getHireDate().isAfter(to))
+                .collect(Collectors.groupingBy(EmployeeDto::getDepartment,
+                        Collectors.collectingAndThen(Collectors.toList(),
+                                list -> list.stream().mapToDouble(EmployeeDto::getSalary).sorted().toArray())));
+        List<SalaryStatsDto> departments = byDepartment.entrySet().stream()
+                .map(entry -> stats(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(SalaryStatsDto::getDepartment))
+                .toList();
+        double[] all = byDepartment.values().stream().flatMapToDouble(Arrays::stream).sorted().toArray();
+        return new SalaryAnalyticsDto(stats(null, all), departments);
+    }
+
+    // 조건 없는 집계는 다음 변경 전까지 캐시된 결과를 돌려주므로 계산이 아닌 캐시 적중 비용이다
+    @Benchmark
+    public SalaryAnalyticsDto unfilteredCacheHit() {
+        return analytics.getAnalytics(null, null);
+    }
+
+    @Benchmark
+    public void salaryUpdate() {
+        long id = 1 + random.nextInt(rows);
+        EmployeeDto after = employee(id, 2_000_000 + random.nextInt(rows) * 10.0);
+        analytics.onEmployeeChanged(EmployeeChangedEvent.updated(after, after));
+    }
+
+    private static SalaryStatsDto stats(String department, double[] sorted) {
+        double sum = Arrays.stream(sorted).sum();
+        return new SalaryStatsDto(department, sorted.length, sum, sum / sorted.length, sorted[0],
+                sorted[sorted.length - 1], percentile(sorted, 0.5), percentile(sorted, 0.1), percentile(sorted, 0.25),
+                percentile(sorted, 0.75), percentile(sorted, 0.9));
+    }
+
+    private static double percentile(double[] sorted, double p) {
+        double rank = (sorted.length - 1) * p;
+        int lower = (int) Math.floor(rank);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+}
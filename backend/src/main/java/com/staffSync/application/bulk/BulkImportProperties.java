@@ -0,0 +1,19 @@
+package com.staffSync.application.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * CSV 일괄 등록 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.import")
+public class BulkImportProperties {
+    private int batchSize = 1000; // 검증/저장 단위 행 수 (JDBC 배치 크기)
+    private int maxReportedErrors = 1000; // 결과에 담을 최대 오류 행 수
+}
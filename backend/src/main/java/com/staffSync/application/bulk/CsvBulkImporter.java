@@ -0,0 +1,176 @@
+package com.staffSync.application.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.bulk.dto.ImportErrorDto;
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.common.util.CsvReader;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CSV 일괄 등록 공통 처리
+ *
+ * 파일을 스트리밍으로 읽어 batchSize 행씩 처리한다.
+ * 1) 검증: 행끼리 독립적인 규칙(엔티티 생성자 등)은 병렬로 검사한다.
+ * 2) 저장: 중복 검사/번호 부여처럼 순서가 필요한 처리와 JDBC 배치 INSERT 는 청크 단위 트랜잭션으로 실행한다.
+ * 잘못된 행은 건너뛰고 줄 번호와 사유를 결과에 남긴다. 저장 중 오류가 나면 해당 청크만 실패 처리하고 계속한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CsvBulkImporter {
+
+    private final BulkImportProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    // 검증을 통과한 행
+    public record ValidRow<T>(long line, T value) {
+    }
+
+    // 청크 저장 (저장하지 못한 행을 반환, 예: 중복)
+    @FunctionalInterface
+    public interface ChunkWriter<T> {
+        List<ImportErrorDto> write(List<ValidRow<T>> rows);
+    }
+
+    // 검증 결과 (value 또는 error 중 하나)
+    private record Validated<T>(long line, T value, String error) {
+    }
+
+    /**
+     * CSV 일괄 등록 실행
+     * 
+     * @param input           CSV 입력 (UTF-8, 첫 줄은 헤더)
+     * @param requiredColumns 필수 헤더 컬럼
+     * @param validator       행 -> 저장 대상 변환/검증 (병렬 실행, 실패 시 IllegalArgumentException)
+     * @param writer          청크 저장
+     * @return 처리 결과 (오류 행 목록 포함)
+     */
+    public <T> ImportResultDto run(InputStream input, List<String> requiredColumns,
+            Function<CsvRow, T> validator, ChunkWriter<T> writer) throws IOException {
+        long startedAt = System.nanoTime();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Report report = new Report(properties.getMaxReportedErrors());
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = readHeader(reader, requiredColumns);
+
+            List<CsvRow> chunk = new ArrayList<>(properties.getBatchSize());
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue; // 빈 줄
+                }
+                chunk.add(new CsvRow(reader.getRecordLineNumber(), header, record));
+                if (chunk.size() >= properties.getBatchSize()) {
+                    process(chunk, validator, writer, transactionTemplate, report);
+                    chunk = new ArrayList<>(properties.getBatchSize());
+                }
+            }
+            if (!chunk.isEmpty()) {
+                process(chunk, validator, writer, transactionTemplate, report);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("CSV 일괄 등록: {}행 중 {}행 저장, {}행 실패 ({} ms)",
+                report.total, report.imported, report.failed, elapsedMillis);
+        return new ImportResultDto(report.total, report.imported, report.failed, elapsedMillis,
+                report.errors, report.failed > report.errors.size());
+    }
+
+    private Map<String, Integer> readHeader(CsvReader reader, List<String> requiredColumns) throws IOException {
+        List<String> columns = reader.readRecord();
+        if (columns == null) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            if (i == 0 && column.startsWith("\uFEFF")) {
+                column = column.substring(1); // UTF-8 BOM
+            }
+            header.put(column, i);
+        }
+        List<String> missing = requiredColumns.stream().filter(column -> !header.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("필수 컬럼이 없습니다: " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private <T> void process(List<CsvRow> chunk, Function<CsvRow, T> validator, ChunkWriter<T> writer,
+            TransactionTemplate transactionTemplate, Report report) {
+        report.total += chunk.size();
+
+        // 1) 병렬 검증 (순서 유지)
+        List<Validated<T>> results = chunk.parallelStream()
+                .map(row -> {
+                    try {
+                        return new Validated<>(row.getLine(), validator.apply(row), null);
+                    } catch (IllegalArgumentException e) {
+                        return new Validated<T>(row.getLine(), null, e.getMessage());
+                    }
+                })
+                .toList();
+
+        List<ValidRow<T>> valid = new ArrayList<>(results.size());
+        for (Validated<T> result : results) {
+            if (result.error() != null) {
+                report.reject(new ImportErrorDto(result.line(), result.error()));
+            } else {
+                valid.add(new ValidRow<>(result.line(), result.value()));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        // 2) 청크 단위 저장
+        try {
+            List<ImportErrorDto> rejected = transactionTemplate.execute(status -> writer.write(valid));
+            rejected.forEach(report::reject);
+            report.imported += valid.size() - rejected.size();
+        } catch (DataAccessException e) {
+            log.warn("CSV 일괄 등록 청크 저장 실패 ({}~{}행): {}",
+                    valid.get(0).line(), valid.get(valid.size() - 1).line(), e.getMostSpecificCause().getMessage());
+            valid.forEach(row -> report.reject(new ImportErrorDto(row.line(), "저장 실패: 같은 묶음의 다른 행과 함께 저장하지 못했습니다.")));
+        }
+    }
+
+    // 처리 결과 집계 (요청 스레드에서만 갱신)
+    private static final class Report {
+
+        private final int maxErrors;
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+        private long total = 0;
+        private long imported = 0;
+        private long failed = 0;
+
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        private void reject(ImportErrorDto error) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(error);
+            }
+        }
+    }
+}
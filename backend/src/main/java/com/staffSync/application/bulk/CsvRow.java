@@ -0,0 +1,60 @@
+package com.staffSync.application.bulk;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CSV 데이터 행 1개 (헤더 이름으로 값 조회)
+ */
+public class CsvRow {
+
+    private final long line;
+    private final Map<String, Integer> header;
+    private final List<String> values;
+
+    CsvRow(long line, Map<String, Integer> header, List<String> values) {
+        this.line = line;
+        this.header = header;
+        this.values = values;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    // 앞뒤 공백 제거, 빈 값은 null
+    public String get(String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    public String require(String column, String label) {
+        String value = get(column);
+        if (value == null) {
+            throw new IllegalArgumentException(label + "은(는) 필수입니다.");
+        }
+        return value;
+    }
+
+    public Integer getInt(String column, String label) {
+        String value = require(column, label);
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + "은(는) 정수여야 합니다: " + value);
+        }
+    }
+
+    public Double getDouble(String column, String label) {
+        String value = require(column, label);
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + "은(는) 숫자여야 합니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.staffSync.application.bulk.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+    private long line; // CSV 줄 번호 (헤더 = 1)
+    private String message;
+}
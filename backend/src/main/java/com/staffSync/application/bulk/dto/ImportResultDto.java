@@ -0,0 +1,19 @@
+package com.staffSync.application.bulk.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDto {
+    private long totalRows; // 헤더 제외 데이터 행 수
+    private long importedRows;
+    private long failedRows;
+    private long elapsedMillis;
+    private List<ImportErrorDto> errors; // 실패 행 (최대 app.import.max-reported-errors 건)
+    private boolean errorsTruncated; // 실패 행이 더 있어 목록이 잘렸는지
+}
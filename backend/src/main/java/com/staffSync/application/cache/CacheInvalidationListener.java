@@ -0,0 +1,56 @@
+package com.staffSync.application.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.dto.ProductDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회 캐시 무효화
+ *
+ * 변경 이벤트를 커밋 이후에 받아 해당 키만 제거한다.
+ * 커밋 전에 지우면 동시 조회가 이전 값을 다시 채울 수 있으므로 반드시 커밋 이후에 처리한다.
+ * 커밋 전에 시작해 이전 값을 읽은 조회가 제거 이후에 적재하는 경우는 FencedCache 가 막는다.
+ * 상품은 단건/일괄/레인 재고 변경이 모두 같은 이벤트를 발행하므로 경로와 무관하게 무효화된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private final CacheManager cacheManager;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductDto changed = event.getBefore() != null ? event.getBefore() : event.getAfter();
+        evict(CacheNames.PRODUCTS, changed.getId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        for (EmployeeDto employee : new EmployeeDto[] { event.getBefore(), event.getAfter() }) {
+            if (employee == null) {
+                continue;
+            }
+            evict(CacheNames.EMPLOYEES, employee.getId());
+            evict(CacheNames.EMPLOYEES_BY_EMPLOYEE_ID, employee.getEmployeeId());
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.staffSync.application.cache;
+
+/**
+ * 조회 캐시 이름
+ */
+public final class CacheNames {
+
+    public static final String PRODUCTS = "products"; // 상품 ID -> ProductDto
+    public static final String EMPLOYEES = "employees"; // 직원 ID -> EmployeeDto
+    public static final String EMPLOYEES_BY_EMPLOYEE_ID = "employeesByEmployeeId"; // 사원번호 -> EmployeeDto
+
+    private CacheNames() {
+    }
+}
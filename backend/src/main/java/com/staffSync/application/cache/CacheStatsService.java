@@ -0,0 +1,66 @@
+package com.staffSync.application.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.staffSync.application.cache.dto.CacheStatsDto;
+import com.staffSync.application.cache.dto.EmailFilterStatsDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private final CacheManager cacheManager;
+    private final List<EmailExistenceFilter> emailFilters;
+
+    /**
+     * 조회 캐시별 적중/미스/제거 통계를 조회합니다. (캐시 크기 산정용)
+     * 
+     * @return 캐시 통계 목록
+     */
+    public List<CacheStatsDto> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(cache -> cache != null
+                        && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 이메일 중복 검사용 블룸 필터별 오탐률/메모리/생략한 조회 수를 조회합니다.
+     * 
+     * @return 필터 통계 목록 (테이블명 순)
+     */
+    public List<EmailFilterStatsDto> getEmailFilterStats() {
+        return emailFilters.stream()
+                .map(EmailExistenceFilter::getStats)
+                .sorted(Comparator.comparing(EmailFilterStatsDto::getName))
+                .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private CacheStatsDto toDto(Cache cache) {
+        // FencedCache 로 감싸져 있으므로 네이티브 캐시로 통계를 읽는다
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache =
+                (com.github.benmanes.caffeine.cache.Cache<Object, Object>) cache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return new CacheStatsDto(
+                cache.getName(),
+                nativeCache.estimatedSize(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                stats.averageLoadPenalty() / 1_000_000.0);
+    }
+}
@@ -0,0 +1,131 @@
+package com.staffSync.application.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.staffSync.application.cache.dto.EmailFilterStatsDto;
+import com.staffSync.common.util.ScalableBloomFilter;
+
+/**
+ * 이메일 중복 검사 앞단의 블룸 필터 (테이블마다 하나)
+ *
+ * 가입/등록 폭주 때 대부분의 existsByEmail 결과는 false 이므로, 필터가 "확실히 없음"이라고 하면 DB 조회를 건너뛴다.
+ * "있을 수 있음"일 때만 실제 조회로 넘어가므로 결과는 항상 DB 와 같고, 동시 가입은 여전히 unique 제약이 막는다.
+ * 필터는 시작 시 DB 에서 채우고 저장 시 추가한다. 블룸 필터는 원소를 뺄 수 없으므로
+ * 삭제/변경된 이메일이 넣은 수의 1/4 을 넘으면 DB 기준으로 다시 채운다.
+ * 채우기 전에는 모든 검사를 DB 로 보낸다.
+ */
+public abstract class EmailExistenceFilter {
+
+    private final String name;
+    private final JdbcTemplate jdbcTemplate;
+    private final String loadSql;
+    private final EmailFilterProperties properties;
+
+    private volatile ScalableBloomFilter filter; // null 이면 아직 채우지 않음
+    private long staleEntries = 0; // guarded by this
+
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder skippedQueries = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * @param name         통계에 표시할 이름 (테이블명)
+     * @param jdbcTemplate 시작 시 채우기용
+     * @param loadSql      이메일 한 열을 읽는 SQL
+     * @param properties   용량/오탐률 설정
+     */
+    protected EmailExistenceFilter(String name, JdbcTemplate jdbcTemplate, String loadSql,
+            EmailFilterProperties properties) {
+        this.name = name;
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadSql = loadSql;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 이메일 존재 여부 (필터가 "확실히 없음"이면 query 를 호출하지 않음)
+     *
+     * @param email 이메일
+     * @param query 실제 존재 여부 조회 (existsByEmail)
+     * @return DB 에 있으면 true
+     */
+    public boolean exists(String email, Predicate<String> query) {
+        checks.increment();
+        ScalableBloomFilter current = filter;
+        if (current != null && email != null && !current.mightContain(email)) {
+            skippedQueries.increment();
+            return false;
+        }
+        boolean exists = query.test(email);
+        if (current != null && !exists) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    // 저장된 이메일 추가 (롤백돼도 오탐이 하나 늘 뿐 결과는 틀리지 않는다)
+    public synchronized void add(String email) {
+        if (filter != null && email != null) {
+            filter.put(email);
+        }
+    }
+
+    // 삭제/변경으로 더는 쓰이지 않는 이메일 (필터에서 뺄 수 없으므로 개수만 센다)
+    public synchronized void markRemoved() {
+        if (filter == null) {
+            return;
+        }
+        staleEntries++;
+        if (staleEntries * 4 > filter.size()) {
+            rebuild();
+        }
+    }
+
+    // DB 기준으로 다시 채우기 (채우는 동안의 추가는 끝난 뒤 새 필터에 들어간다)
+    public synchronized void rebuild() {
+        ScalableBloomFilter rebuilt = new ScalableBloomFilter(
+                properties.getExpectedInsertions(), properties.getFalsePositiveRate());
+        jdbcTemplate.query(loadSql, rs -> {
+            String email = rs.getString(1);
+            if (email != null) {
+                rebuilt.put(email);
+            }
+        });
+        filter = rebuilt;
+        staleEntries = 0;
+    }
+
+    public synchronized EmailFilterStatsDto getStats() {
+        long skipped = skippedQueries.sum();
+        long falsePositive = falsePositives.sum();
+        double observed = skipped + falsePositive == 0 ? 0 : (double) falsePositive / (skipped + falsePositive);
+        ScalableBloomFilter current = filter;
+        if (current == null) {
+            return new EmailFilterStatsDto(name, false, 0, 0, 0, 0, properties.getFalsePositiveRate(), 0,
+                    checks.sum(), skipped, falsePositive, observed);
+        }
+        return new EmailFilterStatsDto(
+                name,
+                true,
+                current.size(),
+                staleEntries,
+                current.layerCount(),
+                current.memoryBytes(),
+                current.targetFalsePositiveRate(),
+                current.estimatedFalsePositiveRate(),
+                checks.sum(),
+                skipped,
+                falsePositive,
+                observed);
+    }
+}
@@ -0,0 +1,19 @@
+package com.staffSync.application.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 이메일 중복 검사용 블룸 필터 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.email-filter")
+public class EmailFilterProperties {
+    private long expectedInsertions = 10_000; // 첫 층 설계 용량 (넘으면 2배 용량의 층을 덧붙임)
+    private double falsePositiveRate = 0.01; // 목표 오탐률 (오탐이면 DB 조회로 넘어감)
+}
@@ -0,0 +1,149 @@
+package com.staffSync.application.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 무효화와 겹친 조회가 이전 값을 다시 채우지 않는 캐시
+ *
+ * 조회가 DB 를 읽는 동안 다른 트랜잭션이 커밋하고 무효화까지 끝나면, 그 조회가 읽은 값은 커밋 이전 값일 수 있다.
+ * 이런 조회의 결과는 호출자에게 반환만 하고 캐시에는 넣지 않는다.
+ * 무효화와 적재는 키별로 같은 잠금(ConcurrentHashMap.compute) 안에서 처리하므로 검사와 적재 사이에 무효화가 끼어들 수 없다.
+ * 진행 중인 조회만 추적하므로 추가 메모리는 동시 조회 수에 비례한다.
+ *
+ * 적재 시점을 알아야 하므로 @Cacheable 은 sync = true 로 선언한다. (get(key, loader) 경로)
+ */
+public class FencedCache implements Cache {
+
+    private final Cache delegate;
+
+    // 키 -> 진행 중인 조회 (키 잠금 안에서만 변경)
+    private final ConcurrentHashMap<Object, List<Load>> loads = new ConcurrentHashMap<>();
+
+    // 진행 중인 조회 한 건 (조회 중에 무효화되면 stale)
+    private static final class Load {
+        private boolean stale;
+    }
+
+    public FencedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        Load load = new Load();
+        loads.compute(key, (k, pending) -> {
+            List<Load> list = pending != null ? pending : new ArrayList<>(2);
+            list.add(load);
+            return list;
+        });
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            loads.computeIfPresent(key, (k, pending) -> remove(pending, load));
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        loads.compute(key, (k, pending) -> {
+            if (!load.stale) {
+                delegate.put(k, value);
+            }
+            return remove(pending, load);
+        });
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        loads.compute(key, (k, pending) -> {
+            delegate.evict(k);
+            return markStale(pending);
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean[] present = new boolean[1];
+        loads.compute(key, (k, pending) -> {
+            present[0] = delegate.evictIfPresent(k);
+            return markStale(pending);
+        });
+        return present[0];
+    }
+
+    @Override
+    public void clear() {
+        markAllStale();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        markAllStale();
+        return delegate.invalidate();
+    }
+
+    // 전체 무효화: 진행 중인 조회를 모두 stale 로 (이후 시작한 조회는 커밋된 값을 읽는다)
+    private void markAllStale() {
+        for (Object key : loads.keySet()) {
+            loads.computeIfPresent(key, (k, pending) -> markStale(pending));
+        }
+    }
+
+    private static List<Load> markStale(List<Load> pending) {
+        if (pending != null) {
+            pending.forEach(load -> load.stale = true);
+        }
+        return pending;
+    }
+
+    private static List<Load> remove(List<Load> pending, Load load) {
+        if (pending == null) {
+            return null;
+        }
+        pending.remove(load);
+        return pending.isEmpty() ? null : pending;
+    }
+}
@@ -0,0 +1,83 @@
+package com.staffSync.application.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.EmployeesImportedEvent;
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.ProductsImportedEvent;
+
+/**
+ * 테이블별 변경 버전 (메모리)
+ *
+ * 커밋된 변경 이벤트마다 버전을 올리고, 이 값으로 조건부 GET 의 ETag/Last-Modified 를 만든다.
+ * 버전 확인에는 DB 조회가 필요 없으므로 변경이 없으면 304 를 바로 돌려줄 수 있다.
+ * ETag 에는 기동 시각(epoch)을 넣어 재시작 후 이전 ETag 가 일치하지 않게 한다.
+ *
+ * 버전은 메모리 조회 모델(캐시, 검색 색인, 대시보드 집계)이 갱신된 뒤에 올라가야 하므로
+ * 가장 마지막 순서(LOWEST_PRECEDENCE)로 처리하고, 해당 리스너들은 먼저 실행되도록 순서를 지정한다.
+ */
+@Component
+public class TableVersions {
+
+    public static final String PRODUCTS = "products";
+    public static final String EMPLOYEES = "employees";
+
+    private final long epoch = System.currentTimeMillis();
+    private final Map<String, TableVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * 버전 스냅샷
+     * 
+     * @param table        테이블 이름
+     * @param startedAt    기동 시각 (epoch millis)
+     * @param counter      변경 횟수
+     * @param lastModified 마지막 변경 시각 (epoch millis)
+     */
+    public record TableVersion(String table, long startedAt, long counter, long lastModified) {
+
+        public String etag() {
+            return "\"" + table + "-" + Long.toString(startedAt, 36) + "-" + counter + "\"";
+        }
+    }
+
+    public TableVersion current(String table) {
+        return versions.getOrDefault(table, new TableVersion(table, epoch, 0L, epoch));
+    }
+
+    public void bump(String table) {
+        long now = System.currentTimeMillis();
+        versions.compute(table, (key, version) -> new TableVersion(table, epoch,
+                version == null ? 1L : version.counter() + 1, now));
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        bump(PRODUCTS);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        bump(EMPLOYEES);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        bump(PRODUCTS);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        bump(EMPLOYEES);
+    }
+}
@@ -0,0 +1,18 @@
+package com.staffSync.application.cache.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private String name;
+    private long size; // 현재 항목 수 (추정치)
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount; // 용량/만료로 밀려난 항목 수
+    private double averageLoadMillis; // 미스 시 DB 조회 평균 시간
+}
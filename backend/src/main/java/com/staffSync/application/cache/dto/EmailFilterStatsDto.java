@@ -0,0 +1,23 @@
+package com.staffSync.application.cache.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailFilterStatsDto {
+    private String name;
+    private boolean seeded; // false 면 아직 채우지 않아 모든 검사가 DB 조회
+    private long entries; // 필터에 넣은 이메일 수
+    private long staleEntries; // 삭제/변경돼 필터에만 남은 이메일 수 (다시 채우기 전까지 오탐 원인)
+    private int layers;
+    private long memoryBytes; // 비트 배열 크기
+    private double targetFalsePositiveRate;
+    private double estimatedFalsePositiveRate; // 비트 채움 비율로 계산한 값
+    private long checks; // 중복 검사 횟수
+    private long skippedQueries; // "확실히 없음"으로 DB 조회를 생략한 횟수
+    private long falsePositives; // "있을 수 있음"이었지만 DB 에 없던 횟수
+    private double observedFalsePositiveRate; // falsePositives / (skippedQueries + falsePositives)
+}
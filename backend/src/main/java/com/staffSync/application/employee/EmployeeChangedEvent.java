@@ -0,0 +1,30 @@
+package com.staffSync.application.employee;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 변경 이벤트
+ * 변경 전/후 스냅샷을 함께 담아 구독자가 이전 키(사원번호 등)까지 정리할 수 있게 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class EmployeeChangedEvent {
+
+    private final EmployeeDto before; // 변경 전 (등록 시 null)
+    private final EmployeeDto after; // 변경 후 (삭제 시 null)
+
+    public static EmployeeChangedEvent created(EmployeeDto after) {
+        return new EmployeeChangedEvent(null, after);
+    }
+
+    public static EmployeeChangedEvent updated(EmployeeDto before, EmployeeDto after) {
+        return new EmployeeChangedEvent(before, after);
+    }
+
+    public static EmployeeChangedEvent deleted(EmployeeDto before) {
+        return new EmployeeChangedEvent(before, null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.staffSync.application.employee;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.staffSync.domain.employee.Employee;
+
+/**
+ * 직원 복합 조건 조회 키셋 페이지 커서
+ *
+ * 마지막으로 내려준 행의 (정렬 값, id)와 함께 조회 조건 지문, 첫 페이지에서 센 전체 건수를 담는다.
+ * 다음 페이지는 건수를 다시 세지 않고 커서의 값을 그대로 돌려준다.
+ */
+public class EmployeeCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final EmployeeSortKey sortKey;
+    private final Sort.Direction direction;
+    private final String fingerprint;
+    private final long totalCount;
+    private final boolean totalCountExact;
+    private final Long lastId;
+    private final Object lastValue;
+
+    private EmployeeCursor(EmployeeSortKey sortKey, Sort.Direction direction, String fingerprint,
+            long totalCount, boolean totalCountExact, Long lastId, Object lastValue) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.fingerprint = fingerprint;
+        this.totalCount = totalCount;
+        this.totalCountExact = totalCountExact;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    // 페이지의 마지막 직원으로 커서 생성
+    public static EmployeeCursor after(EmployeeSortKey sortKey, Sort.Direction direction, String fingerprint,
+            long totalCount, boolean totalCountExact, Employee last) {
+        return new EmployeeCursor(sortKey, direction, fingerprint, totalCount, totalCountExact,
+                last.getId(), sortKey.valueOf(last));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param token       클라이언트가 보낸 커서
+     * @param sortKey     현재 요청의 정렬 기준
+     * @param direction   현재 요청의 정렬 방향
+     * @param fingerprint 현재 요청의 조회 조건 지문
+     * @return 커서
+     */
+    public static EmployeeCursor decode(String token, EmployeeSortKey sortKey, Sort.Direction direction,
+            String fingerprint) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 값(마지막 항목)에는 구분자가 포함될 수 있으므로 최대 7개로 분리
+            String[] parts = decoded.split("\\" + SEPARATOR, 7);
+            if (parts.length != 7
+                    || !parts[0].equals(sortKey.name())
+                    || !parts[1].equals(direction.name())
+                    || !parts[2].equals(fingerprint)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new EmployeeCursor(sortKey, direction, fingerprint, Long.parseLong(parts[3]),
+                    Boolean.parseBoolean(parts[4]), Long.valueOf(parts[5]), sortKey.parse(parts[6]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + fingerprint + SEPARATOR
+                + totalCount + SEPARATOR + totalCountExact + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public boolean isTotalCountExact() {
+        return totalCountExact;
+    }
+
+    // Spring Data 키셋 스크롤 위치로 변환 (정렬 컬럼 + id)
+    public ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortKey != EmployeeSortKey.ID) {
+            keys.put(sortKey.getProperty(), lastValue);
+        }
+        keys.put("id", lastId);
+        return ScrollPosition.forward(keys);
+    }
+}
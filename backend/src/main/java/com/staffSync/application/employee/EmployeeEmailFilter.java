@@ -0,0 +1,42 @@
+package com.staffSync.application.employee;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.cache.EmailExistenceFilter;
+import com.staffSync.application.cache.EmailFilterProperties;
+import com.staffSync.application.employee.dto.EmployeeDto;
+
+/**
+ * 직원 이메일 중복 검사용 블룸 필터 (커밋된 직원 변경 이벤트로 갱신)
+ */
+@Component
+public class EmployeeEmailFilter extends EmailExistenceFilter {
+
+    public EmployeeEmailFilter(JdbcTemplate jdbcTemplate, EmailFilterProperties properties) {
+        super("employee", jdbcTemplate, "SELECT email FROM employee", properties);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDto before = event.getBefore();
+        EmployeeDto after = event.getAfter();
+        if (after != null && (before == null || !after.getEmail().equals(before.getEmail()))) {
+            add(after.getEmail());
+        }
+        if (before != null && (after == null || !before.getEmail().equals(after.getEmail()))) {
+            markRemoved();
+        }
+    }
+
+    // 일괄 등록은 행 단위 이벤트가 없으므로 DB 기준으로 다시 채운다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        rebuild();
+    }
+}
@@ -0,0 +1,134 @@
+package com.staffSync.application.employee;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사원번호 발급기 (DB 시퀀스 블록 할당)
+ *
+ * 시퀀스는 blockSize 씩 증가하고, 한 번 조회한 값부터 blockSize 개의 번호를 메모리에서 나눠 준다.
+ * 블록 안에서는 CAS 로만 발급하므로 동시 등록/일괄 등록에서도 직원마다 DB 를 조회하지 않고,
+ * 여러 인스턴스가 같은 시퀀스를 써도 블록이 겹치지 않는다.
+ * 재기동 시 쓰지 않은 블록의 남은 번호는 버려진다. (번호에 빈틈은 생길 수 있으나 중복은 없다)
+ *
+ * 기존 사원번호는 읽기만 하고 바꾸지 않는다. (가장 큰 번호 뒤부터 시퀀스를 시작)
+ * 사원번호는 동기화 커서, 급여 명세 등 밖으로 복사되므로 자릿수를 넓히려면 별도의 1회성 마이그레이션으로 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeIdAllocator {
+
+    static final String SEQUENCE_NAME = "employee_number_seq";
+    private static final String NEXT_VALUE_SQL = "SELECT NEXT VALUE FOR " + SEQUENCE_NAME;
+    private static final String EXISTING_IDS_SQL = "SELECT employee_id FROM employee WHERE employee_id LIKE ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeIdProperties properties;
+
+    private volatile Block current;
+    private volatile boolean initialized = false;
+
+    /**
+     * 기동 시 시퀀스 준비 (엔티티 테이블 생성 후, 샘플 데이터 등록 전)
+     * DDL 은 트랜잭션을 커밋시키는 DB 가 있으므로 요청 트랜잭션 밖에서 미리 실행한다.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initialize() {
+        ensureInitialized();
+    }
+
+    /**
+     * 다음 사원번호 발급
+     *
+     * @return 형식이 적용된 사원번호 (예: EMP006)
+     */
+    public String next() {
+        return format(nextNumber());
+    }
+
+    private long nextNumber() {
+        while (true) {
+            Block block = current;
+            if (block != null) {
+                long number = block.next.getAndIncrement();
+                if (number <= block.last) {
+                    return number;
+                }
+            }
+            refill(block);
+        }
+    }
+
+    // 블록을 다 쓴 스레드 하나만 시퀀스를 조회한다 (나머지는 새 블록을 받아 다시 시도)
+    private synchronized void refill(Block exhausted) {
+        ensureInitialized();
+        if (current != exhausted) {
+            return;
+        }
+        long first = jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class);
+        current = new Block(first, first + properties.getBlockSize() - 1);
+    }
+
+    private synchronized void ensureInitialized() {
+        if (initialized) {
+            return;
+        }
+        if (properties.getBlockSize() < 1) {
+            throw new IllegalStateException("사원번호 블록 크기는 1 이상이어야 합니다.");
+        }
+        long start = loadMaxNumber() + 1;
+        if (String.valueOf(start).length() > properties.getDigits()) {
+            log.warn("사원번호가 {}자리를 넘어 문자열 정렬이 번호 순서와 어긋납니다. (다음 번호 {})",
+                    properties.getDigits(), start);
+        }
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + SEQUENCE_NAME
+                + " START WITH " + start + " INCREMENT BY " + properties.getBlockSize());
+
+        // 시퀀스가 이미 있었는데 그 뒤로 번호가 직접 들어간 경우 기존 최댓값 뒤로 옮긴다
+        long first = jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class);
+        if (first < start) {
+            log.warn("사원번호 시퀀스({})가 기존 사원번호보다 작아 {}부터 다시 시작합니다.", first, start);
+            jdbcTemplate.execute("ALTER SEQUENCE " + SEQUENCE_NAME + " RESTART WITH " + start);
+            first = jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class);
+        }
+        current = new Block(first, first + properties.getBlockSize() - 1);
+        initialized = true;
+    }
+
+    // 기존 사원번호 중 가장 큰 번호 (접두어 뒤가 숫자인 것만, 기동 시 한 번)
+    private long loadMaxNumber() {
+        String prefix = properties.getPrefix();
+        long max = 0;
+        for (String employeeId : jdbcTemplate.queryForList(EXISTING_IDS_SQL, String.class, prefix + "%")) {
+            String digits = employeeId.substring(prefix.length());
+            if (!digits.isEmpty() && digits.chars().allMatch(Character::isDigit)) {
+                max = Math.max(max, Long.parseLong(digits));
+            }
+        }
+        return max;
+    }
+
+    private String format(long number) {
+        return properties.getPrefix() + String.format("%0" + properties.getDigits() + "d", number);
+    }
+
+    // 시퀀스로 확보한 번호 구간 [next, last]
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long last;
+
+        private Block(long first, long last) {
+            this.next = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.staffSync.application.employee;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 사원번호 발급 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.employee.id")
+public class EmployeeIdProperties {
+    private String prefix = "EMP"; // 사원번호 접두어
+    private int digits = 3; // 번호 최소 자릿수 (0 채움, 넘으면 자릿수가 늘어나 문자열 정렬이 어긋나므로 여유 있게 설정)
+    private int blockSize = 50; // 시퀀스 1회 조회로 확보하는 번호 수 (시퀀스 INCREMENT 로 생성되므로 운영 중 줄이지 않는다)
+}
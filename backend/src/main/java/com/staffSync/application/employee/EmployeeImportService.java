@@ -0,0 +1,133 @@
+package com.staffSync.application.employee;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.staffSync.application.bulk.CsvBulkImporter;
+import com.staffSync.application.bulk.CsvBulkImporter.ChunkWriter;
+import com.staffSync.application.bulk.CsvBulkImporter.ValidRow;
+import com.staffSync.application.bulk.CsvRow;
+import com.staffSync.application.bulk.dto.ImportErrorDto;
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeImportService {
+
+    public static final List<String> COLUMNS = List.of("name", "email", "hireDate", "salary");
+
+    private static final String INSERT_SQL = "INSERT INTO employee "
+            + "(employee_id, name, email, hire_date, salary, department, updated_at, change_seq) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 검증 단계용 임시 사원번호 (저장 시 실제 번호 부여)
+    private static final String PENDING_EMPLOYEE_ID = "PENDING";
+
+    private final CsvBulkImporter csvBulkImporter;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeIdAllocator employeeIdAllocator;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeSequence changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 직원 CSV 일괄 등록
+     * 이메일 중복은 기존 이메일 전체를 한 번만 읽어 메모리에서 검사하고, 사원번호는 발급기에서 순서대로 부여한다.
+     * 
+     * @param input CSV (헤더: name,email,hireDate,salary[,department], hireDate 는 yyyy-MM-dd)
+     * @return 처리 결과 (실패 행의 줄 번호와 사유 포함)
+     */
+    public ImportResultDto importCsv(InputStream input) throws IOException {
+        EmployeeWriter writer = new EmployeeWriter(new HashSet<>(employeeRepository.findAllEmails()));
+
+        ImportResultDto result = csvBulkImporter.run(input, COLUMNS, this::toEmployee, writer);
+        if (result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(new EmployeesImportedEvent(result.getImportedRows()));
+        }
+        return result;
+    }
+
+    // Employee 생성자 규칙으로 검증 (병렬 실행)
+    private Employee toEmployee(CsvRow row) {
+        String name = row.require("name", "이름");
+        String email = row.require("email", "이메일");
+        String department = row.get("department");
+        if (name.length() > 50) {
+            throw new IllegalArgumentException("이름은 50자 이하여야 합니다.");
+        }
+        if (email.length() > 100) {
+            throw new IllegalArgumentException("이메일은 100자 이하여야 합니다.");
+        }
+        if (department != null && department.length() > 50) {
+            throw new IllegalArgumentException("부서는 50자 이하여야 합니다.");
+        }
+
+        LocalDate hireDate;
+        try {
+            hireDate = LocalDate.parse(row.require("hireDate", "입사일"));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("입사일 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+        return new Employee(PENDING_EMPLOYEE_ID, name, email, hireDate, row.getDouble("salary", "급여"), department);
+    }
+
+    /**
+     * 청크 저장 (요청 스레드에서 순서대로 실행)
+     * 중복 이메일 상태는 청크 저장이 성공한 뒤에만 반영한다. (실패한 청크의 사원번호는 비워 둔다)
+     */
+    private final class EmployeeWriter implements ChunkWriter<Employee> {
+
+        private final Set<String> emails;
+
+        private EmployeeWriter(Set<String> emails) {
+            this.emails = emails;
+        }
+
+        @Override
+        public List<ImportErrorDto> write(List<ValidRow<Employee>> rows) {
+            List<ImportErrorDto> rejected = new ArrayList<>();
+            List<Object[]> batch = new ArrayList<>(rows.size());
+            Set<String> chunkEmails = new HashSet<>();
+
+            for (ValidRow<Employee> row : rows) {
+                Employee employee = row.value();
+                if (emails.contains(employee.getEmail()) || !chunkEmails.add(employee.getEmail())) {
+                    rejected.add(new ImportErrorDto(row.line(), "이미 존재하는 이메일입니다."));
+                    continue;
+                }
+                batch.add(new Object[] {
+                        employeeIdAllocator.next(),
+                        employee.getName(),
+                        employee.getEmail(),
+                        Date.valueOf(employee.getHireDate()),
+                        employee.getSalary(),
+                        employee.getDepartment(),
+                        Timestamp.valueOf(employee.getUpdatedAt()),
+                        changeSequence.next() });
+            }
+
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            }
+            emails.addAll(chunkEmails);
+            return rejected;
+        }
+    }
+}
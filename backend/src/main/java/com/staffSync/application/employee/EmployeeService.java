@@ -2,13 +2,26 @@ package com.staffSync.application.employee;
 
 import com.staffSync.application.employee.dto.CreateEmployeeRequest;
 import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.EmployeePageDto;
+import com.staffSync.application.employee.dto.EmployeeSearchCondition;
+import com.staffSync.application.employee.dto.SalaryAnalyticsDto;
 import com.staffSync.application.employee.dto.UpdateEmployeeRequest;
 import com.staffSync.domain.employee.Employee;
 import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.employee.EmployeeSpecifications;
+import com.staffSync.application.cache.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,7 +30,21 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EmployeeService {
 
+    // 커서 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // 전체 건수는 이 수까지만 센다 (넘으면 "이상"으로 표시)
+    private static final int COUNT_LIMIT = 10_000;
+
+    // 자동완성 최대 결과 수
+    private static final int MAX_SUGGEST_LIMIT = EmployeeSuggestIndex.TOP_K;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeIdAllocator employeeIdAllocator;
+    private final SalaryAnalytics salaryAnalytics;
+    private final EmployeeSuggestIndex employeeSuggestIndex;
+    private final EmployeeEmailFilter employeeEmailFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 전체 직원 목록을 조회합니다.
@@ -36,6 +63,7 @@ public class EmployeeService {
      * @param id 직원 ID
      * @return 직원 정보
      */
+    @Cacheable(cacheNames = CacheNames.EMPLOYEES, key = "#id", sync = true)
     public EmployeeDto getEmployeeById(Long id) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
@@ -48,6 +76,7 @@ public class EmployeeService {
      * @param employeeId 사원번호
      * @return 직원 정보
      */
+    @Cacheable(cacheNames = CacheNames.EMPLOYEES_BY_EMPLOYEE_ID, key = "#employeeId", sync = true)
     public EmployeeDto getEmployeeByEmployeeId(String employeeId) {
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
@@ -78,6 +107,98 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 이름(초성 포함), 사원번호, 이메일 아이디 접두어로 직원을 자동완성합니다. (메모리 트라이, DB 조회 없음)
+     * 
+     * @param query 검색어 (예: "김철", "ㄱㅊ", "EMP01", "kim")
+     * @param limit 최대 결과 수 (1 ~ 20)
+     * @return 일치한 직원 목록 (완전 일치, 짧은 키 순)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 키 입력마다 커넥션을 잡지 않도록
+    public List<EmployeeDto> suggestEmployees(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SUGGEST_LIMIT + " 이하여야 합니다.");
+        }
+        return employeeSuggestIndex.suggest(query, limit);
+    }
+
+    /**
+     * 전체/부서별 급여 통계를 조회합니다. (메모리 열 스냅샷 집계)
+     * 
+     * @param hiredFrom 입사일 시작 (null 이면 제한 없음)
+     * @param hiredTo   입사일 끝 (null 이면 제한 없음)
+     * @return 인원, 합계, 평균, 중앙값, 백분위
+     */
+    public SalaryAnalyticsDto getSalaryAnalytics(LocalDate hiredFrom, LocalDate hiredTo) {
+        return salaryAnalytics.getAnalytics(hiredFrom, hiredTo);
+    }
+
+    /**
+     * 복합 조건으로 직원을 커서(키셋) 페이지 조회합니다.
+     * 전체 건수는 첫 페이지에서만 (상한까지) 세고, 다음 페이지는 커서에 담긴 값을 그대로 돌려줍니다.
+     * 
+     * @param condition 조회 조건 (부서, 입사일 범위, 급여 범위, 이름 접두어)
+     * @param size      페이지 크기 (1 ~ 100)
+     * @param sort      정렬 기준 (id, employeeId, name, hireDate, salary)
+     * @param direction 정렬 방향 (asc, desc)
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @return 직원 목록, 다음 페이지 커서, 전체 건수
+     */
+    public EmployeePageDto queryEmployees(EmployeeSearchCondition condition, int size, String sort,
+            String direction, String cursor) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        validateCondition(condition);
+        EmployeeSortKey sortKey = EmployeeSortKey.from(sort);
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 정렬 방향입니다: " + direction));
+        String fingerprint = condition.fingerprint();
+
+        EmployeeCursor previous = (cursor == null || cursor.isBlank())
+                ? null
+                : EmployeeCursor.decode(cursor, sortKey, sortDirection, fingerprint);
+        ScrollPosition position = previous == null ? ScrollPosition.keyset() : previous.toScrollPosition();
+
+        // 정렬 값이 같은 행의 순서를 고정하기 위해 id를 보조 정렬로 사용
+        Sort order = sortKey == EmployeeSortKey.ID
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortKey.getProperty()).and(Sort.by(sortDirection, "id"));
+
+        Specification<Employee> spec = toSpecification(condition);
+        Window<Employee> window = employeeRepository.findBy(spec,
+                query -> query.sortBy(order).limit(size).scroll(position));
+        List<Employee> employees = window.getContent();
+
+        // 전체 건수: 다음 페이지면 커서 값, 한 페이지로 끝나면 페이지 크기, 그 외에는 상한까지만 센다
+        long totalCount;
+        boolean totalCountExact;
+        if (previous != null) {
+            totalCount = previous.getTotalCount();
+            totalCountExact = previous.isTotalCountExact();
+        } else if (!window.hasNext()) {
+            totalCount = employees.size();
+            totalCountExact = true;
+        } else {
+            long counted = employeeRepository.countUpTo(spec, COUNT_LIMIT + 1);
+            totalCount = Math.min(counted, COUNT_LIMIT);
+            totalCountExact = counted <= COUNT_LIMIT;
+        }
+
+        String nextCursor = null;
+        if (window.hasNext() && !employees.isEmpty()) {
+            nextCursor = EmployeeCursor.after(sortKey, sortDirection, fingerprint, totalCount, totalCountExact,
+                    employees.get(employees.size() - 1)).encode();
+        }
+
+        return new EmployeePageDto(
+                employees.stream().map(EmployeeDto::from).collect(Collectors.toList()),
+                nextCursor,
+                nextCursor != null,
+                totalCount,
+                totalCountExact);
+    }
+
     /**
      * 새로운 직원을 등록합니다.
      * 
@@ -86,19 +207,13 @@ public class EmployeeService {
      */
     @Transactional
     public EmployeeDto createEmployee(CreateEmployeeRequest request) {
-        // 이메일 중복 검사
-        if (employeeRepository.existsByEmail(request.getEmail())) {
+        // 이메일 중복 검사 (블룸 필터가 "확실히 없음"이면 조회 생략)
+        if (employeeEmailFilter.exists(request.getEmail(), employeeRepository::existsByEmail)) {
             throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
         }
 
-        // 새로운 사원번호 생성
-        String nextEmployeeId = employeeRepository.findTopByOrderByIdDesc()
-                .map(lastEmployee -> {
-                    String lastId = lastEmployee.getEmployeeId();
-                    int number = Integer.parseInt(lastId.substring(3));
-                    return String.format("EMP%03d", number + 1);
-                })
-                .orElse("EMP001");
+        // 새로운 사원번호 발급 (시퀀스 블록에서 메모리로 발급)
+        String nextEmployeeId = employeeIdAllocator.next();
 
         Employee employee = new Employee(
                 nextEmployeeId,
@@ -109,7 +224,9 @@ public class EmployeeService {
                 request.getDepartment());
 
         Employee savedEmployee = employeeRepository.save(employee);
-        return EmployeeDto.from(savedEmployee);
+        EmployeeDto created = EmployeeDto.from(savedEmployee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.created(created));
+        return created;
     }
 
     /**
@@ -123,10 +240,11 @@ public class EmployeeService {
     public EmployeeDto updateEmployee(Long id, UpdateEmployeeRequest request) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
+        EmployeeDto before = EmployeeDto.from(employee);
 
         // 이메일 중복 체크 (본인 이메일이 아닌 경우)
         if (request.getEmail() != null && !request.getEmail().equals(employee.getEmail())) {
-            if (employeeRepository.existsByEmail(request.getEmail())) {
+            if (employeeEmailFilter.exists(request.getEmail(), employeeRepository::existsByEmail)) {
                 throw new IllegalArgumentException("이미 존재하는 이메일입니다.");
             }
         }
@@ -138,7 +256,9 @@ public class EmployeeService {
                 request.getSalary(),
                 request.getDepartment());
 
-        return EmployeeDto.from(employee);
+        EmployeeDto after = EmployeeDto.from(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.updated(before, after));
+        return after;
     }
 
     /**
@@ -148,9 +268,33 @@ public class EmployeeService {
      */
     @Transactional
     public void deleteEmployee(Long id) {
-        if (!employeeRepository.existsById(id)) {
-            throw new IllegalArgumentException("직원을 찾을 수 없습니다.");
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
+        EmployeeDto before = EmployeeDto.from(employee);
+        employeeRepository.delete(employee);
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(before));
+    }
+
+    private void validateCondition(EmployeeSearchCondition condition) {
+        if (condition.getHireDateFrom() != null && condition.getHireDateTo() != null
+                && condition.getHireDateFrom().isAfter(condition.getHireDateTo())) {
+            throw new IllegalArgumentException("입사일 시작이 끝보다 늦습니다.");
+        }
+        if (condition.getSalaryMin() != null && condition.getSalaryMax() != null
+                && condition.getSalaryMin() > condition.getSalaryMax()) {
+            throw new IllegalArgumentException("최소 급여가 최대 급여보다 큽니다.");
         }
-        employeeRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    private Specification<Employee> toSpecification(EmployeeSearchCondition condition) {
+        return Specification.<Employee>unrestricted()
+                .and(EmployeeSpecifications.departmentEquals(blankToNull(condition.getDepartment())))
+                .and(EmployeeSpecifications.hireDateBetween(condition.getHireDateFrom(), condition.getHireDateTo()))
+                .and(EmployeeSpecifications.salaryBetween(condition.getSalaryMin(), condition.getSalaryMax()))
+                .and(EmployeeSpecifications.nameStartsWith(blankToNull(condition.getName())));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,56 @@
+package com.staffSync.application.employee;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import com.staffSync.domain.employee.Employee;
+
+/**
+ * 직원 복합 조건 조회 정렬 기준
+ * 각 정렬 기준은 (컬럼, id) 인덱스를 사용한다. (null 이 없는 컬럼만 허용)
+ */
+public enum EmployeeSortKey {
+
+    ID("id", Employee::getId, Long::valueOf),
+    EMPLOYEE_ID("employeeId", Employee::getEmployeeId, value -> value),
+    NAME("name", Employee::getName, value -> value),
+    HIRE_DATE("hireDate", Employee::getHireDate, LocalDate::parse),
+    SALARY("salary", Employee::getSalary, Double::valueOf);
+
+    private final String property; // 엔티티 필드명
+    private final Function<Employee, Object> extractor; // 커서에 담을 값 추출
+    private final Function<String, Object> parser; // 커서 문자열 -> 값 변환
+
+    EmployeeSortKey(String property, Function<Employee, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(Employee employee) {
+        return extractor.apply(employee);
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * 요청 파라미터(필드명)로 정렬 기준 조회
+     *
+     * @param property 정렬 필드명 (id, employeeId, name, hireDate, salary)
+     * @return 정렬 기준
+     */
+    public static EmployeeSortKey from(String property) {
+        for (EmployeeSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+    }
+}
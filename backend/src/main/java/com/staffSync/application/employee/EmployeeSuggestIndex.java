@@ -0,0 +1,370 @@
+package com.staffSync.application.employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.common.util.HangulUtils;
+import com.staffSync.domain.employee.EmployeeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 자동완성용 접두어 트라이 (메모리, radix trie)
+ *
+ * 이름(자모 열, 초성 열), 사원번호, 이메일 아이디(@ 앞)를 키로 넣고, 한 글자뿐인 간선은 이어 붙여 노드 수를 줄인다.
+ * 자식이 있는 노드는 자기 아래 키 중 짧은 순 상위 20명을 기억해 두므로(변경된 경로만 지우고 다음 조회 때 다시 계산)
+ * 검색어를 자모 열로 바꿔 접두어 노드까지 내려가면 바로 결과가 나온다. 한 번의 입력마다 DB 를 거치지 않고,
+ * 비용은 직원 수가 아니라 검색어 길이에 비례한다.
+ * (입력 중인 "김처"도 "김철수"와, "ㄱㅊㅅ"도 초성 열과 일치)
+ * 색인은 커밋된 직원 변경 이벤트로 갱신된다.
+ * 전체 색인은 쓰기 잠금을 잡은 채 전체 직원을 읽어 만들고, 이벤트도 같은 잠금 안에서 초기화 여부를 보므로
+ * 읽는 동안 커밋된 변경은 버려지거나 읽은 행에 덮이지 않고 색인이 열린 뒤 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeSuggestIndex {
+
+    // 노드마다 기억하는 상위 결과 수 (자동완성 최대 결과 수)
+    public static final int TOP_K = 20;
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingInt(Hit::length).thenComparing(Hit::id);
+
+    private final EmployeeRepository employeeRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private Node root = new Node("");
+    private volatile boolean initialized = false;
+
+    // 색인 문서 (응답용 직원 정보 + 트라이에 넣은 키)
+    private record Document(EmployeeDto employee, Set<String> keys) {
+    }
+
+    // 일치 결과 (length: 노드 아래로 남은 키 길이, 직원마다 가장 짧은 키)
+    private record Hit(Long id, int length) {
+    }
+
+    /**
+     * 트라이 노드
+     * label 은 부모에서 이 노드로 오는 간선 문자열, 자식은 label 첫 글자 순으로 정렬해 이진 탐색한다.
+     */
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private TreeSet<Long> ids; // 이 노드에서 끝나는 키를 가진 직원 id (없으면 null)
+        private volatile Hit[] top; // 아래 키 상위 TOP_K 명 (null 이면 다시 계산)
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private int find(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char midChar = children[mid].label.charAt(0);
+                if (midChar < c) {
+                    low = mid + 1;
+                } else if (midChar > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void insertChild(int position, Node child) {
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, position);
+            grown[position] = child;
+            System.arraycopy(children, position, grown, position + 1, children.length - position);
+            children = grown;
+        }
+
+        private void removeChild(int position) {
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, position);
+            System.arraycopy(children, position + 1, shrunk, position, children.length - position - 1);
+            children = shrunk;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            rebuild(employeeRepository.findAll().stream().map(EmployeeDto::from).collect(Collectors.toList()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(List<EmployeeDto> employees) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            root = new Node("");
+            employees.forEach(this::add);
+            initialized = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 커밋된 등록/수정/삭제 반영
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!initialized) {
+                return; // 첫 검색 시 DB 기준으로 생성
+            }
+            EmployeeDto before = event.getBefore();
+            EmployeeDto after = event.getAfter();
+            if (before != null && after != null) {
+                // 키가 같으면 트라이는 그대로 두고 응답용 정보만 교체
+                Document document = documents.get(after.getId());
+                if (document != null && document.keys().equals(keys(after))) {
+                    documents.put(after.getId(), new Document(after, document.keys()));
+                    return;
+                }
+            }
+            if (before != null) {
+                remove(before.getId());
+            }
+            if (after != null) {
+                add(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 일괄 등록 후 전체 재색인
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        initialize();
+    }
+
+    /**
+     * 접두어 자동완성 (일치한 키가 짧은 순: 완전 일치가 가장 먼저, 같으면 id 순)
+     *
+     * @param query 검색어 (이름, 초성, 사원번호, 이메일 아이디의 앞부분)
+     * @param limit 최대 결과 수 (TOP_K 까지)
+     * @return 일치한 직원 목록 (중복 없음)
+     */
+    public List<EmployeeDto> suggest(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        if (!initialized) {
+            initialize();
+        }
+        String key = HangulUtils.decompose(query);
+
+        lock.readLock().lock();
+        try {
+            Node node = descend(key);
+            if (node == null) {
+                return List.of();
+            }
+            Hit[] hits = top(node);
+            List<EmployeeDto> result = new ArrayList<>(Math.min(limit, hits.length));
+            for (int i = 0; i < hits.length && i < limit; i++) {
+                result.add(documents.get(hits[i].id()).employee());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어로 시작하는 키가 모두 들어 있는 가장 위 노드 (없으면 null)
+    private Node descend(String key) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int slot = node.find(key.charAt(position));
+            if (slot < 0) {
+                return null;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, position);
+            if (position + common == key.length()) {
+                return child; // 간선 중간에서 끝나도 된다
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            position += common;
+        }
+        return node;
+    }
+
+    /**
+     * 노드 아래 상위 TOP_K 명 (읽기 잠금 안에서 실행)
+     * 자식들의 상위 목록만 합치면 되므로 무효화된 경로의 노드만 다시 계산한다.
+     * 같은 값을 여러 읽기 스레드가 동시에 계산해 넣어도 결과가 같아 문제없다.
+     */
+    private static Hit[] top(Node node) {
+        Hit[] top = node.top;
+        if (top != null) {
+            return top;
+        }
+        Map<Long, Integer> best = new HashMap<>();
+        if (node.ids != null) {
+            for (Long id : node.ids) {
+                if (best.size() == TOP_K) {
+                    break;
+                }
+                best.put(id, 0);
+            }
+        }
+        for (Node child : node.children) {
+            int offset = child.label.length();
+            for (Hit hit : top(child)) {
+                best.merge(hit.id(), hit.length() + offset, Math::min);
+            }
+        }
+        top = best.entrySet().stream()
+                .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                .sorted(HIT_ORDER)
+                .limit(TOP_K)
+                .toArray(Hit[]::new);
+        if (node.children.length > 0) {
+            node.top = top; // 잎 노드는 id 목록 그대로라 기억하지 않는다
+        }
+        return top;
+    }
+
+    private void add(EmployeeDto employee) {
+        Set<String> keys = keys(employee);
+        documents.put(employee.getId(), new Document(employee, keys));
+        keys.forEach(key -> insert(key, employee.getId()));
+    }
+
+    private void remove(Long employeeId) {
+        Document document = documents.remove(employeeId);
+        if (document == null) {
+            return;
+        }
+        document.keys().forEach(key -> {
+            root.top = null;
+            delete(root, key, 0, employeeId);
+        });
+    }
+
+    // 이름 자모 열/초성 열, 사원번호, 이메일 아이디 (소문자, 공백 제거)
+    private static Set<String> keys(EmployeeDto employee) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (employee.getName() != null) {
+            keys.add(HangulUtils.decompose(employee.getName()));
+            keys.add(HangulUtils.choseong(employee.getName()));
+        }
+        if (employee.getEmployeeId() != null) {
+            keys.add(HangulUtils.decompose(employee.getEmployeeId()));
+        }
+        if (employee.getEmail() != null) {
+            int at = employee.getEmail().indexOf('@');
+            keys.add(HangulUtils.decompose(at >= 0 ? employee.getEmail().substring(0, at) : employee.getEmail()));
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private void insert(String key, Long employeeId) {
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            node.top = null;
+            int slot = node.find(key.charAt(position));
+            if (slot < 0) {
+                Node leaf = new Node(key.substring(position));
+                leaf.ids = new TreeSet<>();
+                leaf.ids.add(employeeId);
+                node.insertChild(-(slot + 1), leaf);
+                return;
+            }
+            Node child = node.children[slot];
+            int common = commonPrefix(child.label, key, position);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분을 새 노드로 떼어 낸다
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.children = new Node[] { child };
+                node.children[slot] = split;
+                child = split;
+            }
+            node = child;
+            position += common;
+        }
+        if (node.ids == null) {
+            node.ids = new TreeSet<>();
+        }
+        node.ids.add(employeeId);
+        node.top = null;
+    }
+
+    // 키에서 직원을 빼고, 빈 노드는 지우고 자식이 하나뿐인 노드는 자식과 합친다
+    private static void delete(Node parent, String key, int position, Long employeeId) {
+        int slot = parent.find(key.charAt(position));
+        if (slot < 0) {
+            return;
+        }
+        Node child = parent.children[slot];
+        if (!key.startsWith(child.label, position)) {
+            return;
+        }
+        int next = position + child.label.length();
+        if (next == key.length()) {
+            if (child.ids != null && child.ids.remove(employeeId) && child.ids.isEmpty()) {
+                child.ids = null;
+            }
+        } else {
+            delete(child, key, next, employeeId);
+        }
+        child.top = null;
+
+        if (child.ids != null) {
+            return;
+        }
+        if (child.children.length == 0) {
+            parent.removeChild(slot);
+        } else if (child.children.length == 1) {
+            Node only = child.children[0];
+            only.label = child.label + only.label;
+            parent.children[slot] = only;
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int position) {
+        int max = Math.min(label.length(), key.length() - position);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(position + i)) {
+            i++;
+        }
+        return i;
+    }
+}
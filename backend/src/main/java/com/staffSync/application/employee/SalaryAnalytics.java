@@ -0,0 +1,494 @@
+package com.staffSync.application.employee;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.SalaryAnalyticsDto;
+import com.staffSync.application.employee.dto.SalaryStatsDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 급여 분석용 열(column) 스냅샷
+ *
+ * 직원을 엔티티/Double 로 읽지 않고 행 번호가 같은 기본형 배열(급여, 부서 코드, 입사일 epoch-day)로 메모리에 유지한다.
+ * 행은 부서 코드별로 이어진 구간에 두고 구간 안에서는 급여 오름차순으로 둔다.
+ * 1) 부서별 인원/합계는 구간마다 입사일 조건을 마스크로 한 DoubleVector 덧셈으로 구한다. (SalaryVectorKernels)
+ *    입사일도 double 열로 두어 급여와 같은 레인 수의 마스크로 비교한다.
+ * 2) 백분위는 정렬된 부서 구간들을 급여 순으로 병합하며 필요한 순위의 값만 집는다. (부서별은 제 구간 순서 그대로)
+ * 요청마다 정렬하거나 행 수만큼 배열을 만들지 않는다. (O(n log 부서 수), 부서 수만큼만 할당)
+ * jdk.incubator.vector 모듈이 없이 실행되면(--add-modules 누락) 같은 계산을 스칼라 루프로 한다.
+ * 측정은 src/jmh 의 SalaryAnalyticsBenchmark (./gradlew jmh) 로 한다.
+ *
+ * 커밋된 직원 변경 이벤트로 해당 행만 고치고(부서 구간 안 급여 순서 자리로 배열을 밀고 당김, 쓰기마다 O(n) 복사),
+ * 일괄 등록 후에는 DB 에서 부서, 급여 순으로 다시 채운다. 조건 없는 전체 집계 결과는 다음 변경 전까지 재사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SalaryAnalytics {
+
+    // idx_employee_department_salary (department, salary, id) 순서로 읽어 배열 끝에 이어 붙인다
+    private static final String LOAD_SQL =
+            "SELECT id, department, hire_date, salary FROM employee ORDER BY department, salary, id";
+    private static final double[] PERCENTILES = { 0.5, 0.1, 0.25, 0.75, 0.9 };
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double NO_HIRE_DATE = Integer.MIN_VALUE; // 입사일 시작 조건이 있으면 빠진다
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 열 (0 ~ size-1 행이 유효, 부서 코드 구간별 급여 오름차순), guarded by lock
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private double[] salaries = new double[INITIAL_CAPACITY];
+    private int[] departmentCodes = new int[INITIAL_CAPACITY];
+    private double[] hireDays = new double[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private final Map<String, Integer> departmentCodeByName = new HashMap<>(); // 부서명(null 포함) -> 코드
+    private final List<String> departmentNames = new ArrayList<>(); // 코드 -> 부서명
+    private int[] segmentEnds = new int[16]; // 코드 -> 그 부서 구간의 끝 (시작은 앞 코드의 끝)
+
+    private volatile boolean initialized = false;
+    private long version = 0; // 변경 시마다 증가
+    private volatile CachedResult cached; // 조건 없는 전체 집계
+
+    private record CachedResult(long version, SalaryAnalyticsDto result) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체/부서별 급여 통계
+     *
+     * @param hiredFrom 입사일 시작 (포함, null 이면 제한 없음)
+     * @param hiredTo   입사일 끝 (포함, null 이면 제한 없음)
+     * @return 인원, 합계, 평균, 최소/최대, 중앙값, 백분위(10/25/75/90)
+     */
+    public SalaryAnalyticsDto getAnalytics(LocalDate hiredFrom, LocalDate hiredTo) {
+        if (hiredFrom != null && hiredTo != null && hiredFrom.isAfter(hiredTo)) {
+            throw new IllegalArgumentException("입사일 시작이 끝보다 늦습니다.");
+        }
+        if (!initialized) {
+            rebuild();
+        }
+        boolean unfiltered = hiredFrom == null && hiredTo == null;
+        int fromDay = hiredFrom != null ? (int) hiredFrom.toEpochDay() : Integer.MIN_VALUE;
+        int toDay = hiredTo != null ? (int) hiredTo.toEpochDay() : Integer.MAX_VALUE;
+
+        lock.readLock().lock();
+        try {
+            CachedResult current = cached;
+            if (unfiltered && current != null && current.version() == version) {
+                return current.result();
+            }
+            SalaryAnalyticsDto result = compute(fromDay, toDay);
+            if (unfiltered) {
+                cached = new CachedResult(version, result);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커밋된 변경분만 반영
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!initialized) {
+                return;
+            }
+            if (event.getAfter() == null) {
+                remove(event.getBefore().getId());
+            } else {
+                upsert(event.getAfter());
+            }
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 일괄 등록은 행 단위 이벤트가 없으므로 DB 기준으로 다시 채운다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            // 부서 순으로 읽으며 코드를 처음부터 다시 매겨 구간이 코드 순서대로 이어지게 한다
+            size = 0;
+            departmentCodeByName.clear();
+            departmentNames.clear();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                Date hireDate = rs.getDate("hire_date");
+                insert(rs.getLong("id"), rs.getDouble("salary"), rs.getString("department"),
+                        hireDate != null ? hireDate.toLocalDate() : null);
+            });
+            initialized = true;
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 급여가 바뀌면 자리도 바뀌므로 지우고 다시 넣는다
+    private void upsert(EmployeeDto employee) {
+        remove(employee.getId());
+        insert(employee.getId(), employee.getSalary() != null ? employee.getSalary() : 0,
+                employee.getDepartment(), employee.getHireDate());
+    }
+
+    // 부서 구간 안 급여 순서 자리에 넣는다 (부서, 급여 순으로 읽는 rebuild 에서는 항상 끝에 붙어 복사가 없다)
+    private void insert(long id, double salary, String department, LocalDate hireDate) {
+        ensureCapacity(size + 1);
+        int code = departmentCode(department);
+        int row = upperBound(segmentStart(code), segmentEnds[code], salary);
+        int moved = size - row;
+        if (moved > 0) {
+            System.arraycopy(ids, row, ids, row + 1, moved);
+            System.arraycopy(salaries, row, salaries, row + 1, moved);
+            System.arraycopy(departmentCodes, row, departmentCodes, row + 1, moved);
+            System.arraycopy(hireDays, row, hireDays, row + 1, moved);
+        }
+        ids[row] = id;
+        salaries[row] = salary;
+        departmentCodes[row] = code;
+        hireDays[row] = hireDate != null ? hireDate.toEpochDay() : NO_HIRE_DATE;
+        for (int g = code; g < departmentNames.size(); g++) {
+            segmentEnds[g]++;
+        }
+        size++;
+    }
+
+    // 뒤쪽 행을 당겨 구간 순서와 빈틈 없는 배열을 유지 (빈 구간은 코드와 함께 남겨 둔다)
+    private void remove(long id) {
+        int row = rowOf(id);
+        if (row < 0) {
+            return;
+        }
+        int code = departmentCodes[row];
+        int moved = size - row - 1;
+        if (moved > 0) {
+            System.arraycopy(ids, row + 1, ids, row, moved);
+            System.arraycopy(salaries, row + 1, salaries, row, moved);
+            System.arraycopy(departmentCodes, row + 1, departmentCodes, row, moved);
+            System.arraycopy(hireDays, row + 1, hireDays, row, moved);
+        }
+        for (int g = code; g < departmentNames.size(); g++) {
+            segmentEnds[g]--;
+        }
+        size--;
+    }
+
+    // 행 번호가 쓰기마다 밀리므로 id -> 행 맵 대신 id 열을 훑는다 (쓰기는 어차피 O(n) 복사)
+    private int rowOf(long id) {
+        for (int i = 0; i < size; i++) {
+            if (ids[i] == id) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // [low, high) 구간에서 salary 보다 큰 첫 행 (같은 급여는 나중에 들어온 행이 뒤로)
+    private int upperBound(int low, int high, double salary) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (salaries[mid] <= salary) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int departmentCode(String department) {
+        Integer code = departmentCodeByName.get(department);
+        if (code == null) {
+            code = departmentNames.size();
+            departmentNames.add(department);
+            departmentCodeByName.put(department, code);
+            if (code == segmentEnds.length) {
+                segmentEnds = Arrays.copyOf(segmentEnds, code * 2);
+            }
+            segmentEnds[code] = size; // 새 부서 구간은 맨 끝에서 비어 있는 채로 시작
+        }
+        return code;
+    }
+
+    private int segmentStart(int code) {
+        return code == 0 ? 0 : segmentEnds[code - 1];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= salaries.length) {
+            return;
+        }
+        int grown = Math.max(capacity, salaries.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        salaries = Arrays.copyOf(salaries, grown);
+        departmentCodes = Arrays.copyOf(departmentCodes, grown);
+        hireDays = Arrays.copyOf(hireDays, grown);
+    }
+
+    /**
+     * 부서별 집계 (읽기 잠금 안에서 실행)
+     * 1) 부서 구간마다 입사일 조건에 맞는 인원/합계를 센다.
+     * 2) 인원으로 필요한 순위(최소/최대, 백분위 보간 위치)를 정한 뒤, 급여 오름차순인 부서 구간들을 힙으로 병합하며
+     *    그 순위의 값만 집는다. 부서별 값은 제 구간 순서, 전체 값은 병합 순서로 흘러가므로 정렬이 필요 없다.
+     */
+    private SalaryAnalyticsDto compute(int fromDay, int toDay) {
+        int groups = departmentNames.size();
+        int[] counts = new int[groups];
+        double[] sums = new double[groups];
+        for (int g = 0; g < groups; g++) {
+            if (VECTORIZED) {
+                SalaryVectorKernels.sumAndCount(salaries, hireDays, segmentStart(g), segmentEnds[g], fromDay, toDay,
+                        sums, counts, g);
+            } else {
+                sumAndCount(segmentStart(g), segmentEnds[g], fromDay, toDay, sums, counts, g);
+            }
+        }
+
+        int total = 0;
+        double totalSum = 0;
+        RankPicker[] pickers = new RankPicker[groups];
+        for (int g = 0; g < groups; g++) {
+            pickers[g] = new RankPicker(counts[g]);
+            total += counts[g];
+            totalSum += sums[g];
+        }
+        RankPicker all = new RankPicker(total);
+        SegmentMerge merge = new SegmentMerge(groups);
+        for (int g = 0; g < groups; g++) {
+            int row = nextHired(segmentStart(g), segmentEnds[g], fromDay, toDay);
+            if (row < segmentEnds[g]) {
+                merge.push(g, row);
+            }
+        }
+        while (!merge.isEmpty()) {
+            int g = merge.topGroup();
+            int row = merge.topRow();
+            double salary = salaries[row];
+            pickers[g].accept(salary);
+            all.accept(salary);
+            int next = nextHired(row + 1, segmentEnds[g], fromDay, toDay);
+            if (next < segmentEnds[g]) {
+                merge.replaceTop(next);
+            } else {
+                merge.pop();
+            }
+        }
+
+        List<SalaryStatsDto> departments = new ArrayList<>();
+        for (int g = 0; g < groups; g++) {
+            if (counts[g] > 0) {
+                departments.add(stats(departmentNames.get(g), pickers[g], sums[g]));
+            }
+        }
+        departments.sort(Comparator.comparing(SalaryStatsDto::getDepartment,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return new SalaryAnalyticsDto(stats(null, all, totalSum), departments);
+    }
+
+    // SalaryVectorKernels.sumAndCount 의 스칼라판 (벡터 모듈 없이 실행될 때)
+    private void sumAndCount(int start, int end, double fromDay, double toDay, double[] sums, int[] counts,
+            int group) {
+        double sum = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            double day = hireDays[i];
+            if (day >= fromDay && day <= toDay) {
+                sum += salaries[i];
+                count++;
+            }
+        }
+        sums[group] = sum;
+        counts[group] = count;
+    }
+
+    // [row, end) 에서 입사일 조건에 맞는 첫 행 (없으면 end)
+    private int nextHired(int row, int end, int fromDay, int toDay) {
+        while (row < end && (hireDays[row] < fromDay || hireDays[row] > toDay)) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * 부서 구간별 현재 행을 급여가 작은 순으로 꺼내는 최소 힙 (부서 수만큼의 배열 두 개)
+     */
+    private final class SegmentMerge {
+
+        private final int[] groups;
+        private final int[] rows;
+        private int size = 0;
+
+        SegmentMerge(int capacity) {
+            this.groups = new int[capacity];
+            this.rows = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int topGroup() {
+            return groups[0];
+        }
+
+        int topRow() {
+            return rows[0];
+        }
+
+        void push(int group, int row) {
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (salaries[rows[parent]] <= salaries[row]) {
+                    break;
+                }
+                groups[i] = groups[parent];
+                rows[i] = rows[parent];
+                i = parent;
+            }
+            groups[i] = group;
+            rows[i] = row;
+        }
+
+        // 맨 위 부서의 다음 행으로 바꾼다
+        void replaceTop(int row) {
+            siftDown(groups[0], row);
+        }
+
+        void pop() {
+            size--;
+            if (size > 0) {
+                siftDown(groups[size], rows[size]);
+            }
+        }
+
+        private void siftDown(int group, int row) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && salaries[rows[child + 1]] < salaries[rows[child]]) {
+                    child++;
+                }
+                if (salaries[row] <= salaries[rows[child]]) {
+                    break;
+                }
+                groups[i] = groups[child];
+                rows[i] = rows[child];
+                i = child;
+            }
+            groups[i] = group;
+            rows[i] = row;
+        }
+    }
+
+    private static SalaryStatsDto stats(String department, RankPicker picker, double sum) {
+        int count = picker.count;
+        if (count == 0) {
+            return new SalaryStatsDto(department, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new SalaryStatsDto(
+                department,
+                count,
+                sum,
+                sum / count,
+                picker.valueAt(0),
+                picker.valueAt(count - 1),
+                picker.percentile(0.5),
+                picker.percentile(0.1),
+                picker.percentile(0.25),
+                picker.percentile(0.75),
+                picker.percentile(0.9));
+    }
+
+    /**
+     * 오름차순으로 흘러가는 값 중 통계에 필요한 순위의 값만 기억한다.
+     * (최소, 최대, 백분위마다 보간 하한/상한 -> 많아야 12개)
+     */
+    private static final class RankPicker {
+
+        private final int count;
+        private final int[] ranks; // 오름차순, 중복 가능
+        private final double[] values; // ranks 와 같은 자리
+        private int seen = 0;
+        private int next = 0;
+
+        RankPicker(int count) {
+            this.count = count;
+            if (count == 0) {
+                this.ranks = new int[0];
+            } else {
+                int[] wanted = new int[2 + PERCENTILES.length * 2];
+                wanted[0] = 0;
+                wanted[1] = count - 1;
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    int lower = lower(count, PERCENTILES[i]);
+                    wanted[2 + i * 2] = lower;
+                    wanted[3 + i * 2] = Math.min(lower + 1, count - 1);
+                }
+                Arrays.sort(wanted);
+                this.ranks = wanted;
+            }
+            this.values = new double[ranks.length];
+        }
+
+        void accept(double value) {
+            int rank = seen++;
+            while (next < ranks.length && ranks[next] == rank) {
+                values[next++] = value;
+            }
+        }
+
+        double valueAt(int rank) {
+            return values[Arrays.binarySearch(ranks, rank)];
+        }
+
+        // 선형 보간 백분위
+        double percentile(double p) {
+            double rank = (count - 1) * p;
+            int lower = lower(count, p);
+            int upper = Math.min(lower + 1, count - 1);
+            return valueAt(lower) + (rank - lower) * (valueAt(upper) - valueAt(lower));
+        }
+
+        private static int lower(int count, double p) {
+            return (int) Math.floor((count - 1) * p);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.staffSync.application.employee;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SalaryAnalytics 의 SIMD 집계 (jdk.incubator.vector)
+ *
+ * 이 클래스는 모듈이 있을 때만 로드된다. (SalaryAnalytics.VECTORIZED)
+ * 레인별 합을 따로 모았다가 마지막에 더하므로 합계의 마지막 자리가 순차 합과 다를 수 있다.
+ */
+final class SalaryVectorKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private SalaryVectorKernels() {
+    }
+
+    /**
+     * [start, end) 행 중 입사일이 [fromDay, toDay] 인 행의 급여 합계와 인원
+     *
+     * @param salaries 급여 열
+     * @param hireDays 입사일(epoch-day) 열
+     * @param start    부서 구간 시작 (포함)
+     * @param end      부서 구간 끝 (제외)
+     * @param fromDay  입사일 시작 (포함)
+     * @param toDay    입사일 끝 (포함)
+     * @param sums     group 자리에 합계를 쓴다
+     * @param counts   group 자리에 인원을 쓴다
+     * @param group    부서 코드
+     */
+    static void sumAndCount(double[] salaries, double[] hireDays, int start, int end, double fromDay, double toDay,
+            double[] sums, int[] counts, int group) {
+        DoubleVector acc = DoubleVector.zero(SPECIES);
+        int count = 0;
+        int i = start;
+        int bound = start + SPECIES.loopBound(end - start);
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector days = DoubleVector.fromArray(SPECIES, hireDays, i);
+            VectorMask<Double> hired = days.compare(VectorOperators.GE, fromDay)
+                    .and(days.compare(VectorOperators.LE, toDay));
+            acc = acc.add(DoubleVector.fromArray(SPECIES, salaries, i), hired);
+            count += hired.trueCount();
+        }
+        if (i < end) {
+            // 구간 끝의 남은 행은 범위 마스크로 읽는다
+            VectorMask<Double> tail = SPECIES.indexInRange(i, end);
+            DoubleVector days = DoubleVector.fromArray(SPECIES, hireDays, i, tail);
+            VectorMask<Double> hired = tail.and(days.compare(VectorOperators.GE, fromDay))
+                    .and(days.compare(VectorOperators.LE, toDay));
+            acc = acc.add(DoubleVector.fromArray(SPECIES, salaries, i, hired), hired);
+            count += hired.trueCount();
+        }
+        sums[group] = acc.reduceLanes(VectorOperators.ADD);
+        counts[group] = count;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
@@ -18,6 +19,7 @@ public class EmployeeDto {
     private LocalDate hireDate;
     private Double salary;
     private String department;
+    private LocalDateTime updatedAt; // 마지막 변경 시각
 
     /**
      * Entity -> DTO 변환
@@ -30,6 +32,7 @@ public class EmployeeDto {
                 employee.getEmail(),
                 employee.getHireDate(),
                 employee.getSalary(),
-                employee.getDepartment());
+                employee.getDepartment(),
+                employee.getUpdatedAt());
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.staffSync.application.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeePageDto {
+
+    private List<EmployeeDto> content; // 현재 페이지 직원 목록
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private long totalCount; // 조건에 맞는 직원 수 (첫 페이지 조회 시점 기준)
+    private boolean totalCountExact; // false 면 totalCount 이상 (상한까지만 셈)
+}
@@ -0,0 +1,38 @@
+package com.staffSync.application.employee.dto;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 직원 복합 조건 조회 조건 (모두 선택, 지정한 조건만 and 로 적용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchCondition {
+
+    private String department; // 부서 (일치)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hireDateFrom; // 입사일 시작 (포함)
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate hireDateTo; // 입사일 끝 (포함)
+
+    private Double salaryMin; // 최소 급여 (포함)
+    private Double salaryMax; // 최대 급여 (포함)
+    private String name; // 이름 접두어
+
+    // 커서가 같은 조건으로 만든 것인지 확인하는 값
+    public String fingerprint() {
+        return Integer.toHexString(Objects.hash(department, hireDateFrom, hireDateTo, salaryMin, salaryMax, name));
+    }
+}
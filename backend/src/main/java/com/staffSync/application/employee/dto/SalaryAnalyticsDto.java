@@ -0,0 +1,15 @@
+package com.staffSync.application.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryAnalyticsDto {
+    private SalaryStatsDto overall; // 전체 (조건에 맞는 직원)
+    private List<SalaryStatsDto> departments; // 부서별 (부서명 순, 미지정은 마지막)
+}
@@ -0,0 +1,22 @@
+package com.staffSync.application.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatsDto {
+    private String department; // 부서 (전체 합계면 null, 부서 미지정 직원도 null)
+    private long headcount; // 인원
+    private double totalSalary; // 급여 합계
+    private double averageSalary; // 평균
+    private double minSalary;
+    private double maxSalary;
+    private double medianSalary; // 중앙값
+    private double p10Salary; // 하위 10%
+    private double p25Salary; // 하위 25%
+    private double p75Salary; // 상위 25%
+    private double p90Salary; // 상위 10%
+}
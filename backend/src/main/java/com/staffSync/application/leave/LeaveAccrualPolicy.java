@@ -0,0 +1,67 @@
+package com.staffSync.application.leave;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 연차 발생 규칙 (근로기준법 제60조, 상태 없음, 여러 스레드에서 동시에 호출)
+ *
+ * 입사 1년 미만: 1개월 개근 시마다 1일 (최대 11일), 연차 기간은 입사일부터 1년
+ * 입사 1년 이상: 입사 기념일마다 15일, 최초 1년 이후 2년마다 1일 가산 (최대 25일), 연차 기간은 기념일부터 1년
+ * 출근율(80%) 요건은 모두 충족한 것으로 본다.
+ * 월/년 경계는 입사일에 plusMonths 를 더한 날로 정한다. (1월 31일 입사자의 1개월은 2월 말일)
+ */
+@Component
+public class LeaveAccrualPolicy {
+
+    private static final int FIRST_YEAR_MAX_DAYS = 11;
+    private static final int BASE_DAYS = 15;
+    private static final int MAX_DAYS = 25;
+
+    /**
+     * 기준일의 연차 기간과 발생 일수
+     *
+     * @param periodStart     연차 기간 시작
+     * @param periodEnd       연차 기간 끝 (포함)
+     * @param days            기간 발생 일수
+     * @param nextAccrualDate 다음 발생일 (이 날 발생 일수나 기간이 바뀐다)
+     */
+    public record Entitlement(LocalDate periodStart, LocalDate periodEnd, int days, LocalDate nextAccrualDate) {
+    }
+
+    /**
+     * @param hireDate 입사일
+     * @param asOf     기준일 (입사 전이면 발생 0일)
+     */
+    public Entitlement entitlement(LocalDate hireDate, LocalDate asOf) {
+        int months = completedMonths(hireDate, asOf);
+        int years = months / 12;
+        if (years == 0) {
+            LocalDate anniversary = hireDate.plusYears(1);
+            int days = Math.min(months, FIRST_YEAR_MAX_DAYS);
+            LocalDate next = months < FIRST_YEAR_MAX_DAYS ? hireDate.plusMonths(months + 1) : anniversary;
+            return new Entitlement(hireDate, anniversary.minusDays(1), days, next);
+        }
+        LocalDate start = hireDate.plusYears(years);
+        LocalDate next = hireDate.plusYears(years + 1);
+        int days = Math.min(MAX_DAYS, BASE_DAYS + (years - 1) / 2);
+        return new Entitlement(start, next.minusDays(1), days, next);
+    }
+
+    // 입사일부터 기준일까지 채운 개월 수 (입사 전이면 0)
+    private static int completedMonths(LocalDate hireDate, LocalDate asOf) {
+        if (asOf.isBefore(hireDate)) {
+            return 0;
+        }
+        int months = (int) Period.between(hireDate, asOf).toTotalMonths();
+        while (!hireDate.plusMonths(months + 1).isAfter(asOf)) {
+            months++;
+        }
+        while (months > 0 && hireDate.plusMonths(months).isAfter(asOf)) {
+            months--;
+        }
+        return months;
+    }
+}
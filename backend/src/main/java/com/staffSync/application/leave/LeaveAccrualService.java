@@ -0,0 +1,289 @@
+package com.staffSync.application.leave;
+
+import java.sql.Date;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.EmployeesImportedEvent;
+import com.staffSync.application.leave.dto.LeaveAccrualResultDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연차 잔여 행 관리와 일 발생 배치
+ *
+ * 잔여 행은 직원 등록 시 한 행 만들고 삭제 시 지운다. 발생 일수는 다음 발생일이 되어야 바뀌므로
+ * 일 배치는 전체 직원이 아니라 next_accrual_date 가 지난 행만 골라 다시 계산한다.
+ * (1년 미만은 월 1회, 이후는 연 1회라 하루 대상은 전체의 일부다)
+ * 배치는 직원 id 순 청크(chunkSize)로 읽고, 청크마다 가상 스레드에서 계산 후 JDBC 배치로 저장하며
+ * 동시에 처리하는 청크 수는 parallelism 으로 제한한다. 청크끼리 겹치는 행이 없어 순서와 관계없이 저장한다.
+ * 잔여 행이 없는 직원(일괄 등록, 초기 데이터 등)도 같은 방식으로 먼저 채운다.
+ */
+@Slf4j
+@Service
+public class LeaveAccrualService {
+
+    private static final String SELECT_UNOPENED_SQL = "SELECT e.id, e.hire_date FROM employee e "
+            + "WHERE e.id > ? AND NOT EXISTS (SELECT 1 FROM leave_balances b WHERE b.employee_id = e.id) "
+            + "ORDER BY e.id LIMIT ?";
+    private static final String SELECT_DUE_SQL = "SELECT b.employee_id AS id, e.hire_date FROM leave_balances b "
+            + "JOIN employee e ON e.id = b.employee_id "
+            + "WHERE b.next_accrual_date <= ? AND b.employee_id > ? ORDER BY b.employee_id LIMIT ?";
+    private static final String INSERT_BALANCE_SQL = "INSERT INTO leave_balances "
+            + "(employee_id, period_start, period_end, accrued_days, used_days, next_accrual_date, updated_at) "
+            + "VALUES (?, ?, ?, ?, 0, ?, ?)";
+    // used_days 를 먼저 두어 기존 period_start 와 비교한다 (다른 기간으로 넘어가면 사용 일수 초기화)
+    private static final String ACCRUE_SQL = "UPDATE leave_balances "
+            + "SET used_days = CASE WHEN period_start = ? THEN used_days ELSE 0 END, "
+            + "period_start = ?, period_end = ?, accrued_days = ?, next_accrual_date = ?, updated_at = ? "
+            + "WHERE employee_id = ? AND next_accrual_date <= ?";
+    private static final String DELETE_BALANCE_SQL = "DELETE FROM leave_balances WHERE employee_id = ?";
+    private static final String DELETE_RECORDS_SQL = "DELETE FROM leave_records WHERE employee_id = ?";
+
+    private static final RowMapper<EmployeeRow> EMPLOYEE_ROW_MAPPER = (rs, rowNum) -> new EmployeeRow(
+            rs.getLong("id"),
+            rs.getDate("hire_date").toLocalDate());
+
+    private final LeaveAccrualPolicy policy;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LeaveProperties properties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    // 배치 대상 직원
+    private record EmployeeRow(long id, LocalDate hireDate) {
+    }
+
+    // 청크 처리 (저장한 행 수 반환)
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long write(List<EmployeeRow> rows, LocalDate asOf, LocalDateTime now);
+    }
+
+    public LeaveAccrualService(LeaveAccrualPolicy policy, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, LeaveProperties properties) {
+        this.policy = policy;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    // 서버가 멈춰 있던 동안 지난 발생일 반영
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        runQuietly();
+    }
+
+    // 매일 0시 5분 (app.leave.accrual-cron)
+    @Scheduled(cron = "${app.leave.accrual-cron:0 5 0 * * *}")
+    public void runDaily() {
+        runQuietly();
+    }
+
+    // 직원 등록 시 그 직원 잔여 행만 생성, 삭제 시 잔여/사용 내역 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getBefore() == null) {
+            open(event.getAfter().getId(), event.getAfter().getHireDate(), LocalDate.now());
+        } else if (event.getAfter() == null) {
+            Long employeeId = event.getBefore().getId();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_RECORDS_SQL, employeeId);
+                jdbcTemplate.update(DELETE_BALANCE_SQL, employeeId);
+            });
+        }
+    }
+
+    // 일괄 등록은 행 단위 이벤트가 없으므로 배치로 잔여 행을 채운다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeesImported(EmployeesImportedEvent event) {
+        runQuietly();
+    }
+
+    /**
+     * 직원 한 명의 잔여 행 생성 (이미 있으면 그대로 둔다)
+     *
+     * @return 새로 만들었으면 true
+     */
+    public boolean open(Long employeeId, LocalDate hireDate, LocalDate asOf) {
+        LeaveAccrualPolicy.Entitlement entitlement = policy.entitlement(hireDate, asOf);
+        try {
+            return jdbcTemplate.update(INSERT_BALANCE_SQL, insertArgs(employeeId, entitlement,
+                    Timestamp.valueOf(LocalDateTime.now()))) > 0;
+        } catch (DuplicateKeyException e) {
+            return false; // 다른 경로(배치, 조회)에서 먼저 생성
+        }
+    }
+
+    /**
+     * 연차 발생 배치
+     * 1) 잔여 행이 없는 직원의 행 생성 2) 다음 발생일이 기준일 이전인 직원의 발생 일수/기간 갱신
+     *
+     * @param asOf 기준일 (오늘 이후는 불가)
+     * @return 처리 건수
+     */
+    public LeaveAccrualResultDto run(LocalDate asOf) {
+        if (asOf == null || asOf.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("기준일은 오늘 이전이어야 합니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("이미 연차 발생 배치가 실행 중입니다.");
+        }
+        try {
+            long started = System.nanoTime();
+            LocalDateTime now = LocalDateTime.now();
+            Date cutoff = Date.valueOf(asOf);
+            long opened = process(asOf, now,
+                    afterId -> jdbcTemplate.query(SELECT_UNOPENED_SQL, EMPLOYEE_ROW_MAPPER, afterId,
+                            properties.getChunkSize()),
+                    this::openChunk);
+            long accrued = process(asOf, now,
+                    afterId -> jdbcTemplate.query(SELECT_DUE_SQL, EMPLOYEE_ROW_MAPPER, cutoff, afterId,
+                            properties.getChunkSize()),
+                    this::accrueChunk);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            log.info("연차 발생 배치 완료 (기준일 {}, 생성 {}건, 갱신 {}건, {}ms)", asOf, opened, accrued, elapsedMs);
+            return new LeaveAccrualResultDto(asOf, opened, accrued, elapsedMs);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 예약/이벤트 실행: 이미 실행 중이면 건너뛰고, 실패해도 다음 실행에서 다시 처리되므로 기록만 남긴다
+    private void runQuietly() {
+        try {
+            run(LocalDate.now());
+        } catch (IllegalArgumentException e) {
+            log.info("연차 발생 배치 건너뜀: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("연차 발생 배치 실패", e);
+        }
+    }
+
+    /**
+     * 직원 id 순 청크를 읽어 parallelism 개까지 동시에 저장
+     * 저장된 행은 다음 조회 조건에서 빠지지만 keyset(id > 마지막 id)으로 읽으므로 건너뛰거나 두 번 읽지 않는다.
+     *
+     * @return 저장한 행 수
+     */
+    private long process(LocalDate asOf, LocalDateTime now, LongFunction<List<EmployeeRow>> reader,
+            ChunkWriter writer) {
+        Semaphore permits = new Semaphore(Math.max(1, properties.getParallelism()));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicLong written = new AtomicLong();
+        long afterId = 0;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                permits.acquire();
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+                List<EmployeeRow> rows = reader.apply(afterId);
+                if (rows.isEmpty()) {
+                    permits.release();
+                    break;
+                }
+                afterId = rows.get(rows.size() - 1).id();
+                executor.submit(() -> {
+                    try {
+                        written.addAndGet(writer.write(rows, asOf, now));
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("연차 발생 배치가 중단되었습니다.", e);
+        }
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("연차 발생 배치 청크 저장 실패: " + failure.get().getMessage(), failure.get());
+        }
+        return written.get();
+    }
+
+    private long openChunk(List<EmployeeRow> rows, LocalDate asOf, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (EmployeeRow row : rows) {
+            batch.add(insertArgs(row.id(), policy.entitlement(row.hireDate(), asOf), updatedAt));
+        }
+        try {
+            return affected(transactionTemplate.execute(
+                    status -> jdbcTemplate.batchUpdate(INSERT_BALANCE_SQL, batch)));
+        } catch (DuplicateKeyException e) {
+            // 그사이 등록/조회 경로에서 만든 행이 있으면 한 행씩 다시 넣는다
+            return rows.stream().filter(row -> open(row.id(), row.hireDate(), asOf)).count();
+        }
+    }
+
+    private long accrueChunk(List<EmployeeRow> rows, LocalDate asOf, LocalDateTime now) {
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        Date cutoff = Date.valueOf(asOf);
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (EmployeeRow row : rows) {
+            LeaveAccrualPolicy.Entitlement entitlement = policy.entitlement(row.hireDate(), asOf);
+            Date periodStart = Date.valueOf(entitlement.periodStart());
+            batch.add(new Object[] {
+                    periodStart,
+                    periodStart,
+                    Date.valueOf(entitlement.periodEnd()),
+                    (double) entitlement.days(),
+                    Date.valueOf(entitlement.nextAccrualDate()),
+                    updatedAt,
+                    row.id(),
+                    cutoff });
+        }
+        return affected(transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(ACCRUE_SQL, batch)));
+    }
+
+    private static Object[] insertArgs(Long employeeId, LeaveAccrualPolicy.Entitlement entitlement,
+            Timestamp updatedAt) {
+        return new Object[] {
+                employeeId,
+                Date.valueOf(entitlement.periodStart()),
+                Date.valueOf(entitlement.periodEnd()),
+                (double) entitlement.days(),
+                Date.valueOf(entitlement.nextAccrualDate()),
+                updatedAt };
+    }
+
+    // 배치 결과의 반영 행 수 (드라이버가 건수를 주지 않으면 1건으로 센다)
+    private static long affected(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,20 @@
+package com.staffSync.application.leave;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 연차 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.leave")
+public class LeaveProperties {
+    private int chunkSize = 1000; // 청크당 직원 수 (= JDBC 배치 크기)
+    // 동시에 처리하는 청크 수 (DB 커넥션을 이만큼 쓰므로 일반 요청용 커넥션을 남겨 둔다)
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+}
@@ -0,0 +1,164 @@
+package com.staffSync.application.leave;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.staffSync.application.leave.dto.LeaveBalanceDto;
+import com.staffSync.application.leave.dto.LeaveRecordDto;
+import com.staffSync.application.leave.dto.TakeLeaveRequest;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.leave.LeaveBalance;
+import com.staffSync.domain.leave.LeaveBalanceRepository;
+import com.staffSync.domain.leave.LeaveRecord;
+import com.staffSync.domain.leave.LeaveRecordRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 연차 잔여 조회와 휴가 사용/취소
+ *
+ * 잔여는 직원별로 저장된 한 행을 직원 id(유일 인덱스)로 바로 읽는다. 조회마다 입사일부터 다시 계산하지 않는다.
+ * 휴가 사용/취소는 그 직원 행만 잠그고 사용 일수를 고친다.
+ * 일 배치가 돌기 전에 발생일이 지났거나 행이 아직 없으면 그 직원만 그 자리에서 다시 계산한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LeaveService {
+
+    private static final double HALF_DAY = 0.5;
+
+    private final LeaveBalanceRepository balanceRepository;
+    private final LeaveRecordRepository recordRepository;
+    private final EmployeeRepository employeeRepository;
+    private final LeaveAccrualPolicy policy;
+    private final LeaveAccrualService accrualService;
+
+    /**
+     * 연차 잔여 조회
+     *
+     * @param employeeId 직원 ID
+     * @return 현재 연차 기간의 발생/사용/잔여 일수
+     */
+    @Transactional // 발생일이 지난 경우에만 그 직원 행을 갱신
+    public LeaveBalanceDto getBalance(Long employeeId) {
+        LocalDate today = LocalDate.now();
+        Optional<LeaveBalance> balance = balanceRepository.findByEmployeeId(employeeId);
+        if (balance.isPresent() && !balance.get().isDue(today)) {
+            return LeaveBalanceDto.from(balance.get());
+        }
+        return LeaveBalanceDto.from(lockCurrent(employeeId, today));
+    }
+
+    // 직원의 휴가 사용 내역 (최근 순)
+    public List<LeaveRecordDto> getRecords(Long employeeId) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("직원 ID는 필수입니다.");
+        }
+        return recordRepository.findByEmployeeIdOrderByStartDateDesc(employeeId).stream()
+                .map(LeaveRecordDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 휴가 사용 (주말을 뺀 일수, 반차는 0.5일을 잔여에서 차감)
+     *
+     * @param request 직원, 기간, 반차 여부, 사유
+     * @return 저장된 사용 내역
+     */
+    @Transactional
+    public LeaveRecordDto takeLeave(TakeLeaveRequest request) {
+        if (request.getEmployeeId() == null) {
+            throw new IllegalArgumentException("직원 ID는 필수입니다.");
+        }
+        LocalDate start = request.getStartDate();
+        LocalDate end = request.getEndDate() != null ? request.getEndDate() : start;
+        if (start == null) {
+            throw new IllegalArgumentException("휴가 시작일은 필수입니다.");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("휴가 종료일이 시작일보다 빠릅니다.");
+        }
+        boolean halfDay = Boolean.TRUE.equals(request.getHalfDay());
+        if (halfDay && !start.equals(end)) {
+            throw new IllegalArgumentException("반차는 하루만 신청할 수 있습니다.");
+        }
+
+        LeaveBalance balance = lockCurrent(request.getEmployeeId(), LocalDate.now());
+        if (start.isBefore(balance.getPeriodStart()) || end.isAfter(balance.getPeriodEnd())) {
+            throw new IllegalArgumentException("현재 연차 기간(" + balance.getPeriodStart() + " ~ "
+                    + balance.getPeriodEnd() + ") 안의 휴가만 신청할 수 있습니다.");
+        }
+        long workingDays = workingDays(start, end);
+        if (workingDays == 0) {
+            throw new IllegalArgumentException("휴가 기간에 근무일(평일)이 없습니다.");
+        }
+        if (recordRepository.existsByEmployeeIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                request.getEmployeeId(), end, start)) {
+            throw new IllegalArgumentException("이미 신청한 휴가와 기간이 겹칩니다.");
+        }
+
+        double days = halfDay ? HALF_DAY : workingDays;
+        balance.use(days);
+        return LeaveRecordDto.from(recordRepository.save(
+                new LeaveRecord(request.getEmployeeId(), start, end, days, request.getReason())));
+    }
+
+    /**
+     * 휴가 취소 (현재 연차 기간의 휴가만 잔여로 되돌린다, 지난 기간 연차는 이미 소멸)
+     *
+     * @param recordId 사용 내역 ID
+     */
+    @Transactional
+    public void cancelLeave(Long recordId) {
+        LeaveRecord record = recordRepository.findById(recordId)
+                .orElseThrow(() -> new IllegalArgumentException("휴가 내역을 찾을 수 없습니다."));
+        LeaveBalance balance = lockCurrent(record.getEmployeeId(), LocalDate.now());
+        if (!record.getStartDate().isBefore(balance.getPeriodStart())) {
+            balance.restore(record.getDays());
+        }
+        recordRepository.delete(record);
+    }
+
+    // 직원 잔여 행을 잠그고, 없으면 만들고, 발생일이 지났으면 오늘 기준으로 다시 계산
+    private LeaveBalance lockCurrent(Long employeeId, LocalDate today) {
+        Optional<LeaveBalance> found = balanceRepository.findForUpdate(employeeId);
+        if (found.isEmpty()) {
+            accrualService.open(employeeId, findEmployee(employeeId).getHireDate(), today);
+            found = balanceRepository.findForUpdate(employeeId);
+        }
+        LeaveBalance balance = found.orElseThrow(() -> new IllegalArgumentException("연차 정보를 찾을 수 없습니다."));
+        if (balance.isDue(today)) {
+            LeaveAccrualPolicy.Entitlement entitlement = policy.entitlement(
+                    findEmployee(employeeId).getHireDate(), today);
+            balance.accrue(entitlement.periodStart(), entitlement.periodEnd(), entitlement.days(),
+                    entitlement.nextAccrualDate());
+        }
+        return balance;
+    }
+
+    private Employee findEmployee(Long employeeId) {
+        return employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
+    }
+
+    // 기간 중 평일 수 (양 끝 포함)
+    private static long workingDays(LocalDate start, LocalDate end) {
+        long total = end.toEpochDay() - start.toEpochDay() + 1;
+        long weeks = total / 7;
+        long days = weeks * 5;
+        for (LocalDate date = start.plusWeeks(weeks); !date.isAfter(end); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days++;
+            }
+        }
+        return days;
+    }
+}
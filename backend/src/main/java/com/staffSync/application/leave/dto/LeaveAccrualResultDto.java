@@ -0,0 +1,17 @@
+package com.staffSync.application.leave.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveAccrualResultDto {
+    private LocalDate asOf; // 기준일
+    private long openedCount; // 새로 만든 잔여 행 수 (잔여 행이 없던 직원)
+    private long accruedCount; // 발생 일수를 다시 계산한 직원 수 (발생일이 지난 직원)
+    private long elapsedMs;
+}
@@ -0,0 +1,33 @@
+package com.staffSync.application.leave.dto;
+
+import java.time.LocalDate;
+
+import com.staffSync.domain.leave.LeaveBalance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveBalanceDto {
+    private Long employeeId; // 직원 ID
+    private LocalDate periodStart; // 현재 연차 기간 시작
+    private LocalDate periodEnd; // 현재 연차 기간 끝 (이후 미사용 연차 소멸)
+    private double accruedDays; // 발생 일수
+    private double usedDays; // 사용 일수
+    private double remainingDays; // 잔여 일수
+    private LocalDate nextAccrualDate; // 다음 발생일
+
+    public static LeaveBalanceDto from(LeaveBalance balance) {
+        return new LeaveBalanceDto(
+                balance.getEmployeeId(),
+                balance.getPeriodStart(),
+                balance.getPeriodEnd(),
+                balance.getAccruedDays(),
+                balance.getUsedDays(),
+                balance.getRemainingDays(),
+                balance.getNextAccrualDate());
+    }
+}
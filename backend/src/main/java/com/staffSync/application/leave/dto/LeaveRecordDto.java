@@ -0,0 +1,34 @@
+package com.staffSync.application.leave.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.leave.LeaveRecord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaveRecordDto {
+    private Long id;
+    private Long employeeId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private double days; // 차감 일수
+    private String reason;
+    private LocalDateTime createdAt;
+
+    public static LeaveRecordDto from(LeaveRecord record) {
+        return new LeaveRecordDto(
+                record.getId(),
+                record.getEmployeeId(),
+                record.getStartDate(),
+                record.getEndDate(),
+                record.getDays(),
+                record.getReason(),
+                record.getCreatedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.staffSync.application.leave.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TakeLeaveRequest {
+    private Long employeeId; // 직원 ID (employee.id)
+    private LocalDate startDate; // 시작일
+    private LocalDate endDate; // 종료일 (포함)
+    private Boolean halfDay; // 반차 여부 (시작일과 종료일이 같을 때만)
+    private String reason; // 사유 (선택)
+}
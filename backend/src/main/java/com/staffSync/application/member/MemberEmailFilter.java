@@ -0,0 +1,18 @@
+package com.staffSync.application.member;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.staffSync.application.cache.EmailExistenceFilter;
+import com.staffSync.application.cache.EmailFilterProperties;
+
+/**
+ * 회원 이메일 중복 검사용 블룸 필터 (회원가입 시 추가)
+ */
+@Component
+public class MemberEmailFilter extends EmailExistenceFilter {
+
+    public MemberEmailFilter(JdbcTemplate jdbcTemplate, EmailFilterProperties properties) {
+        super("member", jdbcTemplate, "SELECT email FROM member", properties);
+    }
+}
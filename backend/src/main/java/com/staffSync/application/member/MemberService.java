@@ -24,6 +24,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final MemberEmailFilter memberEmailFilter;
 
     // 인증 코드 저장소 (실제로는 Redis 사용 권장)
     private final Map<String, String> verificationCodes = new HashMap<>();
@@ -41,8 +42,8 @@ public class MemberService {
      */
     public void requestVerification(String email) {
 
-        // 1. 중복 이메일 체크
-        if (memberRepository.existsByEmail(email)) {
+        // 1. 중복 이메일 체크 (블룸 필터가 "확실히 없음"이면 조회 생략)
+        if (memberEmailFilter.exists(email, memberRepository::existsByEmail)) {
             throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         }
 
@@ -128,7 +129,7 @@ public class MemberService {
         }
 
         // 2. 중복 체크
-        if (memberRepository.existsByEmail(email)) {
+        if (memberEmailFilter.exists(email, memberRepository::existsByEmail)) {
             throw new IllegalArgumentException("이미 가입된 이메일입니다.");
         }
 
@@ -146,6 +147,7 @@ public class MemberService {
 
         // 5. 저장
         memberRepository.save(member);
+        memberEmailFilter.add(email);
 
         // 6. 인증 코드 및 만료 시간 삭제
         verificationCodes.remove(email);
@@ -0,0 +1,85 @@
+package com.staffSync.application.payroll;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 한 명의 월 급여 계산 (상태 없음, 여러 스레드에서 동시에 호출)
+ *
+ * 월 지급액 = 연봉 / 12 (급여 월 중 입사자는 근무 일수 비율로 일할 계산)
+ * 4대 보험은 설정 요율, 소득세는 간이세액표 대신 (지급액 - 4대 보험) 연 환산액에 누진세율을 적용해 근사한다.
+ * 모든 금액은 10원 미만을 절사한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PayrollCalculator {
+
+    // 종합소득세 과세표준 구간 상한, 세율, 누진공제액 (원)
+    private static final long[] BRACKET_LIMITS = { 14_000_000L, 50_000_000L, 88_000_000L, 150_000_000L,
+            300_000_000L, 500_000_000L, 1_000_000_000L, Long.MAX_VALUE };
+    private static final double[] BRACKET_RATES = { 0.06, 0.15, 0.24, 0.35, 0.38, 0.40, 0.42, 0.45 };
+    private static final long[] BRACKET_DEDUCTIONS = { 0L, 1_260_000L, 5_760_000L, 15_440_000L, 19_940_000L,
+            25_940_000L, 35_940_000L, 65_940_000L };
+
+    private final PayrollProperties properties;
+
+    // 계산 결과 (원)
+    public record Result(long grossPay, long nationalPension, long healthInsurance, long longTermCare,
+            long employmentInsurance, long incomeTax, long localIncomeTax) {
+
+        public long totalDeductions() {
+            return nationalPension + healthInsurance + longTermCare + employmentInsurance + incomeTax + localIncomeTax;
+        }
+
+        public long netPay() {
+            return grossPay - totalDeductions();
+        }
+    }
+
+    /**
+     * 월 급여 계산
+     *
+     * @param annualSalary 연봉 (원)
+     * @param hireDate     입사일 (급여 월 말일 이전이어야 한다)
+     * @param payMonth     급여 월
+     * @return 지급액과 공제 내역
+     */
+    public Result calculate(double annualSalary, LocalDate hireDate, YearMonth payMonth) {
+        double monthly = annualSalary / 12;
+        if (hireDate != null && YearMonth.from(hireDate).equals(payMonth)) {
+            int days = payMonth.lengthOfMonth();
+            monthly = monthly * (days - hireDate.getDayOfMonth() + 1) / days;
+        }
+        long gross = truncate(monthly);
+
+        long pension = truncate(Math.min(gross, properties.getNationalPensionMaxBase())
+                * properties.getNationalPensionRate());
+        long health = truncate(gross * properties.getHealthInsuranceRate());
+        long longTermCare = truncate(health * properties.getLongTermCareRate());
+        long employment = truncate(gross * properties.getEmploymentInsuranceRate());
+
+        long taxableAnnual = Math.max(0, gross - pension - health - longTermCare - employment) * 12;
+        long incomeTax = truncate(annualIncomeTax(taxableAnnual) / 12.0);
+        long localIncomeTax = truncate(incomeTax * properties.getLocalIncomeTaxRate());
+
+        return new Result(gross, pension, health, longTermCare, employment, incomeTax, localIncomeTax);
+    }
+
+    private static double annualIncomeTax(long taxable) {
+        for (int i = 0; i < BRACKET_LIMITS.length; i++) {
+            if (taxable <= BRACKET_LIMITS[i]) {
+                return Math.max(0, taxable * BRACKET_RATES[i] - BRACKET_DEDUCTIONS[i]);
+            }
+        }
+        return 0;
+    }
+
+    // 10원 미만 절사
+    private static long truncate(double amount) {
+        return (long) (amount / 10) * 10;
+    }
+}
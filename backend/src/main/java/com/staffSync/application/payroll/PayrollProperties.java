@@ -0,0 +1,28 @@
+package com.staffSync.application.payroll;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 급여 계산 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.payroll")
+public class PayrollProperties {
+    private int chunkSize = 1000; // 청크당 직원 수 (= JDBC 배치 크기)
+    // 동시에 계산/저장하는 청크 수 (DB 커넥션을 이만큼 쓰므로 일반 요청용 커넥션을 남겨 둔다)
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // 근로자 부담 요율
+    private double nationalPensionRate = 0.045; // 국민연금
+    private long nationalPensionMaxBase = 6_170_000; // 국민연금 기준소득월액 상한 (원)
+    private double healthInsuranceRate = 0.03545; // 건강보험
+    private double longTermCareRate = 0.1295; // 장기요양보험 (건강보험료 대비)
+    private double employmentInsuranceRate = 0.009; // 고용보험
+    private double localIncomeTaxRate = 0.1; // 지방소득세 (소득세 대비)
+}
@@ -0,0 +1,364 @@
+package com.staffSync.application.payroll;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.payroll.dto.PayrollLineDto;
+import com.staffSync.application.payroll.dto.PayrollRunDto;
+import com.staffSync.application.payroll.dto.StartPayrollRunRequest;
+import com.staffSync.domain.payroll.PayrollLineRepository;
+import com.staffSync.domain.payroll.PayrollRun;
+import com.staffSync.domain.payroll.PayrollRunRepository;
+import com.staffSync.domain.payroll.PayrollRunStatus;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월 급여 계산 실행 엔진
+ *
+ * 실행 스레드가 직원을 id 순 청크(chunkSize)로 읽고, 청크마다 가상 스레드에서 계산 후 JDBC 배치로 저장한다.
+ * 동시에 처리하는 청크 수는 parallelism 으로 제한해 일반 요청이 쓸 DB 커넥션과 CPU 를 남겨 둔다.
+ * 청크는 끝나는 순서가 뒤섞이므로, 앞쪽 청크가 모두 저장된 구간의 마지막 직원 id 만 체크포인트로 기록한다.
+ * 청크 저장은 (이전 청크 마지막 id, 이번 청크 마지막 id] 구간을 지우고 다시 넣으므로
+ * 재개 시 체크포인트 뒤에 이미 저장된 청크가 있어도 중복 없이 덮어쓴다.
+ */
+@Slf4j
+@Service
+public class PayrollRunService {
+
+    // 급여 명세 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SELECT_EMPLOYEES_SQL = "SELECT id, employee_id, hire_date, salary FROM employee "
+            + "WHERE id > ? AND hire_date <= ? ORDER BY id LIMIT ?";
+    private static final String DELETE_LINES_SQL = "DELETE FROM payroll_lines "
+            + "WHERE run_id = ? AND employee_id > ? AND employee_id <= ?";
+    private static final String DELETE_LINES_AFTER_SQL = "DELETE FROM payroll_lines WHERE run_id = ? AND employee_id > ?";
+    private static final String INSERT_LINE_SQL = "INSERT INTO payroll_lines "
+            + "(run_id, employee_id, employee_number, gross_pay, national_pension, health_insurance, long_term_care, "
+            + "employment_insurance, income_tax, local_income_tax, total_deductions, net_pay) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CHECKPOINT_SQL = "UPDATE payroll_runs "
+            + "SET checkpoint_employee_id = ?, processed_count = ? WHERE id = ?";
+    private static final String TOTALS_SQL = "SELECT COUNT(*), COALESCE(SUM(gross_pay), 0), "
+            + "COALESCE(SUM(total_deductions), 0), COALESCE(SUM(net_pay), 0) FROM payroll_lines WHERE run_id = ?";
+
+    private static final RowMapper<EmployeeRow> EMPLOYEE_ROW_MAPPER = (rs, rowNum) -> new EmployeeRow(
+            rs.getLong("id"),
+            rs.getString("employee_id"),
+            rs.getDate("hire_date").toLocalDate(),
+            rs.getDouble("salary"));
+
+    private final PayrollRunRepository runRepository;
+    private final PayrollLineRepository lineRepository;
+    private final PayrollCalculator calculator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PayrollProperties properties;
+
+    // 실행 중인 급여 계산 (실행 ID -> 실행 스레드)
+    private final Map<Long, Thread> activeRuns = new ConcurrentHashMap<>();
+    private volatile boolean stopping = false;
+
+    // 계산 대상 직원
+    private record EmployeeRow(long id, String employeeNumber, LocalDate hireDate, double salary) {
+    }
+
+    // 청크: 읽은 순번과 직원 id 구간 (afterId, lastId]
+    private record Chunk(long seq, long afterId, long lastId, int size) {
+    }
+
+    public PayrollRunService(PayrollRunRepository runRepository, PayrollLineRepository lineRepository,
+            PayrollCalculator calculator, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            PayrollProperties properties) {
+        this.runRepository = runRepository;
+        this.lineRepository = lineRepository;
+        this.calculator = calculator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    // 재기동 전에 실행 중이던 급여 계산은 중단 상태로 바꿔 재개할 수 있게 한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterrupted() {
+        for (PayrollRun run : runRepository.findByStatus(PayrollRunStatus.RUNNING)) {
+            if (!activeRuns.containsKey(run.getId())) {
+                fail(run.getId(), "서버 재시작으로 중단되었습니다.");
+            }
+        }
+    }
+
+    // 종료 시 새 청크는 시작하지 않고, 진행 중인 청크만 저장한 뒤 중단 상태로 남긴다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        for (Thread worker : activeRuns.values()) {
+            worker.join(30_000);
+        }
+    }
+
+    /**
+     * 급여 계산 시작 (백그라운드 실행)
+     *
+     * @param request 급여 월 (yyyy-MM)
+     * @return 생성된 실행 (진행 상황은 getRun 으로 조회)
+     */
+    public synchronized PayrollRunDto startRun(StartPayrollRunRequest request) {
+        YearMonth payMonth = parsePayMonth(request.getPayMonth());
+        PayrollRun run = transactionTemplate.execute(status -> {
+            if (runRepository.findByPayMonth(payMonth.toString()).isPresent()) {
+                throw new IllegalArgumentException("이미 해당 월의 급여 계산이 있습니다. 실패한 계산은 재개하세요.");
+            }
+            return runRepository.save(new PayrollRun(payMonth.toString()));
+        });
+        launch(run, payMonth);
+        return PayrollRunDto.from(run);
+    }
+
+    /**
+     * 실패/중단된 급여 계산을 체크포인트부터 재개
+     *
+     * @param runId 실행 ID
+     * @return 재개된 실행
+     */
+    public synchronized PayrollRunDto resumeRun(Long runId) {
+        if (activeRuns.containsKey(runId)) {
+            throw new IllegalArgumentException("이미 실행 중인 급여 계산입니다.");
+        }
+        PayrollRun run = transactionTemplate.execute(status -> {
+            PayrollRun found = findRun(runId);
+            found.resume();
+            return found;
+        });
+        launch(run, YearMonth.parse(run.getPayMonth()));
+        return PayrollRunDto.from(run);
+    }
+
+    // 실행 조회 (진행 상황 포함)
+    public PayrollRunDto getRun(Long runId) {
+        return PayrollRunDto.from(findRun(runId));
+    }
+
+    // 실행 목록 (최근 급여 월 순)
+    public List<PayrollRunDto> getRuns() {
+        return runRepository.findAllByOrderByPayMonthDesc().stream()
+                .map(PayrollRunDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 급여 명세 조회 (직원 id 순 키셋 페이지)
+     *
+     * @param runId           실행 ID
+     * @param afterEmployeeId 이전 페이지 마지막 직원 id (첫 페이지면 null)
+     * @param size            페이지 크기 (1 ~ 100)
+     * @return 급여 명세 목록
+     */
+    public List<PayrollLineDto> getLines(Long runId, Long afterEmployeeId, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        findRun(runId);
+        return lineRepository.findByRunIdAndEmployeeIdGreaterThanOrderByEmployeeId(
+                runId, afterEmployeeId != null ? afterEmployeeId : 0L, Limit.of(size)).stream()
+                .map(PayrollLineDto::from)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isRunning(Long runId) {
+        return activeRuns.containsKey(runId);
+    }
+
+    private void launch(PayrollRun run, YearMonth payMonth) {
+        Long runId = run.getId();
+        Thread worker = Thread.ofVirtual().name("payroll-run-" + runId)
+                .unstarted(() -> execute(runId, payMonth, run.getCheckpointEmployeeId(), run.getProcessedCount()));
+        activeRuns.put(runId, worker);
+        worker.start();
+    }
+
+    private void execute(Long runId, YearMonth payMonth, long checkpoint, long processed) {
+        try {
+            String failure = process(runId, payMonth, checkpoint, processed);
+            if (failure == null) {
+                complete(runId);
+            } else {
+                fail(runId, failure);
+            }
+        } catch (RuntimeException e) {
+            log.error("급여 계산 실패 (run={})", runId, e);
+            fail(runId, e.getMessage());
+        } finally {
+            activeRuns.remove(runId);
+        }
+    }
+
+    /**
+     * 체크포인트 다음 직원부터 청크 단위로 계산/저장
+     *
+     * @return 실패 사유 (성공하면 null)
+     */
+    private String process(Long runId, YearMonth payMonth, long checkpoint, long processed) {
+        Date cutoff = Date.valueOf(payMonth.atEndOfMonth()); // 급여 월 말일까지 입사한 직원
+        Checkpoint tracker = new Checkpoint(runId, checkpoint, processed);
+        Semaphore permits = new Semaphore(Math.max(1, properties.getParallelism()));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long afterId = checkpoint;
+        boolean finished = false;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long seq = 0;
+            while (true) {
+                // 처리 중인 청크가 parallelism 개면 하나가 끝날 때까지 다음 청크를 읽지 않는다
+                permits.acquire();
+                if (failure.get() != null || stopping) {
+                    permits.release();
+                    break;
+                }
+                List<EmployeeRow> rows = jdbcTemplate.query(SELECT_EMPLOYEES_SQL, EMPLOYEE_ROW_MAPPER,
+                        afterId, cutoff, properties.getChunkSize());
+                if (rows.isEmpty()) {
+                    permits.release();
+                    finished = true;
+                    break;
+                }
+                Chunk chunk = new Chunk(seq++, afterId, rows.get(rows.size() - 1).id(), rows.size());
+                afterId = chunk.lastId();
+                executor.submit(() -> {
+                    try {
+                        writeChunk(runId, payMonth, chunk, rows);
+                        tracker.completed(chunk);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "급여 계산이 중단되었습니다.";
+        }
+
+        if (failure.get() != null) {
+            log.error("급여 계산 청크 저장 실패 (run={})", runId, failure.get());
+            return "청크 저장 실패: " + failure.get().getMessage();
+        }
+        if (!finished) {
+            return "서버 종료로 중단되었습니다.";
+        }
+        // 이전 시도에서 저장했지만 이제는 대상이 아닌 직원(삭제 등)의 명세 정리
+        jdbcTemplate.update(DELETE_LINES_AFTER_SQL, runId, afterId);
+        return null;
+    }
+
+    // 계산은 트랜잭션 밖에서 하고, 저장(구간 삭제 + 배치 INSERT)만 청크 단위 트랜잭션으로 실행
+    private void writeChunk(Long runId, YearMonth payMonth, Chunk chunk, List<EmployeeRow> rows) {
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (EmployeeRow row : rows) {
+            PayrollCalculator.Result result = calculator.calculate(row.salary(), row.hireDate(), payMonth);
+            batch.add(new Object[] {
+                    runId,
+                    row.id(),
+                    row.employeeNumber(),
+                    result.grossPay(),
+                    result.nationalPension(),
+                    result.healthInsurance(),
+                    result.longTermCare(),
+                    result.employmentInsurance(),
+                    result.incomeTax(),
+                    result.localIncomeTax(),
+                    result.totalDeductions(),
+                    result.netPay() });
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_LINES_SQL, runId, chunk.afterId(), chunk.lastId());
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, batch);
+        });
+    }
+
+    private void complete(Long runId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            PayrollRun run = findRun(runId);
+            long[] totals = jdbcTemplate.queryForObject(TOTALS_SQL,
+                    (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4) },
+                    runId);
+            run.complete(totals[0], totals[1], totals[2], totals[3]);
+        });
+        log.info("급여 계산 완료 (run={})", runId);
+    }
+
+    private void fail(Long runId, String reason) {
+        transactionTemplate.executeWithoutResult(status -> findRun(runId).fail(reason));
+    }
+
+    private PayrollRun findRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new IllegalArgumentException("급여 계산을 찾을 수 없습니다."));
+    }
+
+    private static YearMonth parsePayMonth(String value) {
+        try {
+            return YearMonth.parse(value != null ? value.trim() : "");
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("급여 월 형식이 올바르지 않습니다. (yyyy-MM)");
+        }
+    }
+
+    /**
+     * 체크포인트: 순번 0부터 빠짐없이 저장된 청크까지만 앞으로 옮긴다.
+     * 먼저 끝난 뒤쪽 청크는 앞 청크가 끝날 때까지 대기 목록에 둔다.
+     */
+    private final class Checkpoint {
+
+        private final Long runId;
+        private final Map<Long, Chunk> completed = new HashMap<>(); // guarded by this
+        private long employeeId;
+        private long processed;
+        private long nextSeq = 0;
+
+        private Checkpoint(Long runId, long employeeId, long processed) {
+            this.runId = runId;
+            this.employeeId = employeeId;
+            this.processed = processed;
+        }
+
+        synchronized void completed(Chunk chunk) {
+            completed.put(chunk.seq(), chunk);
+            boolean advanced = false;
+            Chunk next;
+            while ((next = completed.remove(nextSeq)) != null) {
+                employeeId = next.lastId();
+                processed += next.size();
+                nextSeq++;
+                advanced = true;
+            }
+            if (advanced) {
+                jdbcTemplate.update(CHECKPOINT_SQL, employeeId, processed, runId);
+            }
+        }
+    }
+}
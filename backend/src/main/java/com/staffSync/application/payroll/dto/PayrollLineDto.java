@@ -0,0 +1,39 @@
+package com.staffSync.application.payroll.dto;
+
+import com.staffSync.domain.payroll.PayrollLine;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollLineDto {
+    private Long employeeId; // 직원 ID
+    private String employeeNumber; // 사원번호
+    private Long grossPay;
+    private Long nationalPension;
+    private Long healthInsurance;
+    private Long longTermCare;
+    private Long employmentInsurance;
+    private Long incomeTax;
+    private Long localIncomeTax;
+    private Long totalDeductions;
+    private Long netPay;
+
+    public static PayrollLineDto from(PayrollLine line) {
+        return new PayrollLineDto(
+                line.getEmployeeId(),
+                line.getEmployeeNumber(),
+                line.getGrossPay(),
+                line.getNationalPension(),
+                line.getHealthInsurance(),
+                line.getLongTermCare(),
+                line.getEmploymentInsurance(),
+                line.getIncomeTax(),
+                line.getLocalIncomeTax(),
+                line.getTotalDeductions(),
+                line.getNetPay());
+    }
+}
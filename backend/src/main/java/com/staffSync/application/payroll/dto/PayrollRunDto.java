@@ -0,0 +1,44 @@
+package com.staffSync.application.payroll.dto;
+
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.payroll.PayrollRun;
+import com.staffSync.domain.payroll.PayrollRunStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollRunDto {
+    private Long id;
+    private String payMonth; // 급여 월 (yyyy-MM)
+    private PayrollRunStatus status;
+    private Long processedCount; // 체크포인트까지 처리한 직원 수
+    private Long checkpointEmployeeId; // 이 id 이하 직원은 저장 완료
+    private Long employeeCount; // 완료 시 직원 수
+    private Long totalGross; // 완료 시 지급액 합계
+    private Long totalDeductions; // 완료 시 공제 합계
+    private Long totalNet; // 완료 시 실지급액 합계
+    private String failureReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static PayrollRunDto from(PayrollRun run) {
+        return new PayrollRunDto(
+                run.getId(),
+                run.getPayMonth(),
+                run.getStatus(),
+                run.getProcessedCount(),
+                run.getCheckpointEmployeeId(),
+                run.getEmployeeCount(),
+                run.getTotalGross(),
+                run.getTotalDeductions(),
+                run.getTotalNet(),
+                run.getFailureReason(),
+                run.getStartedAt(),
+                run.getCompletedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.staffSync.application.payroll.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartPayrollRunRequest {
+    private String payMonth; // 급여 월 (yyyy-MM)
+}
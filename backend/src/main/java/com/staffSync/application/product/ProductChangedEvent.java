@@ -0,0 +1,30 @@
+package com.staffSync.application.product;
+
+import com.staffSync.application.product.dto.ProductDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 변경 이벤트
+ * 변경 전/후 스냅샷을 함께 담아 구독자가 차이(delta)만 반영할 수 있게 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final ProductDto before; // 변경 전 (등록 시 null)
+    private final ProductDto after; // 변경 후 (삭제 시 null)
+
+    public static ProductChangedEvent created(ProductDto after) {
+        return new ProductChangedEvent(null, after);
+    }
+
+    public static ProductChangedEvent updated(ProductDto before, ProductDto after) {
+        return new ProductChangedEvent(before, after);
+    }
+
+    public static ProductChangedEvent deleted(ProductDto before) {
+        return new ProductChangedEvent(before, null);
+    }
+}
@@ -0,0 +1,89 @@
+package com.staffSync.application.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.staffSync.domain.product.Product;
+
+/**
+ * 상품 목록 키셋 페이지 커서
+ *
+ * 마지막으로 내려준 행의 (정렬 값, id)를 담으며, 클라이언트에는 Base64 문자열(opaque token)로 전달한다.
+ * 다음 페이지는 OFFSET 없이 "이 키 다음부터" 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+ * 필터(카테고리, 검색어) 지문도 함께 담아 다른 필터로 만든 커서는 거절한다.
+ */
+public class ProductCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ProductSortKey sortKey;
+    private final Sort.Direction direction;
+    private final String fingerprint;
+    private final Long lastId;
+    private final Object lastValue;
+
+    private ProductCursor(ProductSortKey sortKey, Sort.Direction direction, String fingerprint, Long lastId,
+            Object lastValue) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.fingerprint = fingerprint;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    // 페이지의 마지막 상품으로 커서 생성
+    public static ProductCursor after(ProductSortKey sortKey, Sort.Direction direction, String fingerprint,
+            Product last) {
+        return new ProductCursor(sortKey, direction, fingerprint, last.getId(), sortKey.valueOf(last));
+    }
+
+    /**
+     * 커서 문자열 해석
+     * 
+     * @param token       클라이언트가 보낸 커서
+     * @param sortKey     현재 요청의 정렬 기준
+     * @param direction   현재 요청의 정렬 방향
+     * @param fingerprint 현재 요청의 필터 지문
+     * @return 커서
+     */
+    public static ProductCursor decode(String token, ProductSortKey sortKey, Sort.Direction direction,
+            String fingerprint) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 값(마지막 항목)에는 구분자가 포함될 수 있으므로 최대 5개로 분리
+            String[] parts = decoded.split("\\" + SEPARATOR, 5);
+            if (parts.length != 5
+                    || !parts[0].equals(sortKey.name())
+                    || !parts[1].equals(direction.name())
+                    || !parts[2].equals(fingerprint)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new ProductCursor(sortKey, direction, fingerprint, Long.valueOf(parts[3]),
+                    sortKey.parse(parts[4]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + fingerprint
+                + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Spring Data 키셋 스크롤 위치로 변환 (정렬 컬럼 + id)
+    public ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortKey != ProductSortKey.ID) {
+            keys.put(sortKey.getProperty(), lastValue);
+        }
+        keys.put("id", lastId);
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,322 @@
+package com.staffSync.application.product;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.product.dto.DashboardDto;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.ProductStockSummary;
+import com.staffSync.domain.product.StockStatus;
+import com.staffSync.domain.sync.SyncEntityType;
+import com.staffSync.domain.sync.SyncTombstone;
+import com.staffSync.domain.sync.SyncTombstoneRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대시보드 집계를 메모리에 유지하는 컴포넌트
+ *
+ * 시작 시 DB 요약 쿼리로 한 번 채운 뒤, 커밋된 상품 변경 이벤트의 차이만 반영한다.
+ * 조회 비용은 상품 수가 아닌 카테고리 수에 비례하고,
+ * 주기적인 정합성 점검으로 DB와의 차이(drift)를 보고하고 바로잡는다.
+ *
+ * 트랜잭션은 커밋한 뒤에 차이 이벤트(AFTER_COMMIT)를 보내므로, 그 사이에 읽은 스냅샷에는 이미 그 변경이 들어 있다.
+ * 스냅샷은 변경 순번 경계(ChangeSequence.stableWatermark) 이하 상품은 요약으로, 경계 이후 바뀐 상품/삭제 기록은
+ * 행마다 순번과 함께 한 읽기 트랜잭션에서 읽는다. 차이 이벤트는 그 트랜잭션이 상품에 부여한 순번이
+ * 스냅샷에 담긴 순번 이하이면 이미 반영된 것으로 보고 건너뛴다. (경계 이하 순번의 이벤트는 스냅샷 뒤에 올 수 없음)
+ * 스냅샷은 모니터 밖에서 읽어 그동안 커밋 후 리스너가 기다리지 않게 하고, 읽는 동안 들어온 변경은 모아 두었다가
+ * 교체할 때 새 스냅샷에 없는 것만 다시 더한다.
+ *
+ * 실시간 스트림(ProductEventStream)에는 반영과 같은 잠금 안에서 변경을 넘기고, 대시보드 응답에 그 시점의
+ * 스트림 이벤트 ID를 담는다. 클라이언트는 그 ID 이후 이벤트만 받으므로 변화량을 빠뜨리거나 두 번 더하지 않는다.
+ * 집계를 DB 기준으로 다시 만들면(일괄 등록, 불일치 보정) reset 을 보내 클라이언트도 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+public class ProductDashboardAggregate {
+
+    // 재고 가치 비교 허용 오차 (부동소수점 누적 오차)
+    private static final double VALUE_TOLERANCE = 1.0;
+
+    private final ProductRepository productRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final ChangeSequence changeSequence;
+    private final ProductEventStream eventStream;
+    private final TransactionTemplate snapshotTransaction;
+
+    private Totals totals = new Totals();
+    private Map<Long, Long> snapshotSeqs = Map.of(); // 경계 이후 바뀐 상품 id -> 스냅샷에 담긴 순번
+    private boolean initialized = false;
+    private List<PendingChange> changesDuringLoad; // 스냅샷을 읽는 동안 들어온 변경 (읽는 중이 아니면 null)
+
+    private final Object rebuildLock = new Object(); // 스냅샷 읽기/교체는 한 번에 하나만
+
+    public ProductDashboardAggregate(ProductRepository productRepository,
+            SyncTombstoneRepository tombstoneRepository, ChangeSequence changeSequence,
+            ProductEventStream eventStream, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeSequence = changeSequence;
+        this.eventStream = eventStream;
+        // 요약과 행 조회가 같은 시점을 보도록 한 트랜잭션(스냅샷)에서 읽는다
+        // (커밋 후 리스너에서도 불리므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션)
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // 애플리케이션 기동 완료 후 (초기 데이터 적재 이후) 집계 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild(false, null);
+    }
+
+    /**
+     * 대시보드 데이터 조회
+     * 
+     * @return 현재 집계 기준 대시보드 데이터 (반영된 마지막 스트림 이벤트 ID 포함)
+     */
+    public DashboardDto getDashboard() {
+        synchronized (this) {
+            if (initialized) {
+                return totals.toDto(eventStream.currentEventId());
+            }
+        }
+        rebuild(false, null);
+        synchronized (this) {
+            return totals.toDto(eventStream.currentEventId());
+        }
+    }
+
+    // 커밋된 변경분만 반영 (롤백된 변경은 반영하지 않음)하고 스트림으로 넘긴다
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        Long productId = productIdOf(event);
+        // 트랜잭션 밖 변경은 순번을 알 수 없어 null (항상 반영)
+        Long seq = changeSequence.lastAssigned(SyncEntityType.PRODUCT, productId);
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(new PendingChange(event, productId, seq));
+        }
+        // 초기화 전이면 스냅샷을 교체할 때 반영되므로 여기서는 더하지 않는다
+        boolean applied = initialized && !includedIn(snapshotSeqs, productId, seq);
+        if (applied) {
+            totals.apply(event.getBefore(), -1);
+            totals.apply(event.getAfter(), 1);
+        }
+        eventStream.publishChange(event, applied);
+    }
+
+    // 일괄 등록 후 DB 기준으로 재생성
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        rebuild(false, "import"); // 일괄 등록은 행별 이벤트가 없으므로 전체 재조회 요청
+    }
+
+    // 주기적 정합성 점검
+    @Scheduled(initialDelayString = "${app.product.dashboard.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.product.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (this) {
+            if (!initialized) {
+                return;
+            }
+        }
+        rebuild(true, "reconcile");
+    }
+
+    /**
+     * DB 스냅샷으로 집계 교체
+     * 
+     * @param onlyOnDrift 지금 집계와 차이가 있을 때만 교체 (차이가 없으면 지금 집계와 스냅샷 순번을 그대로 둔다)
+     * @param resetReason 교체 후 스트림에 보낼 reset 사유 (null 이면 보내지 않음)
+     */
+    private void rebuild(boolean onlyOnDrift, String resetReason) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringLoad = new ArrayList<>();
+            }
+            Snapshot snapshot;
+            try {
+                snapshot = loadSnapshot();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringLoad = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // 읽는 동안 커밋된 변경 중 스냅샷에 없는 것만 더한다
+                Totals loaded = snapshot.totals();
+                for (PendingChange change : changesDuringLoad) {
+                    if (!includedIn(snapshot.seqs(), change.productId(), change.seq())) {
+                        loaded.apply(change.event().getBefore(), -1);
+                        loaded.apply(change.event().getAfter(), 1);
+                    }
+                }
+                changesDuringLoad = null;
+
+                if (onlyOnDrift) {
+                    List<String> drifts = totals.diff(loaded);
+                    if (drifts.isEmpty()) {
+                        return;
+                    }
+                    log.warn("대시보드 집계 불일치 감지 ({}건), DB 기준으로 재생성합니다: {}", drifts.size(), drifts);
+                }
+                totals = loaded;
+                snapshotSeqs = snapshot.seqs();
+                initialized = true;
+                if (resetReason != null) {
+                    eventStream.publishReset(resetReason);
+                }
+            }
+        }
+    }
+
+    private static Long productIdOf(ProductChangedEvent event) {
+        return event.getAfter() != null ? event.getAfter().getId() : event.getBefore().getId();
+    }
+
+    // 이 커밋의 변경이 이미 스냅샷에 들어 있는지
+    private static boolean includedIn(Map<Long, Long> seqs, Long productId, Long seq) {
+        Long snapshotSeq = seqs.get(productId);
+        return snapshotSeq != null && seq != null && seq <= snapshotSeq;
+    }
+
+    // 경계는 읽기 트랜잭션 시작 전에 정한다 (경계 이하 순번은 모두 끝났으므로 스냅샷에 빠짐없이 보임)
+    private Snapshot loadSnapshot() {
+        long watermark = changeSequence.stableWatermark();
+        return snapshotTransaction.execute(status -> {
+            Totals loaded = Totals.from(productRepository.summarizeStock(watermark));
+            Map<Long, Long> seqs = new HashMap<>();
+            for (Product product : productRepository.findChanges(watermark, Long.MAX_VALUE, Limit.unlimited())) {
+                loaded.apply(ProductDto.from(product), 1);
+                seqs.put(product.getId(), product.getChangeSeq());
+            }
+            for (SyncTombstone tombstone : tombstoneRepository.findChanges(watermark, Long.MAX_VALUE,
+                    Limit.unlimited())) {
+                if (tombstone.getEntityType() == SyncEntityType.PRODUCT) {
+                    seqs.merge(tombstone.getEntityId(), tombstone.getChangeSeq(), Math::max);
+                }
+            }
+            return new Snapshot(loaded, seqs);
+        });
+    }
+
+    // DB 스냅샷 (집계 + 경계 이후 바뀐 상품별 순번)
+    private record Snapshot(Totals totals, Map<Long, Long> seqs) {
+    }
+
+    // 스냅샷을 읽는 동안 들어온 변경과 그 트랜잭션이 상품에 부여한 순번
+    private record PendingChange(ProductChangedEvent event, Long productId, Long seq) {
+    }
+
+    // 집계 상태 (카테고리별 수량/가치 + 상태별 개수)
+    private static class Totals {
+
+        private final long[] statusCounts = new long[StockStatus.values().length];
+        private final Map<String, Long> quantityByCategory = new HashMap<>();
+        private final Map<String, Double> valueByCategory = new HashMap<>();
+        private final Map<String, Long> countByCategory = new HashMap<>();
+        private long totalProducts;
+        private double totalValue;
+
+        static Totals from(List<ProductStockSummary> summaries) {
+            Totals totals = new Totals();
+            for (ProductStockSummary summary : summaries) {
+                totals.add(summary.getCategory(), summary.getStatus(), summary.getProductCount(),
+                        summary.getTotalQuantity(), summary.getTotalValue());
+            }
+            return totals;
+        }
+
+        void apply(ProductDto product, int sign) {
+            if (product == null) {
+                return;
+            }
+            add(product.getCategory(), product.getStatus(), sign,
+                    (long) sign * product.getQuantity(),
+                    sign * product.getPrice() * product.getQuantity());
+        }
+
+        private void add(String category, StockStatus status, long count, long quantity, double value) {
+            totalProducts += count;
+            totalValue += value;
+            if (status != null) {
+                statusCounts[status.ordinal()] += count;
+            }
+
+            long categoryCount = countByCategory.merge(category, count, Long::sum);
+            if (categoryCount <= 0) {
+                // 카테고리에 남은 상품이 없으면 제거
+                countByCategory.remove(category);
+                quantityByCategory.remove(category);
+                valueByCategory.remove(category);
+                return;
+            }
+            quantityByCategory.merge(category, quantity, Long::sum);
+            valueByCategory.merge(category, value, Double::sum);
+        }
+
+        List<String> diff(Totals actual) {
+            List<String> drifts = new ArrayList<>();
+            if (totalProducts != actual.totalProducts) {
+                drifts.add("totalProducts " + totalProducts + " != " + actual.totalProducts);
+            }
+            for (StockStatus status : StockStatus.values()) {
+                if (statusCounts[status.ordinal()] != actual.statusCounts[status.ordinal()]) {
+                    drifts.add(status + " " + statusCounts[status.ordinal()]
+                            + " != " + actual.statusCounts[status.ordinal()]);
+                }
+            }
+            Set<String> categories = new HashSet<>(countByCategory.keySet());
+            categories.addAll(actual.countByCategory.keySet());
+            for (String category : categories) {
+                long quantity = quantityByCategory.getOrDefault(category, 0L);
+                long actualQuantity = actual.quantityByCategory.getOrDefault(category, 0L);
+                if (quantity != actualQuantity) {
+                    drifts.add(category + " quantity " + quantity + " != " + actualQuantity);
+                }
+                double value = valueByCategory.getOrDefault(category, 0.0);
+                double actualValue = actual.valueByCategory.getOrDefault(category, 0.0);
+                if (Math.abs(value - actualValue) > VALUE_TOLERANCE) {
+                    drifts.add(category + " value " + value + " != " + actualValue);
+                }
+            }
+            return drifts;
+        }
+
+        DashboardDto toDto(String streamEventId) {
+            return new DashboardDto(
+                    totalProducts,
+                    statusCounts[StockStatus.IN_STOCK.ordinal()],
+                    statusCounts[StockStatus.LOW_STOCK.ordinal()],
+                    statusCounts[StockStatus.OUT_OF_STOCK.ordinal()],
+                    totalValue,
+                    new HashMap<>(quantityByCategory),
+                    new HashMap<>(valueByCategory),
+                    streamEventId);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.staffSync.application.product;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.staffSync.application.product.dto.DashboardDeltaDto;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.StatusTransitionEventDto;
+import com.staffSync.application.product.dto.StockChangeEventDto;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 변경 실시간 스트림 (SSE)
+ *
+ * 커밋된 상품 변경 이벤트를 재고 변경(stock), 상태 전이(status), 대시보드 변화량(dashboard) 이벤트로 바꿔
+ * 열린 연결 모두에 밀어준다. 대시보드를 주기적으로 다시 조회하는 대신 변경 1건당 push 1번으로 끝난다.
+ * 변경은 ProductDashboardAggregate 가 집계에 반영하면서 같은 잠금 안에서 넘겨준다. 그래서 대시보드 응답에 담긴
+ * 이벤트 ID(currentEventId)로 구독하면 그 집계에 없는 변화량만 정확히 한 번씩 받는다.
+ *
+ * - 이벤트 ID는 "기동 epoch-순번" 형식이다. 순번은 단조 증가하며 최근 이벤트를 보관해 Last-Event-ID 이후분을 재전송한다.
+ *   epoch 가 다르거나(서버 재시작) 보관 범위를 벗어난 경우 reset 이벤트를 보내 클라이언트가 전체를 다시 읽게 한다.
+ * - 연결마다 크기가 정해진 대기열과 전송용 가상 스레드를 둔다. 느린 연결 때문에 다른 연결이나
+ *   커밋 스레드가 막히지 않으며, 대기열이 가득 차면 그 연결만 끊어 재연결(재전송)을 유도한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductEventStream {
+
+    public static final String STOCK = "stock";
+    public static final String STATUS = "status";
+    public static final String DASHBOARD = "dashboard";
+    public static final String RESET = "reset";
+
+    private static final StreamEvent HEARTBEAT = new StreamEvent(0L, null, null);
+    private static final String ID_SEPARATOR = "-";
+
+    private final ProductStreamProperties properties;
+
+    // 이벤트 ID 접두어 (재시작 후에는 이전 ID 가 이어지는 것처럼 보이지 않도록 기동 시각을 넣는다)
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Object lock = new Object();
+    private final ArrayDeque<StreamEvent> history = new ArrayDeque<>(); // guarded by lock
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastEventId = 0L; // guarded by lock
+
+    // 전송 단위 (id, 이벤트 이름, 데이터)
+    public record StreamEvent(long id, String name, Object data) {
+    }
+
+    /**
+     * 스트림 구독
+     * 
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (대시보드 응답의 streamEventId 또는 재연결 시, 없으면 null)
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(properties.getQueueCapacity()));
+
+        synchronized (lock) {
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    // 마지막으로 발행한 이벤트 ID (이 시점까지의 변경이 반영된 대시보드와 함께 내려준다)
+    public String currentEventId() {
+        synchronized (lock) {
+            return formatId(lastEventId);
+        }
+    }
+
+    /**
+     * 커밋된 변경을 스트림 이벤트로 변환 (ProductDashboardAggregate 가 집계 반영과 같은 잠금 안에서 호출)
+     * 
+     * @param event            커밋된 상품 변경
+     * @param includeDashboard 대시보드 변화량 발행 여부 (집계 스냅샷에 이미 들어 있던 변경이면 false)
+     */
+    public void publishChange(ProductChangedEvent event, boolean includeDashboard) {
+        ProductDto before = event.getBefore();
+        ProductDto after = event.getAfter();
+
+        synchronized (lock) {
+            if (before != null && after != null) {
+                if (!Objects.equals(before.getQuantity(), after.getQuantity())) {
+                    publish(STOCK, StockChangeEventDto.of(before, after));
+                }
+                if (before.getStatus() != after.getStatus()) {
+                    publish(STATUS, StatusTransitionEventDto.of(before, after));
+                }
+            }
+            DashboardDeltaDto delta = DashboardDeltaDto.between(before, after);
+            if (includeDashboard && delta.hasChanges()) {
+                publish(DASHBOARD, delta);
+            }
+        }
+    }
+
+    // 집계를 DB 기준으로 다시 만든 경우 (일괄 등록, 불일치 보정) 전체 재조회 요청
+    public void publishReset(String reason) {
+        synchronized (lock) {
+            publish(RESET, reason);
+        }
+    }
+
+    // 유휴 연결 유지 + 끊긴 연결 정리
+    @Scheduled(fixedDelayString = "${app.product.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+            subscriber.close();
+        }
+    }
+
+    // lock 보유 상태에서 호출 (ID 순서 = 대기열 순서 보장)
+    private void publish(String name, Object data) {
+        StreamEvent event = new StreamEvent(++lastEventId, name, data);
+        history.addLast(event);
+        while (history.size() > properties.getReplaySize()) {
+            history.removeFirst();
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    // lock 보유 상태에서 호출
+    private void replay(Subscriber subscriber, String lastSeen) {
+        Long lastSeenId = parseId(lastSeen);
+        if (lastSeenId == null) {
+            // 다른 기동(재시작 전)의 ID 이거나 형식이 맞지 않음
+            subscriber.offer(new StreamEvent(lastEventId, RESET, "reset"));
+            return;
+        }
+        if (lastSeenId == lastEventId) {
+            return; // 놓친 이벤트 없음
+        }
+        long oldestId = history.isEmpty() ? lastEventId + 1 : history.peekFirst().id();
+        List<StreamEvent> missed = new ArrayList<>();
+        for (StreamEvent event : history) {
+            if (event.id() > lastSeenId) {
+                missed.add(event);
+            }
+        }
+        // 보관 범위 밖이거나 대기열에 다 담을 수 없으면 전체 재조회 요청
+        if (lastSeenId < oldestId - 1 || lastSeenId > lastEventId || missed.size() > properties.getQueueCapacity()) {
+            subscriber.offer(new StreamEvent(lastEventId, RESET, "reset"));
+            return;
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    private String formatId(long id) {
+        return epoch + ID_SEPARATOR + id;
+    }
+
+    // 이번 기동에서 발급한 ID 면 순번, 아니면 null
+    private Long parseId(String id) {
+        int index = id.lastIndexOf(ID_SEPARATOR);
+        if (index < 0 || !id.substring(0, index).equals(epoch)) {
+            return null;
+        }
+        try {
+            return Long.valueOf(id.substring(index + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 연결 1개 (전용 대기열 + 전송 가상 스레드)
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<StreamEvent> queue;
+        private volatile Thread sender;
+        private volatile boolean closed = false;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<StreamEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        private void start() {
+            sender = Thread.ofVirtual().name("product-stream-sender").start(this::drain);
+        }
+
+        private void offer(StreamEvent event) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                log.info("SSE 전송 대기열 초과로 연결 종료 (capacity={})", properties.getQueueCapacity());
+                emitter.complete(); // 클라이언트는 Last-Event-ID 로 재연결해 밀린 이벤트를 다시 받는다
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    send(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("SSE 연결 종료: {}", e.getMessage());
+                close();
+            }
+        }
+
+        private void send(StreamEvent event) throws IOException {
+            if (event == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(formatId(event.id()))
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            Thread thread = sender;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
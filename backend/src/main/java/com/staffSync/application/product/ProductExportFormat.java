@@ -0,0 +1,111 @@
+package com.staffSync.application.product;
+
+import com.staffSync.domain.product.Product;
+
+/**
+ * 상품 내보내기 형식 (한 행씩 바로 쓰는 스트리밍 형식만 지원)
+ */
+public enum ProductExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private static final String CSV_HEADER = "id,name,category,quantity,minStockLevel,price,status,createdAt,updatedAt\n";
+
+    private final String contentType;
+    private final String extension;
+
+    ProductExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ProductExportFormat from(String format) {
+        for (ProductExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+
+    // 첫 행 이전에 쓰는 헤더 (없으면 빈 문자열)
+    public String header() {
+        return this == CSV ? CSV_HEADER : "";
+    }
+
+    // 상품 한 건을 한 줄로 변환 (줄바꿈 포함)
+    public String format(Product product) {
+        return this == CSV ? toCsv(product) : toJson(product);
+    }
+
+    private static String toJson(Product product) {
+        return "{\"id\":" + product.getId()
+                + ",\"name\":" + jsonString(product.getName())
+                + ",\"category\":" + jsonString(product.getCategory())
+                + ",\"quantity\":" + product.getQuantity()
+                + ",\"minStockLevel\":" + product.getMinStockLevel()
+                + ",\"price\":" + product.getPrice()
+                + ",\"status\":" + jsonString(product.getStatus() == null ? null : product.getStatus().name())
+                + ",\"createdAt\":" + jsonString(product.getCreatedAt() == null ? null : product.getCreatedAt().toString())
+                + ",\"updatedAt\":" + jsonString(product.getUpdatedAt() == null ? null : product.getUpdatedAt().toString())
+                + "}\n";
+    }
+
+    private static String toCsv(Product product) {
+        return product.getId()
+                + "," + csvField(product.getName())
+                + "," + csvField(product.getCategory())
+                + "," + product.getQuantity()
+                + "," + product.getMinStockLevel()
+                + "," + product.getPrice()
+                + "," + (product.getStatus() == null ? "" : product.getStatus().name())
+                + "," + (product.getCreatedAt() == null ? "" : product.getCreatedAt())
+                + "," + (product.getUpdatedAt() == null ? "" : product.getUpdatedAt())
+                + "\n";
+    }
+
+    private static String jsonString(String value) {
+        if (value == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
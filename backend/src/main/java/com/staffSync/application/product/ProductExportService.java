@@ -0,0 +1,72 @@
+package com.staffSync.application.product;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 스트리밍 내보내기
+ *
+ * DB 커서(전방 전용)로 한 행씩 읽어 바로 응답에 쓰므로
+ * 전체 목록을 엔티티/DTO/JSON 배열로 만들지 않고, 메모리 사용량이 행 수와 무관하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    // 이 행 수마다 응답으로 밀어냄 (chunked 전송)
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 전체 상품을 지정한 형식으로 출력 스트림에 씀
+     * 
+     * @param format       내보내기 형식
+     * @param outputStream 응답 출력 스트림
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ProductExportFormat format, OutputStream outputStream) throws IOException {
+        long startedAt = System.nanoTime();
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(format.header());
+
+        try (Stream<Product> products = productRepository.streamAllByOrderByIdAsc()) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                writer.write(format.format(product));
+                entityManager.detach(product); // 영속성 컨텍스트가 커지지 않도록 분리
+                if (++rows % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("상품 내보내기 완료: format={}, rows={}, elapsed={}ms, throughput={} rows/sec",
+                format, rows, elapsedMillis, rows * 1000 / elapsedMillis);
+        return rows;
+    }
+}
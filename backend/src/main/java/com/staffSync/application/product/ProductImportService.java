@@ -0,0 +1,82 @@
+package com.staffSync.application.product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.staffSync.application.bulk.CsvBulkImporter;
+import com.staffSync.application.bulk.CsvBulkImporter.ValidRow;
+import com.staffSync.application.bulk.CsvRow;
+import com.staffSync.application.bulk.dto.ImportErrorDto;
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.Product;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    public static final List<String> COLUMNS = List.of("name", "category", "quantity", "minStockLevel", "price");
+
+    private static final String INSERT_SQL = "INSERT INTO products "
+            + "(name, category, quantity, min_stock_level, price, status, created_at, updated_at, change_seq, reserved_quantity, allocated_quantity) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)";
+
+    private final CsvBulkImporter csvBulkImporter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeSequence changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 상품 CSV 일괄 등록
+     * 
+     * @param input CSV (헤더: name,category,quantity,minStockLevel,price)
+     * @return 처리 결과 (실패 행의 줄 번호와 사유 포함)
+     */
+    public ImportResultDto importCsv(InputStream input) throws IOException {
+        ImportResultDto result = csvBulkImporter.run(input, COLUMNS, this::toProduct, this::insert);
+        if (result.getImportedRows() > 0) {
+            eventPublisher.publishEvent(new ProductsImportedEvent(result.getImportedRows()));
+        }
+        return result;
+    }
+
+    // Product 생성자 규칙으로 검증 (병렬 실행)
+    private Product toProduct(CsvRow row) {
+        String name = row.require("name", "상품명");
+        String category = row.require("category", "카테고리");
+        if (name.length() > 100) {
+            throw new IllegalArgumentException("상품명은 100자 이하여야 합니다.");
+        }
+        if (category.length() > 50) {
+            throw new IllegalArgumentException("카테고리는 50자 이하여야 합니다.");
+        }
+        return new Product(name, category,
+                row.getInt("quantity", "재고 수량"),
+                row.getInt("minStockLevel", "최소 재고 수량"),
+                row.getDouble("price", "가격"));
+    }
+
+    private List<ImportErrorDto> insert(List<ValidRow<Product>> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            Product product = row.value();
+            ps.setString(1, product.getName());
+            ps.setString(2, product.getCategory());
+            ps.setInt(3, product.getQuantity());
+            ps.setInt(4, product.getMinStockLevel());
+            ps.setDouble(5, product.getPrice());
+            ps.setString(6, product.getStatus().name());
+            ps.setTimestamp(7, Timestamp.valueOf(product.getCreatedAt()));
+            ps.setTimestamp(8, Timestamp.valueOf(product.getUpdatedAt()));
+            ps.setLong(9, changeSequence.next());
+        });
+        return List.of();
+    }
+}
@@ -0,0 +1,245 @@
+package com.staffSync.application.product;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ProductSearchResultDto;
+import com.staffSync.common.util.HangulUtils;
+import com.staffSync.domain.product.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품명 n-gram 역색인 (메모리)
+ *
+ * 상품명을 자모 열과 초성 열로 바꿔 1-gram/2-gram 단위로 색인한다.
+ * 검색어의 n-gram 게시 목록(posting list)을 작은 것부터 교집합해 후보를 좁힌 뒤 포함 여부를 확인하므로
+ * 검색 비용은 상품 수가 아니라 후보 수에 비례한다.
+ * 자음만으로 된 검색어("ㄴㅌㅂ")는 초성 열에서, 그 외는 자모 열에서 찾는다. (입력 중인 "노틉"도 "노트북"과 일치)
+ * 색인은 커밋된 상품 변경 이벤트로 갱신된다.
+ *
+ * 전체 색인은 쓰기 잠금을 잡은 채 전체 상품을 읽어 만든다. 이벤트도 같은 잠금 안에서 초기화 여부를 보므로,
+ * 읽기 전에 끝난 커밋은 읽은 행에 들어 있고 그 뒤의 커밋 이벤트는 색인이 열릴 때까지 기다렸다가 반영된다.
+ * (잠금 밖에서 읽으면 그 사이 반영된 이벤트를 더 오래된 행이 덮어쓴다)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    // 일치 품질 (낮을수록 상위)
+    private static final int EXACT = 0;
+    private static final int PREFIX = 1;
+    private static final int CONTAINS = 2;
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> jamoIndex = new HashMap<>();
+    private final Map<String, Set<Long>> choseongIndex = new HashMap<>();
+    private volatile boolean initialized = false;
+
+    // 색인 문서 (응답용 상품 정보 + 검색용 자모/초성 열)
+    private record Document(ProductDto product, String jamo, String choseong) {
+    }
+
+    private record Match(ProductDto product, int quality, int length) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lock.writeLock().lock();
+        try {
+            rebuild(productRepository.findAll().stream().map(ProductDto::from).collect(Collectors.toList()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void rebuild(List<ProductDto> products) {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            jamoIndex.clear();
+            choseongIndex.clear();
+            products.forEach(this::add);
+            initialized = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 커밋된 등록/수정/삭제 반영
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!initialized) {
+                return; // 첫 검색 시 DB 기준으로 생성
+            }
+            ProductDto before = event.getBefore();
+            ProductDto after = event.getAfter();
+            if (before != null && after != null && before.getName().equals(after.getName())) {
+                // 이름이 같으면 색인은 그대로 두고 응답용 정보만 교체
+                Document document = documents.get(after.getId());
+                if (document != null) {
+                    documents.put(after.getId(), new Document(after, document.jamo(), document.choseong()));
+                    return;
+                }
+            }
+            if (before != null) {
+                remove(before.getId());
+            }
+            if (after != null) {
+                add(after);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 일괄 등록 후 전체 재색인
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        initialize();
+    }
+
+    /**
+     * 상품명 검색 (일치 품질 순: 완전 일치 > 접두 일치 > 부분 일치, 같으면 짧은 이름 우선)
+     * 
+     * @param keyword 검색어 (일반 검색어 또는 초성)
+     * @param limit   최대 결과 수
+     * @return 검색된 상품 목록
+     */
+    public List<ProductDto> search(String keyword, int limit) {
+        return search(keyword, 0, limit).getContent();
+    }
+
+    /**
+     * 상품명 검색 (페이지)
+     * 
+     * @param keyword 검색어 (일반 검색어 또는 초성)
+     * @param offset  건너뛸 결과 수
+     * @param limit   최대 결과 수
+     * @return 검색된 상품 목록과 전체 일치 건수
+     */
+    public ProductSearchResultDto search(String keyword, int offset, int limit) {
+        if (keyword == null || keyword.isBlank()) {
+            return new ProductSearchResultDto(List.of(), 0);
+        }
+        if (!initialized) {
+            initialize();
+        }
+
+        boolean choseongQuery = HangulUtils.isChoseongQuery(keyword);
+        String key = choseongQuery ? HangulUtils.choseong(keyword) : HangulUtils.decompose(keyword);
+
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            for (Long id : candidates(choseongQuery ? choseongIndex : jamoIndex, key)) {
+                Document document = documents.get(id);
+                String text = choseongQuery ? document.choseong() : document.jamo();
+                int position = text.indexOf(key);
+                if (position < 0) {
+                    continue; // n-gram 은 모두 있지만 연속되지 않은 경우
+                }
+                int quality = text.length() == key.length() ? EXACT : position == 0 ? PREFIX : CONTAINS;
+                matches.add(new Match(document.product(), quality, text.length()));
+            }
+            List<ProductDto> page = matches.stream()
+                    .sorted(Comparator.comparingInt(Match::quality)
+                            .thenComparingInt(Match::length)
+                            .thenComparing(match -> match.product().getId()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Match::product)
+                    .collect(Collectors.toList());
+            return new ProductSearchResultDto(page, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 n-gram 을 포함하는 상품 ID (게시 목록이 작은 것부터 교집합)
+    private Set<Long> candidates(Map<String, Set<Long>> index, String key) {
+        List<Set<Long>> postings = new ArrayList<>();
+        for (String gram : grams(key, key.length() == 1 ? 1 : 2)) {
+            Set<Long> posting = index.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    private void add(ProductDto product) {
+        Document document = new Document(product,
+                HangulUtils.decompose(product.getName()),
+                HangulUtils.choseong(product.getName()));
+        documents.put(product.getId(), document);
+        index(jamoIndex, document.jamo(), product.getId());
+        index(choseongIndex, document.choseong(), product.getId());
+    }
+
+    private void remove(Long productId) {
+        Document document = documents.remove(productId);
+        if (document == null) {
+            return;
+        }
+        unindex(jamoIndex, document.jamo(), productId);
+        unindex(choseongIndex, document.choseong(), productId);
+    }
+
+    private static void index(Map<String, Set<Long>> index, String text, Long productId) {
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(text, n)) {
+                index.computeIfAbsent(gram, key -> new HashSet<>()).add(productId);
+            }
+        }
+    }
+
+    private static void unindex(Map<String, Set<Long>> index, String text, Long productId) {
+        for (int n = 1; n <= 2; n++) {
+            for (String gram : grams(text, n)) {
+                Set<Long> posting = index.get(gram);
+                if (posting != null && posting.remove(productId) && posting.isEmpty()) {
+                    index.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + n <= text.length(); i++) {
+            grams.add(text.substring(i, i + n));
+        }
+        return grams;
+    }
+}
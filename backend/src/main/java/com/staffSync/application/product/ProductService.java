@@ -1,20 +1,42 @@
 package com.staffSync.application.product;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.staffSync.application.cache.CacheNames;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.application.product.dto.BatchStockResultDto;
 import com.staffSync.application.product.dto.CreateProductRequest;
 import com.staffSync.application.product.dto.DashboardDto;
 import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ProductPageDto;
+import com.staffSync.application.product.dto.ProductSearchResultDto;
+import com.staffSync.application.product.dto.StockAdjustmentRequest;
+import com.staffSync.application.product.dto.StockAdjustmentResultDto;
 import com.staffSync.application.product.dto.UpdateProductRequest;
 import com.staffSync.application.product.dto.UpdateStockRequest;
 import com.staffSync.domain.product.Product;
-import com.staffSync.domain.product.StockStatus;
 import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.ProductSpecifications;
+import com.staffSync.domain.product.StockLocationRepository;
+import com.staffSync.domain.product.StockStatus;
+import com.staffSync.domain.sync.SyncEntityType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,34 +45,22 @@ import lombok.RequiredArgsConstructor;
 @Transactional(readOnly = true)
 public class ProductService {
 
-    private final ProductRepository productRepository;
-
-    // 대시보드 데이터 조회
-    public DashboardDto getDashboard() {
-        List<Product> allProducts = productRepository.findAll();
-
-        long totalProducts = allProducts.size();
-        long inStockCount = productRepository.countByStatus(StockStatus.IN_STOCK);
-        long lowStockCount = productRepository.countByStatus(StockStatus.LOW_STOCK);
-        long outOfStockCount = productRepository.countByStatus(StockStatus.OUT_OF_STOCK);
+    // 커서 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
 
-        // 총 재고 가치 계산
-        double totalValue = allProducts.stream()
-                .mapToDouble(product -> product.getPrice() * product.getQuantity())
-                .sum();
+    // 일괄 재고 조정 최대 항목 수
+    private static final int MAX_BATCH_SIZE = 1000;
 
-        // 카테고리별 재고 현황
-        Map<String, Long> stockByCategory = allProducts.stream()
-                .collect(Collectors.groupingBy(Product::getCategory,
-                        Collectors.summingLong(Product::getQuantity)));
+    private final ProductRepository productRepository;
+    private final StockLocationRepository stockLocationRepository;
+    private final ProductDashboardAggregate dashboardAggregate;
+    private final ProductSearchIndex productSearchIndex;
+    private final ChangeSequence changeSequence;
+    private final ApplicationEventPublisher eventPublisher;
 
-        return new DashboardDto(
-                totalProducts,
-                inStockCount,
-                lowStockCount,
-                outOfStockCount,
-                totalValue,
-                stockByCategory);
+    // 대시보드 데이터 조회 (메모리 집계, 카테고리 수에 비례)
+    public DashboardDto getDashboard() {
+        return dashboardAggregate.getDashboard();
     }
 
     // 상품 전체 조회
@@ -60,7 +70,90 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 상품 목록 커서(키셋) 페이지 조회
+     * 
+     * @param size      페이지 크기 (1 ~ 100)
+     * @param sort      정렬 기준 (id, name, price, quantity, updatedAt)
+     * @param direction 정렬 방향 (asc, desc)
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @return 상품 목록과 다음 페이지 커서
+     */
+    public ProductPageDto getProductPage(int size, String sort, String direction, String cursor) {
+        return getProductPage(size, sort, direction, cursor, null, null);
+    }
+
+    /**
+     * 카테고리/검색어 조건을 적용한 상품 목록 커서(키셋) 페이지 조회
+     * 필터는 서버에서 적용하므로 페이지 크기, 다음 페이지 여부, 전체 건수가 모두 필터 결과 기준이다.
+     * 
+     * @param size      페이지 크기 (1 ~ 100)
+     * @param sort      정렬 기준 (id, name, price, quantity, updatedAt)
+     * @param direction 정렬 방향 (asc, desc)
+     * @param cursor    이전 페이지 응답의 nextCursor (첫 페이지면 null, 필터가 바뀌면 다시 null)
+     * @param category  카테고리 (null 이면 전체)
+     * @param keyword   상품명 검색어 (null 이면 전체)
+     * @return 상품 목록, 다음 페이지 커서, 전체 건수 (첫 페이지만)
+     */
+    public ProductPageDto getProductPage(int size, String sort, String direction, String cursor,
+            String category, String keyword) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        ProductSortKey sortKey = ProductSortKey.from(sort);
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 정렬 방향입니다: " + direction));
+        String categoryFilter = blankToNull(category);
+        String keywordFilter = blankToNull(keyword);
+        String fingerprint = Integer.toHexString(Objects.hash(categoryFilter, keywordFilter));
+
+        boolean firstPage = cursor == null || cursor.isBlank();
+        ScrollPosition position = firstPage
+                ? ScrollPosition.keyset()
+                : ProductCursor.decode(cursor, sortKey, sortDirection, fingerprint).toScrollPosition();
+
+        // 정렬 값이 같은 행의 순서를 고정하기 위해 id를 보조 정렬로 사용
+        Sort order = sortKey == ProductSortKey.ID
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortKey.getProperty()).and(Sort.by(sortDirection, "id"));
+
+        Specification<Product> spec = null;
+        Window<Product> window;
+        if (categoryFilter == null && keywordFilter == null) {
+            window = productRepository.findAllBy(position, order, Limit.of(size));
+        } else {
+            spec = Specification.<Product>unrestricted()
+                    .and(ProductSpecifications.categoryEquals(categoryFilter))
+                    .and(ProductSpecifications.nameContains(keywordFilter));
+            window = productRepository.findBy(spec, query -> query.sortBy(order).limit(size).scroll(position));
+        }
+        List<Product> products = window.getContent();
+
+        // 전체 건수는 첫 페이지에서만 센다 (한 페이지로 끝나면 페이지 크기)
+        Long totalCount = null;
+        if (firstPage) {
+            if (!window.hasNext()) {
+                totalCount = (long) products.size();
+            } else {
+                totalCount = spec == null ? productRepository.count() : productRepository.count(spec);
+            }
+        }
+
+        String nextCursor = null;
+        if (window.hasNext() && !products.isEmpty()) {
+            nextCursor = ProductCursor.after(sortKey, sortDirection, fingerprint, products.get(products.size() - 1))
+                    .encode();
+        }
+
+        return new ProductPageDto(
+                products.stream().map(ProductDto::from).collect(Collectors.toList()),
+                nextCursor,
+                nextCursor != null,
+                totalCount);
+    }
+
     // ID로 상품 단일 조회
+    @Cacheable(cacheNames = CacheNames.PRODUCTS, key = "#productId", sync = true)
     public ProductDto getProductById(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
@@ -83,12 +176,28 @@ public class ProductService {
      * 상품명으로 검색
      * 
      * @param keyword 검색
-     * @return 검색된 상품 목록
+     * @return 검색된 상품 목록 (일치하는 상품 전부)
      */
     public List<ProductDto> searchProducts(String keyword) {
-        return productRepository.findByNameContainingIgnoreCase(keyword).stream()
-                .map(ProductDto::from)
-                .collect(Collectors.toList());
+        return productSearchIndex.search(keyword, 0, Integer.MAX_VALUE).getContent();
+    }
+
+    /**
+     * 상품명으로 검색 (n-gram 역색인, 초성 검색 지원, 일치 품질 순, 페이지)
+     * 
+     * @param keyword 검색어 (예: "노트", "ㄴㅌㅂ")
+     * @param offset  건너뛸 결과 수 (0 이상)
+     * @param limit   최대 결과 수 (1 ~ 100)
+     * @return 현재 페이지 상품 목록과 전체 일치 건수
+     */
+    public ProductSearchResultDto searchProducts(String keyword, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("건너뛸 개수는 0 이상이어야 합니다.");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return productSearchIndex.search(keyword, offset, limit);
     }
 
     // 재고 부족 상품 조회
@@ -98,6 +207,21 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 가장 위급한 재고 부족 상품 조회 (재고 충족률이 낮은 순)
+     * 
+     * @param limit 조회할 상품 수 (1 ~ 100)
+     * @return 재고 부족 상품 상위 목록
+     */
+    public List<ProductDto> getMostCriticalProducts(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return productRepository.findLowStockProducts(PageRequest.of(0, limit)).stream()
+                .map(ProductDto::from)
+                .collect(Collectors.toList());
+    }
+
     // 상품 등록
     @Transactional
     public ProductDto createProduct(CreateProductRequest request) {
@@ -109,14 +233,18 @@ public class ProductService {
                 request.getPrice());
 
         Product savedProduct = productRepository.save(product);
-        return ProductDto.from(savedProduct);
+        ProductDto result = ProductDto.from(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.created(result));
+        return result;
     }
 
     // 상품 정보 수정
+    // 행을 잠가 읽으므로 상태(status)는 최신 재고로 다시 계산되고, 바뀐 컬럼만 UPDATE 한다. (재고 컬럼은 쓰지 않음)
     @Transactional
     public ProductDto updateProduct(Long productId, UpdateProductRequest request) {
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByIdForUpdate(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        ProductDto before = ProductDto.from(product);
 
         product.updateDetails(
                 request.getName(),
@@ -124,30 +252,138 @@ public class ProductService {
                 request.getPrice(),
                 request.getMinStockLevel());
 
-        return ProductDto.from(product);
+        ProductDto result = ProductDto.from(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(before, result));
+        return result;
     }
 
     // 재고 업데이트 (추가 또는 차감)
+    // 조건부 UPDATE 한 번으로 반영하므로 동시 요청에도 갱신 손실이 없고, 행 잠금은 커밋까지만 유지된다.
     @Transactional
     public ProductDto updateStock(Long productId, UpdateStockRequest request) {
+        int amount = request.getAmount();
+        if (amount == 0) {
+            return getProductById(productId); // 변경 없음
+        }
+
+        int updated = amount > 0
+                ? productRepository.increaseStock(productId, amount, LocalDateTime.now(),
+                        changeSequence.next(SyncEntityType.PRODUCT, productId))
+                : productRepository.decreaseStock(productId, Math.abs(amount), LocalDateTime.now(),
+                        changeSequence.next(SyncEntityType.PRODUCT, productId));
+        if (updated == 0) {
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+            }
+            throw new IllegalArgumentException("재고가 부족합니다.");
+        }
+
+        // UPDATE 이후 행은 이 트랜잭션이 잠그고 있으므로 다시 읽은 값이 곧 이번 변경의 결과
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        ProductDto result = ProductDto.from(product);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(stockBefore(result, amount), result));
+        return result;
+    }
+
+    /**
+     * 재고 일괄 조정 (입고/출고 처리)
+     * 대상 상품을 IN 쿼리 한 번으로 id 순서대로 잠가 읽고, 한 트랜잭션에서 반영한 뒤 JDBC 배치로 flush 한다.
+     * 커밋까지 행 잠금을 유지하므로 그 사이의 조건부 UPDATE나 재고 명령 레인 커밋이 덮어써지지 않는다.
+     * 항목별로 실패(상품 없음, 재고 부족 등)해도 나머지 항목은 계속 반영한다.
+     * 
+     * @param requests (상품 ID, 증감 수량) 목록
+     * @return 항목별 반영 결과
+     */
+    @Transactional
+    public BatchStockResultDto updateStockBatch(List<StockAdjustmentRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("조정할 재고 항목이 없습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_SIZE + "건까지 조정할 수 있습니다.");
+        }
+
+        List<Long> productIds = requests.stream()
+                .map(StockAdjustmentRequest::getProductId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Product> products = productRepository.findAllForUpdate(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<StockAdjustmentResultDto> results = new ArrayList<>(requests.size());
+        int successCount = 0;
+        for (StockAdjustmentRequest request : requests) {
+            Product product = products.get(request.getProductId());
+            if (product == null) {
+                results.add(StockAdjustmentResultDto.failure(request, "상품을 찾을 수 없습니다."));
+                continue;
+            }
+            if (request.getDelta() == null || request.getDelta() == 0) {
+                results.add(StockAdjustmentResultDto.failure(request, "조정 수량은 0이 아니어야 합니다."));
+                continue;
+            }
 
-        if (request.getAmount() > 0) {
-            product.addStock(request.getAmount());
-        } else if (request.getAmount() < 0) {
-            product.reducetStock(Math.abs(request.getAmount()));
+            ProductDto before = ProductDto.from(product);
+            try {
+                // 검증 실패 시 엔티티는 변경되지 않음
+                applyStockChange(product, request.getDelta());
+            } catch (IllegalArgumentException e) {
+                results.add(StockAdjustmentResultDto.failure(request, e.getMessage()));
+                continue;
+            }
+
+            ProductDto after = ProductDto.from(product);
+            eventPublisher.publishEvent(ProductChangedEvent.updated(before, after));
+            results.add(StockAdjustmentResultDto.success(request, after));
+            successCount++;
         }
 
-        return ProductDto.from(product);
+        // 변경된 상품을 JDBC 배치 UPDATE로 한 번에 반영
+        productRepository.flush();
+
+        return new BatchStockResultDto(successCount, requests.size() - successCount, results);
+    }
+
+    // 재고 변경 후 스냅샷으로 변경 전 스냅샷 복원
+    private ProductDto stockBefore(ProductDto after, int amount) {
+        int quantity = after.getQuantity() - amount;
+        return new ProductDto(
+                after.getId(),
+                after.getName(),
+                after.getCategory(),
+                quantity,
+                after.getMinStockLevel(),
+                after.getPrice(),
+                StockStatus.of(quantity - after.getReservedQuantity(), after.getMinStockLevel()),
+                after.getCreatedAt(),
+                after.getUpdatedAt(),
+                after.getReservedQuantity());
+    }
+
+    // 재고 증감 반영 (양수: 추가, 음수: 차감)
+    private void applyStockChange(Product product, int amount) {
+        if (amount > 0) {
+            product.addStock(amount);
+        } else {
+            product.reducetStock(Math.abs(amount));
+        }
     }
 
     // 상품 삭제
     @Transactional
     public void deleteProduct(Long productId) {
-        if (!productRepository.existsById(productId)) {
-            throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
-        }
-        productRepository.deleteById(productId);
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+        ProductDto before = ProductDto.from(product);
+
+        stockLocationRepository.deleteByProductId(productId); // 창고별 재고도 함께 삭제
+        productRepository.delete(product);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(before));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
     }
 }
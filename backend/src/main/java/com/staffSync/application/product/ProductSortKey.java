@@ -0,0 +1,56 @@
+package com.staffSync.application.product;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import com.staffSync.domain.product.Product;
+
+/**
+ * 상품 목록 커서 페이지 정렬 기준
+ * 각 정렬 기준은 (컬럼, id) 복합 인덱스를 사용한다.
+ */
+public enum ProductSortKey {
+
+    ID("id", Product::getId, Long::valueOf),
+    NAME("name", Product::getName, value -> value),
+    PRICE("price", Product::getPrice, Double::valueOf),
+    QUANTITY("quantity", Product::getQuantity, Integer::valueOf),
+    UPDATED_AT("updatedAt", Product::getUpdatedAt, LocalDateTime::parse);
+
+    private final String property; // 엔티티 필드명
+    private final Function<Product, Object> extractor; // 커서에 담을 값 추출
+    private final Function<String, Object> parser; // 커서 문자열 -> 값 변환
+
+    ProductSortKey(String property, Function<Product, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(Product product) {
+        return extractor.apply(product);
+    }
+
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * 요청 파라미터(필드명)로 정렬 기준 조회
+     * 
+     * @param property 정렬 필드명 (id, name, price, quantity, updatedAt)
+     * @return 정렬 기준
+     */
+    public static ProductSortKey from(String property) {
+        for (ProductSortKey key : values()) {
+            if (key.property.equalsIgnoreCase(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + property);
+    }
+}
@@ -0,0 +1,21 @@
+package com.staffSync.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품 실시간 스트림(SSE) 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.product.stream")
+public class ProductStreamProperties {
+    private int replaySize = 1000; // Last-Event-ID 재전송용으로 보관할 최근 이벤트 수
+    private int queueCapacity = 256; // 연결별 전송 대기열 크기 (가득 차면 연결 종료)
+    private long heartbeatIntervalMs = 15000; // 하트비트 주기 (ms)
+    private long timeoutMs = 1800000; // 연결 유지 시간 (ms, 만료 시 클라이언트가 재연결)
+}
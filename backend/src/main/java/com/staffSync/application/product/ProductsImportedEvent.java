@@ -0,0 +1,15 @@
+package com.staffSync.application.product;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록 완료 이벤트
+ * 행마다 ProductChangedEvent 를 내지 않으므로, 구독자는 이 이벤트를 받으면 DB 기준으로 다시 계산한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+
+    private final long importedCount;
+}
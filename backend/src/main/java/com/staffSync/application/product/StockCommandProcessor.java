@@ -0,0 +1,215 @@
+package com.staffSync.application.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품별 단일 writer 재고 명령 처리기
+ *
+ * 재고 증감 요청을 상품 ID 기준으로 고정된 레인(가상 스레드 1개 + 대기열)에 배정한다.
+ * 레인은 flush 간격 동안 쌓인 명령을 상품별로 모아, 상품당 UPDATE 한 번으로 커밋한다.
+ * 같은 상품의 명령은 항상 같은 레인에서 순서대로 처리되므로 갱신 손실이 없고,
+ * 요청마다 트랜잭션을 여는 대신 배치마다 한 번만 연다.
+ * 호출자는 커밋 이후 완료되는 CompletableFuture 를 받는다. (값은 자기 명령까지 반영된 상품 상태)
+ * 배치 트랜잭션이 IllegalArgumentException 이 아닌 오류(제약 조건 위반, 잠금 대기 초과 등)로 롤백되면
+ * 명령마다 트랜잭션을 따로 열어 다시 처리하므로, 실패한 명령만 오류로 완료되고 다른 상품의 명령은 영향받지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockCommandProcessor {
+
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockQueueProperties properties;
+
+    private final List<BlockingQueue<StockCommand>> lanes = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    /**
+     * 레인 트랜잭션 안에서 상품에 적용할 재고 명령
+     * 거절할 때는 IllegalArgumentException 을 던지며, 이때 상품은 변경되지 않아야 한다.
+     */
+    @FunctionalInterface
+    public interface StockMutation {
+        void apply(Product product);
+    }
+
+    private record StockCommand(Long productId, StockMutation mutation, CompletableFuture<ProductDto> future) {
+    }
+
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        for (int i = 0; i < Math.max(1, properties.getLanes()); i++) {
+            BlockingQueue<StockCommand> queue = new ArrayBlockingQueue<>(properties.getCapacity());
+            lanes.add(queue);
+            workers.add(Thread.ofVirtual().name("stock-lane-" + i).start(() -> runLane(queue)));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 재고 증감 명령 제출
+     * 
+     * @param productId 상품 ID
+     * @param delta     양수: 재고 추가, 음수: 재고 차감
+     * @return 커밋 후 상품 정보로 완료되는 Future (재고 부족 등은 IllegalArgumentException 으로 완료)
+     */
+    public CompletableFuture<ProductDto> submit(Long productId, int delta) {
+        CompletableFuture<ProductDto> future = new CompletableFuture<>();
+        if (delta == 0) {
+            future.completeExceptionally(new IllegalArgumentException("조정 수량은 0이 아니어야 합니다."));
+            return future;
+        }
+        return submit(productId, delta > 0
+                ? product -> product.addStock(delta)
+                : product -> product.reducetStock(-delta));
+    }
+
+    /**
+     * 재고 명령 제출 (예약/확정/해제 등)
+     * 명령은 같은 상품의 다른 명령과 같은 레인에서 순서대로, 같은 트랜잭션으로 반영된다.
+     * 
+     * @param productId 상품 ID
+     * @param mutation  상품에 적용할 변경
+     * @return 커밋 후 상품 정보로 완료되는 Future
+     */
+    public CompletableFuture<ProductDto> submit(Long productId, StockMutation mutation) {
+        CompletableFuture<ProductDto> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new StockQueueFullException());
+            return future;
+        }
+
+        BlockingQueue<StockCommand> lane = lanes.get(Math.floorMod(Long.hashCode(productId), lanes.size()));
+        if (!lane.offer(new StockCommand(productId, mutation, future))) {
+            future.completeExceptionally(new StockQueueFullException()); // 역압(backpressure)
+        }
+        return future;
+    }
+
+    private void runLane(BlockingQueue<StockCommand> queue) {
+        List<StockCommand> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                StockCommand first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // flush 간격 동안 들어온 명령을 함께 처리
+                Thread.sleep(properties.getFlushIntervalMs());
+                queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("재고 명령 처리 실패", e);
+                batch.forEach(command -> command.future().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 배치를 한 트랜잭션으로 반영하고, 롤백되면 명령별 트랜잭션으로 다시 처리 (롤백된 배치는 아무것도 커밋되지 않음)
+    private void flush(List<StockCommand> batch) {
+        try {
+            apply(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.warn("재고 명령 배치 실패, 명령별로 다시 처리합니다. ({}건)", batch.size(), e);
+            for (StockCommand command : batch) {
+                try {
+                    apply(List.of(command));
+                } catch (RuntimeException commandError) {
+                    command.future().completeExceptionally(commandError);
+                }
+            }
+        }
+    }
+
+    // 상품별로 명령을 모아 한 트랜잭션에서 반영 (상품당 UPDATE 1회)
+    private void apply(List<StockCommand> batch) {
+        Map<Long, List<StockCommand>> commandsByProduct = batch.stream()
+                .collect(Collectors.groupingBy(StockCommand::productId, LinkedHashMap::new, Collectors.toList()));
+        List<Runnable> completions = new ArrayList<>(batch.size());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 다른 경로(단건/일괄 조정)와의 동시 변경에 대비해 대상 행을 잠금 (id 순서로 잠가 교착 방지)
+            Map<Long, Product> products = productRepository.findAllForUpdate(commandsByProduct.keySet()).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+            commandsByProduct.forEach((productId, commands) -> {
+                Product product = products.get(productId);
+                if (product == null) {
+                    IllegalArgumentException notFound = new IllegalArgumentException("상품을 찾을 수 없습니다.");
+                    commands.forEach(command -> completions.add(() -> command.future().completeExceptionally(notFound)));
+                    return;
+                }
+
+                ProductDto before = ProductDto.from(product);
+                List<Runnable> applied = new ArrayList<>(commands.size());
+                for (StockCommand command : commands) {
+                    try {
+                        // 요청 순서대로 반영, 재고 부족 명령만 거절
+                        command.mutation().apply(product);
+                        // 같은 배치의 뒤 명령이 섞이지 않도록 이 명령 직후 상태로 완료
+                        ProductDto result = ProductDto.from(product);
+                        applied.add(() -> command.future().complete(result));
+                    } catch (IllegalArgumentException e) {
+                        completions.add(() -> command.future().completeExceptionally(e));
+                    }
+                }
+                if (applied.isEmpty()) {
+                    return;
+                }
+
+                ProductDto after = ProductDto.from(product);
+                eventPublisher.publishEvent(ProductChangedEvent.updated(before, after));
+                completions.addAll(applied);
+            });
+        });
+
+        // 커밋이 끝난 뒤에 호출자에게 결과 전달
+        completions.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,20 @@
+package com.staffSync.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 재고 변동 원장 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.product.ledger")
+public class StockLedgerProperties {
+    private long snapshotIntervalMs = 3600000; // 스냅샷 생성 주기 (ms)
+    private long snapshotLagMs = 60000; // 늦게 도착하는 변동을 기다리는 시간 (ms)
+    private int maxMovementsPerQuery = 1000; // 변동 목록 조회 최대 건수
+}
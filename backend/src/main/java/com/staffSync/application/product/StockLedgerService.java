@@ -0,0 +1,213 @@
+package com.staffSync.application.product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.StockAsOfDto;
+import com.staffSync.application.product.dto.StockMovementDto;
+import com.staffSync.domain.product.StockMovement;
+import com.staffSync.domain.product.StockMovementReason;
+import com.staffSync.domain.product.StockMovementRepository;
+import com.staffSync.domain.product.StockSnapshot;
+import com.staffSync.domain.product.StockSnapshotRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 변동 원장
+ *
+ * 재고 변경 이벤트를 변경한 트랜잭션 안에서 받아 트랜잭션별로 모았다가,
+ * 커밋 직전에 JDBC 배치 INSERT 한 번으로 기록한다. (재고 변경과 원장 기록이 함께 커밋/롤백되므로 유실 없음)
+ * 재고 명령 레인은 배치마다 트랜잭션을 하나만 열므로 레인 배치의 변동도 INSERT 배치 하나로 기록된다.
+ * 주기적으로 상품별 스냅샷을 남기고, 시점 조회는 가장 가까운 스냅샷부터 변동을 재생해 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockLedgerService {
+
+    private static final String INSERT_MOVEMENT_SQL = "INSERT INTO stock_movements (product_id, delta, reason, occurred_at) VALUES (?, ?, ?, ?)";
+
+    // 스냅샷이 없는 상품의 기준 스냅샷 (현재 재고)
+    private static final String INSERT_BASELINE_SNAPSHOT_SQL = "INSERT INTO stock_snapshots (product_id, quantity, taken_at) "
+            + "SELECT p.id, p.quantity, ? FROM products p "
+            + "WHERE NOT EXISTS (SELECT 1 FROM stock_snapshots s WHERE s.product_id = p.id)";
+
+    // 원장 시작 이전 시각 (스냅샷이 없을 때 재생 시작점)
+    private static final LocalDateTime LEDGER_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final StockMovementRepository movementRepository;
+    private final StockSnapshotRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockLedgerProperties properties;
+
+    private volatile LocalDateTime lastSnapshotAt;
+
+    // 기동 시 스냅샷이 없는 상품(초기 데이터 등)의 기준 스냅샷 생성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        LocalDateTime now = LocalDateTime.now();
+        createBaselineSnapshots(now);
+        lastSnapshotAt = snapshotRepository.findLatestTakenAt().orElse(now);
+    }
+
+    // 일괄 등록된 상품은 등록 이벤트가 없으므로 현재 재고를 기준 스냅샷으로 남긴다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        createBaselineSnapshots(LocalDateTime.now());
+    }
+
+    private void createBaselineSnapshots(LocalDateTime takenAt) {
+        int created = jdbcTemplate.update(INSERT_BASELINE_SNAPSHOT_SQL, takenAt);
+        log.info("재고 원장 기준 스냅샷 {}건 생성", created);
+    }
+
+    // 재고 변경 트랜잭션 안에서 변동을 모은다 (커밋 직전에 기록)
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductDto before = event.getBefore();
+        ProductDto after = event.getAfter();
+
+        if (before == null && after != null) {
+            record(after.getId(), after.getQuantity(), StockMovementReason.CREATED, after.getUpdatedAt());
+        } else if (before != null && after == null) {
+            record(before.getId(), -before.getQuantity(), StockMovementReason.DELETED, LocalDateTime.now());
+        } else if (before != null) {
+            int delta = after.getQuantity() - before.getQuantity();
+            if (delta != 0) {
+                record(after.getId(), delta,
+                        delta > 0 ? StockMovementReason.INCREASE : StockMovementReason.DECREASE,
+                        after.getUpdatedAt());
+            }
+        }
+    }
+
+    private void record(Long productId, int delta, StockMovementReason reason, LocalDateTime occurredAt) {
+        if (delta == 0 && reason != StockMovementReason.CREATED) {
+            return;
+        }
+        Object[] row = new Object[] { productId, delta, reason.name(),
+                occurredAt != null ? occurredAt : LocalDateTime.now() };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(INSERT_MOVEMENT_SQL, row); // 트랜잭션 밖의 변경은 바로 기록
+            return;
+        }
+        transactionRows().add(row);
+    }
+
+    // 현재 트랜잭션의 변동 목록 (처음 기록할 때 커밋 직전 배치 INSERT 를 등록)
+    @SuppressWarnings("unchecked")
+    private List<Object[]> transactionRows() {
+        List<Object[]> rows = (List<Object[]>) TransactionSynchronizationManager.getResource(this);
+        if (rows != null) {
+            return rows;
+        }
+        List<Object[]> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (!created.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, created);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(StockLedgerService.this);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 주기적 스냅샷 생성
+     * 진행 중인 트랜잭션의 변동(변동 시각 이후에 커밋)이 모두 기록되도록 (현재 - lag) 시점까지만 스냅샷으로 확정한다.
+     */
+    @Scheduled(initialDelayString = "${app.product.ledger.snapshot-interval-ms:3600000}",
+            fixedDelayString = "${app.product.ledger.snapshot-interval-ms:3600000}")
+    public void takeSnapshots() {
+        if (lastSnapshotAt == null) {
+            return; // 기동 전
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(properties.getSnapshotLagMs() * 1_000_000);
+        if (!cutoff.isAfter(lastSnapshotAt)) {
+            return;
+        }
+
+        List<StockSnapshot> snapshots = new ArrayList<>();
+        for (Long productId : movementRepository.findChangedProductIds(lastSnapshotAt, cutoff)) {
+            snapshots.add(new StockSnapshot(productId, replay(productId, cutoff), cutoff));
+        }
+        snapshotRepository.saveAll(snapshots);
+        lastSnapshotAt = cutoff;
+        log.info("재고 스냅샷 {}건 생성 (기준 시각 {})", snapshots.size(), cutoff);
+    }
+
+    /**
+     * 특정 시점의 재고 조회
+     * 
+     * @param productId 상품 ID
+     * @param asOf      조회 시점
+     * @return 해당 시점 재고
+     */
+    @Transactional(readOnly = true)
+    public StockAsOfDto getStockAsOf(Long productId, LocalDateTime asOf) {
+        if (!snapshotRepository.findTopByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(productId, asOf).isPresent()
+                && !movementRepository.existsByProductIdAndOccurredAtLessThanEqual(productId, asOf)) {
+            throw new IllegalArgumentException("해당 시점의 재고 기록이 없습니다.");
+        }
+        return new StockAsOfDto(productId, asOf, replay(productId, asOf));
+    }
+
+    /**
+     * 기간 내 재고 변동 목록 (변동 후 재고 포함)
+     * 
+     * @param productId 상품 ID
+     * @param from      시작 시각 (미포함)
+     * @param to        종료 시각 (포함)
+     * @return 시간순 변동 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StockMovementDto> getMovements(Long productId, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 시각이 종료 시각보다 늦습니다.");
+        }
+
+        List<StockMovement> movements = movementRepository.findMovements(productId, from, to);
+        if (movements.size() > properties.getMaxMovementsPerQuery()) {
+            throw new IllegalArgumentException(
+                    "조회 기간의 변동이 너무 많습니다. 최대 " + properties.getMaxMovementsPerQuery() + "건까지 조회할 수 있습니다.");
+        }
+
+        long balance = replay(productId, from);
+        List<StockMovementDto> result = new ArrayList<>(movements.size());
+        for (StockMovement movement : movements) {
+            balance += movement.getDelta();
+            result.add(StockMovementDto.from(movement, balance));
+        }
+        return result;
+    }
+
+    // 가장 가까운 스냅샷 + 이후 변동 합계
+    private long replay(Long productId, LocalDateTime asOf) {
+        return snapshotRepository.findTopByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(productId, asOf)
+                .map(snapshot -> snapshot.getQuantity()
+                        + movementRepository.sumDelta(productId, snapshot.getTakenAt(), asOf))
+                .orElseGet(() -> movementRepository.sumDelta(productId, LEDGER_START, asOf));
+    }
+}
@@ -0,0 +1,18 @@
+package com.staffSync.application.product;
+
+import com.staffSync.application.product.dto.StockLocationDto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 창고별 재고 변경 이벤트
+ * 변경 전/후 스냅샷을 함께 담아 창고 집계가 차이(delta)만 반영할 수 있게 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StockLocationChangedEvent {
+
+    private final StockLocationDto before; // 변경 전 (창고 재고 생성 시 null)
+    private final StockLocationDto after; // 변경 후
+}
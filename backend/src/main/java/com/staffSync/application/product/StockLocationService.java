@@ -0,0 +1,215 @@
+package com.staffSync.application.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.staffSync.application.product.dto.StockLocationDto;
+import com.staffSync.application.product.dto.StockTransferRequest;
+import com.staffSync.application.product.dto.UpdateStockLocationRequest;
+import com.staffSync.application.product.dto.WarehouseSummaryDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.StockLocation;
+import com.staffSync.domain.product.StockLocationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 창고별 재고
+ *
+ * 창고 재고 변경은 재고 명령 레인(StockCommandProcessor)에서 상품 재고와 같은 트랜잭션으로 반영한다.
+ * 상품의 quantity 는 창고 수량 합계(+ 창고 미지정 재고)로 함께 유지되므로
+ * 회사 전체 재고/대시보드/카테고리별 합계는 창고 수와 무관하게 기존 조회 그대로 쓴다.
+ * 기존 창고 미지정 재고는 출발 창고 없이 이동(transfer)해 창고에 배치할 수 있다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StockLocationService {
+
+    // 창고 코드: 영문/숫자/-/_ 최대 50자
+    private static final Pattern WAREHOUSE_CODE = Pattern.compile("^[A-Za-z0-9_-]{1,50}$");
+
+    private final StockCommandProcessor stockCommandProcessor;
+    private final StockLocationRepository locationRepository;
+    private final WarehouseStockRollup warehouseStockRollup;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
+
+    /**
+     * 상품의 창고별 재고 조회
+     *
+     * @param productId 상품 ID
+     * @return 창고 코드 순 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StockLocationDto> getLocations(Long productId) {
+        return locationRepository.findByProductIdOrderByWarehouse(productId).stream()
+                .map(StockLocationDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 창고의 재고 부족 상품 조회 (창고별 최소 재고 기준)
+     *
+     * @param warehouse 창고 코드
+     * @return 재고가 적은 순 목록
+     */
+    @Transactional(readOnly = true)
+    public List<StockLocationDto> getLowStock(String warehouse) {
+        return locationRepository.findLowStock(normalize(warehouse)).stream()
+                .map(StockLocationDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // 창고별 재고 요약 (메모리 집계)
+    public List<WarehouseSummaryDto> getWarehouseSummaries() {
+        return warehouseStockRollup.getSummaries();
+    }
+
+    /**
+     * 창고 재고 증감 (입고/출고)
+     *
+     * @param productId 상품 ID
+     * @param warehouse 창고 코드 (입고 시 창고 재고가 없으면 새로 만든다)
+     * @param amount    양수: 입고, 음수: 출고
+     * @return 커밋 후 창고 재고로 완료되는 Future
+     */
+    public CompletableFuture<StockLocationDto> adjustStock(Long productId, String warehouse, Integer amount) {
+        String code = normalize(warehouse);
+        if (amount == null || amount == 0) {
+            throw new IllegalArgumentException("조정 수량은 0이 아니어야 합니다.");
+        }
+
+        AtomicReference<StockLocationDto> result = new AtomicReference<>();
+        return stockCommandProcessor.submit(productId, product -> {
+            StockLocation location = amount > 0 ? findOrCreate(productId, code) : find(productId, code);
+            StockLocationDto before = location.getId() != null ? StockLocationDto.from(location) : null;
+
+            // 검증을 모두 마친 뒤 변경 (거절 시 상품/창고 재고는 그대로)
+            if (amount > 0) {
+                product.addLocationStock(amount);
+                location.addStock(amount);
+            } else {
+                requireStock(location, -amount);
+                product.reduceLocationStock(-amount);
+                location.reduceStock(-amount);
+            }
+            result.set(save(before, location));
+        }).thenApply(product -> result.get());
+    }
+
+    /**
+     * 창고 간 재고 이동 (상품 전체 재고는 그대로)
+     *
+     * @param productId 상품 ID
+     * @param request   출발/도착 창고 (null 이면 창고 미지정 재고), 이동 수량
+     * @return 커밋 후 출발/도착 창고 재고로 완료되는 Future
+     */
+    public CompletableFuture<List<StockLocationDto>> transfer(Long productId, StockTransferRequest request) {
+        String from = request.getFromWarehouse() != null ? normalize(request.getFromWarehouse()) : null;
+        String to = request.getToWarehouse() != null ? normalize(request.getToWarehouse()) : null;
+        Integer quantity = request.getQuantity();
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("이동 수량은 0보다 커야 합니다.");
+        }
+        if (Objects.equals(from, to)) {
+            throw new IllegalArgumentException("출발 창고와 도착 창고가 같습니다.");
+        }
+
+        AtomicReference<List<StockLocationDto>> result = new AtomicReference<>();
+        return stockCommandProcessor.submit(productId, product -> {
+            StockLocation source = from != null ? find(productId, from) : null;
+            if (source != null) {
+                requireStock(source, quantity);
+            }
+            if (from == null) {
+                product.allocate(quantity); // 창고 미지정 재고 -> 창고
+            } else if (to == null) {
+                product.deallocate(quantity); // 창고 -> 창고 미지정 재고
+            }
+            StockLocation target = to != null ? findOrCreate(productId, to) : null;
+
+            List<StockLocationDto> changed = new ArrayList<>(2);
+            if (source != null) {
+                StockLocationDto before = StockLocationDto.from(source);
+                source.reduceStock(quantity);
+                changed.add(save(before, source));
+            }
+            if (target != null) {
+                StockLocationDto before = target.getId() != null ? StockLocationDto.from(target) : null;
+                target.addStock(quantity);
+                changed.add(save(before, target));
+            }
+            result.set(changed);
+        }).thenApply(product -> result.get());
+    }
+
+    /**
+     * 창고별 최소 재고 수량 변경
+     *
+     * @param productId 상품 ID
+     * @param warehouse 창고 코드
+     * @param request   최소 재고 수량
+     * @return 커밋 후 창고 재고로 완료되는 Future
+     */
+    public CompletableFuture<StockLocationDto> updateLocation(Long productId, String warehouse,
+            UpdateStockLocationRequest request) {
+        String code = normalize(warehouse);
+        Integer minStockLevel = request.getMinStockLevel();
+        if (minStockLevel == null || minStockLevel < 0) {
+            throw new IllegalArgumentException("최소 재고 수량을 0 이상이어야 합니다.");
+        }
+
+        // 창고 재고 행은 레인에서만 변경되므로 같은 경로로 보낸다 (수량 갱신 손실 방지)
+        AtomicReference<StockLocationDto> result = new AtomicReference<>();
+        return stockCommandProcessor.submit(productId, product -> {
+            StockLocation location = find(productId, code);
+            StockLocationDto before = StockLocationDto.from(location);
+            location.updateMinStockLevel(minStockLevel);
+            result.set(save(before, location));
+        }).thenApply(product -> result.get());
+    }
+
+    private StockLocation find(Long productId, String warehouse) {
+        return locationRepository.findByProductIdAndWarehouse(productId, warehouse)
+                .orElseThrow(() -> new IllegalArgumentException("창고 재고를 찾을 수 없습니다. (" + warehouse + ")"));
+    }
+
+    // 없으면 저장 전 새 창고 재고 (최소 재고 0)
+    private StockLocation findOrCreate(Long productId, String warehouse) {
+        return locationRepository.findByProductIdAndWarehouse(productId, warehouse)
+                .orElseGet(() -> new StockLocation(productId, warehouse, 0));
+    }
+
+    private void requireStock(StockLocation location, int amount) {
+        if (location.getQuantity() < amount) {
+            throw new IllegalArgumentException("창고 재고가 부족합니다. (" + location.getWarehouse() + ")");
+        }
+    }
+
+    // 변경 순번을 매기고 새 창고 재고면 저장한 뒤, 커밋 후 창고 집계에 반영되도록 변경 이벤트 발행
+    private StockLocationDto save(StockLocationDto before, StockLocation location) {
+        location.assignChangeSeq(changeSequence.next());
+        StockLocation saved = location.getId() == null ? locationRepository.save(location) : location;
+        StockLocationDto after = StockLocationDto.from(saved);
+        eventPublisher.publishEvent(new StockLocationChangedEvent(before, after));
+        return after;
+    }
+
+    private String normalize(String warehouse) {
+        String code = warehouse != null ? warehouse.trim().toUpperCase(Locale.ROOT) : "";
+        if (!WAREHOUSE_CODE.matcher(code).matches()) {
+            throw new IllegalArgumentException("창고 코드는 영문, 숫자, -, _ 로 1~50자여야 합니다.");
+        }
+        return code;
+    }
+}
@@ -0,0 +1,11 @@
+package com.staffSync.application.product;
+
+/**
+ * 재고 명령 대기열이 가득 차서 요청을 받을 수 없을 때 발생
+ */
+public class StockQueueFullException extends RuntimeException {
+
+    public StockQueueFullException() {
+        super("재고 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,21 @@
+package com.staffSync.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 재고 명령 큐(단일 writer 레인) 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.product.stock-queue")
+public class StockQueueProperties {
+    private int lanes = Runtime.getRuntime().availableProcessors(); // 레인(단일 writer) 수
+    private int capacity = 10000; // 레인별 대기열 크기
+    private long flushIntervalMs = 5; // 명령을 모으는 시간 (ms)
+    private int maxBatchSize = 500; // 한 번에 커밋할 최대 명령 수
+}
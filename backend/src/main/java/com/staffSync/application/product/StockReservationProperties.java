@@ -0,0 +1,22 @@
+package com.staffSync.application.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 재고 예약 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.product.reservation")
+public class StockReservationProperties {
+    private long defaultTtlSeconds = 900; // 유지 시간을 지정하지 않은 예약의 유지 시간 (초)
+    private long maxTtlSeconds = 86400; // 최대 유지 시간 (초)
+    private long tickMs = 100; // 만료 타이머 휠 tick 간격 (ms) = 만료 정밀도
+    private int wheelSize = 512; // 타이머 휠 슬롯 수
+    private long retryDelayMs = 1000; // 대기열이 가득 차 만료 처리를 못 했을 때 재시도 간격 (ms)
+}
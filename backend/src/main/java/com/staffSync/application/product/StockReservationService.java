@@ -0,0 +1,246 @@
+package com.staffSync.application.product;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.staffSync.application.product.dto.CreateReservationRequest;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ReservationDto;
+import com.staffSync.common.util.HashedTimerWheel;
+import com.staffSync.common.util.HashedTimerWheel.Timeout;
+import com.staffSync.domain.product.StockReservation;
+import com.staffSync.domain.product.StockReservationRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 재고 예약(홀드)
+ *
+ * 예약은 재고 수량을 바꾸지 않고 예약 수량만 늘려 판매 가능 수량(quantity - reservedQuantity)을 줄인다.
+ * 확정하면 그때 실제 재고가 차감되고, 해제/만료되면 예약 수량만 돌려놓는다.
+ * 예약은 창고 미지정 재고에서만 잡으므로 확정 차감이 창고에 배치된 재고를 건드리지 않는다.
+ * (차감 후 다시 증가시키던 방식과 달리 예약 한 건당 상품 쓰기는 한 번)
+ * 상품 변경은 재고 명령 레인(StockCommandProcessor)을 거치므로 같은 상품의 재고 증감과 순서대로 배치 커밋되고,
+ * 예약 행 기록도 같은 트랜잭션에서 이뤄진다.
+ * 만료는 해시 타이머 휠로 처리하므로 테이블 스캔 없이 예약 수와 무관하게 O(1)로 등록/취소된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    private static final String INSERT_SQL = "INSERT INTO stock_reservations (id, product_id, quantity, expires_at, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM stock_reservations WHERE id = ?";
+
+    private final StockCommandProcessor stockCommandProcessor;
+    private final StockReservationRepository reservationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockReservationProperties properties;
+
+    private final Map<String, ActiveReservation> active = new ConcurrentHashMap<>();
+    private HashedTimerWheel wheel;
+
+    // 활성 예약 (만료 타이머 포함)
+    private static final class ActiveReservation {
+
+        private final String id;
+        private final Long productId;
+        private final int quantity;
+        private final LocalDateTime expiresAt;
+        private volatile Timeout timeout;
+
+        private ActiveReservation(String id, Long productId, int quantity, LocalDateTime expiresAt) {
+            this.id = id;
+            this.productId = productId;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+        }
+
+        private ReservationDto toDto() {
+            return new ReservationDto(id, productId, quantity, expiresAt);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimerWheel(properties.getTickMs(), properties.getWheelSize());
+        wheel.start("stock-reservation-wheel");
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+    }
+
+    // 기동 시 남아 있는 예약 복구 (이미 만료된 예약은 다음 tick 에 해제)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int count = 0;
+        for (StockReservation reservation : reservationRepository.findAll()) {
+            track(new ActiveReservation(reservation.getId(), reservation.getProductId(), reservation.getQuantity(),
+                    reservation.getExpiresAt()));
+            count++;
+        }
+        if (count > 0) {
+            log.info("재고 예약 {}건 복구", count);
+        }
+    }
+
+    /**
+     * 재고 예약
+     *
+     * @param productId 상품 ID
+     * @param request   예약 수량, 유지 시간
+     * @return 커밋 후 예약 정보로 완료되는 Future (판매 가능 재고 부족 시 IllegalArgumentException)
+     */
+    public CompletableFuture<ReservationDto> reserve(Long productId, CreateReservationRequest request) {
+        Integer quantity = request.getQuantity();
+        if (quantity == null || quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 0보다 커야 합니다.");
+        }
+        long ttlSeconds = request.getTtlSeconds() != null ? request.getTtlSeconds() : properties.getDefaultTtlSeconds();
+        if (ttlSeconds < 1 || ttlSeconds > properties.getMaxTtlSeconds()) {
+            throw new IllegalArgumentException("예약 유지 시간은 1초 이상 " + properties.getMaxTtlSeconds() + "초 이하여야 합니다.");
+        }
+
+        String id = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        ActiveReservation reservation = new ActiveReservation(id, productId, quantity, now.plusSeconds(ttlSeconds));
+
+        return stockCommandProcessor.submit(productId, product -> {
+            product.reserve(quantity);
+            jdbcTemplate.update(INSERT_SQL, id, productId, quantity, Timestamp.valueOf(reservation.expiresAt),
+                    Timestamp.valueOf(now));
+        }).thenApply(product -> {
+            track(reservation);
+            return reservation.toDto();
+        });
+    }
+
+    /**
+     * 예약 조회
+     *
+     * @param reservationId 예약 ID
+     * @return 활성 예약 정보
+     */
+    public ReservationDto getReservation(String reservationId) {
+        ActiveReservation reservation = active.get(reservationId);
+        if (reservation == null) {
+            throw new IllegalArgumentException("예약을 찾을 수 없습니다.");
+        }
+        return reservation.toDto();
+    }
+
+    /**
+     * 예약 확정 - 예약 수량만큼 재고 차감
+     *
+     * @param reservationId 예약 ID
+     * @return 커밋 후 상품 정보로 완료되는 Future
+     */
+    public CompletableFuture<ProductDto> confirm(String reservationId) {
+        ActiveReservation reservation = take(reservationId);
+        return finish(reservation, product -> product.confirmReservation(reservation.quantity));
+    }
+
+    /**
+     * 예약 해제 - 재고 차감 없이 예약 수량만 돌려놓는다
+     *
+     * @param reservationId 예약 ID
+     * @return 커밋 후 상품 정보로 완료되는 Future
+     */
+    public CompletableFuture<ProductDto> release(String reservationId) {
+        ActiveReservation reservation = take(reservationId);
+        return finish(reservation, product -> product.releaseReservation(reservation.quantity));
+    }
+
+    // 만료 (타이머 휠 워커에서 실행)
+    private void expire(String reservationId) {
+        ActiveReservation reservation = active.remove(reservationId);
+        if (reservation == null) {
+            return; // 이미 확정/해제됨
+        }
+        finish(reservation, product -> product.releaseReservation(reservation.quantity));
+    }
+
+    // 확정/해제/만료 공통: 상품 변경과 예약 행 삭제를 한 트랜잭션으로
+    private CompletableFuture<ProductDto> finish(ActiveReservation reservation,
+            StockCommandProcessor.StockMutation mutation) {
+        return stockCommandProcessor.submit(reservation.productId, product -> {
+            mutation.apply(product);
+            jdbcTemplate.update(DELETE_SQL, reservation.id);
+        }).whenComplete((product, error) -> {
+            if (error != null) {
+                onFinishFailed(reservation, error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+    }
+
+    private void onFinishFailed(ActiveReservation reservation, Throwable cause) {
+        if (!(cause instanceof IllegalArgumentException)) {
+            retryLater(reservation); // 대기열 가득 참/DB 오류 등 (상품은 변경되지 않음)
+            return;
+        }
+        // 확정이 거절된 경우 등: 잡아 둔 예약 수량을 돌려놓고 예약 행을 삭제
+        log.warn("재고 예약 종료 처리 실패, 예약을 해제합니다. (id={}, productId={}): {}",
+                reservation.id, reservation.productId, cause.getMessage());
+        stockCommandProcessor.submit(reservation.productId, product -> {
+            product.releaseReservation(reservation.quantity);
+            jdbcTemplate.update(DELETE_SQL, reservation.id);
+        }).whenComplete((product, error) -> {
+            if (error == null) {
+                return;
+            }
+            if ((error instanceof CompletionException ? error.getCause() : error) instanceof IllegalArgumentException) {
+                jdbcTemplate.update(DELETE_SQL, reservation.id); // 상품이 삭제됨: 돌려놓을 예약 수량이 없으므로 행만 정리
+            } else {
+                retryLater(reservation);
+            }
+        });
+    }
+
+    // 예약을 되살리고 만료가 지났으면 잠시 후 다시 해제
+    private void retryLater(ActiveReservation reservation) {
+        ActiveReservation retry = new ActiveReservation(reservation.id, reservation.productId,
+                reservation.quantity, reservation.expiresAt);
+        active.put(retry.id, retry);
+        retry.timeout = wheel.schedule(() -> expire(retry.id),
+                Math.max(properties.getRetryDelayMs(), millisUntil(retry.expiresAt)));
+    }
+
+    // 활성 예약 등록 + 만료 타이머 (타이머보다 먼저 등록해야 즉시 만료돼도 해제된다)
+    private void track(ActiveReservation reservation) {
+        active.put(reservation.id, reservation);
+        reservation.timeout = wheel.schedule(() -> expire(reservation.id), millisUntil(reservation.expiresAt));
+    }
+
+    // 활성 예약을 꺼내고 만료 타이머 취소 (확정/해제/만료 중 한 번만 성공)
+    private ActiveReservation take(String reservationId) {
+        ActiveReservation reservation = active.remove(reservationId);
+        if (reservation == null) {
+            throw new IllegalArgumentException("예약을 찾을 수 없습니다. (만료되었거나 이미 처리됨)");
+        }
+        Timeout timeout = reservation.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return reservation;
+    }
+
+    private long millisUntil(LocalDateTime time) {
+        return Math.max(0, Duration.between(LocalDateTime.now(), time).toMillis());
+    }
+}
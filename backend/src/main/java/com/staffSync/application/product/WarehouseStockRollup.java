@@ -0,0 +1,261 @@
+package com.staffSync.application.product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.product.dto.StockLocationDto;
+import com.staffSync.application.product.dto.WarehouseSummaryDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.StockLocation;
+import com.staffSync.domain.product.StockLocationRepository;
+import com.staffSync.domain.product.StockStatus;
+import com.staffSync.domain.product.WarehouseStockSummary;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 창고별 재고 집계를 메모리에 유지하는 컴포넌트
+ *
+ * 시작 시 창고 x 상태 요약 쿼리로 한 번 채운 뒤, 커밋된 창고 재고 변경 이벤트의 차이만 반영한다.
+ * 조회 비용은 창고 수에 비례하므로 창고와 상품이 늘어도 창고별 합계를 매번 다시 계산하지 않는다.
+ * (회사 전체 합계는 상품의 quantity 와 대시보드 집계가 같은 방식으로 유지한다.)
+ *
+ * 스냅샷은 대시보드 집계(ProductDashboardAggregate)와 같이 변경 순번 경계 이하 창고 재고는 요약으로,
+ * 경계 이후 바뀐 행은 순번과 함께 한 읽기 트랜잭션에서 읽는다. 변경 이벤트는 그 행의 순번이 스냅샷에 담긴
+ * 순번 이하이면 이미 반영된 것으로 보고 건너뛰므로, 스냅샷을 읽는 동안 쌓인 커밋 후 이벤트를 두 번 더하지 않는다.
+ * 스냅샷은 모니터 밖에서 읽고, 읽는 동안 들어온 변경은 모아 두었다가 새 스냅샷에 없는 것만 다시 더한다.
+ */
+@Slf4j
+@Component
+public class WarehouseStockRollup {
+
+    private final StockLocationRepository locationRepository;
+    private final ChangeSequence changeSequence;
+    private final TransactionTemplate snapshotTransaction;
+
+    private Map<String, Totals> totals = new TreeMap<>();
+    private Map<Long, Long> snapshotSeqs = Map.of(); // 경계 이후 바뀐 창고 재고 id -> 스냅샷에 담긴 순번
+    private boolean initialized = false;
+    private List<StockLocationChangedEvent> changesDuringLoad; // 스냅샷을 읽는 동안 들어온 변경 (읽는 중이 아니면 null)
+
+    private final Object rebuildLock = new Object(); // 스냅샷 읽기/교체는 한 번에 하나만
+
+    public WarehouseStockRollup(StockLocationRepository locationRepository, ChangeSequence changeSequence,
+            PlatformTransactionManager transactionManager) {
+        this.locationRepository = locationRepository;
+        this.changeSequence = changeSequence;
+        // 요약과 행 조회가 같은 시점을 보도록 한 트랜잭션(스냅샷)에서 읽는다
+        // (커밋 후 리스너에서도 불리므로 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션)
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild(false);
+    }
+
+    /**
+     * 창고별 재고 요약 조회
+     *
+     * @return 창고 코드 순 요약 목록
+     */
+    public List<WarehouseSummaryDto> getSummaries() {
+        synchronized (this) {
+            if (initialized) {
+                return toDtos();
+            }
+        }
+        rebuild(false);
+        synchronized (this) {
+            return toDtos();
+        }
+    }
+
+    // 커밋된 변경분만 반영 (스냅샷에 이미 담긴 변경은 건너뜀)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onLocationChanged(StockLocationChangedEvent event) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(event);
+        }
+        // 초기화 전이면 스냅샷을 교체할 때 반영되므로 여기서는 더하지 않는다
+        if (initialized && !includedIn(snapshotSeqs, event)) {
+            apply(event.getBefore(), -1);
+            apply(event.getAfter(), 1);
+        }
+    }
+
+    // 상품 삭제 시 창고 재고도 함께 삭제되므로 DB 기준으로 재생성
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getAfter() == null) {
+            rebuild(false);
+        }
+    }
+
+    // 주기적 정합성 점검
+    @Scheduled(initialDelayString = "${app.product.location.reconcile-interval-ms:300000}",
+            fixedDelayString = "${app.product.location.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        synchronized (this) {
+            if (!initialized) {
+                return;
+            }
+        }
+        rebuild(true);
+    }
+
+    /**
+     * DB 스냅샷으로 집계 교체
+     *
+     * @param onlyOnDrift 지금 집계와 차이가 있을 때만 교체 (차이가 없으면 지금 집계와 스냅샷 순번을 그대로 둔다)
+     */
+    private void rebuild(boolean onlyOnDrift) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringLoad = new ArrayList<>();
+            }
+            Snapshot snapshot;
+            try {
+                snapshot = loadSnapshot();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    changesDuringLoad = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                // 읽는 동안 커밋된 변경 중 스냅샷에 없는 것만 더한다
+                Map<String, Totals> loaded = snapshot.totals();
+                for (StockLocationChangedEvent change : changesDuringLoad) {
+                    if (!includedIn(snapshot.seqs(), change)) {
+                        apply(loaded, change.getBefore(), -1);
+                        apply(loaded, change.getAfter(), 1);
+                    }
+                }
+                changesDuringLoad = null;
+
+                if (onlyOnDrift) {
+                    if (loaded.equals(totals)) {
+                        return;
+                    }
+                    log.warn("창고 재고 집계 불일치 감지, DB 기준으로 재생성합니다.");
+                }
+                totals = loaded;
+                snapshotSeqs = snapshot.seqs();
+                initialized = true;
+            }
+        }
+    }
+
+    // 경계는 읽기 트랜잭션 시작 전에 정한다 (경계 이하 순번은 모두 끝났으므로 스냅샷에 빠짐없이 보임)
+    private Snapshot loadSnapshot() {
+        long watermark = changeSequence.stableWatermark();
+        return snapshotTransaction.execute(status -> {
+            Map<String, Totals> loaded = build(locationRepository.summarizeByWarehouse(watermark));
+            Map<Long, Long> seqs = new HashMap<>();
+            for (StockLocation location : locationRepository.findChanges(watermark, Long.MAX_VALUE,
+                    Limit.unlimited())) {
+                apply(loaded, StockLocationDto.from(location), 1);
+                seqs.put(location.getId(), location.getChangeSeq());
+            }
+            return new Snapshot(loaded, seqs);
+        });
+    }
+
+    // 이 커밋의 변경이 이미 스냅샷에 들어 있는지 (순번 없는 변경은 항상 반영)
+    private static boolean includedIn(Map<Long, Long> seqs, StockLocationChangedEvent event) {
+        StockLocationDto location = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        Long seq = location.getChangeSeq();
+        Long snapshotSeq = seqs.get(location.getId());
+        return snapshotSeq != null && seq != null && seq <= snapshotSeq;
+    }
+
+    // DB 스냅샷 (창고별 집계 + 경계 이후 바뀐 창고 재고별 순번)
+    private record Snapshot(Map<String, Totals> totals, Map<Long, Long> seqs) {
+    }
+
+    private List<WarehouseSummaryDto> toDtos() {
+        List<WarehouseSummaryDto> result = new ArrayList<>(totals.size());
+        totals.forEach((warehouse, t) -> result.add(t.toDto(warehouse)));
+        return result;
+    }
+
+    private void apply(StockLocationDto location, int sign) {
+        apply(totals, location, sign);
+    }
+
+    private static void apply(Map<String, Totals> totals, StockLocationDto location, int sign) {
+        if (location == null) {
+            return;
+        }
+        Totals t = totals.computeIfAbsent(location.getWarehouse(), key -> new Totals());
+        t.add(location.getStatus(), sign, (long) sign * location.getQuantity());
+        if (t.count <= 0) {
+            totals.remove(location.getWarehouse());
+        }
+    }
+
+    private static Map<String, Totals> build(List<WarehouseStockSummary> summaries) {
+        Map<String, Totals> result = new TreeMap<>();
+        for (WarehouseStockSummary summary : summaries) {
+            result.computeIfAbsent(summary.getWarehouse(), key -> new Totals())
+                    .add(summary.getStatus(), summary.getLocationCount(), summary.getTotalQuantity());
+        }
+        return result;
+    }
+
+    // 창고 하나의 집계 (상품 수, 수량 합계, 상태별 개수)
+    private static final class Totals {
+
+        private final long[] statusCounts = new long[StockStatus.values().length];
+        private long count;
+        private long quantity;
+
+        void add(StockStatus status, long count, long quantity) {
+            this.count += count;
+            this.quantity += quantity;
+            if (status != null) {
+                statusCounts[status.ordinal()] += count;
+            }
+        }
+
+        WarehouseSummaryDto toDto(String warehouse) {
+            return new WarehouseSummaryDto(warehouse, count, quantity,
+                    statusCounts[StockStatus.IN_STOCK.ordinal()],
+                    statusCounts[StockStatus.LOW_STOCK.ordinal()],
+                    statusCounts[StockStatus.OUT_OF_STOCK.ordinal()]);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Totals other)) {
+                return false;
+            }
+            return count == other.count && quantity == other.quantity
+                    && Arrays.equals(statusCounts, other.statusCounts);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, quantity, Arrays.hashCode(statusCounts));
+        }
+    }
+}
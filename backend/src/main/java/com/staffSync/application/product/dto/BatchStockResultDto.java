@@ -0,0 +1,17 @@
+package com.staffSync.application.product.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStockResultDto {
+
+    private int successCount; // 반영 건수
+    private int failureCount; // 실패 건수
+    private List<StockAdjustmentResultDto> results; // 요청 순서대로의 항목별 결과
+}
@@ -0,0 +1,15 @@
+package com.staffSync.application.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateReservationRequest {
+    private Integer quantity; // 예약 수량
+    private Long ttlSeconds; // 유지 시간 (초, 생략 시 기본값)
+}
@@ -0,0 +1,60 @@
+package com.staffSync.application.product.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.staffSync.domain.product.StockStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대시보드 변화량 (SSE "dashboard" 이벤트)
+ * 클라이언트는 보유한 DashboardDto 의 각 값에 더하기만 하면 된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDeltaDto {
+    private int totalProducts;
+    private int inStockCount;
+    private int lowStockCount;
+    private int outOfStockCount;
+    private double totalInventoryValue;
+    private Map<String, Long> stockByCategory; // 변화가 있는 카테고리만
+    private Map<String, Double> valueByCategory;
+
+    // 변경 전 상품을 빼고 변경 후 상품을 더한 차이
+    public static DashboardDeltaDto between(ProductDto before, ProductDto after) {
+        DashboardDeltaDto delta = new DashboardDeltaDto(0, 0, 0, 0, 0.0, new HashMap<>(), new HashMap<>());
+        delta.add(before, -1);
+        delta.add(after, 1);
+        delta.stockByCategory.values().removeIf(value -> value == 0L);
+        delta.valueByCategory.values().removeIf(value -> value == 0.0);
+        return delta;
+    }
+
+    public boolean hasChanges() {
+        return totalProducts != 0 || inStockCount != 0 || lowStockCount != 0 || outOfStockCount != 0
+                || !stockByCategory.isEmpty() || !valueByCategory.isEmpty();
+    }
+
+    private void add(ProductDto product, int sign) {
+        if (product == null) {
+            return;
+        }
+        double value = product.getQuantity() * product.getPrice();
+        totalProducts += sign;
+        if (product.getStatus() == StockStatus.IN_STOCK) {
+            inStockCount += sign;
+        } else if (product.getStatus() == StockStatus.LOW_STOCK) {
+            lowStockCount += sign;
+        } else if (product.getStatus() == StockStatus.OUT_OF_STOCK) {
+            outOfStockCount += sign;
+        }
+        totalInventoryValue += sign * value;
+        stockByCategory.merge(product.getCategory(), (long) sign * product.getQuantity(), Long::sum);
+        valueByCategory.merge(product.getCategory(), sign * value, Double::sum);
+    }
+}
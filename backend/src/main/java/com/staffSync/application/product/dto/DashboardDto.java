@@ -17,6 +17,8 @@ public class DashboardDto {
     private long outOfStockCount; // 품절
     private Double totalInventoryValue; // 총 재고 가치
     private Map<String, Long> stockByCategory; // 카테고리별 재고 현황
+    private Map<String, Double> valueByCategory; // 카테고리별 재고 가치
+    private String streamEventId; // 이 집계에 반영된 마지막 실시간 스트림 이벤트 ID (Last-Event-ID 로 구독)
 
     // 생성자
 }
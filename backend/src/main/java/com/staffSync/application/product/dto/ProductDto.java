@@ -23,6 +23,7 @@ public class ProductDto {
     private StockStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer reservedQuantity; // 예약(홀드) 수량
 
     // Entity -> DTO 변환
     public static ProductDto from(Product product) {
@@ -35,7 +36,16 @@ public class ProductDto {
                 product.getPrice(),
                 product.getStatus(),
                 product.getCreatedAt(),
-                product.getUpdatedAt());
+                product.getUpdatedAt(),
+                product.getReservedQuantity());
+    }
+
+    // 판매 가능 수량 (현재 재고 - 예약 수량)
+    public Integer getAvailableQuantity() {
+        if (quantity == null) {
+            return null;
+        }
+        return reservedQuantity != null ? quantity - reservedQuantity : quantity;
     }
 
 }
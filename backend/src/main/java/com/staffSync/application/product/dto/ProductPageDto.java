@@ -0,0 +1,18 @@
+package com.staffSync.application.product.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageDto {
+
+    private List<ProductDto> content; // 현재 페이지 상품 목록
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean hasNext; // 다음 페이지 존재 여부
+    private Long totalCount; // 필터 조건에 맞는 전체 상품 수 (첫 페이지에서만, 다음 페이지는 null)
+}
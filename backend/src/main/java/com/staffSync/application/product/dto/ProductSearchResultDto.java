@@ -0,0 +1,16 @@
+package com.staffSync.application.product.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResultDto {
+
+    private List<ProductDto> content; // 현재 페이지 상품 목록 (일치 품질 순)
+    private long totalCount; // 전체 일치 건수 (페이지와 무관)
+}
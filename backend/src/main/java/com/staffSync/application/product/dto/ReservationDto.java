@@ -0,0 +1,18 @@
+package com.staffSync.application.product.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationDto {
+
+    private String id; // 예약 ID (확정/해제에 사용)
+    private Long productId;
+    private Integer quantity;
+    private LocalDateTime expiresAt; // 이 시각이 지나면 자동 해제
+}
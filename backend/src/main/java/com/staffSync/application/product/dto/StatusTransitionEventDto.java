@@ -0,0 +1,24 @@
+package com.staffSync.application.product.dto;
+
+import com.staffSync.domain.product.StockStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 상태 전이 알림 (SSE "status" 이벤트, 예: IN_STOCK -> LOW_STOCK)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionEventDto {
+    private Long productId;
+    private String name;
+    private StockStatus from;
+    private StockStatus to;
+
+    public static StatusTransitionEventDto of(ProductDto before, ProductDto after) {
+        return new StatusTransitionEventDto(after.getId(), after.getName(), before.getStatus(), after.getStatus());
+    }
+}
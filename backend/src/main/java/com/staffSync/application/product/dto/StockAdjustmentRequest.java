@@ -0,0 +1,15 @@
+package com.staffSync.application.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentRequest {
+    private Long productId; // 상품 ID
+    private Integer delta; // 양수: 재고 추가, 음수: 재고 감소
+}
@@ -0,0 +1,30 @@
+package com.staffSync.application.product.dto;
+
+import com.staffSync.domain.product.StockStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAdjustmentResultDto {
+
+    private Long productId;
+    private Integer delta;
+    private boolean success; // 반영 여부
+    private Integer quantity; // 반영 후 재고 (실패 시 null)
+    private StockStatus status; // 반영 후 재고 상태 (실패 시 null)
+    private String message; // 실패 사유 (성공 시 null)
+
+    public static StockAdjustmentResultDto success(StockAdjustmentRequest request, ProductDto product) {
+        return new StockAdjustmentResultDto(request.getProductId(), request.getDelta(), true,
+                product.getQuantity(), product.getStatus(), null);
+    }
+
+    public static StockAdjustmentResultDto failure(StockAdjustmentRequest request, String message) {
+        return new StockAdjustmentResultDto(request.getProductId(), request.getDelta(), false,
+                null, null, message);
+    }
+}
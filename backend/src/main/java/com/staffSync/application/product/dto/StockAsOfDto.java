@@ -0,0 +1,16 @@
+package com.staffSync.application.product.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockAsOfDto {
+    private Long productId;
+    private LocalDateTime asOf; // 조회 시점
+    private Long quantity; // 해당 시점 재고
+}
@@ -0,0 +1,30 @@
+package com.staffSync.application.product.dto;
+
+import com.staffSync.domain.product.StockStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 변경 알림 (SSE "stock" 이벤트)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockChangeEventDto {
+    private Long productId;
+    private String name;
+    private Integer beforeQuantity;
+    private Integer afterQuantity;
+    private StockStatus status;
+
+    public static StockChangeEventDto of(ProductDto before, ProductDto after) {
+        return new StockChangeEventDto(
+                after.getId(),
+                after.getName(),
+                before.getQuantity(),
+                after.getQuantity(),
+                after.getStatus());
+    }
+}
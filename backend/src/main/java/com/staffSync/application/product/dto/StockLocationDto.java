@@ -0,0 +1,38 @@
+package com.staffSync.application.product.dto;
+
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.product.StockLocation;
+import com.staffSync.domain.product.StockStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLocationDto {
+
+    private Long id;
+    private Long productId;
+    private String warehouse; // 창고 코드
+    private Integer quantity;
+    private Integer minStockLevel; // 창고별 최소 재고 수량
+    private StockStatus status; // 창고별 재고 상태
+    private LocalDateTime updatedAt;
+    private Long changeSeq; // 전역 변경 순번
+
+    // Entity -> DTO 변환
+    public static StockLocationDto from(StockLocation location) {
+        return new StockLocationDto(
+                location.getId(),
+                location.getProductId(),
+                location.getWarehouse(),
+                location.getQuantity(),
+                location.getMinStockLevel(),
+                location.getStatus(),
+                location.getUpdatedAt(),
+                location.getChangeSeq());
+    }
+}
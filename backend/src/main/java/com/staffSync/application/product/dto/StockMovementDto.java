@@ -0,0 +1,30 @@
+package com.staffSync.application.product.dto;
+
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.product.StockMovement;
+import com.staffSync.domain.product.StockMovementReason;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementDto {
+    private Long id;
+    private Integer delta; // 변동 수량
+    private StockMovementReason reason; // 변동 사유
+    private LocalDateTime occurredAt; // 변동 시각
+    private Long balance; // 변동 후 재고
+
+    public static StockMovementDto from(StockMovement movement, long balance) {
+        return new StockMovementDto(
+                movement.getId(),
+                movement.getDelta(),
+                movement.getReason(),
+                movement.getOccurredAt(),
+                balance);
+    }
+}
@@ -0,0 +1,16 @@
+package com.staffSync.application.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockTransferRequest {
+    private String fromWarehouse; // 출발 창고 (null 이면 창고 미지정 재고)
+    private String toWarehouse; // 도착 창고 (null 이면 창고 미지정 재고)
+    private Integer quantity; // 이동 수량
+}
@@ -0,0 +1,14 @@
+package com.staffSync.application.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateStockLocationRequest {
+    private Integer minStockLevel; // 창고별 최소 재고 수량
+}
@@ -0,0 +1,18 @@
+package com.staffSync.application.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WarehouseSummaryDto {
+
+    private String warehouse; // 창고 코드
+    private long productCount; // 재고가 등록된 상품 수
+    private long totalQuantity; // 재고 수량 합계
+    private long inStockCount; // 재고 충분
+    private long lowStockCount; // 재고 부족
+    private long outOfStockCount; // 품절
+}
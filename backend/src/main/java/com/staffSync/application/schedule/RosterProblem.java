@@ -0,0 +1,61 @@
+package com.staffSync.application.schedule;
+
+import java.util.BitSet;
+
+/**
+ * 한 부서의 근무표 문제 (번호로만 표현, DB/엔티티 없음)
+ *
+ * 자리(slot)는 "날짜 번호 x 근무 형태 번호" 하나에 필요한 인원 한 명이고, 풀이는 자리마다 직원 번호(또는 -1)를 고른다.
+ *
+ * @param department       부서명
+ * @param days             기간 일수 (날짜 번호 0 ~ days-1, 7일마다 한 주)
+ * @param shiftStarts      근무 형태별 시작 (근무일 0시 기준 분)
+ * @param shiftEnds        근무 형태별 종료 (근무일 0시 기준 분, 야간 근무는 1440 이상)
+ * @param slotDays         자리별 날짜 번호
+ * @param slotShifts       자리별 근무 형태 번호
+ * @param employeeIds      직원 번호 -> employee.id
+ * @param unavailable      근무 불가 (unavailableIndex 위치의 비트)
+ * @param maxShiftsPerWeek 직원별 주당 최대 근무 횟수
+ * @param minRestMinutes   근무 사이 최소 휴식 시간 (분)
+ */
+public record RosterProblem(
+        String department,
+        int days,
+        int[] shiftStarts,
+        int[] shiftEnds,
+        int[] slotDays,
+        int[] slotShifts,
+        long[] employeeIds,
+        BitSet unavailable,
+        int maxShiftsPerWeek,
+        int minRestMinutes) {
+
+    public int slotCount() {
+        return slotDays.length;
+    }
+
+    public int employeeCount() {
+        return employeeIds.length;
+    }
+
+    public int weeks() {
+        return (days + 6) / 7;
+    }
+
+    /**
+     * 근무 불가 비트 위치
+     *
+     * @param employee 직원 번호
+     * @param day      날짜 번호
+     * @param shift    근무 형태 번호 (-1 이면 하루 전체)
+     */
+    public int unavailableIndex(int employee, int day, int shift) {
+        return (employee * days + day) * (shiftStarts.length + 1) + shift + 1;
+    }
+
+    public boolean isUnavailable(int employee, int slot) {
+        int day = slotDays[slot];
+        return unavailable.get(unavailableIndex(employee, day, -1))
+                || unavailable.get(unavailableIndex(employee, day, slotShifts[slot]));
+    }
+}
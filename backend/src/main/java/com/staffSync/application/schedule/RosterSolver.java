@@ -0,0 +1,318 @@
+package com.staffSync.application.schedule;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 근무표 지역 탐색 풀이기 (한 부서)
+ *
+ * 1) 자리를 날짜 순으로 돌며 후보 직원 중 벌점이 가장 적게 느는 직원을 배정한다. (배정이 오히려 손해면 비워 둔다)
+ * 2) 제한 시간까지 "한 자리의 직원 바꾸기 / 두 자리의 직원 맞바꾸기"를 무작위로 시도하고,
+ *    Late Acceptance 규칙(현재 또는 L 걸음 전보다 나쁘지 않으면 채택)으로 지역 최적에서 빠져나온다.
+ *
+ * 벌점은 필수 조건 위반 수(hard)를 먼저, 근무 횟수 제곱합(soft, 고를수록 작음)을 다음으로 비교한다.
+ * 한 번의 이동은 바뀐 자리의 날짜/주에 걸린 두 직원의 항목만 다시 계산하므로(증분 계산)
+ * 걸음당 비용이 자리 수나 직원 수와 관계없이 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RosterSolver {
+
+    // hard 1 이 soft 로 넘을 수 없는 크기 (soft 는 직원 수 x 기간 일수^2 이하)
+    private static final long HARD_WEIGHT = 1_000_000_000L;
+
+    // 초기 배정 시 자리마다 비교하는 최대 후보 수
+    private static final int CONSTRUCTION_CANDIDATES = 64;
+
+    // 시간/중단 확인 주기 (걸음)
+    private static final int CHECK_INTERVAL = 1024;
+
+    // 필수 조건을 모두 만족한 뒤 이만큼(자리 수 배) 개선이 없으면 일찍 끝낸다
+    private static final int STALL_STEPS_PER_SLOT = 200;
+
+    private final ScheduleProperties properties;
+
+    /**
+     * 풀이 결과
+     *
+     * @param assignment  자리별 직원 번호 (-1 이면 미배정)
+     * @param hardPenalty 필수 조건 위반 수
+     * @param softPenalty 근무 횟수 제곱합
+     * @param uncovered   미배정 자리 수
+     * @param steps       시도한 이동 수
+     */
+    public record Solution(int[] assignment, long hardPenalty, long softPenalty, int uncovered, long steps) {
+    }
+
+    /**
+     * @param problem     부서 문제
+     * @param timeLimitMs 제한 시간 (초기 배정 이후 개선에 쓰는 시간)
+     * @param seed        난수 시드 (같은 문제와 시드면 걸음 순서가 같다)
+     * @return 제한 시간 안에 찾은 가장 좋은 배정
+     */
+    public Solution solve(RosterProblem problem, long timeLimitMs, long seed) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeLimitMs));
+        SplittableRandom random = new SplittableRandom(seed);
+        Score score = new Score(problem);
+        construct(problem, score, random);
+        long steps = improve(problem, score, random, deadline);
+
+        int uncovered = 0;
+        for (int employee : score.assignment) {
+            if (employee < 0) {
+                uncovered++;
+            }
+        }
+        return new Solution(score.assignment.clone(), score.hard, score.soft, uncovered, steps);
+    }
+
+    private static void construct(RosterProblem problem, Score score, SplittableRandom random) {
+        int employees = problem.employeeCount();
+        if (employees == 0) {
+            return;
+        }
+        for (int slot = 0; slot < problem.slotCount(); slot++) {
+            int best = -1;
+            long bestDelta = 0; // 비워 둘 때
+            int candidates = Math.min(employees, CONSTRUCTION_CANDIDATES);
+            for (int i = 0; i < candidates; i++) {
+                int employee = employees <= CONSTRUCTION_CANDIDATES ? i : random.nextInt(employees);
+                long delta = score.assign(slot, employee);
+                score.assign(slot, -1);
+                if (delta < bestDelta) {
+                    bestDelta = delta;
+                    best = employee;
+                }
+            }
+            score.assign(slot, best);
+        }
+    }
+
+    // Late Acceptance 언덕 오르기, 끝나면 가장 좋았던 배정으로 되돌린다
+    private long improve(RosterProblem problem, Score score, SplittableRandom random, long deadline) {
+        int slots = problem.slotCount();
+        int employees = problem.employeeCount();
+        if (slots == 0 || employees == 0) {
+            return 0;
+        }
+        long[] history = new long[Math.max(1, properties.getLateAcceptanceSize())];
+        long current = score.total();
+        Arrays.fill(history, current);
+        long best = current;
+        int[] bestAssignment = score.assignment.clone();
+        long stallLimit = (long) STALL_STEPS_PER_SLOT * slots;
+        long lastImproved = 0;
+        long steps = 0;
+
+        while (best > 0) {
+            if (steps % CHECK_INTERVAL == 0
+                    && (System.nanoTime() >= deadline || Thread.currentThread().isInterrupted())) {
+                break;
+            }
+            if (best < HARD_WEIGHT && steps - lastImproved > stallLimit) {
+                break;
+            }
+            steps++;
+
+            int first = random.nextInt(slots);
+            int firstBefore = score.assignment[first];
+            int second = -1;
+            int secondBefore = -1;
+            long delta;
+            if (random.nextBoolean()) {
+                // 바꾸기 (-1: 비우기)
+                int employee = random.nextInt(employees + 1) - 1;
+                if (employee == firstBefore) {
+                    continue;
+                }
+                delta = score.assign(first, employee);
+            } else {
+                // 맞바꾸기
+                second = random.nextInt(slots);
+                secondBefore = score.assignment[second];
+                if (firstBefore == secondBefore) {
+                    continue;
+                }
+                delta = score.assign(first, secondBefore) + score.assign(second, firstBefore);
+            }
+
+            long candidate = current + delta;
+            int index = (int) (steps % history.length);
+            if (candidate <= current || candidate <= history[index]) {
+                current = candidate;
+                if (current < best) {
+                    best = current;
+                    System.arraycopy(score.assignment, 0, bestAssignment, 0, slots);
+                    lastImproved = steps;
+                }
+            } else {
+                if (second >= 0) {
+                    score.assign(second, secondBefore);
+                }
+                score.assign(first, firstBefore);
+            }
+            if (current < history[index]) {
+                history[index] = current;
+            }
+        }
+
+        for (int slot = 0; slot < slots; slot++) {
+            score.assign(slot, bestAssignment[slot]);
+        }
+        return steps;
+    }
+
+    /**
+     * 증분 벌점 계산기
+     * 직원 x 날짜별 배정 자리 목록, 직원 x 주별 근무 수, 직원별 총 근무 수를 유지하며
+     * assign 은 바뀐 자리에 걸린 항목만 전/후로 계산해 변화량을 돌려준다.
+     */
+    private static final class Score {
+
+        private final RosterProblem problem;
+        private final int days;
+        private final int weeks;
+        private final int[] assignment;
+        private final int[] dayCounts; // 직원 x 날짜
+        private final int[][] daySlots; // 직원 x 날짜 -> 자리 번호 (앞 dayCounts 개가 유효)
+        private final int[] weekCounts; // 직원 x 주
+        private final int[] totals; // 직원별 근무 수
+        private long hard;
+        private long soft;
+
+        private Score(RosterProblem problem) {
+            this.problem = problem;
+            this.days = problem.days();
+            this.weeks = problem.weeks();
+            int employees = problem.employeeCount();
+            this.assignment = new int[problem.slotCount()];
+            Arrays.fill(assignment, -1);
+            this.dayCounts = new int[employees * days];
+            this.daySlots = new int[employees * days][];
+            this.weekCounts = new int[employees * weeks];
+            this.totals = new int[employees];
+            this.hard = problem.slotCount(); // 모든 자리가 미배정
+            this.soft = 0;
+        }
+
+        private long total() {
+            return hard * HARD_WEIGHT + soft;
+        }
+
+        private long assign(int slot, int employee) {
+            int previous = assignment[slot];
+            if (previous == employee) {
+                return 0;
+            }
+            int day = problem.slotDays()[slot];
+
+            long hardBefore = slotPenalty(slot, previous);
+            long softBefore = 0;
+            if (previous >= 0) {
+                hardBefore += employeePenalty(previous, day);
+                softBefore += (long) totals[previous] * totals[previous];
+            }
+            if (employee >= 0) {
+                hardBefore += employeePenalty(employee, day);
+                softBefore += (long) totals[employee] * totals[employee];
+            }
+
+            if (previous >= 0) {
+                remove(previous, day, slot);
+            }
+            if (employee >= 0) {
+                add(employee, day, slot);
+            }
+            assignment[slot] = employee;
+
+            long hardAfter = slotPenalty(slot, employee);
+            long softAfter = 0;
+            if (previous >= 0) {
+                hardAfter += employeePenalty(previous, day);
+                softAfter += (long) totals[previous] * totals[previous];
+            }
+            if (employee >= 0) {
+                hardAfter += employeePenalty(employee, day);
+                softAfter += (long) totals[employee] * totals[employee];
+            }
+
+            hard += hardAfter - hardBefore;
+            soft += softAfter - softBefore;
+            return (hardAfter - hardBefore) * HARD_WEIGHT + (softAfter - softBefore);
+        }
+
+        // 자리 자체의 위반 (미배정, 근무 불가)
+        private long slotPenalty(int slot, int employee) {
+            if (employee < 0) {
+                return 1;
+            }
+            return problem.isUnavailable(employee, slot) ? 1 : 0;
+        }
+
+        // 직원의 그날 중복 근무, 전날/다음 날과의 휴식 부족, 그 주의 최대 근무 초과
+        private long employeePenalty(int employee, int day) {
+            int index = employee * days + day;
+            long penalty = Math.max(0, dayCounts[index] - 1);
+            if (day > 0) {
+                penalty += restViolations(index - 1, index);
+            }
+            if (day < days - 1) {
+                penalty += restViolations(index, index + 1);
+            }
+            penalty += Math.max(0, weekCounts[employee * weeks + day / 7] - problem.maxShiftsPerWeek());
+            return penalty;
+        }
+
+        // 앞 날 근무 종료부터 다음 날 근무 시작까지 최소 휴식 시간이 안 되는 쌍의 수
+        private int restViolations(int dayIndex, int nextDayIndex) {
+            int count = dayCounts[dayIndex];
+            int nextCount = dayCounts[nextDayIndex];
+            if (count == 0 || nextCount == 0) {
+                return 0;
+            }
+            int violations = 0;
+            for (int i = 0; i < count; i++) {
+                int end = problem.shiftEnds()[problem.slotShifts()[daySlots[dayIndex][i]]];
+                for (int j = 0; j < nextCount; j++) {
+                    int start = 24 * 60 + problem.shiftStarts()[problem.slotShifts()[daySlots[nextDayIndex][j]]];
+                    if (start - end < problem.minRestMinutes()) {
+                        violations++;
+                    }
+                }
+            }
+            return violations;
+        }
+
+        private void add(int employee, int day, int slot) {
+            int index = employee * days + day;
+            int[] slots = daySlots[index];
+            if (slots == null) {
+                slots = daySlots[index] = new int[2];
+            } else if (dayCounts[index] == slots.length) {
+                slots = daySlots[index] = Arrays.copyOf(slots, slots.length * 2);
+            }
+            slots[dayCounts[index]++] = slot;
+            weekCounts[employee * weeks + day / 7]++;
+            totals[employee]++;
+        }
+
+        private void remove(int employee, int day, int slot) {
+            int index = employee * days + day;
+            int[] slots = daySlots[index];
+            int last = --dayCounts[index];
+            for (int i = 0; i <= last; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[last];
+                    break;
+                }
+            }
+            weekCounts[employee * weeks + day / 7]--;
+            totals[employee]--;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.staffSync.application.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 근무표 작성 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.schedule")
+public class ScheduleProperties {
+    private long timeLimitMs = 30_000; // 근무표 한 번 작성에 쓰는 시간 (모든 부서 풀이를 이 안에 끝냄)
+    // 동시에 푸는 부서 수 (DB 없이 CPU 연산만 하므로 코어 수)
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int maxWeeks = 6; // 한 번에 작성할 수 있는 최대 주 수
+    private int maxShiftsPerWeek = 5; // 직원별 주당 최대 근무 횟수
+    private int minRestHours = 11; // 근무 종료 후 다음 근무까지 최소 휴식 시간
+    private int lateAcceptanceSize = 1000; // Late Acceptance 비교 구간 (클수록 더 넓게 탐색하고 천천히 수렴)
+}
@@ -0,0 +1,380 @@
+package com.staffSync.application.schedule;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.staffSync.application.schedule.dto.CreateScheduleRequest;
+import com.staffSync.application.schedule.dto.ScheduleDto;
+import com.staffSync.application.schedule.dto.ShiftAssignmentDto;
+import com.staffSync.domain.schedule.CoverageRequirement;
+import com.staffSync.domain.schedule.CoverageRequirementRepository;
+import com.staffSync.domain.schedule.EmployeeUnavailability;
+import com.staffSync.domain.schedule.EmployeeUnavailabilityRepository;
+import com.staffSync.domain.schedule.Schedule;
+import com.staffSync.domain.schedule.ScheduleRepository;
+import com.staffSync.domain.schedule.ScheduleStatus;
+import com.staffSync.domain.schedule.ShiftAssignmentRepository;
+import com.staffSync.domain.schedule.ShiftTemplate;
+import com.staffSync.domain.schedule.ShiftTemplateRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 근무표 작성 엔진
+ *
+ * 부서끼리는 직원과 필요 인원이 겹치지 않으므로 부서마다 따로 풀고(RosterSolver), 고정 크기 스레드 풀에서 동시에 실행한다.
+ * 풀이는 CPU 연산뿐이라 스레드 수는 코어 수(parallelism)로 두고, 큰 부서부터 넣어 마지막에 큰 부서 하나만 남는 일을 줄인다.
+ * 부서별 시간은 전체 제한 시간을 자리 수 비율로 나눠 주되(스레드 수만큼 겹쳐 돌므로 그만큼 곱함),
+ * 어떤 부서도 작성 시작 + 제한 시간을 넘기지 않는다. 풀이가 끝난 부서는 바로 JDBC 배치로 저장한다.
+ */
+@Slf4j
+@Service
+public class ScheduleService {
+
+    private static final String SELECT_EMPLOYEES_SQL = "SELECT id, department FROM employee "
+            + "WHERE department IS NOT NULL ORDER BY id";
+    private static final String INSERT_ASSIGNMENT_SQL = "INSERT INTO shift_assignments "
+            + "(schedule_id, department, work_date, shift_template_id, employee_id) VALUES (?, ?, ?, ?, ?)";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ShiftAssignmentRepository assignmentRepository;
+    private final ShiftTemplateRepository shiftTemplateRepository;
+    private final CoverageRequirementRepository coverageRequirementRepository;
+    private final EmployeeUnavailabilityRepository unavailabilityRepository;
+    private final RosterSolver solver;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduleProperties properties;
+
+    // 작성 중인 근무표 (근무표 ID -> 실행 스레드)
+    private final Map<Long, Thread> activeSchedules = new ConcurrentHashMap<>();
+    private volatile boolean stopping = false;
+
+    // 부서 풀이 결과 요약
+    private record DepartmentResult(long slots, long uncovered, long hardPenalty, long softPenalty) {
+    }
+
+    public ScheduleService(ScheduleRepository scheduleRepository, ShiftAssignmentRepository assignmentRepository,
+            ShiftTemplateRepository shiftTemplateRepository,
+            CoverageRequirementRepository coverageRequirementRepository,
+            EmployeeUnavailabilityRepository unavailabilityRepository, RosterSolver solver, JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager, ScheduleProperties properties) {
+        this.scheduleRepository = scheduleRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.shiftTemplateRepository = shiftTemplateRepository;
+        this.coverageRequirementRepository = coverageRequirementRepository;
+        this.unavailabilityRepository = unavailabilityRepository;
+        this.solver = solver;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    // 재기동 전에 작성 중이던 근무표는 실패로 바꾼다 (풀이 상태를 저장하지 않으므로 다시 작성)
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterrupted() {
+        for (Schedule schedule : scheduleRepository.findByStatus(ScheduleStatus.SOLVING)) {
+            if (!activeSchedules.containsKey(schedule.getId())) {
+                fail(schedule.getId(), "서버 재시작으로 중단되었습니다.");
+            }
+        }
+    }
+
+    // 종료 시 풀이 스레드를 중단시키고 실패로 남긴다
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        for (Thread worker : activeSchedules.values()) {
+            worker.interrupt();
+            worker.join(30_000);
+        }
+    }
+
+    /**
+     * 근무표 작성 시작 (백그라운드 실행)
+     * 풀이가 코어를 모두 쓰므로 한 번에 하나만 작성한다.
+     *
+     * @param request 시작일, 기간(주), 대상 부서
+     * @return 생성된 근무표 (진행 상황은 getSchedule 로 조회)
+     */
+    public synchronized ScheduleDto startSchedule(CreateScheduleRequest request) {
+        if (request.getStartDate() == null) {
+            throw new IllegalArgumentException("시작일은 필수입니다.");
+        }
+        int weeks = request.getWeeks() != null ? request.getWeeks() : 0;
+        if (weeks < 1 || weeks > properties.getMaxWeeks()) {
+            throw new IllegalArgumentException("기간은 1주 이상 " + properties.getMaxWeeks() + "주 이하여야 합니다.");
+        }
+        List<String> departments = resolveDepartments(request.getDepartments());
+        if (!activeSchedules.isEmpty()) {
+            throw new IllegalArgumentException("이미 작성 중인 근무표가 있습니다.");
+        }
+        Schedule schedule = transactionTemplate.execute(
+                status -> scheduleRepository.save(new Schedule(request.getStartDate(), weeks)));
+        launch(schedule, departments);
+        return ScheduleDto.from(schedule);
+    }
+
+    // 근무표 조회 (진행 상황/결과 요약 포함)
+    public ScheduleDto getSchedule(Long scheduleId) {
+        return ScheduleDto.from(findSchedule(scheduleId));
+    }
+
+    // 근무표 목록 (최근 작성 순)
+    public List<ScheduleDto> getSchedules() {
+        return scheduleRepository.findAllByOrderByIdDesc().stream()
+                .map(ScheduleDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 근무 배정 조회 (부서 또는 직원 중 하나는 필수)
+     *
+     * @param scheduleId 근무표 ID
+     * @param department 부서 (부서의 모든 자리, 미배정 포함)
+     * @param employeeId 직원 ID (그 직원의 근무만)
+     * @return 날짜 순 배정 목록
+     */
+    public List<ShiftAssignmentDto> getAssignments(Long scheduleId, String department, Long employeeId) {
+        findSchedule(scheduleId);
+        if (employeeId != null) {
+            return assignmentRepository.findByScheduleIdAndEmployeeIdOrderByWorkDateAsc(scheduleId, employeeId)
+                    .stream()
+                    .map(ShiftAssignmentDto::from)
+                    .collect(Collectors.toList());
+        }
+        if (department == null || department.isBlank()) {
+            throw new IllegalArgumentException("부서 또는 직원 ID를 지정해야 합니다.");
+        }
+        return assignmentRepository
+                .findByScheduleIdAndDepartmentOrderByWorkDateAscShiftTemplateIdAscIdAsc(scheduleId, department.trim())
+                .stream()
+                .map(ShiftAssignmentDto::from)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isSolving(Long scheduleId) {
+        return activeSchedules.containsKey(scheduleId);
+    }
+
+    // 요청 부서 (생략하면 필요 인원이 설정된 모든 부서)
+    private List<String> resolveDepartments(List<String> requested) {
+        List<String> configured = coverageRequirementRepository.findDepartments();
+        if (requested == null || requested.isEmpty()) {
+            if (configured.isEmpty()) {
+                throw new IllegalArgumentException("필요 인원이 설정된 부서가 없습니다.");
+            }
+            return configured;
+        }
+        Set<String> departments = new LinkedHashSet<>();
+        for (String department : requested) {
+            if (department == null || !configured.contains(department.trim())) {
+                throw new IllegalArgumentException("필요 인원이 설정되지 않은 부서입니다: " + department);
+            }
+            departments.add(department.trim());
+        }
+        return new ArrayList<>(departments);
+    }
+
+    private void launch(Schedule schedule, List<String> departments) {
+        Long scheduleId = schedule.getId();
+        LocalDate startDate = schedule.getStartDate();
+        int days = schedule.getWeeks() * 7;
+        Thread worker = Thread.ofPlatform().name("schedule-" + scheduleId)
+                .unstarted(() -> execute(scheduleId, startDate, days, departments));
+        activeSchedules.put(scheduleId, worker);
+        worker.start();
+    }
+
+    private void execute(Long scheduleId, LocalDate startDate, int days, List<String> departments) {
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getTimeLimitMs());
+            List<ShiftTemplate> templates = shiftTemplateRepository.findAllByOrderByStartTimeAsc();
+            List<RosterProblem> problems = buildProblems(startDate, days, departments, templates);
+            List<DepartmentResult> results = solveAll(scheduleId, startDate, problems, templates, deadline);
+            transactionTemplate.executeWithoutResult(status -> findSchedule(scheduleId).complete(
+                    problems.size(),
+                    results.stream().mapToLong(DepartmentResult::slots).sum(),
+                    results.stream().mapToLong(DepartmentResult::uncovered).sum(),
+                    results.stream().mapToLong(DepartmentResult::hardPenalty).sum(),
+                    results.stream().mapToLong(DepartmentResult::softPenalty).sum()));
+            log.info("근무표 작성 완료 (schedule={})", scheduleId);
+        } catch (InterruptedException e) {
+            fail(scheduleId, stopping ? "서버 종료로 중단되었습니다." : "근무표 작성이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            log.error("근무표 작성 실패 (schedule={})", scheduleId, e.getCause());
+            fail(scheduleId, e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            log.error("근무표 작성 실패 (schedule={})", scheduleId, e);
+            fail(scheduleId, e.getMessage());
+        } finally {
+            activeSchedules.remove(scheduleId);
+        }
+    }
+
+    /**
+     * 부서별 풀이 + 저장 (큰 부서부터)
+     * 부서 시간 = 제한 시간 x min(1, 스레드 수 x 부서 자리 수 / 전체 자리 수), 전체 마감 시각까지로 자른다.
+     */
+    private List<DepartmentResult> solveAll(Long scheduleId, LocalDate startDate, List<RosterProblem> problems,
+            List<ShiftTemplate> templates, long deadline) throws InterruptedException, ExecutionException {
+        int parallelism = Math.max(1, properties.getParallelism());
+        long totalSlots = Math.max(1, problems.stream().mapToLong(RosterProblem::slotCount).sum());
+        List<RosterProblem> ordered = new ArrayList<>(problems);
+        ordered.sort(Comparator.comparingInt(RosterProblem::slotCount).reversed());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("schedule-" + scheduleId + "-solver-", 0).factory());
+        try {
+            List<Future<DepartmentResult>> futures = new ArrayList<>(ordered.size());
+            for (RosterProblem problem : ordered) {
+                long share = (long) (properties.getTimeLimitMs()
+                        * Math.min(1.0, (double) parallelism * problem.slotCount() / totalSlots));
+                long seed = problem.department().hashCode() ^ scheduleId;
+                futures.add(executor.submit(() -> {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    RosterSolver.Solution solution = solver.solve(problem, Math.min(share, remaining), seed);
+                    writeAssignments(scheduleId, startDate, problem, templates, solution);
+                    return new DepartmentResult(problem.slotCount(), solution.uncovered(),
+                            solution.hardPenalty(), solution.softPenalty());
+                }));
+            }
+            List<DepartmentResult> results = new ArrayList<>(futures.size());
+            for (Future<DepartmentResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 부서 배정 저장 (부서 단위 트랜잭션, 미배정 자리는 직원 없이 기록)
+    private void writeAssignments(Long scheduleId, LocalDate startDate, RosterProblem problem,
+            List<ShiftTemplate> templates, RosterSolver.Solution solution) {
+        int[] assignment = solution.assignment();
+        List<Object[]> batch = new ArrayList<>(assignment.length);
+        for (int slot = 0; slot < assignment.length; slot++) {
+            int employee = assignment[slot];
+            batch.add(new Object[] {
+                    scheduleId,
+                    problem.department(),
+                    Date.valueOf(startDate.plusDays(problem.slotDays()[slot])),
+                    templates.get(problem.slotShifts()[slot]).getId(),
+                    employee >= 0 ? problem.employeeIds()[employee] : null });
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_ASSIGNMENT_SQL, batch));
+    }
+
+    /**
+     * 부서별 문제 생성
+     * 자리는 날짜 순, 같은 날은 근무 형태 시작 시각 순으로 만든다. (근무 형태 번호 = 시작 시각 순 목록의 위치)
+     */
+    private List<RosterProblem> buildProblems(LocalDate startDate, int days, List<String> departments,
+            List<ShiftTemplate> templates) {
+        int shifts = templates.size();
+        Map<Long, Integer> shiftIndex = new HashMap<>();
+        int[] shiftStarts = new int[shifts];
+        int[] shiftEnds = new int[shifts];
+        for (int i = 0; i < shifts; i++) {
+            ShiftTemplate template = templates.get(i);
+            shiftIndex.put(template.getId(), i);
+            shiftStarts[i] = template.startMinute();
+            shiftEnds[i] = template.endMinute();
+        }
+
+        Map<String, List<CoverageRequirement>> coverage = coverageRequirementRepository.findByDepartmentIn(departments)
+                .stream()
+                .filter(requirement -> shiftIndex.containsKey(requirement.getShiftTemplateId()))
+                .collect(Collectors.groupingBy(CoverageRequirement::getDepartment));
+
+        Set<String> targets = new LinkedHashSet<>(departments);
+        Map<String, List<Long>> employeesByDepartment = new HashMap<>();
+        jdbcTemplate.query(SELECT_EMPLOYEES_SQL, rs -> {
+            String department = rs.getString("department");
+            if (targets.contains(department)) {
+                employeesByDepartment.computeIfAbsent(department, key -> new ArrayList<>()).add(rs.getLong("id"));
+            }
+        });
+
+        Map<Long, List<EmployeeUnavailability>> unavailabilityByEmployee = unavailabilityRepository
+                .findByWorkDateBetween(startDate, startDate.plusDays(days - 1L)).stream()
+                .collect(Collectors.groupingBy(EmployeeUnavailability::getEmployeeId));
+
+        int minRestMinutes = properties.getMinRestHours() * 60;
+        List<RosterProblem> problems = new ArrayList<>(targets.size());
+        for (String department : targets) {
+            // 요일 -> 근무 형태별 필요 인원
+            int[][] required = new int[7][shifts];
+            for (CoverageRequirement requirement : coverage.getOrDefault(department, List.of())) {
+                required[requirement.getDayOfWeek().getValue() - 1][shiftIndex.get(requirement.getShiftTemplateId())] =
+                        requirement.getRequiredCount();
+            }
+            List<Integer> slotDays = new ArrayList<>();
+            List<Integer> slotShifts = new ArrayList<>();
+            for (int day = 0; day < days; day++) {
+                int[] counts = required[startDate.plusDays(day).getDayOfWeek().getValue() - 1];
+                for (int shift = 0; shift < shifts; shift++) {
+                    for (int n = 0; n < counts[shift]; n++) {
+                        slotDays.add(day);
+                        slotShifts.add(shift);
+                    }
+                }
+            }
+
+            List<Long> employeeIds = employeesByDepartment.getOrDefault(department, List.of());
+            BitSet unavailable = new BitSet();
+            RosterProblem problem = new RosterProblem(department, days, shiftStarts, shiftEnds,
+                    slotDays.stream().mapToInt(Integer::intValue).toArray(),
+                    slotShifts.stream().mapToInt(Integer::intValue).toArray(),
+                    employeeIds.stream().mapToLong(Long::longValue).toArray(),
+                    unavailable, properties.getMaxShiftsPerWeek(), minRestMinutes);
+            for (int employee = 0; employee < employeeIds.size(); employee++) {
+                for (EmployeeUnavailability entry : unavailabilityByEmployee.getOrDefault(employeeIds.get(employee),
+                        List.of())) {
+                    Integer shift = entry.getShiftTemplateId() != null ? shiftIndex.get(entry.getShiftTemplateId())
+                            : Integer.valueOf(-1);
+                    if (shift != null) {
+                        int day = (int) ChronoUnit.DAYS.between(startDate, entry.getWorkDate());
+                        unavailable.set(problem.unavailableIndex(employee, day, shift));
+                    }
+                }
+            }
+            problems.add(problem);
+        }
+        return problems;
+    }
+
+    private void fail(Long scheduleId, String reason) {
+        transactionTemplate.executeWithoutResult(status -> findSchedule(scheduleId).fail(reason));
+    }
+
+    private Schedule findSchedule(Long scheduleId) {
+        return scheduleRepository.findById(scheduleId)
+                .orElseThrow(() -> new IllegalArgumentException("근무표를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,140 @@
+package com.staffSync.application.schedule;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.staffSync.application.schedule.dto.CoverageRequirementDto;
+import com.staffSync.application.schedule.dto.CoverageRequirementRequest;
+import com.staffSync.application.schedule.dto.CreateShiftTemplateRequest;
+import com.staffSync.application.schedule.dto.CreateUnavailabilityRequest;
+import com.staffSync.application.schedule.dto.ShiftTemplateDto;
+import com.staffSync.application.schedule.dto.UnavailabilityDto;
+import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.schedule.CoverageRequirement;
+import com.staffSync.domain.schedule.CoverageRequirementRepository;
+import com.staffSync.domain.schedule.EmployeeUnavailability;
+import com.staffSync.domain.schedule.EmployeeUnavailabilityRepository;
+import com.staffSync.domain.schedule.ShiftTemplate;
+import com.staffSync.domain.schedule.ShiftTemplateRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 근무표 작성 기준 관리 (근무 형태, 부서별 필요 인원, 직원 근무 불가)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ShiftSetupService {
+
+    private final ShiftTemplateRepository shiftTemplateRepository;
+    private final CoverageRequirementRepository coverageRequirementRepository;
+    private final EmployeeUnavailabilityRepository unavailabilityRepository;
+    private final EmployeeRepository employeeRepository;
+
+    // 근무 형태 목록 (시작 시각 순)
+    public List<ShiftTemplateDto> getShiftTemplates() {
+        return shiftTemplateRepository.findAllByOrderByStartTimeAsc().stream()
+                .map(ShiftTemplateDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 근무 형태 등록
+     *
+     * @param request 이름, 시작/종료 시각 (종료가 시작보다 이르면 야간 근무)
+     * @return 등록된 근무 형태
+     */
+    @Transactional
+    public ShiftTemplateDto createShiftTemplate(CreateShiftTemplateRequest request) {
+        ShiftTemplate template = new ShiftTemplate(request.getName(), request.getStartTime(), request.getEndTime());
+        if (shiftTemplateRepository.existsByName(template.getName())) {
+            throw new IllegalArgumentException("이미 존재하는 근무 형태입니다.");
+        }
+        return ShiftTemplateDto.from(shiftTemplateRepository.save(template));
+    }
+
+    // 부서의 요일/근무 형태별 필요 인원
+    public List<CoverageRequirementDto> getCoverage(String department) {
+        return coverageRequirementRepository.findByDepartmentOrderByDayOfWeekAscShiftTemplateIdAsc(department)
+                .stream()
+                .map(CoverageRequirementDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 부서의 필요 인원을 통째로 교체
+     *
+     * @param department 부서명
+     * @param requests   요일/근무 형태별 필요 인원 (빈 목록이면 부서를 근무표 대상에서 뺀다)
+     * @return 저장된 필요 인원
+     */
+    @Transactional
+    public List<CoverageRequirementDto> replaceCoverage(String department, List<CoverageRequirementRequest> requests) {
+        if (department == null || department.isBlank()) {
+            throw new IllegalArgumentException("부서는 필수입니다.");
+        }
+        Set<Long> templateIds = shiftTemplateRepository.findAll().stream()
+                .map(ShiftTemplate::getId)
+                .collect(Collectors.toSet());
+        Set<String> seen = new HashSet<>();
+        List<CoverageRequirement> requirements = new ArrayList<>();
+        for (CoverageRequirementRequest request : requests != null ? requests : List.<CoverageRequirementRequest>of()) {
+            if (request.getShiftTemplateId() != null && !templateIds.contains(request.getShiftTemplateId())) {
+                throw new IllegalArgumentException("근무 형태를 찾을 수 없습니다.");
+            }
+            if (!seen.add(request.getDayOfWeek() + ":" + request.getShiftTemplateId())) {
+                throw new IllegalArgumentException("같은 요일/근무 형태가 중복되었습니다.");
+            }
+            requirements.add(new CoverageRequirement(department, request.getShiftTemplateId(),
+                    request.getDayOfWeek(), request.getRequiredCount() != null ? request.getRequiredCount() : 0));
+        }
+        coverageRequirementRepository.deleteByDepartment(department.trim());
+        return coverageRequirementRepository.saveAll(requirements).stream()
+                .map(CoverageRequirementDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // 직원의 근무 불가 목록 (날짜 순)
+    public List<UnavailabilityDto> getUnavailability(Long employeeId) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException("직원 ID는 필수입니다.");
+        }
+        return unavailabilityRepository.findByEmployeeIdOrderByWorkDateAsc(employeeId).stream()
+                .map(UnavailabilityDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 근무 불가 등록 (이미 작성된 근무표에는 반영되지 않고 다음 작성부터 적용)
+     *
+     * @param request 직원, 날짜, 근무 형태(생략하면 하루 전체), 사유
+     * @return 등록된 근무 불가
+     */
+    @Transactional
+    public UnavailabilityDto createUnavailability(CreateUnavailabilityRequest request) {
+        if (request.getEmployeeId() != null && !employeeRepository.existsById(request.getEmployeeId())) {
+            throw new IllegalArgumentException("직원을 찾을 수 없습니다.");
+        }
+        if (request.getShiftTemplateId() != null && !shiftTemplateRepository.existsById(request.getShiftTemplateId())) {
+            throw new IllegalArgumentException("근무 형태를 찾을 수 없습니다.");
+        }
+        EmployeeUnavailability unavailability = new EmployeeUnavailability(request.getEmployeeId(),
+                request.getWorkDate(), request.getShiftTemplateId(), request.getReason());
+        return UnavailabilityDto.from(unavailabilityRepository.save(unavailability));
+    }
+
+    @Transactional
+    public void deleteUnavailability(Long id) {
+        if (!unavailabilityRepository.existsById(id)) {
+            throw new IllegalArgumentException("근무 불가 정보를 찾을 수 없습니다.");
+        }
+        unavailabilityRepository.deleteById(id);
+    }
+}
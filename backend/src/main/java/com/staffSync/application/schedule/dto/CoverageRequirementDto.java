@@ -0,0 +1,29 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.DayOfWeek;
+
+import com.staffSync.domain.schedule.CoverageRequirement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverageRequirementDto {
+    private Long id;
+    private String department;
+    private Long shiftTemplateId;
+    private DayOfWeek dayOfWeek;
+    private int requiredCount; // 필요 인원
+
+    public static CoverageRequirementDto from(CoverageRequirement requirement) {
+        return new CoverageRequirementDto(
+                requirement.getId(),
+                requirement.getDepartment(),
+                requirement.getShiftTemplateId(),
+                requirement.getDayOfWeek(),
+                requirement.getRequiredCount());
+    }
+}
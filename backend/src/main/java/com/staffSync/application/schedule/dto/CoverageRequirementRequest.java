@@ -0,0 +1,18 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.DayOfWeek;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoverageRequirementRequest {
+    private Long shiftTemplateId; // 근무 형태 ID
+    private DayOfWeek dayOfWeek; // 요일 (MONDAY ~ SUNDAY)
+    private Integer requiredCount; // 필요 인원 (1 이상)
+}
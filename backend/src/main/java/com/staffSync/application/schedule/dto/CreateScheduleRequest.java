@@ -0,0 +1,19 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateScheduleRequest {
+    private LocalDate startDate; // 시작일
+    private Integer weeks; // 기간 (주, 1 ~ app.schedule.max-weeks)
+    private List<String> departments; // 대상 부서 (생략하면 필요 인원이 설정된 모든 부서)
+}
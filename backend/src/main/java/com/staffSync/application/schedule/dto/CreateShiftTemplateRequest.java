@@ -0,0 +1,18 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateShiftTemplateRequest {
+    private String name; // 근무 형태명
+    private LocalTime startTime; // 시작 시각 (HH:mm)
+    private LocalTime endTime; // 종료 시각 (HH:mm, 시작보다 이르면 다음 날 종료)
+}
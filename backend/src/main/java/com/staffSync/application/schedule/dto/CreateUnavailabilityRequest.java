@@ -0,0 +1,19 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateUnavailabilityRequest {
+    private Long employeeId; // 직원 ID (employee.id)
+    private LocalDate workDate; // 근무 불가 날짜
+    private Long shiftTemplateId; // 근무 불가 근무 형태 (생략하면 하루 전체)
+    private String reason; // 사유 (선택)
+}
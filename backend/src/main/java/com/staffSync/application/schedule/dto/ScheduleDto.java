@@ -0,0 +1,47 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.schedule.Schedule;
+import com.staffSync.domain.schedule.ScheduleStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleDto {
+    private Long id;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int weeks;
+    private ScheduleStatus status;
+    private Integer departmentCount; // 완료 시 부서 수
+    private Long slotCount; // 완료 시 배정해야 하는 자리 수
+    private Long uncoveredCount; // 완료 시 배정하지 못한 자리 수
+    private Long hardPenalty; // 완료 시 필수 조건 위반 수 (0 이면 모든 조건 충족)
+    private Long softPenalty; // 완료 시 근무 횟수 편차 (작을수록 고름)
+    private String failureReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public static ScheduleDto from(Schedule schedule) {
+        return new ScheduleDto(
+                schedule.getId(),
+                schedule.getStartDate(),
+                schedule.getEndDate(),
+                schedule.getWeeks(),
+                schedule.getStatus(),
+                schedule.getDepartmentCount(),
+                schedule.getSlotCount(),
+                schedule.getUncoveredCount(),
+                schedule.getHardPenalty(),
+                schedule.getSoftPenalty(),
+                schedule.getFailureReason(),
+                schedule.getStartedAt(),
+                schedule.getCompletedAt());
+    }
+}
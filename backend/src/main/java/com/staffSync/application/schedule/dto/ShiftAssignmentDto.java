@@ -0,0 +1,27 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalDate;
+
+import com.staffSync.domain.schedule.ShiftAssignment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShiftAssignmentDto {
+    private String department;
+    private LocalDate workDate;
+    private Long shiftTemplateId;
+    private Long employeeId; // null 이면 배정하지 못한 자리
+
+    public static ShiftAssignmentDto from(ShiftAssignment assignment) {
+        return new ShiftAssignmentDto(
+                assignment.getDepartment(),
+                assignment.getWorkDate(),
+                assignment.getShiftTemplateId(),
+                assignment.getEmployeeId());
+    }
+}
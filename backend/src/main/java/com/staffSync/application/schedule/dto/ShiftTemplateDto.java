@@ -0,0 +1,29 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalTime;
+
+import com.staffSync.domain.schedule.ShiftTemplate;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShiftTemplateDto {
+    private Long id;
+    private String name; // 근무 형태명 (예: 주간, 야간)
+    private LocalTime startTime;
+    private LocalTime endTime; // 시작보다 이르면 다음 날 종료
+    private boolean overnight;
+
+    public static ShiftTemplateDto from(ShiftTemplate template) {
+        return new ShiftTemplateDto(
+                template.getId(),
+                template.getName(),
+                template.getStartTime(),
+                template.getEndTime(),
+                template.isOvernight());
+    }
+}
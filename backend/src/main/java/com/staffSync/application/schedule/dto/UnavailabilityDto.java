@@ -0,0 +1,29 @@
+package com.staffSync.application.schedule.dto;
+
+import java.time.LocalDate;
+
+import com.staffSync.domain.schedule.EmployeeUnavailability;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnavailabilityDto {
+    private Long id;
+    private Long employeeId;
+    private LocalDate workDate;
+    private Long shiftTemplateId; // null 이면 하루 전체
+    private String reason;
+
+    public static UnavailabilityDto from(EmployeeUnavailability unavailability) {
+        return new UnavailabilityDto(
+                unavailability.getId(),
+                unavailability.getEmployeeId(),
+                unavailability.getWorkDate(),
+                unavailability.getShiftTemplateId(),
+                unavailability.getReason());
+    }
+}
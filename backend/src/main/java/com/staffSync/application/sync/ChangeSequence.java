@@ -0,0 +1,139 @@
+package com.staffSync.application.sync;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.staffSync.domain.sync.SyncEntityType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전역 변경 순번 (상품/직원/삭제 기록/창고 재고 공통, 단조 증가)
+ *
+ * 순번은 트랜잭션 안에서 발급되지만 커밋 순서는 발급 순서와 다를 수 있다.
+ * (예: 5번 트랜잭션이 먼저 커밋하고 4번이 나중에 커밋)
+ * 동기화가 5번까지 읽고 커서를 5로 넘기면 4번 변경을 영영 놓치므로,
+ * 아직 끝나지 않은 트랜잭션이 가진 가장 작은 순번 직전까지만 "안전한 경계(watermark)"로 공개한다.
+ * 순번은 기동 후 첫 발급 시 DB 최댓값에서 이어서 시작한다.
+ *
+ * 트랜잭션마다 어느 행에 어떤 순번을 줬는지도 기억해 두어, 커밋 후(AFTER_COMMIT) 리스너가
+ * 자기 변경의 순번을 DB 스냅샷의 순번과 비교할 수 있게 한다. (트랜잭션 완료 시 함께 정리)
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeSequence {
+
+    private static final String MAX_SEQ_SQL = "SELECT GREATEST("
+            + "(SELECT COALESCE(MAX(change_seq), 0) FROM products), "
+            + "(SELECT COALESCE(MAX(change_seq), 0) FROM employee), "
+            + "(SELECT COALESCE(MAX(change_seq), 0) FROM sync_tombstones), "
+            + "(SELECT COALESCE(MAX(change_seq), 0) FROM stock_locations))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final NavigableSet<Long> inFlight = new TreeSet<>(); // guarded by this
+    private long current = -1; // guarded by this (-1 = 미초기화)
+
+    private record RowKey(SyncEntityType type, Long id) {
+    }
+
+    // 트랜잭션 하나가 받은 순번과 행별 마지막 순번 (트랜잭션 스레드에서만 접근)
+    private static final class TransactionSeqs {
+        private final List<Long> issued = new ArrayList<>();
+        private final Map<RowKey, Long> lastByRow = new HashMap<>();
+    }
+
+    /**
+     * 다음 순번 발급
+     * 트랜잭션 안이면 커밋/롤백까지 진행 중으로 표시한다.
+     */
+    public long next() {
+        long seq;
+        synchronized (this) {
+            if (current < 0) {
+                current = loadMax();
+            }
+            seq = ++current;
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                inFlight.add(seq);
+            }
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentTransaction().issued.add(seq);
+        }
+        return seq;
+    }
+
+    /**
+     * 다음 순번 발급 후 어느 행의 변경인지 기록 (엔티티 콜백을 거치지 않는 JPQL/JDBC 경로용)
+     */
+    public long next(SyncEntityType type, Long id) {
+        long seq = next();
+        recordAssigned(type, id, seq);
+        return seq;
+    }
+
+    /**
+     * 현재 트랜잭션에서 행에 부여한 순번 기록 (같은 행이 여러 번 바뀌면 마지막 순번)
+     */
+    public void recordAssigned(SyncEntityType type, Long id, long seq) {
+        if (id != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentTransaction().lastByRow.put(new RowKey(type, id), seq);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 행에 마지막으로 부여한 순번
+     * 커밋 후 리스너(AFTER_COMMIT)에서도 트랜잭션 완료 전까지 조회할 수 있다.
+     *
+     * @return 순번 (트랜잭션 밖이거나 이 트랜잭션이 바꾸지 않은 행이면 null)
+     */
+    public Long lastAssigned(SyncEntityType type, Long id) {
+        TransactionSeqs seqs = (TransactionSeqs) TransactionSynchronizationManager.getResource(this);
+        return seqs != null ? seqs.lastByRow.get(new RowKey(type, id)) : null;
+    }
+
+    /**
+     * 안전한 경계: 이 값 이하의 순번은 모두 커밋되었거나 롤백되어 더 이상 나타나지 않는다.
+     */
+    public synchronized long stableWatermark() {
+        if (current < 0) {
+            current = loadMax();
+        }
+        return inFlight.isEmpty() ? current : inFlight.first() - 1;
+    }
+
+    private long loadMax() {
+        Long max = jdbcTemplate.queryForObject(MAX_SEQ_SQL, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    // 트랜잭션당 한 번만 완료 콜백을 등록하고, 그 트랜잭션이 받은 순번을 모아 둔다
+    private TransactionSeqs currentTransaction() {
+        TransactionSeqs seqs = (TransactionSeqs) TransactionSynchronizationManager.getResource(this);
+        if (seqs == null) {
+            TransactionSeqs created = new TransactionSeqs();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeSequence.this);
+                    synchronized (ChangeSequence.this) {
+                        inFlight.removeAll(created.issued);
+                    }
+                }
+            });
+            seqs = created;
+        }
+        return seqs;
+    }
+}
@@ -0,0 +1,60 @@
+package com.staffSync.application.sync;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.sync.ChangeRecorder;
+import com.staffSync.domain.sync.ChangeTracked;
+import com.staffSync.domain.sync.SyncEntityType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 엔티티 변경 순번 기록 (ChangeTrackingListener 콜백 구현)
+ * 등록/수정 시 change_seq 를 새로 발급하고, 삭제 시 같은 트랜잭션에서 삭제 기록을 남긴다.
+ * 반영된 순번은 행별로 ChangeSequence 에 기록해 커밋 후 리스너가 자기 변경의 순번을 알 수 있게 한다.
+ * JPQL 일괄 UPDATE / JDBC INSERT 경로는 엔티티 콜백이 없으므로 호출하는 쪽에서 순번을 직접 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeSequenceRecorder implements ChangeRecorder {
+
+    private static final String INSERT_TOMBSTONE_SQL = "INSERT INTO sync_tombstones "
+            + "(change_seq, entity_type, entity_id, deleted_at) VALUES (?, ?, ?, ?)";
+
+    private final ChangeSequence changeSequence;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void assign(ChangeTracked entity) {
+        entity.assignChangeSeq(changeSequence.next());
+    }
+
+    @Override
+    public void recordAssigned(ChangeTracked entity) {
+        changeSequence.recordAssigned(typeOf(entity), entity.getId(), entity.getChangeSeq());
+    }
+
+    @Override
+    public void recordRemoved(ChangeTracked entity) {
+        SyncEntityType type = typeOf(entity);
+        Long id = entity.getId();
+        jdbcTemplate.update(INSERT_TOMBSTONE_SQL, changeSequence.next(type, id), type.name(), id,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private SyncEntityType typeOf(ChangeTracked entity) {
+        if (entity instanceof Product) {
+            return SyncEntityType.PRODUCT;
+        }
+        if (entity instanceof Employee) {
+            return SyncEntityType.EMPLOYEE;
+        }
+        throw new IllegalStateException("동기화 대상이 아닌 엔티티입니다: " + entity.getClass().getName());
+    }
+}
@@ -0,0 +1,105 @@
+package com.staffSync.application.sync;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.sync.dto.SyncDto;
+import com.staffSync.application.sync.dto.TombstoneDto;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.sync.SyncTombstone;
+import com.staffSync.domain.sync.SyncTombstoneRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+    public static final int MAX_LIMIT = 1000;
+
+    private final ProductRepository productRepository;
+    private final EmployeeRepository employeeRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final ChangeSequence changeSequence;
+
+    // 세 목록을 change_seq 순으로 합치기 위한 항목
+    private record Change(long seq, Object item) {
+    }
+
+    /**
+     * 커서 이후 변경분 조회 (상품/직원 등록·수정 + 삭제 기록)
+     * 행마다 최신 상태만 내려가므로 응답 크기는 변경된 행 수에 비례한다.
+     * 
+     * @param since 이전 응답의 cursor (처음이면 "0")
+     * @param limit 최대 변경 건수 (1 ~ 1000)
+     * @return 변경분과 다음 커서
+     */
+    public SyncDto getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_LIMIT + " 이하여야 합니다.");
+        }
+        long from = parseCursor(since);
+        // 조회 전에 경계를 정해야 조회 도중 커밋된 변경을 다음 요청에서 받을 수 있다
+        long until = changeSequence.stableWatermark();
+        if (from >= until) {
+            return new SyncDto(String.valueOf(from), false, List.of(), List.of(), List.of());
+        }
+
+        List<Change> changes = new ArrayList<>();
+        for (Product product : productRepository.findChanges(from, until, Limit.of(limit))) {
+            changes.add(new Change(product.getChangeSeq(), ProductDto.from(product)));
+        }
+        for (Employee employee : employeeRepository.findChanges(from, until, Limit.of(limit))) {
+            changes.add(new Change(employee.getChangeSeq(), EmployeeDto.from(employee)));
+        }
+        for (SyncTombstone tombstone : tombstoneRepository.findChanges(from, until, Limit.of(limit))) {
+            changes.add(new Change(tombstone.getChangeSeq(), TombstoneDto.from(tombstone)));
+        }
+        changes.sort(Comparator.comparingLong(Change::seq));
+
+        // limit 건을 채웠으면 마지막 항목 순번까지만 확정 (각 목록은 그 순번 이하를 빠짐없이 담고 있음)
+        boolean hasMore = changes.size() >= limit;
+        List<Change> page = hasMore ? changes.subList(0, limit) : changes;
+        long cursor = hasMore ? page.get(page.size() - 1).seq() : until;
+
+        List<ProductDto> products = new ArrayList<>();
+        List<EmployeeDto> employees = new ArrayList<>();
+        List<TombstoneDto> deleted = new ArrayList<>();
+        for (Change change : page) {
+            if (change.item() instanceof ProductDto product) {
+                products.add(product);
+            } else if (change.item() instanceof EmployeeDto employee) {
+                employees.add(employee);
+            } else {
+                deleted.add((TombstoneDto) change.item());
+            }
+        }
+        return new SyncDto(String.valueOf(cursor), hasMore, products, employees, deleted);
+    }
+
+    private long parseCursor(String since) {
+        if (since == null || since.isBlank()) {
+            return 0L;
+        }
+        try {
+            long value = Long.parseLong(since);
+            if (value < 0) {
+                throw new NumberFormatException();
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.staffSync.application.sync.dto;
+
+import java.util.List;
+
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.product.dto.ProductDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 변경분 동기화 응답
+ * 클라이언트는 products/employees 를 upsert, deleted 를 삭제한 뒤 cursor 를 다음 요청의 since 로 보낸다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncDto {
+    private String cursor; // 다음 요청의 since
+    private boolean hasMore; // true 면 바로 이어서 요청
+    private List<ProductDto> products; // 등록/수정된 상품 (최신 상태)
+    private List<EmployeeDto> employees; // 등록/수정된 직원 (최신 상태)
+    private List<TombstoneDto> deleted; // 삭제 기록
+}
@@ -0,0 +1,23 @@
+package com.staffSync.application.sync.dto;
+
+import java.time.LocalDateTime;
+
+import com.staffSync.domain.sync.SyncEntityType;
+import com.staffSync.domain.sync.SyncTombstone;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TombstoneDto {
+    private SyncEntityType type;
+    private Long id; // 삭제된 상품/직원 ID
+    private LocalDateTime deletedAt;
+
+    public static TombstoneDto from(SyncTombstone tombstone) {
+        return new TombstoneDto(tombstone.getEntityType(), tombstone.getEntityId(), tombstone.getDeletedAt());
+    }
+}
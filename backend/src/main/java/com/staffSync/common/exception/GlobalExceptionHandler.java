@@ -3,12 +3,15 @@ package com.staffSync.common.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.staffSync.application.product.StockQueueFullException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -19,7 +22,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
     }
 
-    // 2. @Valid 유효성 검사 실패 처리 (예: 비밀번호 8자리 미만)
+    // 2. 재고 명령 대기열 포화 (잠시 후 재시도)
+    @ExceptionHandler(StockQueueFullException.class)
+    public ResponseEntity<String> handleStockQueueFull(StockQueueFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    // 3. unique 제약 위반 (블룸 필터/중복 조회를 동시에 통과한 가입은 DB 제약이 막는다)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<String> handleDataIntegrityViolation(DataIntegrityViolationException e) {
+        String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toUpperCase();
+        if (cause.contains("EMAIL")) {
+            // 서비스의 중복 검사와 같은 응답을 돌려준다
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("이미 존재하는 이메일입니다.");
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("이미 존재하는 데이터입니다.");
+    }
+
+    // 4. @Valid 유효성 검사 실패 처리 (예: 비밀번호 8자리 미만)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException e) {
         Map<String, String> errors = new HashMap<>();
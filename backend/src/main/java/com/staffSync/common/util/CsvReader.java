@@ -0,0 +1,82 @@
+package com.staffSync.common.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 파서 (RFC 4180)
+ * 파일 전체를 메모리에 올리지 않고 레코드 단위로 읽는다.
+ * 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈과 "" 이스케이프를 지원한다.
+ */
+public final class CsvReader implements Closeable {
+
+    private final Reader reader;
+    private long lineNumber = 1; // 현재 읽는 위치의 줄 번호
+    private long recordLineNumber = 0; // 마지막으로 읽은 레코드의 시작 줄 번호
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, 64 * 1024);
+    }
+
+    /**
+     * 다음 레코드를 읽는다.
+     * 
+     * @return 필드 목록 (파일 끝이면 null)
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        recordLineNumber = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == -1) {
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false; // 닫는 따옴표
+                        c = next;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,107 @@
+package com.staffSync.common.util;
+
+/**
+ * 한글 검색용 자모 분해 유틸리티
+ *
+ * 완성형 음절(가~힣)을 호환 자모로 풀어 쓰고, 겹모음/겹받침도 입력 순서대로 나눈다.
+ * (예: "닭" -> "ㄷㅏㄹㄱ", "과" -> "ㄱㅗㅏ")
+ * 입력 중인 글자("노틉")도 완성된 이름("노트북")의 자모 열에 포함되므로 자동완성 검색에 쓸 수 있다.
+ */
+public final class HangulUtils {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00; // 가
+    private static final char SYLLABLE_END = 0xD7A3; // 힣
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String[] CHO = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ" };
+    private static final String CHO_JAMO = String.join("", CHO);
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ" };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ" };
+
+    // 직접 입력한 겹모음/겹받침 호환 자모도 같은 규칙으로 분해
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_DECOMPOSED = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ" };
+
+    private HangulUtils() {
+    }
+
+    /**
+     * 자모 분해 (소문자화, 공백 제거)
+     * 
+     * @param text 원문
+     * @return 자모 열 (한글 외 문자는 그대로)
+     */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)])
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                int compound = COMPOUND_JAMO.indexOf(c);
+                sb.append(compound >= 0 ? COMPOUND_JAMO_DECOMPOSED[compound] : String.valueOf(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 추출 (소문자화, 공백 제거)
+     * 
+     * @param text 원문 (예: "노트북")
+     * @return 초성 열 (예: "ㄴㅌㅂ", 한글 외 문자는 그대로)
+     */
+    public static String choseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            sb.append(isSyllable(c) ? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)] : String.valueOf(c));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색어 여부 (한글 자음만으로 이루어졌는지)
+     * 
+     * @param query 검색어
+     * @return 초성 자음(19자)이 하나 이상이고 완성형 음절/모음/겹받침 자모가 없으면 true
+     *         (겹받침 "ㄳ" 등은 초성 열에 나오지 않으므로 자모 열에서 찾는다)
+     */
+    public static boolean isChoseongQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (CHO_JAMO.indexOf(c) >= 0) {
+                hasConsonant = true;
+            } else if (isSyllable(c) || (c >= 'ㄱ' && c <= 'ㅣ')) {
+                return false;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+}
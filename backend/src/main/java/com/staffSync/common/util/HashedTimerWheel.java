@@ -0,0 +1,179 @@
+package com.staffSync.common.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시 타이머 휠
+ *
+ * 만료 시각을 tick 단위 슬롯(원형 배열)에 나눠 담고, 매 tick 마다 해당 슬롯만 확인한다.
+ * 등록/취소는 O(1)이고 만료 처리는 그 tick 에 걸린 항목 수에만 비례하므로
+ * 테이블 스캔이나 우선순위 큐 없이 많은 수의 타이머를 다룰 수 있다.
+ * 정밀도는 tick 단위이며, 휠 한 바퀴보다 긴 타이머는 남은 바퀴 수(rounds)로 구분한다.
+ *
+ * 등록은 어느 스레드에서나 가능하고, 슬롯은 advanceTo 를 호출하는 스레드(워커) 하나만 다룬다.
+ */
+@Slf4j
+public final class HashedTimerWheel {
+
+    private final long tickMs;
+    private final int mask;
+    private final Queue<Timeout>[] slots;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final LongSupplier clock;
+    private final long startedAt;
+
+    private long currentTick; // 다음에 처리할 tick
+    private volatile Thread worker;
+
+    /**
+     * @param tickMs    tick 간격 (ms)
+     * @param wheelSize 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param clock     현재 시각 (ms)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickMs, int wheelSize, LongSupplier clock) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick 간격과 슬롯 수는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickMs = tickMs;
+        this.mask = size - 1;
+        this.slots = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        this.clock = clock;
+        this.startedAt = clock.getAsLong();
+    }
+
+    public HashedTimerWheel(long tickMs, int wheelSize) {
+        this(tickMs, wheelSize, System::currentTimeMillis);
+    }
+
+    /**
+     * 등록된 타이머 (cancel 로 취소)
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        // 취소 (슬롯에서는 해당 tick 에 도달했을 때 제거)
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+    }
+
+    /**
+     * 타이머 등록
+     *
+     * @param task    만료 시 실행할 작업 (워커 스레드에서 실행되므로 짧게 끝나야 한다)
+     * @param delayMs 지연 시간 (ms)
+     * @return 취소용 핸들
+     */
+    public Timeout schedule(Runnable task, long delayMs) {
+        Timeout timeout = new Timeout(task, clock.getAsLong() + Math.max(0, delayMs));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 주어진 시각까지의 tick 을 처리하고 만료된 작업을 실행한다.
+     *
+     * @param now 현재 시각 (ms)
+     * @return 실행한 작업 수
+     */
+    public synchronized int advanceTo(long now) {
+        long targetTick = (now - startedAt) / tickMs;
+        int fired = 0;
+        while (currentTick <= targetTick) {
+            transferPending();
+            fired += expire(slots[(int) (currentTick & mask)]);
+            currentTick++;
+        }
+        return fired;
+    }
+
+    // 새로 등록된 타이머를 슬롯에 배치
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 만료 시각을 올림한 tick (이미 지난 타이머는 현재 tick 에서 처리)
+            long deadlineTick = Math.max(currentTick, (timeout.deadline - startedAt + tickMs - 1) / tickMs);
+            timeout.rounds = (deadlineTick - currentTick) / slots.length;
+            slots[(int) (deadlineTick & mask)].add(timeout);
+        }
+    }
+
+    private int expire(Queue<Timeout> slot) {
+        int fired = 0;
+        for (int i = slot.size(); i > 0; i--) {
+            Timeout timeout = slot.poll();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                slot.add(timeout); // 다음 바퀴에 다시 확인
+                continue;
+            }
+            try {
+                timeout.task.run();
+                fired++;
+            } catch (RuntimeException e) {
+                // 작업 하나의 실패가 휠을 멈추지 않도록 기록만 남긴다
+                log.error("타이머 작업 실행 실패", e);
+            }
+        }
+        return fired;
+    }
+
+    /**
+     * 워커 스레드(가상 스레드) 시작 - tick 간격마다 advanceTo 호출
+     *
+     * @param name 스레드 이름
+     */
+    public void start(String name) {
+        worker = Thread.ofVirtual().name(name).start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(tickMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                advanceTo(clock.getAsLong());
+            }
+        });
+    }
+
+    public void stop() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.staffSync.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 확장형 블룸 필터 (Scalable Bloom Filter)
+ *
+ * 현재 층(비트 배열)이 설계 용량만큼 차면 용량 2배, 오탐률 절반인 층을 새로 붙인다.
+ * 층별 오탐률이 p0, p0/2, p0/4 ... 이므로 전체 오탐률은 원소 수와 관계없이 2 * p0 를 넘지 않는다.
+ * "없음"은 확실하고 "있을 수 있음"만 오탐이 생기며, 원소 삭제는 지원하지 않는다.
+ *
+ * 조회는 잠금 없이(원자적 비트 읽기) 어느 스레드에서나 가능하고, 추가는 한 번에 하나씩 처리한다.
+ */
+public final class ScalableBloomFilter {
+
+    private static final double LN2_SQUARED = Math.log(2) * Math.log(2);
+    private static final int GROWTH = 2; // 새 층 용량 배수
+    private static final double TIGHTENING = 0.5; // 새 층 오탐률 배수
+
+    private final long initialCapacity;
+    private final double firstLayerRate;
+
+    private volatile Layer[] layers;
+    private volatile long count = 0; // 넣은 원소 수 (이미 있다고 판단된 값은 세지 않음)
+
+    /**
+     * @param expectedInsertions 첫 층 설계 용량
+     * @param falsePositiveRate  목표 전체 오탐률 (0 ~ 1)
+     */
+    public ScalableBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("예상 원소 수는 0보다 커야 합니다.");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다.");
+        }
+        this.initialCapacity = expectedInsertions;
+        this.firstLayerRate = falsePositiveRate * (1 - TIGHTENING);
+        this.layers = new Layer[] { new Layer(expectedInsertions, firstLayerRate) };
+    }
+
+    /**
+     * @return false 면 확실히 없음, true 면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void put(String value) {
+        long hash = hash(value);
+        Layer[] current = layers;
+        for (Layer layer : current) {
+            if (layer.mightContain(hash)) {
+                return; // 이미 있음 (또는 오탐), 층을 채우지 않는다
+            }
+        }
+        Layer last = current[current.length - 1];
+        if (last.size >= last.capacity) {
+            last = new Layer(last.capacity * GROWTH, last.rate * TIGHTENING);
+            Layer[] grown = new Layer[current.length + 1];
+            System.arraycopy(current, 0, grown, 0, current.length);
+            grown[current.length] = last;
+            layers = grown;
+        }
+        last.put(hash);
+        count++;
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public int layerCount() {
+        return layers.length;
+    }
+
+    public long bitCount() {
+        long bits = 0;
+        for (Layer layer : layers) {
+            bits += layer.bits;
+        }
+        return bits;
+    }
+
+    // 비트 배열 크기 (바이트)
+    public long memoryBytes() {
+        return bitCount() / Byte.SIZE;
+    }
+
+    /**
+     * 현재 채움 비율로 추정한 오탐률
+     * 층마다 (켜진 비트 비율)^k 가 그 층의 오탐률이고, 어느 층에서든 오탐이면 전체 오탐이다.
+     */
+    public double estimatedFalsePositiveRate() {
+        double allNegative = 1.0;
+        for (Layer layer : layers) {
+            double fill = (double) layer.setBits() / layer.bits;
+            allNegative *= 1 - Math.pow(fill, layer.hashes);
+        }
+        return 1 - allNegative;
+    }
+
+    public long initialCapacity() {
+        return initialCapacity;
+    }
+
+    public double targetFalsePositiveRate() {
+        return firstLayerRate / (1 - TIGHTENING);
+    }
+
+    /**
+     * 64비트 FNV-1a 해시
+     * 층에서는 이 값을 MurmurHash3 마무리 섞기로 두 번 섞어 이중 해싱(h1 + i * h2)의 두 값으로 쓴다.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // 한 층 (비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = log2(1/p))
+    private static final class Layer {
+        private final long capacity;
+        private final double rate;
+        private final long bits;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private long size = 0; // guarded by ScalableBloomFilter.this
+
+        private Layer(long capacity, double rate) {
+            this.capacity = capacity;
+            this.rate = rate;
+            long wordCount = Math.max(1, (long) Math.ceil(capacity * -Math.log(rate) / LN2_SQUARED / Long.SIZE));
+            if (wordCount > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("블룸 필터 층이 너무 큽니다.");
+            }
+            this.bits = wordCount * Long.SIZE;
+            this.hashes = Math.max(1, (int) Math.ceil(-Math.log(rate) / Math.log(2)));
+            this.words = new AtomicLongArray((int) wordCount);
+        }
+
+        private boolean mightContain(long hash) {
+            long h1 = mix(hash);
+            long h2 = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void put(long hash) {
+            long h1 = mix(hash);
+            long h2 = mix(hash ^ 0x9e3779b97f4a7c15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bits);
+                long mask = 1L << bit;
+                words.getAndUpdate((int) (bit >>> 6), word -> word | mask);
+            }
+            size++;
+        }
+
+        private long setBits() {
+            long set = 0;
+            for (int i = 0; i < words.length(); i++) {
+                set += Long.bitCount(words.get(i));
+            }
+            return set;
+        }
+    }
+}
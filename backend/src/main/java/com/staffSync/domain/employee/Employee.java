@@ -1,17 +1,35 @@
 package com.staffSync.domain.employee;
 
+import com.staffSync.domain.sync.ChangeTracked;
+import com.staffSync.domain.sync.ChangeTrackingListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "employee")
-public class Employee {
+@Table(name = "employee", indexes = {
+        // 변경분 동기화
+        @Index(name = "idx_employee_change_seq", columnList = "change_seq"),
+        // 복합 조건 조회: 부서 + 입사일/급여 범위, 부서 없이 범위/이름 접두어
+        // (키셋 페이지의 보조 정렬 id 를 포함해 정렬 없이 이어서 읽는다)
+        @Index(name = "idx_employee_department_hire_date", columnList = "department, hire_date, id"),
+        @Index(name = "idx_employee_department_salary", columnList = "department, salary, id"),
+        @Index(name = "idx_employee_hire_date", columnList = "hire_date, id"),
+        @Index(name = "idx_employee_salary", columnList = "salary, id"),
+        @Index(name = "idx_employee_name", columnList = "name, id")
+})
+@EntityListeners(ChangeTrackingListener.class)
+public class Employee implements ChangeTracked {
+
+    // 간단한 이메일 정규식 (한 번만 컴파일)
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,6 +71,18 @@ public class Employee {
     @Column(name = "department", length = 50)
     private String department;
 
+    /**
+     * 마지막 변경 시각
+     */
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * 전역 변경 순번 (변경분 동기화 커서)
+     */
+    @Column(name = "change_seq")
+    private Long changeSeq;
+
     /**
      * 생성자
      * 
@@ -76,6 +106,7 @@ public class Employee {
         this.hireDate = hireDate;
         this.salary = salary;
         this.department = department;
+        this.updatedAt = LocalDateTime.now();
     }
 
     /**
@@ -102,6 +133,15 @@ public class Employee {
         if (department != null) {
             this.department = department;
         }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 변경 순번 기록 (ChangeTrackingListener)
+     */
+    @Override
+    public void assignChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
     }
 
     // ===== Validation 메서드 =====
@@ -122,9 +162,7 @@ public class Employee {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("이메일은 필수입니다.");
         }
-        // 간단한 이메일 정규식
-        String emailRegex = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-        if (!email.matches(emailRegex)) {
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
             throw new IllegalArgumentException("올바른 이메일 형식이 아닙니다.");
         }
     }
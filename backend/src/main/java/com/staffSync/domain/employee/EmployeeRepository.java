@@ -1,13 +1,18 @@
 package com.staffSync.domain.employee;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.List;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>,
+        JpaSpecificationExecutor<Employee>, EmployeeRepositoryCustom {
 
     /**
      * 사원번호로 직원 조회
@@ -41,6 +46,14 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * 전체 이메일 목록 (일괄 등록 중복 검사용)
+     * 
+     * @return 이메일 목록
+     */
+    @Query("SELECT e.email FROM Employee e")
+    List<String> findAllEmails();
+
     /**
      * 부서별 직원 조회
      * 
@@ -58,9 +71,13 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     List<Employee> findByNameContainingIgnoreCase(String name);
 
     /**
-     * 가장 마지막에 추가된 직원을 조회 (ID 기준 내림차순)
+     * 변경분 동기화: (since, until] 구간에서 바뀐 직원 (change_seq 순)
      * 
-     * @return 마지막 직원 정보
+     * @param since 이전 커서 (미포함)
+     * @param until 안전한 경계 (포함)
+     * @param limit 최대 건수
+     * @return 직원 목록
      */
-    Optional<Employee> findTopByOrderByIdDesc();
-}
\ No newline at end of file
+    @Query("SELECT e FROM Employee e WHERE e.changeSeq > :since AND e.changeSeq <= :until ORDER BY e.changeSeq")
+    List<Employee> findChanges(@Param("since") long since, @Param("until") long until, Limit limit);
+}
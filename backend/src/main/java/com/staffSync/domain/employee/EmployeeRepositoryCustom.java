@@ -0,0 +1,16 @@
+package com.staffSync.domain.employee;
+
+import org.springframework.data.jpa.domain.Specification;
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * 조건에 맞는 직원 수를 최대 limit 까지만 센다.
+     * limit 건에서 멈추는 서브쿼리를 DB 안에서 세므로 결과가 많아도 전체를 세지 않고, 행을 가져오지도 않는다.
+     *
+     * @param spec  조회 조건
+     * @param limit 최대 개수
+     * @return min(실제 개수, limit)
+     */
+    long countUpTo(Specification<Employee> spec, int limit);
+}
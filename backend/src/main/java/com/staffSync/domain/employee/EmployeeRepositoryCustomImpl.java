@@ -0,0 +1,40 @@
+package com.staffSync.domain.employee;
+
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.Predicate;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public long countUpTo(Specification<Employee> spec, int limit) {
+        // SELECT COUNT(id) FROM (SELECT id FROM employees WHERE ... FETCH FIRST :limit ROWS ONLY)
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        JpaCriteriaQuery<Long> query = cb.createQuery(Long.class);
+
+        JpaSubQuery<Tuple> limited = query.subquery(Tuple.class);
+        JpaRoot<Employee> root = limited.from(Employee.class);
+        limited.multiselect(root.get("id").alias("id"));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            limited.where(predicate);
+        }
+        limited.fetch(limit);
+
+        JpaDerivedRoot<Tuple> matched = query.from(limited);
+        query.select(cb.count(matched.get("id")));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
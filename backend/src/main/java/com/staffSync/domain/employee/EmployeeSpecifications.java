@@ -0,0 +1,66 @@
+package com.staffSync.domain.employee;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 직원 복합 조건 조회용 Specification 모음
+ * 값이 null 인 조건은 적용하지 않으므로 필요한 조건만 골라 and 로 조합한다.
+ */
+public final class EmployeeSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private EmployeeSpecifications() {
+    }
+
+    // 부서 일치
+    public static Specification<Employee> departmentEquals(String department) {
+        return (root, query, cb) -> department == null ? null : cb.equal(root.get("department"), department);
+    }
+
+    // 입사일 범위 (양 끝 포함)
+    public static Specification<Employee> hireDateBetween(LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.get("hireDate"), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.get("hireDate"), from);
+            }
+            return to == null ? null : cb.lessThanOrEqualTo(root.get("hireDate"), to);
+        };
+    }
+
+    // 급여 범위 (양 끝 포함)
+    public static Specification<Employee> salaryBetween(Double min, Double max) {
+        return (root, query, cb) -> {
+            if (min != null && max != null) {
+                return cb.between(root.get("salary"), min, max);
+            }
+            if (min != null) {
+                return cb.greaterThanOrEqualTo(root.get("salary"), min);
+            }
+            return max == null ? null : cb.lessThanOrEqualTo(root.get("salary"), max);
+        };
+    }
+
+    // 이름 접두어 (앞부분 일치라 이름 인덱스를 범위 조회로 쓴다)
+    public static Specification<Employee> nameStartsWith(String prefix) {
+        return (root, query, cb) -> prefix == null || prefix.isEmpty()
+                ? null
+                : cb.like(root.get("name"), escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,56 @@
+package com.staffSync.domain.idempotency;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멱등 요청의 처리 결과
+ * 메모리 저장소에서 밀려나거나 재기동된 뒤에도 같은 Idempotency-Key 재시도에 같은 응답을 돌려주기 위해 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "idempotency_records", indexes = {
+        // 만료 기록 정리
+        @Index(name = "idx_idempotency_records_created_at", columnList = "created_at")
+})
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key", length = 512)
+    private String key; // 사용자 + 키
+
+    @Column(nullable = false, length = 1000)
+    private String fingerprint; // 메서드 + 경로 + 쿼리 (+ 본문 SHA-256)
+
+    @Column(nullable = false)
+    private Integer status;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public IdempotencyRecord(String key, String fingerprint, int status, String contentType, byte[] body,
+            LocalDateTime createdAt) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.createdAt = createdAt;
+    }
+}
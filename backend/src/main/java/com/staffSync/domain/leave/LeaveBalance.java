@@ -0,0 +1,111 @@
+package com.staffSync.domain.leave;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직원별 연차 잔여 (현재 연차 기간 기준, 직원 한 행)
+ *
+ * 발생 일수는 입사일로 정해지므로 다음 발생일(nextAccrualDate)이 되기 전까지는 바뀌지 않는다.
+ * 일 배치는 다음 발생일이 지난 행만 다시 계산하고, 휴가 사용/취소는 그 직원 행의 사용 일수만 고친다.
+ * 새 연차 기간이 시작되면 지난 기간의 미사용 연차는 소멸한다.
+ * 행 생성과 일 배치 갱신은 JDBC 로 한다. (중복 생성 없이 여러 경로에서 만들 수 있도록)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "leave_balances", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_leave_balances_employee", columnNames = "employee_id")
+}, indexes = {
+        // 일 배치: 발생일이 지난 직원만 조회
+        @Index(name = "idx_leave_balances_next_accrual", columnList = "next_accrual_date")
+})
+public class LeaveBalance {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 직원 ID (employee.id)
+     */
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    // 현재 연차 기간 (입사 1년 미만은 입사일 ~ 1년, 이후는 입사 기념일 ~ 다음 기념일 전날)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "accrued_days", nullable = false)
+    private double accruedDays; // 현재 기간 발생 일수
+
+    @Column(name = "used_days", nullable = false)
+    private double usedDays; // 현재 기간 사용 일수 (반차 0.5)
+
+    @Column(name = "next_accrual_date", nullable = false)
+    private LocalDate nextAccrualDate; // 이 날부터 발생 일수가 바뀐다
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public LeaveBalance(Long employeeId, LocalDate periodStart, LocalDate periodEnd, double accruedDays,
+            LocalDate nextAccrualDate) {
+        this.employeeId = employeeId;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.accruedDays = accruedDays;
+        this.usedDays = 0;
+        this.nextAccrualDate = nextAccrualDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public double getRemainingDays() {
+        return accruedDays - usedDays;
+    }
+
+    public boolean isDue(LocalDate today) {
+        return !nextAccrualDate.isAfter(today);
+    }
+
+    /**
+     * 발생 일수 갱신 (다른 연차 기간으로 넘어가면 사용 일수를 0으로)
+     */
+    public void accrue(LocalDate periodStart, LocalDate periodEnd, double accruedDays, LocalDate nextAccrualDate) {
+        if (!periodStart.equals(this.periodStart)) {
+            this.usedDays = 0;
+        }
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.accruedDays = accruedDays;
+        this.nextAccrualDate = nextAccrualDate;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void use(double days) {
+        if (days > getRemainingDays()) {
+            throw new IllegalArgumentException("잔여 연차가 부족합니다. (잔여 " + getRemainingDays() + "일)");
+        }
+        this.usedDays += days;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void restore(double days) {
+        this.usedDays = Math.max(0, usedDays - days);
+        this.updatedAt = LocalDateTime.now();
+    }
+}
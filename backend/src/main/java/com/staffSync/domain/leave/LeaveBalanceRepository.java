@@ -0,0 +1,25 @@
+package com.staffSync.domain.leave;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, Long> {
+
+    Optional<LeaveBalance> findByEmployeeId(Long employeeId);
+
+    // 휴가 사용/취소: 일 배치 갱신과 겹치지 않도록 직원 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM LeaveBalance b WHERE b.employeeId = :employeeId")
+    Optional<LeaveBalance> findForUpdate(@Param("employeeId") Long employeeId);
+
+    @Modifying
+    @Query("DELETE FROM LeaveBalance b WHERE b.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+}
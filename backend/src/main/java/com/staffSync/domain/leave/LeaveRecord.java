@@ -0,0 +1,64 @@
+package com.staffSync.domain.leave;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 휴가 사용 내역 (연차 차감분)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "leave_records", indexes = {
+        @Index(name = "idx_leave_records_employee", columnList = "employee_id, start_date")
+})
+public class LeaveRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 직원 ID (employee.id)
+     */
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private double days; // 차감 일수 (주말 제외, 반차 0.5)
+
+    @Column(length = 100)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public LeaveRecord(Long employeeId, LocalDate startDate, LocalDate endDate, double days, String reason) {
+        if (reason != null && reason.length() > 100) {
+            throw new IllegalArgumentException("사유는 100자 이하여야 합니다.");
+        }
+        this.employeeId = employeeId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.days = days;
+        this.reason = reason;
+        this.createdAt = LocalDateTime.now();
+    }
+}
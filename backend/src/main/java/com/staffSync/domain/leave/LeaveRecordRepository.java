@@ -0,0 +1,22 @@
+package com.staffSync.domain.leave;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LeaveRecordRepository extends JpaRepository<LeaveRecord, Long> {
+
+    List<LeaveRecord> findByEmployeeIdOrderByStartDateDesc(Long employeeId);
+
+    // 기간이 겹치는 휴가 존재 여부 (시작 <= to 이고 종료 >= from)
+    boolean existsByEmployeeIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(Long employeeId, LocalDate to,
+            LocalDate from);
+
+    @Modifying
+    @Query("DELETE FROM LeaveRecord r WHERE r.employeeId = :employeeId")
+    int deleteByEmployeeId(@Param("employeeId") Long employeeId);
+}
@@ -0,0 +1,72 @@
+package com.staffSync.domain.payroll;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 급여 계산 결과 (실행 x 직원 한 행, 금액은 원 단위)
+ * 계산 엔진이 JDBC 배치로만 기록하므로 엔티티는 조회용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payroll_lines", uniqueConstraints = {
+        // 청크 재처리 시 같은 직원이 두 번 들어가지 않도록 + 실행별 직원 순 조회
+        @UniqueConstraint(name = "uk_payroll_lines_run_employee", columnNames = { "run_id", "employee_id" })
+})
+public class PayrollLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    /**
+     * 직원 ID (employee.id)
+     */
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    /**
+     * 계산 시점의 사원번호
+     */
+    @Column(name = "employee_number", nullable = false, length = 20)
+    private String employeeNumber;
+
+    @Column(name = "gross_pay", nullable = false)
+    private Long grossPay; // 월 지급액
+
+    @Column(name = "national_pension", nullable = false)
+    private Long nationalPension; // 국민연금
+
+    @Column(name = "health_insurance", nullable = false)
+    private Long healthInsurance; // 건강보험
+
+    @Column(name = "long_term_care", nullable = false)
+    private Long longTermCare; // 장기요양보험
+
+    @Column(name = "employment_insurance", nullable = false)
+    private Long employmentInsurance; // 고용보험
+
+    @Column(name = "income_tax", nullable = false)
+    private Long incomeTax; // 소득세
+
+    @Column(name = "local_income_tax", nullable = false)
+    private Long localIncomeTax; // 지방소득세
+
+    @Column(name = "total_deductions", nullable = false)
+    private Long totalDeductions; // 공제 합계
+
+    @Column(name = "net_pay", nullable = false)
+    private Long netPay; // 실지급액
+}
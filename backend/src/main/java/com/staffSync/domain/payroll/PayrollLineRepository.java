@@ -0,0 +1,20 @@
+package com.staffSync.domain.payroll;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PayrollLineRepository extends JpaRepository<PayrollLine, Long> {
+
+    /**
+     * 실행의 급여 명세 (직원 id 순 키셋 페이지)
+     *
+     * @param runId           실행 ID
+     * @param afterEmployeeId 이전 페이지 마지막 직원 id (미포함)
+     * @param limit           최대 건수
+     * @return 급여 명세 목록
+     */
+    List<PayrollLine> findByRunIdAndEmployeeIdGreaterThanOrderByEmployeeId(Long runId, Long afterEmployeeId,
+            Limit limit);
+}
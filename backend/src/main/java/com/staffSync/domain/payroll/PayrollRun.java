@@ -0,0 +1,107 @@
+package com.staffSync.domain.payroll;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 월 급여 계산 실행
+ *
+ * 직원을 id 순 청크로 나눠 병렬 계산하며, 앞쪽부터 빠짐없이 저장된 마지막 직원 id 를 체크포인트로 남긴다.
+ * 실패/중단된 실행은 체크포인트 다음 직원부터 재개한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "payroll_runs")
+public class PayrollRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 급여 월 (yyyy-MM, 월마다 한 번)
+     */
+    @Column(name = "pay_month", nullable = false, unique = true, length = 7)
+    private String payMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PayrollRunStatus status;
+
+    /**
+     * 체크포인트: 이 id 이하 직원은 모두 저장됨
+     */
+    @Column(name = "checkpoint_employee_id", nullable = false)
+    private Long checkpointEmployeeId;
+
+    /**
+     * 체크포인트까지 처리한 직원 수
+     */
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    // 완료 시 합계 (원)
+    @Column(name = "employee_count")
+    private Long employeeCount;
+
+    @Column(name = "total_gross")
+    private Long totalGross;
+
+    @Column(name = "total_deductions")
+    private Long totalDeductions;
+
+    @Column(name = "total_net")
+    private Long totalNet;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public PayrollRun(String payMonth) {
+        this.payMonth = payMonth;
+        this.status = PayrollRunStatus.RUNNING;
+        this.checkpointEmployeeId = 0L;
+        this.processedCount = 0L;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // 실패/중단된 실행 재개
+    public void resume() {
+        if (status != PayrollRunStatus.FAILED) {
+            throw new IllegalArgumentException("실패하거나 중단된 급여 계산만 재개할 수 있습니다.");
+        }
+        this.status = PayrollRunStatus.RUNNING;
+        this.failureReason = null;
+    }
+
+    public void complete(long employeeCount, long totalGross, long totalDeductions, long totalNet) {
+        this.status = PayrollRunStatus.COMPLETED;
+        this.employeeCount = employeeCount;
+        this.totalGross = totalGross;
+        this.totalDeductions = totalDeductions;
+        this.totalNet = totalNet;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = PayrollRunStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+}
@@ -0,0 +1,15 @@
+package com.staffSync.domain.payroll;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, Long> {
+
+    Optional<PayrollRun> findByPayMonth(String payMonth);
+
+    List<PayrollRun> findByStatus(PayrollRunStatus status);
+
+    List<PayrollRun> findAllByOrderByPayMonthDesc();
+}
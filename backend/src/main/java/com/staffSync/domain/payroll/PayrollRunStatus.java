@@ -0,0 +1,7 @@
+package com.staffSync.domain.payroll;
+
+public enum PayrollRunStatus {
+    RUNNING, // 계산 중
+    COMPLETED, // 완료
+    FAILED; // 실패/중단 (체크포인트부터 재개 가능)
+}
@@ -2,23 +2,42 @@ package com.staffSync.domain.product;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.staffSync.domain.sync.ChangeTracked;
+import com.staffSync.domain.sync.ChangeTrackingListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@DynamicUpdate // 바뀐 컬럼만 UPDATE (상품 정보 수정이 재고/예약/창고 배치 수량을 이전 값으로 덮어쓰지 않도록)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "products")
-public class Product {
+@Table(name = "products", indexes = {
+        // 키셋 페이지 정렬용 복합 인덱스 (정렬 컬럼, id)
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_price_id", columnList = "price, id"),
+        @Index(name = "idx_products_quantity_id", columnList = "quantity, id"),
+        @Index(name = "idx_products_updated_at_id", columnList = "updated_at, id"),
+        // 재고 부족 조회 / 상태별 개수
+        @Index(name = "idx_products_status", columnList = "status"),
+        // 변경분 동기화
+        @Index(name = "idx_products_change_seq", columnList = "change_seq")
+})
+@EntityListeners(ChangeTrackingListener.class)
+public class Product implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +52,12 @@ public class Product {
     @Column(nullable = false)
     private Integer quantity; // 현재 재고 수량
 
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity = 0; // 예약(홀드)된 수량 - 판매 가능 수량 = quantity - reservedQuantity
+
+    @Column(name = "allocated_quantity", nullable = false)
+    private Integer allocatedQuantity = 0; // 창고(StockLocation)에 배치된 수량 합계 - 나머지는 창고 미지정 재고
+
     @Column(nullable = false)
     private Integer minStockLevel; // 최소 재고 수량
 
@@ -48,6 +73,9 @@ public class Product {
 
     private LocalDateTime updatedAt;
 
+    @Column(name = "change_seq")
+    private Long changeSeq; // 전역 변경 순번 (변경분 동기화 커서)
+
     // 생성자
     public Product(String name, String category, Integer quantity, Integer minStockLevel, Double price) {
 
@@ -81,23 +109,126 @@ public class Product {
         if (amount <= 0) {
             throw new IllegalArgumentException("재고 차감 수량은 0보다 커야 합니다.");
         }
-        if (this.quantity < amount) {
+        if (getAvailableQuantity() < amount) {
+            throw new IllegalArgumentException("재고가 부족합니다."); // 예약된 수량은 차감할 수 없음
+        }
+        if (freeUnallocatedQuantity() < amount) {
+            throw new IllegalArgumentException("창고 미지정 재고가 부족합니다. 창고를 지정해 차감하세요.");
+        }
+        this.quantity -= amount;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 재고 예약 (수량은 그대로, 판매 가능 수량만 줄어든다)
+    // 예약은 창고 미지정 재고에서만 잡는다 (예약 수량 <= 창고 미지정 재고를 항상 유지해 확정 시 창고 재고를 건드리지 않음)
+    public void reserve(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("예약 수량은 0보다 커야 합니다.");
+        }
+        if (getAvailableQuantity() < amount) {
+            throw new IllegalArgumentException("예약 가능한 재고가 부족합니다.");
+        }
+        if (freeUnallocatedQuantity() < amount) {
+            throw new IllegalArgumentException("창고 미지정 재고가 부족해 예약할 수 없습니다.");
+        }
+        this.reservedQuantity += amount;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 예약 확정 (예약 수량만큼 실제 재고 차감)
+    public void confirmReservation(int amount) {
+        if (amount <= 0 || this.reservedQuantity < amount) {
+            throw new IllegalArgumentException("확정할 예약 수량이 올바르지 않습니다.");
+        }
+        if (getUnallocatedQuantity() < amount) {
+            throw new IllegalArgumentException("창고 미지정 재고가 부족해 예약을 확정할 수 없습니다.");
+        }
+        this.reservedQuantity -= amount;
+        this.quantity -= amount;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 예약 해제 (취소/만료)
+    public void releaseReservation(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("해제할 예약 수량은 0보다 커야 합니다.");
+        }
+        this.reservedQuantity = Math.max(0, this.reservedQuantity - amount);
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고 입고 (전체 재고와 창고 배치 수량이 함께 늘어난다)
+    public void addLocationStock(int amount) {
+        addStock(amount);
+        this.allocatedQuantity += amount;
+    }
+
+    // 창고 출고 (창고 재고 확인은 StockLocation 에서, 여기서는 예약분 보호만 확인)
+    public void reduceLocationStock(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("재고 차감 수량은 0보다 커야 합니다.");
+        }
+        if (getAvailableQuantity() < amount) {
             throw new IllegalArgumentException("재고가 부족합니다.");
         }
+        if (this.allocatedQuantity < amount) {
+            throw new IllegalArgumentException("창고에 배치된 재고가 부족합니다.");
+        }
         this.quantity -= amount;
+        this.allocatedQuantity -= amount;
         this.status = calculateStatus();
         this.updatedAt = LocalDateTime.now();
     }
 
-    // 재고 상태 계산
-    private StockStatus calculateStatus() {
-        if (this.quantity == 0) {
-            return StockStatus.OUT_OF_STOCK;
-        } else if (this.quantity <= this.minStockLevel) {
-            return StockStatus.LOW_STOCK;
-        } else {
-            return StockStatus.IN_STOCK;
+    // 창고 미지정 재고를 창고로 배치 (전체 재고는 그대로, 예약된 수량은 옮길 수 없음)
+    public void allocate(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("이동 수량은 0보다 커야 합니다.");
         }
+        if (freeUnallocatedQuantity() < amount) {
+            throw new IllegalArgumentException("창고 미지정 재고가 부족합니다.");
+        }
+        this.allocatedQuantity += amount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고 재고를 창고 미지정 재고로 되돌림 (전체 재고는 그대로)
+    public void deallocate(int amount) {
+        if (amount <= 0 || this.allocatedQuantity < amount) {
+            throw new IllegalArgumentException("창고에 배치된 재고가 부족합니다.");
+        }
+        this.allocatedQuantity -= amount;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고 미지정 재고 (현재 재고 - 창고 배치 수량)
+    public int getUnallocatedQuantity() {
+        return this.quantity - this.allocatedQuantity;
+    }
+
+    // 예약되지 않은 창고 미지정 재고 (창고 미지정 재고 - 예약 수량)
+    private int freeUnallocatedQuantity() {
+        return getUnallocatedQuantity() - this.reservedQuantity;
+    }
+
+    // 판매 가능 수량 (현재 재고 - 예약 수량)
+    public int getAvailableQuantity() {
+        return this.quantity - this.reservedQuantity;
+    }
+
+    // 변경 순번 기록 (ChangeTrackingListener)
+    @Override
+    public void assignChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    // 재고 상태 계산 (예약된 수량을 뺀 판매 가능 수량 기준)
+    private StockStatus calculateStatus() {
+        return StockStatus.of(getAvailableQuantity(), this.minStockLevel);
     }
 
     // 상품 정보 업데이트
@@ -1,11 +1,28 @@
 package com.staffSync.domain.product;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
 
     /**
      * @findBy SELECT 쿼리 생성
@@ -14,16 +31,86 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @IgnoreCase 대소문자 구분 없음
      */
 
+    // 키셋(커서) 페이지 조회 - 정렬 컬럼 + id 복합 인덱스 사용, OFFSET 없음
+    Window<Product> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // 전체 상품 스트리밍 (내보내기용) - 전방 전용 커서 + JDBC fetch size, 읽기 전용
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<Product> streamAllByOrderByIdAsc();
+
+    /*
+     * 재고 원자적 증감 (단일 UPDATE, 읽기-수정-쓰기 경쟁 없음)
+     * status 를 quantity 보다 먼저 SET 해야 MySQL 처럼 왼쪽부터 값을 반영하는 DB에서도
+     * CASE 식이 변경 전 quantity 를 기준으로 계산된다. (StockStatus.of 와 같은 규칙, 예약 수량을 뺀 판매 가능 수량 기준)
+     * 엔티티 콜백을 거치지 않으므로 변경 순번(changeSeq)은 호출하는 쪽에서 발급해 넘긴다.
+     * 반환값: 변경된 행 수 (0이면 상품 없음 또는 재고 부족)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET "
+            + "p.status = CASE "
+            + "WHEN p.quantity + :amount - p.reservedQuantity = 0 THEN com.staffSync.domain.product.StockStatus.OUT_OF_STOCK "
+            + "WHEN p.quantity + :amount - p.reservedQuantity <= p.minStockLevel THEN com.staffSync.domain.product.StockStatus.LOW_STOCK "
+            + "ELSE com.staffSync.domain.product.StockStatus.IN_STOCK END, "
+            + "p.quantity = p.quantity + :amount, "
+            + "p.updatedAt = :now, "
+            + "p.changeSeq = :changeSeq "
+            + "WHERE p.id = :id")
+    int increaseStock(@Param("id") Long id, @Param("amount") int amount, @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    // 예약되지 않은 창고 미지정 재고가 충분할 때만 차감 (Product.reducetStock 과 같은 조건)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET "
+            + "p.status = CASE "
+            + "WHEN p.quantity - :amount - p.reservedQuantity = 0 THEN com.staffSync.domain.product.StockStatus.OUT_OF_STOCK "
+            + "WHEN p.quantity - :amount - p.reservedQuantity <= p.minStockLevel THEN com.staffSync.domain.product.StockStatus.LOW_STOCK "
+            + "ELSE com.staffSync.domain.product.StockStatus.IN_STOCK END, "
+            + "p.quantity = p.quantity - :amount, "
+            + "p.updatedAt = :now, "
+            + "p.changeSeq = :changeSeq "
+            + "WHERE p.id = :id AND p.quantity - p.allocatedQuantity - p.reservedQuantity >= :amount")
+    int decreaseStock(@Param("id") Long id, @Param("amount") int amount, @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    // 상품 정보 수정: 한 행을 잠금 조회 (재고 변경과 읽기-수정-쓰기가 겹치지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    // 재고 명령 레인/일괄 조정: 대상 상품을 id 순서로 잠금 조회 (교착 없이 트랜잭션 안에서만 잠금 유지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllForUpdate(@Param("ids") Collection<Long> ids);
+
     // 카테고리별 조회
     List<Product> findByCategory(String category);
 
     // 재고 상태별 조회
     List<Product> findByStatus(StockStatus status);
 
-    // 재고 부족 상품 조회
-    @Query("SELECT p FROM Product p WHERE p.quantity <= p.minStockLevel")
+    /*
+     * 재고 부족 상품 조회
+     * 판매 가능 수량(quantity - reservedQuantity) <= minStockLevel 은 모든 변경 경로에서 유지되는
+     * status(LOW_STOCK, OUT_OF_STOCK)와 같으므로 컬럼 간 비교 대신 status 인덱스로 결과 건수만큼만 읽는다.
+     * 정렬: 판매 가능 수량 기준 재고 충족률((quantity - reservedQuantity) / minStockLevel)이 낮은 순 = 가장 위급한 순
+     *       (상태와 같은 기준이어야 예약으로 품절된 상품이 목록 뒤로 밀리지 않는다)
+     */
+    String LOW_STOCK_QUERY = "SELECT p FROM Product p "
+            + "WHERE p.status IN (com.staffSync.domain.product.StockStatus.LOW_STOCK, "
+            + "com.staffSync.domain.product.StockStatus.OUT_OF_STOCK) "
+            + "ORDER BY CASE WHEN p.minStockLevel = 0 THEN 0.0 "
+            + "ELSE (p.quantity - p.reservedQuantity) * 1.0 / p.minStockLevel END, p.id";
+
+    @Query(LOW_STOCK_QUERY)
     List<Product> findLowStockProducts();
 
+    // 가장 위급한 재고 부족 상품 상위 N개
+    @Query(LOW_STOCK_QUERY)
+    List<Product> findLowStockProducts(Pageable pageable);
+
     // 품절 상품 개수
     long countByStatus(StockStatus status);
 
@@ -31,6 +118,17 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p.category, SUM(p.quantity) FROM Product p GROUP BY p.category")
     List<Object[]> getStockByCategory();
 
+    // 카테고리 x 재고 상태별 요약 (대시보드 집계 초기화/정합성 점검용)
+    // 변경 순번이 경계(watermark) 이하인 상품만 (경계 이후 바뀐 상품은 findChanges 로 행마다 읽는다)
+    @Query("SELECT new com.staffSync.domain.product.ProductStockSummary("
+            + "p.category, p.status, COUNT(p), SUM(p.quantity), SUM(p.price * p.quantity)) "
+            + "FROM Product p WHERE p.changeSeq IS NULL OR p.changeSeq <= :watermark GROUP BY p.category, p.status")
+    List<ProductStockSummary> summarizeStock(@Param("watermark") long watermark);
+
     // 상품명 검색 (대소문자 구분 없음)
     List<Product> findByNameContainingIgnoreCase(String keyword);
+
+    // 변경분 동기화: (since, until] 구간에서 바뀐 상품 (change_seq 순)
+    @Query("SELECT p FROM Product p WHERE p.changeSeq > :since AND p.changeSeq <= :until ORDER BY p.changeSeq")
+    List<Product> findChanges(@Param("since") long since, @Param("until") long until, Limit limit);
 }
@@ -0,0 +1,38 @@
+package com.staffSync.domain.product;
+
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * 상품 목록 필터용 Specification 모음
+ * 값이 null 인 조건은 적용하지 않으므로 필요한 조건만 골라 and 로 조합한다.
+ */
+public final class ProductSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ProductSpecifications() {
+    }
+
+    // 카테고리 일치
+    public static Specification<Product> categoryEquals(String category) {
+        return (root, query, cb) -> category == null ? null : cb.equal(root.get("category"), category);
+    }
+
+    // 이름 포함 (대소문자 구분 없음)
+    public static Specification<Product> nameContains(String keyword) {
+        return (root, query, cb) -> keyword == null || keyword.isEmpty()
+                ? null
+                : cb.like(cb.lower(root.get("name")), "%" + escapeLike(keyword.toLowerCase()) + "%", LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
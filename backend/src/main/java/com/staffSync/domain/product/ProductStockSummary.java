@@ -0,0 +1,19 @@
+package com.staffSync.domain.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카테고리 x 재고 상태 단위로 집계된 재고 요약
+ * (ProductRepository.summarizeStock 의 JPQL 생성자 표현식 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class ProductStockSummary {
+
+    private String category; // 카테고리명
+    private StockStatus status; // 재고 상태
+    private Long productCount; // 상품 수
+    private Long totalQuantity; // 재고 수량 합계
+    private Double totalValue; // 재고 가치 합계 (가격 * 수량)
+}
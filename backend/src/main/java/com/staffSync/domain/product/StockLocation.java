@@ -0,0 +1,117 @@
+package com.staffSync.domain.product;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 창고별 재고 (상품 x 창고)
+ * 상품의 quantity 는 창고별 수량의 합(+ 창고 미지정 재고)으로 유지되는 집계 값이므로
+ * 창고 재고 변경은 항상 상품 재고 변경과 같은 트랜잭션(재고 명령 레인)에서 이뤄진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_locations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_locations_product_warehouse", columnNames = { "product_id", "warehouse" })
+}, indexes = {
+        // 창고별 재고 부족 조회 / 창고별 집계
+        @Index(name = "idx_stock_locations_warehouse_status", columnList = "warehouse, status"),
+        // 창고 집계 스냅샷 경계 이후 변경 조회
+        @Index(name = "idx_stock_locations_change_seq", columnList = "change_seq")
+})
+public class StockLocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(nullable = false, updatable = false, length = 50)
+    private String warehouse; // 창고 코드
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Integer minStockLevel; // 창고별 최소 재고 수량
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private StockStatus status;
+
+    private LocalDateTime updatedAt;
+
+    @Column(name = "change_seq")
+    private Long changeSeq; // 전역 변경 순번 (창고 집계가 스냅샷에 담긴 변경을 가려내는 기준)
+
+    public StockLocation(Long productId, String warehouse, Integer minStockLevel) {
+        validateMinStockLevel(minStockLevel);
+        this.productId = productId;
+        this.warehouse = warehouse;
+        this.quantity = 0;
+        this.minStockLevel = minStockLevel;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고 재고 추가
+    public void addStock(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("재고 추가 수량은 0보다 커야 합니다.");
+        }
+        this.quantity += amount;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고 재고 차감
+    public void reduceStock(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("재고 차감 수량은 0보다 커야 합니다.");
+        }
+        if (this.quantity < amount) {
+            throw new IllegalArgumentException("창고 재고가 부족합니다. (" + warehouse + ")");
+        }
+        this.quantity -= amount;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 창고별 최소 재고 수량 변경
+    public void updateMinStockLevel(Integer minStockLevel) {
+        validateMinStockLevel(minStockLevel);
+        this.minStockLevel = minStockLevel;
+        this.status = calculateStatus();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 변경 순번 기록 (창고 재고를 바꾸는 재고 명령마다)
+    public void assignChangeSeq(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
+    private StockStatus calculateStatus() {
+        return StockStatus.of(this.quantity, this.minStockLevel);
+    }
+
+    private void validateMinStockLevel(Integer minStockLevel) {
+        if (minStockLevel == null || minStockLevel < 0) {
+            throw new IllegalArgumentException("최소 재고 수량을 0 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.staffSync.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockLocationRepository extends JpaRepository<StockLocation, Long> {
+
+    Optional<StockLocation> findByProductIdAndWarehouse(Long productId, String warehouse);
+
+    // 상품의 창고별 재고
+    List<StockLocation> findByProductIdOrderByWarehouse(Long productId);
+
+    // 창고의 재고 부족 상품 (창고별 최소 재고 기준)
+    @Query("SELECT l FROM StockLocation l WHERE l.warehouse = :warehouse "
+            + "AND l.status IN (com.staffSync.domain.product.StockStatus.LOW_STOCK, "
+            + "com.staffSync.domain.product.StockStatus.OUT_OF_STOCK) "
+            + "ORDER BY l.quantity, l.id")
+    List<StockLocation> findLowStock(@Param("warehouse") String warehouse);
+
+    // 창고 x 재고 상태별 요약 (창고 집계 초기화/정합성 점검용)
+    // 변경 순번이 경계(watermark) 이하인 창고 재고만 (경계 이후 바뀐 행은 findChanges 로 행마다 읽는다)
+    @Query("SELECT new com.staffSync.domain.product.WarehouseStockSummary("
+            + "l.warehouse, l.status, COUNT(l), SUM(l.quantity)) "
+            + "FROM StockLocation l WHERE l.changeSeq IS NULL OR l.changeSeq <= :watermark "
+            + "GROUP BY l.warehouse, l.status")
+    List<WarehouseStockSummary> summarizeByWarehouse(@Param("watermark") long watermark);
+
+    // (since, until] 구간에서 바뀐 창고 재고 (change_seq 순)
+    @Query("SELECT l FROM StockLocation l WHERE l.changeSeq > :since AND l.changeSeq <= :until ORDER BY l.changeSeq")
+    List<StockLocation> findChanges(@Param("since") long since, @Param("until") long until, Limit limit);
+
+    // 상품 삭제 시 창고별 재고 삭제
+    @Modifying
+    @Query("DELETE FROM StockLocation l WHERE l.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+}
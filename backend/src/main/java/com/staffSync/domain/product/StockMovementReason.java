@@ -0,0 +1,8 @@
+package com.staffSync.domain.product;
+
+public enum StockMovementReason {
+    CREATED, // 상품 등록 (초기 재고)
+    INCREASE, // 재고 추가
+    DECREASE, // 재고 차감
+    DELETED // 상품 삭제 (남은 재고 소멸)
+}
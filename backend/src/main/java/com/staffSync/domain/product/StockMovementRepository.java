@@ -0,0 +1,33 @@
+package com.staffSync.domain.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
+
+    // 기간 내 변동 합계 (from 초과 ~ to 이하)
+    @Query("SELECT COALESCE(SUM(m.delta), 0) FROM StockMovement m "
+            + "WHERE m.productId = :productId AND m.occurredAt > :from AND m.occurredAt <= :to")
+    long sumDelta(@Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // 기간 내 변동 목록 (시간순)
+    @Query("SELECT m FROM StockMovement m "
+            + "WHERE m.productId = :productId AND m.occurredAt > :from AND m.occurredAt <= :to "
+            + "ORDER BY m.occurredAt, m.id")
+    List<StockMovement> findMovements(@Param("productId") Long productId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // 기간 내 변동이 있었던 상품 ID
+    @Query("SELECT DISTINCT m.productId FROM StockMovement m WHERE m.occurredAt > :from AND m.occurredAt <= :to")
+    List<Long> findChangedProductIds(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 특정 시점 이전 기록 존재 여부
+    boolean existsByProductIdAndOccurredAtLessThanEqual(Long productId, LocalDateTime occurredAt);
+}
@@ -0,0 +1,6 @@
+package com.staffSync.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface StockReservationRepository extends JpaRepository<StockReservation, String> {
+}
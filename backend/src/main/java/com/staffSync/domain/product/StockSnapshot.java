@@ -0,0 +1,46 @@
+package com.staffSync.domain.product;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 재고 스냅샷
+ * 특정 시점(takenAt)의 재고로, 시점 조회 시 원장 재생(replay)의 시작점이 된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stock_snapshots", indexes = {
+        @Index(name = "idx_stock_snapshots_product_taken", columnList = "product_id, taken_at")
+})
+public class StockSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false, updatable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false, updatable = false)
+    private Long quantity; // takenAt 시점 재고
+
+    @Column(name = "taken_at", nullable = false, updatable = false)
+    private LocalDateTime takenAt;
+
+    public StockSnapshot(Long productId, Long quantity, LocalDateTime takenAt) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.takenAt = takenAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.staffSync.domain.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface StockSnapshotRepository extends JpaRepository<StockSnapshot, Long> {
+
+    // 특정 시점 이전의 가장 가까운 스냅샷
+    Optional<StockSnapshot> findTopByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(
+            Long productId, LocalDateTime takenAt);
+
+    // 스냅샷이 하나라도 있는 상품 ID
+    @Query("SELECT DISTINCT s.productId FROM StockSnapshot s")
+    List<Long> findSnapshotProductIds();
+
+    // 가장 최근 스냅샷 시각
+    @Query("SELECT MAX(s.takenAt) FROM StockSnapshot s")
+    Optional<LocalDateTime> findLatestTakenAt();
+}
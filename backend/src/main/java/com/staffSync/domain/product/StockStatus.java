@@ -3,5 +3,17 @@ package com.staffSync.domain.product;
 public enum StockStatus {
     IN_STOCK, // 재고 충분
     LOW_STOCK, // 재고 부족
-    OUT_OF_STOCK // 품절
+    OUT_OF_STOCK; // 품절
+
+    // 수량과 최소 재고 수준으로 재고 상태 계산
+    // (ProductRepository 의 재고 UPDATE 쿼리 CASE 식과 같은 규칙)
+    public static StockStatus of(int quantity, int minStockLevel) {
+        if (quantity == 0) {
+            return OUT_OF_STOCK;
+        } else if (quantity <= minStockLevel) {
+            return LOW_STOCK;
+        } else {
+            return IN_STOCK;
+        }
+    }
 }
@@ -0,0 +1,18 @@
+package com.staffSync.domain.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 창고 x 재고 상태 단위로 집계된 창고 재고 요약
+ * (StockLocationRepository.summarizeByWarehouse 의 JPQL 생성자 표현식 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class WarehouseStockSummary {
+
+    private String warehouse; // 창고 코드
+    private StockStatus status; // 재고 상태
+    private Long locationCount; // 상품 수
+    private Long totalQuantity; // 재고 수량 합계
+}
@@ -0,0 +1,62 @@
+package com.staffSync.domain.schedule;
+
+import java.time.DayOfWeek;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부서별 필요 인원 (부서 x 요일 x 근무 형태)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "coverage_requirements", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_coverage_department_shift_day",
+                columnNames = { "department", "shift_template_id", "day_of_week" })
+})
+public class CoverageRequirement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String department;
+
+    @Column(name = "shift_template_id", nullable = false)
+    private Long shiftTemplateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "required_count", nullable = false)
+    private int requiredCount;
+
+    public CoverageRequirement(String department, Long shiftTemplateId, DayOfWeek dayOfWeek, int requiredCount) {
+        if (department == null || department.isBlank()) {
+            throw new IllegalArgumentException("부서는 필수입니다.");
+        }
+        if (shiftTemplateId == null || dayOfWeek == null) {
+            throw new IllegalArgumentException("근무 형태와 요일은 필수입니다.");
+        }
+        if (requiredCount < 1) {
+            throw new IllegalArgumentException("필요 인원은 1명 이상이어야 합니다.");
+        }
+        this.department = department.trim();
+        this.shiftTemplateId = shiftTemplateId;
+        this.dayOfWeek = dayOfWeek;
+        this.requiredCount = requiredCount;
+    }
+}
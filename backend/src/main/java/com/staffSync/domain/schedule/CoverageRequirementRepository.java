@@ -0,0 +1,25 @@
+package com.staffSync.domain.schedule;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CoverageRequirementRepository extends JpaRepository<CoverageRequirement, Long> {
+
+    List<CoverageRequirement> findByDepartmentOrderByDayOfWeekAscShiftTemplateIdAsc(String department);
+
+    List<CoverageRequirement> findByDepartmentIn(Collection<String> departments);
+
+    @Query("SELECT DISTINCT c.department FROM CoverageRequirement c ORDER BY c.department")
+    List<String> findDepartments();
+
+    boolean existsByShiftTemplateId(Long shiftTemplateId);
+
+    @Modifying
+    @Query("DELETE FROM CoverageRequirement c WHERE c.department = :department")
+    int deleteByDepartment(@Param("department") String department);
+}
@@ -0,0 +1,63 @@
+package com.staffSync.domain.schedule;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직원 근무 불가 (휴가, 교육 등)
+ * 근무 형태를 지정하면 그 근무만, 비워 두면 그날 전체 근무에 배정하지 않는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "employee_unavailability", indexes = {
+        @Index(name = "idx_unavailability_date", columnList = "work_date"),
+        @Index(name = "idx_unavailability_employee", columnList = "employee_id, work_date")
+})
+public class EmployeeUnavailability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 직원 ID (employee.id)
+     */
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    /**
+     * 근무 형태 ID (null 이면 하루 전체)
+     */
+    @Column(name = "shift_template_id")
+    private Long shiftTemplateId;
+
+    @Column(length = 100)
+    private String reason;
+
+    public EmployeeUnavailability(Long employeeId, LocalDate workDate, Long shiftTemplateId, String reason) {
+        if (employeeId == null || workDate == null) {
+            throw new IllegalArgumentException("직원과 날짜는 필수입니다.");
+        }
+        if (reason != null && reason.length() > 100) {
+            throw new IllegalArgumentException("사유는 100자 이하여야 합니다.");
+        }
+        this.employeeId = employeeId;
+        this.workDate = workDate;
+        this.shiftTemplateId = shiftTemplateId;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,13 @@
+package com.staffSync.domain.schedule;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmployeeUnavailabilityRepository extends JpaRepository<EmployeeUnavailability, Long> {
+
+    List<EmployeeUnavailability> findByWorkDateBetween(LocalDate from, LocalDate to);
+
+    List<EmployeeUnavailability> findByEmployeeIdOrderByWorkDateAsc(Long employeeId);
+}
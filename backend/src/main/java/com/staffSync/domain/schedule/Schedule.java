@@ -0,0 +1,96 @@
+package com.staffSync.domain.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 근무표 (시작일부터 weeks 주, 부서별로 따로 풀어 합친 결과)
+ *
+ * hardPenalty 는 필수 조건(필요 인원 미배정, 근무 불가, 하루 중복, 휴식 시간, 주당 최대 근무) 위반 수,
+ * softPenalty 는 직원 간 근무 횟수 편차(근무 횟수 제곱합)다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "schedules")
+public class Schedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private int weeks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ScheduleStatus status;
+
+    // 완료 시 요약
+    @Column(name = "department_count")
+    private Integer departmentCount;
+
+    @Column(name = "slot_count")
+    private Long slotCount; // 배정해야 하는 자리 수 (필요 인원 합계)
+
+    @Column(name = "uncovered_count")
+    private Long uncoveredCount; // 배정하지 못한 자리 수
+
+    @Column(name = "hard_penalty")
+    private Long hardPenalty;
+
+    @Column(name = "soft_penalty")
+    private Long softPenalty;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public Schedule(LocalDate startDate, int weeks) {
+        this.startDate = startDate;
+        this.weeks = weeks;
+        this.status = ScheduleStatus.SOLVING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusWeeks(weeks).minusDays(1);
+    }
+
+    public void complete(int departmentCount, long slotCount, long uncoveredCount, long hardPenalty,
+            long softPenalty) {
+        this.status = ScheduleStatus.SOLVED;
+        this.departmentCount = departmentCount;
+        this.slotCount = slotCount;
+        this.uncoveredCount = uncoveredCount;
+        this.hardPenalty = hardPenalty;
+        this.softPenalty = softPenalty;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String reason) {
+        this.status = ScheduleStatus.FAILED;
+        this.failureReason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+        this.completedAt = LocalDateTime.now();
+    }
+}
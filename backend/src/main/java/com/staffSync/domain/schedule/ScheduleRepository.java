@@ -0,0 +1,12 @@
+package com.staffSync.domain.schedule;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
+
+    List<Schedule> findByStatus(ScheduleStatus status);
+
+    List<Schedule> findAllByOrderByIdDesc();
+}
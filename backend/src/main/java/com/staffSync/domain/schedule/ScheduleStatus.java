@@ -0,0 +1,10 @@
+package com.staffSync.domain.schedule;
+
+/**
+ * 근무표 작성 상태
+ */
+public enum ScheduleStatus {
+    SOLVING, // 작성 중
+    SOLVED, // 완료 (필수 조건 위반이 남았는지는 hardPenalty 로 확인)
+    FAILED // 실패/중단
+}
@@ -0,0 +1,50 @@
+package com.staffSync.domain.schedule;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 근무 배정 (근무표 x 부서 x 날짜 x 근무 형태의 한 자리)
+ * 작성 엔진이 JDBC 배치로만 기록하므로 엔티티는 조회용이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "shift_assignments", indexes = {
+        @Index(name = "idx_shift_assignments_department", columnList = "schedule_id, department, work_date"),
+        @Index(name = "idx_shift_assignments_employee", columnList = "schedule_id, employee_id, work_date")
+})
+public class ShiftAssignment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "schedule_id", nullable = false)
+    private Long scheduleId;
+
+    @Column(nullable = false, length = 50)
+    private String department;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "shift_template_id", nullable = false)
+    private Long shiftTemplateId;
+
+    /**
+     * 직원 ID (employee.id, null 이면 배정하지 못한 자리)
+     */
+    @Column(name = "employee_id")
+    private Long employeeId;
+}
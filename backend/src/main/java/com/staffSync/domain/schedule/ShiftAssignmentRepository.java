@@ -0,0 +1,13 @@
+package com.staffSync.domain.schedule;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShiftAssignmentRepository extends JpaRepository<ShiftAssignment, Long> {
+
+    List<ShiftAssignment> findByScheduleIdAndDepartmentOrderByWorkDateAscShiftTemplateIdAscIdAsc(Long scheduleId,
+            String department);
+
+    List<ShiftAssignment> findByScheduleIdAndEmployeeIdOrderByWorkDateAsc(Long scheduleId, Long employeeId);
+}
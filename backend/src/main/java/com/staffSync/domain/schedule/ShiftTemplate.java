@@ -0,0 +1,72 @@
+package com.staffSync.domain.schedule;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 근무 형태 (예: 주간 09:00 ~ 18:00, 야간 22:00 ~ 07:00)
+ * 종료 시각이 시작 시각보다 이르면 다음 날 끝나는 야간 근무로 본다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "shift_templates")
+public class ShiftTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    public ShiftTemplate(String name, LocalTime startTime, LocalTime endTime) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("근무 형태 이름은 필수입니다.");
+        }
+        if (startTime == null || endTime == null) {
+            throw new IllegalArgumentException("근무 시작/종료 시각은 필수입니다.");
+        }
+        if (startTime.equals(endTime)) {
+            throw new IllegalArgumentException("근무 시작과 종료 시각이 같을 수 없습니다.");
+        }
+        this.name = name.trim();
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // 다음 날 끝나는 근무 여부
+    public boolean isOvernight() {
+        return endTime.isBefore(startTime);
+    }
+
+    // 근무일 0시 기준 시작/종료 (분, 야간 근무의 종료는 1440 이상)
+    public int startMinute() {
+        return startTime.getHour() * 60 + startTime.getMinute();
+    }
+
+    public int endMinute() {
+        int end = endTime.getHour() * 60 + endTime.getMinute();
+        return isOvernight() ? end + 24 * 60 : end;
+    }
+
+    public Duration duration() {
+        return Duration.ofMinutes(endMinute() - startMinute());
+    }
+}
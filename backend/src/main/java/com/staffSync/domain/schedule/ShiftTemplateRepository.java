@@ -0,0 +1,12 @@
+package com.staffSync.domain.schedule;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ShiftTemplateRepository extends JpaRepository<ShiftTemplate, Long> {
+
+    boolean existsByName(String name);
+
+    List<ShiftTemplate> findAllByOrderByStartTimeAsc();
+}
@@ -0,0 +1,17 @@
+package com.staffSync.domain.sync;
+
+/**
+ * 변경 순번 기록 포트
+ * ChangeTrackingListener 가 엔티티 콜백을 넘기면 애플리케이션 계층 구현이 순번 발급과 삭제 기록 저장을 맡는다.
+ */
+public interface ChangeRecorder {
+
+    // 등록/수정 직전: 새 순번 발급
+    void assign(ChangeTracked entity);
+
+    // 등록/수정 반영 후: 행별로 반영된 순번 기록 (등록은 이때 id 가 정해진다)
+    void recordAssigned(ChangeTracked entity);
+
+    // 삭제 직전: 같은 트랜잭션에서 삭제 기록(tombstone) 저장
+    void recordRemoved(ChangeTracked entity);
+}
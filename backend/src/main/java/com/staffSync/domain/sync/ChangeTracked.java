@@ -0,0 +1,14 @@
+package com.staffSync.domain.sync;
+
+/**
+ * 변경 순번(change_seq)을 기록하는 엔티티
+ * 등록/수정 시 전역 단조 증가 순번을 받고, 삭제 시 같은 순번 체계로 삭제 기록(tombstone)을 남긴다.
+ */
+public interface ChangeTracked {
+
+    Long getId();
+
+    Long getChangeSeq();
+
+    void assignChangeSeq(long changeSeq);
+}
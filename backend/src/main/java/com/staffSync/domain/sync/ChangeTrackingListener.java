@@ -0,0 +1,38 @@
+package com.staffSync.domain.sync;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA 엔티티 변경 순번 리스너 (@EntityListeners)
+ * 콜백만 받아 ChangeRecorder 에 넘기므로 엔티티는 도메인 패키지 안의 타입만 참조한다.
+ * 인스턴스는 Hibernate 가 스프링 빈 컨테이너를 통해 생성자 주입으로 만든다.
+ */
+public class ChangeTrackingListener {
+
+    private final ChangeRecorder changeRecorder;
+
+    public ChangeTrackingListener(ChangeRecorder changeRecorder) {
+        this.changeRecorder = changeRecorder;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void assignChangeSeq(Object entity) {
+        changeRecorder.assign((ChangeTracked) entity);
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void recordChangeSeq(Object entity) {
+        changeRecorder.recordAssigned((ChangeTracked) entity);
+    }
+
+    @PreRemove
+    public void recordTombstone(Object entity) {
+        changeRecorder.recordRemoved((ChangeTracked) entity);
+    }
+}
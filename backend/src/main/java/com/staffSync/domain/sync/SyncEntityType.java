@@ -0,0 +1,6 @@
+package com.staffSync.domain.sync;
+
+public enum SyncEntityType {
+    PRODUCT, // 상품
+    EMPLOYEE // 직원
+}
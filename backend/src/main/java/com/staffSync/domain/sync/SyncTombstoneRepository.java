@@ -0,0 +1,15 @@
+package com.staffSync.domain.sync;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // (since, until] 구간의 삭제 기록 (change_seq 순)
+    @Query("SELECT t FROM SyncTombstone t WHERE t.changeSeq > :since AND t.changeSeq <= :until ORDER BY t.changeSeq")
+    List<SyncTombstone> findChanges(@Param("since") long since, @Param("until") long until, Limit limit);
+}
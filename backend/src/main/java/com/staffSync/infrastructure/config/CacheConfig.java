@@ -0,0 +1,32 @@
+package com.staffSync.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.staffSync.application.cache.FencedCacheManager;
+
+/**
+ * 조회 캐시(@Cacheable) 활성화 설정
+ * 캐시 구현(Caffeine, W-TinyLFU 제거 정책)과 크기/TTL 은 spring.cache.* 속성으로 지정한다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 자동 설정된 캐시 매니저를 감싸 무효화와 겹친 조회가 이전 값을 다시 채우지 않게 한다
+    @Bean
+    static BeanPostProcessor fencedCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof FencedCacheManager)) {
+                    return new FencedCacheManager(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import com.staffSync.application.employee.EmployeeIdAllocator;
 import com.staffSync.domain.employee.Employee;
 import com.staffSync.domain.employee.EmployeeRepository;
 
@@ -15,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 public class EmployeeDataInitializer implements CommandLineRunner {
 
         private final EmployeeRepository employeeRepository;
+        private final EmployeeIdAllocator employeeIdAllocator;
 
         @Override
         public void run(String... args) {
@@ -23,22 +25,22 @@ public class EmployeeDataInitializer implements CommandLineRunner {
                         return;
                 }
 
-                // 샘플 데이터 추가
+                // 샘플 데이터 추가 (사원번호는 발급기로 부여해 이후 등록과 겹치지 않게 한다)
                 if (employeeRepository.count() == 0) {
                         employeeRepository.save(new Employee(
-                                        "EMP001", "김철수", "kim@staffsync.com",
+                                        employeeIdAllocator.next(), "김철수", "kim@staffsync.com",
                                         LocalDate.of(2020, 1, 15), 50000000.0, "개발팀"));
                         employeeRepository.save(new Employee(
-                                        "EMP002", "이영희", "lee@staffsync.com",
+                                        employeeIdAllocator.next(), "이영희", "lee@staffsync.com",
                                         LocalDate.of(2021, 3, 20), 45000000.0, "디자인팀"));
                         employeeRepository.save(new Employee(
-                                        "EMP003", "박민수", "park@staffsync.com",
+                                        employeeIdAllocator.next(), "박민수", "park@staffsync.com",
                                         LocalDate.of(2019, 7, 10), 60000000.0, "개발팀"));
                         employeeRepository.save(new Employee(
-                                        "EMP004", "최지은", "choi@staffsync.com",
+                                        employeeIdAllocator.next(), "최지은", "choi@staffsync.com",
                                         LocalDate.of(2022, 5, 1), 40000000.0, "마케팅팀"));
                         employeeRepository.save(new Employee(
-                                        "EMP005", "정대호", "jung@staffsync.com",
+                                        employeeIdAllocator.next(), "정대호", "jung@staffsync.com",
                                         LocalDate.of(2018, 11, 30), 70000000.0, "인사팀"));
                 }
         }
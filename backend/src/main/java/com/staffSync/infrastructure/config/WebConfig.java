@@ -0,0 +1,33 @@
+package com.staffSync.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.staffSync.application.cache.TableVersions;
+import com.staffSync.infrastructure.web.ConditionalGetInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조건부 GET(ETag/304) 적용 경로 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TableVersions tableVersions;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, TableVersions.PRODUCTS))
+                .addPathPatterns("/api/products", "/api/products/**")
+                // 스트리밍 응답과 재고 원장(비동기 기록), 예약(메모리), 창고별 재고 조회는 테이블 버전으로 판단할 수 없음
+                .excludePathPatterns("/api/products/stream", "/api/products/export", "/api/products/*/stock/**",
+                        "/api/products/*/stock", "/api/products/reservations/**",
+                        "/api/products/*/locations/**", "/api/products/*/locations", "/api/products/locations/**");
+
+        registry.addInterceptor(new ConditionalGetInterceptor(tableVersions, TableVersions.EMPLOYEES))
+                .addPathPatterns("/api/employees", "/api/employees/**");
+    }
+}
@@ -0,0 +1,38 @@
+package com.staffSync.infrastructure.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.staffSync.application.cache.TableVersions;
+import com.staffSync.application.cache.TableVersions.TableVersion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 조회(GET) 요청의 조건부 처리
+ *
+ * 컨트롤러 실행 전에 테이블 버전으로 ETag/Last-Modified 를 정하고,
+ * If-None-Match(또는 If-Modified-Since)가 일치하면 DB 조회/직렬화 없이 304 로 끝낸다.
+ * 버전은 조회 전에 읽으므로 조회 도중 변경이 커밋돼도 다음 요청에서 새 ETag 로 다시 받게 된다.
+ */
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final TableVersions tableVersions;
+    private final String table;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return true;
+        }
+
+        TableVersion version = tableVersions.current(table);
+        // 브라우저가 응답을 저장하되 매번 재검증하도록 (Spring Security 기본값 no-store 대체)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        return !new ServletWebRequest(request, response).checkNotModified(version.etag(), version.lastModified());
+    }
+}
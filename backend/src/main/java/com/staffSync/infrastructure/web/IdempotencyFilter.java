@@ -0,0 +1,343 @@
+package com.staffSync.infrastructure.web;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import com.staffSync.infrastructure.web.IdempotencyStore.Claim;
+import com.staffSync.infrastructure.web.IdempotencyStore.StoredResponse;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Idempotency-Key 헤더가 있는 상품/직원 변경 요청의 중복 실행 방지
+ *
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 컨트롤러를 거치지 않고 처음 응답(상태, 본문)을 그대로 돌려준다.
+ * 같은 요청인지는 메서드, 경로, 쿼리와 요청 본문의 SHA-256 으로 판단하고, 다르면 422 를 돌려준다.
+ * 처음 요청이 아직 처리 중이면 끝날 때까지 기다렸다가 그 응답을 돌려주므로 동시 재시도도 한 번만 실행된다.
+ * 2xx 응답만 저장하고, 실패한 요청은 키를 놓아 재시도가 다시 처리되게 한다.
+ * 재고 증감처럼 비동기(CompletableFuture)로 끝나는 요청은 ASYNC 디스패치에서 응답을 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String OWNED_KEY_ATTRIBUTE = IdempotencyFilter.class.getName() + ".KEY";
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        return request.getHeader(HEADER) == null
+                || "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)
+                || !(uri.startsWith("/api/products") || uri.startsWith("/api/employees"));
+    }
+
+    // 비동기 요청의 응답은 ASYNC 디스패치에서 완성되므로 그때도 필터를 거친다
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            String key = (String) request.getAttribute(OWNED_KEY_ATTRIBUTE);
+            if (key != null && !isAsyncStarted(request)) {
+                finish(key, response);
+            }
+            return;
+        }
+
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key 는 1~" + properties.getMaxKeyLength() + "자여야 합니다.");
+            return;
+        }
+        String key = principal() + ":" + idempotencyKey;
+
+        // 본문은 지문 계산에 한 번 읽어 두고 컨트롤러에는 같은 바이트를 다시 읽게 한다
+        String bodyHash;
+        if (isFormOrMultipart(request)) {
+            bodyHash = formHash(request);
+        } else {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            request = cached;
+            bodyHash = cached.body.length == 0 ? null : sha256(cached.body);
+        }
+        String fingerprint = fingerprint(request, bodyHash);
+
+        if (!acquire(key, fingerprint, response)) {
+            return; // 저장된 응답 또는 오류로 응답 완료
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        request.setAttribute(OWNED_KEY_ATTRIBUTE, key);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+
+        if (isAsyncStarted(request)) {
+            // 응답 저장은 ASYNC 디스패치에서. 디스패치 없이 끝나면(연결 끊김 등) 키를 놓는다
+            request.getAsyncContext().addListener(new ReleaseOnComplete(key));
+            return;
+        }
+        finish(key, wrapper);
+    }
+
+    // 키 선점. 처리 중이면 기다렸다가 저장된 응답을 쓰고 false
+    private boolean acquire(String key, String fingerprint, HttpServletResponse response) throws IOException {
+        while (true) {
+            Claim claim = store.claim(key, fingerprint);
+            switch (claim.type()) {
+                case ACQUIRED:
+                    return true;
+                case REPLAY:
+                    writeStored(response, claim.response());
+                    return false;
+                case MISMATCH:
+                    writeError(response, HttpStatus.UNPROCESSABLE_CONTENT,
+                            "같은 Idempotency-Key 가 다른 요청에 사용되었습니다.");
+                    return false;
+                case IN_PROGRESS:
+                    StoredResponse stored;
+                    try {
+                        stored = claim.pending().get(properties.getWaitTimeoutMs(), TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청을 처리 중입니다.");
+                        return false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        writeError(response, HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청을 처리 중입니다.");
+                        return false;
+                    } catch (ExecutionException e) {
+                        stored = null;
+                    }
+                    if (stored != null) {
+                        writeStored(response, stored);
+                        return false;
+                    }
+                    break; // 먼저 온 요청이 실패 -> 다시 선점 시도
+            }
+        }
+    }
+
+    // 응답 저장(2xx) 또는 키 해제 후 본문 전송
+    private void finish(String key, HttpServletResponse response) throws IOException {
+        ContentCachingResponseWrapper wrapper = WebUtils.getNativeResponse(response,
+                ContentCachingResponseWrapper.class);
+        if (wrapper == null) {
+            store.release(key);
+            return;
+        }
+        int status = wrapper.getStatus();
+        if (status >= 200 && status < 300) {
+            store.complete(key, new StoredResponse(status, wrapper.getContentType(),
+                    wrapper.getContentAsByteArray()));
+        } else {
+            store.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void writeStored(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    // 키는 사용자별로 구분 (다른 사용자의 응답이 재현되지 않도록)
+    private String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "anonymous";
+    }
+
+    // 메서드 + 경로 + 쿼리 (+ 본문이 있으면 본문 해시)
+    private String fingerprint(HttpServletRequest request, String bodyHash) {
+        String query = request.getQueryString();
+        return request.getMethod() + " " + request.getRequestURI() + (query != null ? "?" + query : "")
+                + (bodyHash != null ? " sha256=" + bodyHash : "");
+    }
+
+    private boolean isFormOrMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null
+                && (contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                        || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE));
+    }
+
+    // 폼/파일 업로드는 원본 스트림을 읽으면 컨테이너가 파라미터와 파트를 만들 수 없으므로 파싱된 값으로 해시
+    private String formHash(HttpServletRequest request) throws IOException, ServletException {
+        MessageDigest digest = newDigest();
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            digest.update(parameter.getKey().getBytes(StandardCharsets.UTF_8));
+            for (String value : parameter.getValue()) {
+                digest.update((byte) 0);
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        if (request.getContentType().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            for (Part part : request.getParts()) {
+                if (part.getSubmittedFileName() == null) {
+                    continue; // 일반 필드는 파라미터로 이미 반영
+                }
+                digest.update(part.getName().getBytes(StandardCharsets.UTF_8));
+                try (InputStream content = part.getInputStream()) {
+                    digest.update(content.readAllBytes());
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String sha256(byte[] body) {
+        return HexFormat.of().formatHex(newDigest().digest(body));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 본문을 메모리에 읽어 두고 몇 번이든 다시 읽게 하는 요청
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream content = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public int read() {
+                    return content.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return content.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return content.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+
+    // 비동기 처리가 ASYNC 디스패치 없이 끝난 경우 키 해제 (완료된 키는 release 가 무시)
+    @RequiredArgsConstructor
+    private class ReleaseOnComplete implements AsyncListener {
+
+        private final String key;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            store.release(key);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.staffSync.infrastructure.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key 처리 설정 값을 application.properties에서 주입 받는 클래스
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+    private long ttlMs = 86400000; // 처리 결과 보관 기간 (ms)
+    private long maximumSize = 100000; // 메모리에 보관할 최대 키 수
+    private long waitTimeoutMs = 10000; // 같은 키의 처리 중인 요청을 기다리는 최대 시간 (ms)
+    private int maxKeyLength = 255; // 키 최대 길이
+    private int maxStoredBodyBytes = 1048576; // DB에 보관할 최대 응답 크기 (byte)
+    private long purgeIntervalMs = 3600000; // 만료 기록 정리 주기 (ms)
+}
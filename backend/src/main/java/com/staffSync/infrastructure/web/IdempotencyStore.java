@@ -0,0 +1,178 @@
+package com.staffSync.infrastructure.web;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.staffSync.domain.idempotency.IdempotencyRecord;
+import com.staffSync.domain.idempotency.IdempotencyRecordRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 별 처리 상태 저장소
+ *
+ * 처리 중인 키는 크기 제한 없는 맵에 두어 같은 키의 동시 요청은 먼저 온 요청이 끝날 때까지 기다렸다가 그 결과를 받는다.
+ * (크기 제한이 있는 캐시에 두면 처리 중에 밀려난 키의 중복 요청이 한 번 더 실행된다.
+ *  처리 중인 키는 complete/release 로 반드시 빠지므로 동시에 처리 중인 요청 수 이상으로 커지지 않는다.)
+ * 완료된 응답만 메모리(Caffeine, 최대 크기 + 만료)로 옮긴다.
+ * 완료된 응답은 DB에도 남겨 메모리에서 밀려나거나 재기동된 뒤의 재시도에도 같은 응답을 돌려준다.
+ * (여러 인스턴스 사이의 동시 요청 직렬화는 하지 않는다. 완료 후 재시도만 인스턴스와 무관하게 보장된다.)
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final IdempotencyProperties properties;
+    private final ConcurrentHashMap<String, Entry> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Entry> completed;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getTtlMs()))
+                .build();
+    }
+
+    /**
+     * 저장된 응답
+     *
+     * @param status      HTTP 상태 코드
+     * @param contentType Content-Type
+     * @param body        응답 본문
+     */
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    public enum ClaimType {
+        ACQUIRED, // 이 요청이 처리한다
+        REPLAY, // 완료된 응답을 돌려준다
+        IN_PROGRESS, // 같은 키의 요청이 처리 중
+        MISMATCH // 같은 키가 다른 요청에 사용됨
+    }
+
+    /**
+     * 키 선점 결과
+     *
+     * @param type     결과 종류
+     * @param response REPLAY 일 때 저장된 응답
+     * @param pending  IN_PROGRESS 일 때 먼저 온 요청의 완료 신호 (null 로 완료되면 처리 실패 = 다시 선점)
+     */
+    public record Claim(ClaimType type, StoredResponse response, CompletableFuture<StoredResponse> pending) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<StoredResponse> result) {
+    }
+
+    /**
+     * 키 선점
+     *
+     * @param key         사용자 범위를 포함한 키
+     * @param fingerprint 요청 식별 값 (메서드 + 경로 + 쿼리)
+     * @return 선점 결과
+     */
+    public Claim claim(String key, String fingerprint) {
+        Entry done = completed.getIfPresent(key);
+        if (done != null) {
+            return replayOf(done, fingerprint);
+        }
+
+        Entry mine = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                return new Claim(ClaimType.MISMATCH, null, null);
+            }
+            StoredResponse response = existing.result().getNow(null);
+            if (response != null) {
+                return new Claim(ClaimType.REPLAY, response, null);
+            }
+            return new Claim(ClaimType.IN_PROGRESS, null, existing.result());
+        }
+
+        // 위에서 완료 캐시를 본 뒤 선점 사이에 앞선 요청이 완료되어 처리 중 맵에서 빠졌을 수 있다
+        done = completed.getIfPresent(key);
+        if (done == null) {
+            // 메모리에 없으면 DB에 남은 완료 기록 확인
+            Optional<IdempotencyRecord> record = repository.findById(key);
+            if (record.isEmpty()) {
+                return new Claim(ClaimType.ACQUIRED, null, null);
+            }
+            StoredResponse stored = new StoredResponse(record.get().getStatus(), record.get().getContentType(),
+                    record.get().getBody());
+            done = new Entry(record.get().getFingerprint(), CompletableFuture.completedFuture(stored));
+            completed.put(key, done);
+        }
+        // 그 사이 선점을 기다리던 요청에도 전달
+        mine.result().complete(done.result().join());
+        inFlight.remove(key, mine);
+        return replayOf(done, fingerprint);
+    }
+
+    private Claim replayOf(Entry done, String fingerprint) {
+        if (!done.fingerprint().equals(fingerprint)) {
+            return new Claim(ClaimType.MISMATCH, null, null);
+        }
+        return new Claim(ClaimType.REPLAY, done.result().join(), null);
+    }
+
+    /**
+     * 처리 완료 - 응답 저장 후 기다리던 요청에 전달
+     *
+     * @param key      키
+     * @param response 응답
+     */
+    public void complete(String key, StoredResponse response) {
+        Entry entry = inFlight.get(key);
+        if (entry == null || entry.result().isDone()) {
+            return;
+        }
+        if (response.body().length <= properties.getMaxStoredBodyBytes()) {
+            try {
+                repository.save(new IdempotencyRecord(key, entry.fingerprint(), response.status(),
+                        response.contentType(), response.body(), LocalDateTime.now()));
+            } catch (RuntimeException e) {
+                // 메모리 보관 기간 동안은 그대로 재현되므로 요청은 실패시키지 않는다
+                log.warn("멱등 처리 결과 저장 실패 (key={})", key, e);
+            }
+        }
+        // 완료 캐시에 먼저 넣고 처리 중 맵에서 빼야 그 사이 들어온 요청이 어느 쪽에서도 못 찾는 일이 없다
+        completed.put(key, new Entry(entry.fingerprint(), CompletableFuture.completedFuture(response)));
+        entry.result().complete(response);
+        inFlight.remove(key, entry);
+    }
+
+    /**
+     * 처리 실패 - 키를 놓아 재시도가 다시 처리되도록 한다 (이미 완료된 키는 그대로)
+     *
+     * @param key 키
+     */
+    public void release(String key) {
+        Entry entry = inFlight.get(key);
+        if (entry == null || entry.result().isDone()) {
+            return;
+        }
+        inFlight.remove(key, entry);
+        entry.result().complete(null);
+    }
+
+    // 보관 기간이 지난 DB 기록 정리
+    @Scheduled(initialDelayString = "${app.idempotency.purge-interval-ms:3600000}",
+            fixedDelayString = "${app.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now().minusNanos(properties.getTtlMs() * 1_000_000));
+        if (deleted > 0) {
+            log.info("만료된 멱등 처리 기록 {}건 삭제", deleted);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.staffSync.interfaces.cache;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.cache.CacheStatsService;
+import com.staffSync.application.cache.dto.CacheStatsDto;
+import com.staffSync.application.cache.dto.EmailFilterStatsDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    /**
+     * 조회 캐시 통계
+     * 
+     * @return 캐시별 적중률, 제거 횟수 등
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getCacheStats());
+    }
+
+    /**
+     * 이메일 중복 검사 블룸 필터 통계
+     * 
+     * @return 테이블별 오탐률(목표/추정/실측), 메모리, DB 조회를 생략한 횟수
+     */
+    @GetMapping("/email-filters")
+    public ResponseEntity<List<EmailFilterStatsDto>> getEmailFilterStats() {
+        return ResponseEntity.ok(cacheStatsService.getEmailFilterStats());
+    }
+}
@@ -1,13 +1,24 @@
 package com.staffSync.interfaces.employee;
 
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.employee.EmployeeImportService;
 import com.staffSync.application.employee.EmployeeService;
 import com.staffSync.application.employee.dto.CreateEmployeeRequest;
 import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.EmployeePageDto;
+import com.staffSync.application.employee.dto.EmployeeSearchCondition;
+import com.staffSync.application.employee.dto.SalaryAnalyticsDto;
 import com.staffSync.application.employee.dto.UpdateEmployeeRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -17,6 +28,7 @@ import java.util.List;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
 
     /**
      * 전체 직원 목록 조회
@@ -77,6 +89,57 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.searchEmployeesByName(name));
     }
 
+    /**
+     * 직원 자동완성 (이름/초성, 사원번호, 이메일 아이디 접두어)
+     * GET /api/employees/suggest?q=김철&limit=10
+     * 
+     * @param q     입력 중인 검색어 (예: 김철, ㄱㅊ, EMP01, kim)
+     * @param limit 최대 결과 수 (기본 10, 최대 20)
+     * @return 일치한 직원 목록
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EmployeeDto>> suggestEmployees(
+            @RequestParam("q") String q,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(employeeService.suggestEmployees(q, limit));
+    }
+
+    /**
+     * 복합 조건 직원 조회 (커서 페이지)
+     * GET /api/employees/query?department=개발팀&hireDateFrom=2020-01-01&salaryMin=40000000&size=20
+     * 
+     * @param condition 조회 조건 (department, hireDateFrom, hireDateTo, salaryMin, salaryMax, name 접두어)
+     * @param size      페이지 크기 (1 ~ 100)
+     * @param sort      정렬 기준 (id, employeeId, name, hireDate, salary)
+     * @param direction 정렬 방향 (asc, desc)
+     * @param cursor    이전 응답의 nextCursor (첫 페이지는 생략)
+     * @return 직원 목록, 다음 페이지 커서, 전체 건수
+     */
+    @GetMapping("/query")
+    public ResponseEntity<EmployeePageDto> queryEmployees(
+            @ModelAttribute EmployeeSearchCondition condition,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        return ResponseEntity.ok(employeeService.queryEmployees(condition, size, sort, direction, cursor));
+    }
+
+    /**
+     * 급여 통계 (전체/부서별 인원, 합계, 평균, 중앙값, 백분위)
+     * GET /api/employees/analytics/salary?hiredFrom=2020-01-01&hiredTo=2024-12-31
+     * 
+     * @param hiredFrom 입사일 시작 (생략 가능)
+     * @param hiredTo   입사일 끝 (생략 가능)
+     * @return 급여 통계
+     */
+    @GetMapping("/analytics/salary")
+    public ResponseEntity<SalaryAnalyticsDto> getSalaryAnalytics(
+            @RequestParam(value = "hiredFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+            @RequestParam(value = "hiredTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo) {
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics(hiredFrom, hiredTo));
+    }
+
     /**
      * 직원 등록
      * POST /api/employees
@@ -89,6 +152,23 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(request));
     }
 
+    /**
+     * 직원 CSV 일괄 등록
+     * POST /api/employees/import (multipart, file)
+     * 
+     * @param file CSV 파일 (헤더: name,email,hireDate,salary[,department])
+     * @return 처리 결과 (실패 행 목록 포함)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importEmployees(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(employeeImportService.importCsv(input));
+        }
+    }
+
     /**
      * 직원 정보 수정
      * PUT /api/employees/{id}
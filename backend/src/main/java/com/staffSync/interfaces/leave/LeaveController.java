@@ -0,0 +1,75 @@
+package com.staffSync.interfaces.leave;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.leave.LeaveAccrualService;
+import com.staffSync.application.leave.LeaveService;
+import com.staffSync.application.leave.dto.LeaveAccrualResultDto;
+import com.staffSync.application.leave.dto.LeaveBalanceDto;
+import com.staffSync.application.leave.dto.LeaveRecordDto;
+import com.staffSync.application.leave.dto.TakeLeaveRequest;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/leave")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class LeaveController {
+
+    private final LeaveService leaveService;
+    private final LeaveAccrualService leaveAccrualService;
+
+    // 직원 연차 잔여 (현재 연차 기간)
+    @GetMapping("/balances/{employeeId}")
+    public ResponseEntity<LeaveBalanceDto> getBalance(@PathVariable("employeeId") Long employeeId) {
+        return ResponseEntity.ok(leaveService.getBalance(employeeId));
+    }
+
+    // 직원 휴가 사용 내역
+    @GetMapping("/records")
+    public ResponseEntity<List<LeaveRecordDto>> getRecords(@RequestParam("employeeId") Long employeeId) {
+        return ResponseEntity.ok(leaveService.getRecords(employeeId));
+    }
+
+    // 휴가 사용
+    /**
+     * @param request : 직원, 기간, 반차 여부, 사유
+     * @return : 저장된 사용 내역 (주말 제외 일수 차감)
+     */
+    @PostMapping("/records")
+    public ResponseEntity<LeaveRecordDto> takeLeave(@RequestBody TakeLeaveRequest request) {
+        return ResponseEntity.ok(leaveService.takeLeave(request));
+    }
+
+    // 휴가 취소
+    @DeleteMapping("/records/{id}")
+    public ResponseEntity<Void> cancelLeave(@PathVariable("id") Long id) {
+        leaveService.cancelLeave(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 연차 발생 배치 수동 실행 (매일 자동 실행, 누락분 보정용)
+    /**
+     * @param date : 기준일 (생략하면 오늘, 미래 불가)
+     * @return : 생성/갱신 건수
+     */
+    @PostMapping("/accruals")
+    public ResponseEntity<LeaveAccrualResultDto> runAccrual(
+            @RequestParam(value = "date", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(leaveAccrualService.run(date != null ? date : LocalDate.now()));
+    }
+}
@@ -0,0 +1,73 @@
+package com.staffSync.interfaces.payroll;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.payroll.PayrollRunService;
+import com.staffSync.application.payroll.dto.PayrollLineDto;
+import com.staffSync.application.payroll.dto.PayrollRunDto;
+import com.staffSync.application.payroll.dto.StartPayrollRunRequest;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/payroll/runs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class PayrollController {
+
+    private final PayrollRunService payrollRunService;
+
+    // 급여 계산 실행 목록
+    @GetMapping
+    public ResponseEntity<List<PayrollRunDto>> getRuns() {
+        return ResponseEntity.ok(payrollRunService.getRuns());
+    }
+
+    // 급여 계산 시작 (백그라운드 실행, 202 Accepted)
+    /**
+     * @param request : 급여 월 (yyyy-MM)
+     * @return : 생성된 실행 (진행 상황은 GET /{id} 로 조회)
+     */
+    @PostMapping
+    public ResponseEntity<PayrollRunDto> startRun(@RequestBody StartPayrollRunRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(payrollRunService.startRun(request));
+    }
+
+    // 급여 계산 진행 상황/결과 조회
+    @GetMapping("/{id}")
+    public ResponseEntity<PayrollRunDto> getRun(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(payrollRunService.getRun(id));
+    }
+
+    // 실패/중단된 급여 계산을 체크포인트부터 재개
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<PayrollRunDto> resumeRun(@PathVariable("id") Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(payrollRunService.resumeRun(id));
+    }
+
+    // 급여 명세 조회 (직원 id 순, afterEmployeeId 로 다음 페이지)
+    /**
+     * @param id              : 실행 ID
+     * @param afterEmployeeId : 이전 페이지 마지막 직원 id (첫 페이지는 생략)
+     * @param size            : 페이지 크기 (1 ~ 100)
+     * @return : 급여 명세 목록
+     */
+    @GetMapping("/{id}/lines")
+    public ResponseEntity<List<PayrollLineDto>> getLines(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "afterEmployeeId", required = false) Long afterEmployeeId,
+            @RequestParam(value = "size", defaultValue = "100") int size) {
+        return ResponseEntity.ok(payrollRunService.getLines(id, afterEmployeeId, size));
+    }
+}
@@ -1,7 +1,15 @@
 package com.staffSync.interfaces.product;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,13 +20,33 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.product.ProductEventStream;
+import com.staffSync.application.product.ProductExportFormat;
+import com.staffSync.application.product.ProductExportService;
+import com.staffSync.application.product.ProductImportService;
 import com.staffSync.application.product.ProductService;
+import com.staffSync.application.product.StockLedgerService;
+import com.staffSync.application.product.StockCommandProcessor;
+import com.staffSync.application.product.StockReservationService;
+import com.staffSync.application.product.dto.BatchStockResultDto;
 import com.staffSync.application.product.dto.CreateProductRequest;
+import com.staffSync.application.product.dto.CreateReservationRequest;
 import com.staffSync.application.product.dto.DashboardDto;
 import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ProductPageDto;
+import com.staffSync.application.product.dto.ProductSearchResultDto;
+import com.staffSync.application.product.dto.ReservationDto;
+import com.staffSync.application.product.dto.StockAdjustmentRequest;
+import com.staffSync.application.product.dto.StockAsOfDto;
+import com.staffSync.application.product.dto.StockMovementDto;
 import com.staffSync.application.product.dto.UpdateProductRequest;
 import com.staffSync.application.product.dto.UpdateStockRequest;
 
@@ -30,7 +58,15 @@ import lombok.RequiredArgsConstructor;
 @CrossOrigin(origins = "http://localhost:5173")
 public class ProductController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count"; // 검색 전체 일치 건수
+
     private final ProductService productService;
+    private final ProductExportService productExportService;
+    private final ProductImportService productImportService;
+    private final StockCommandProcessor stockCommandProcessor;
+    private final StockLedgerService stockLedgerService;
+    private final StockReservationService stockReservationService;
+    private final ProductEventStream productEventStream;
 
     // 대시보드 데이터 조회
     @GetMapping("/dashboard")
@@ -38,21 +74,89 @@ public class ProductController {
         return ResponseEntity.ok(productService.getDashboard());
     }
 
+    /**
+     * 재고 변경/상태 전이/대시보드 변화량 실시간 스트림 (SSE)
+     * 
+     * @param lastEventId 대시보드 응답의 streamEventId 또는 재연결 시 마지막으로 받은 이벤트 ID (이후 이벤트를 재전송)
+     * @return SSE 연결 (stock, status, dashboard, reset 이벤트)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return productEventStream.subscribe(lastEventId);
+    }
+
     // 전체 상품 목록 조회
     @GetMapping
     public ResponseEntity<List<ProductDto>> getAllProducts() {
         return ResponseEntity.ok(productService.getAllProducts());
     }
 
+    // 상품 목록 커서 페이지 조회 (size 파라미터가 있으면 페이지 모드)
+    /**
+     * @param size      : 페이지 크기 (1 ~ 100)
+     * @param sort      : 정렬 기준 (id, name, price, quantity, updatedAt)
+     * @param direction : 정렬 방향 (asc, desc)
+     * @param cursor    : 이전 응답의 nextCursor (첫 페이지는 생략, 필터를 바꾸면 다시 생략)
+     * @param category  : 카테고리 필터 (생략하면 전체)
+     * @param keyword   : 상품명 검색어 (생략하면 전체)
+     * @return : 상품 목록, 다음 페이지 커서, 전체 건수 (첫 페이지만)
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<ProductPageDto> getProductPage(
+            @RequestParam("size") int size,
+            @RequestParam(value = "sort", defaultValue = "id") String sort,
+            @RequestParam(value = "direction", defaultValue = "asc") String direction,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "keyword", required = false) String keyword) {
+        return ResponseEntity.ok(productService.getProductPage(size, sort, direction, cursor, category, keyword));
+    }
+
+    // 상품 전체 내보내기 (스트리밍)
+    /**
+     * @param format : 내보내기 형식 (ndjson, csv)
+     * @param gzip   : gzip 압축 여부
+     * @return : 한 행씩 chunked 전송되는 응답
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "false") boolean gzip) {
+        ProductExportFormat exportFormat = ProductExportFormat.from(format);
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192, true);
+                productExportService.export(exportFormat, gzipStream);
+                gzipStream.finish();
+            } else {
+                productExportService.export(exportFormat, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"products." + exportFormat.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
     // ID로 상품 단일 조회
     @GetMapping("/{id}")
     public ResponseEntity<ProductDto> getProductById(@PathVariable("id") Long id) {
         return ResponseEntity.ok(productService.getProductById(id));
     }
 
-    // 재고 부족 상품 조회
+    // 재고 부족 상품 조회 (위급한 순, limit 지정 시 상위 N개)
     @GetMapping("/low-stock")
-    public ResponseEntity<List<ProductDto>> getLowStockProducts() {
+    public ResponseEntity<List<ProductDto>> getLowStockProducts(
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (limit != null) {
+            return ResponseEntity.ok(productService.getMostCriticalProducts(limit));
+        }
         return ResponseEntity.ok(productService.getLowStockProducts());
     }
 
@@ -69,40 +173,128 @@ public class ProductController {
         return ResponseEntity.ok(productService.updateProduct(id, request));
     }
 
-    // 재고 증가
+    // 재고 증가 (상품별 단일 writer 레인에서 모아서 커밋)
     /**
      * @Param id : 상품 ID
      * @param amount : 증가시킬 재고 수량
      * @return : 업데이트된 상품 정보
      */
     @PatchMapping("/{id}/stock/increase")
-    public ResponseEntity<ProductDto> increaseStock(
+    public CompletableFuture<ResponseEntity<ProductDto>> increaseStock(
             @PathVariable("id") Long id,
             @RequestParam Integer amount) {
-        UpdateStockRequest request = new UpdateStockRequest(amount);
-        return ResponseEntity.ok(productService.updateStock(id, request));
+        return stockCommandProcessor.submit(id, amount).thenApply(ResponseEntity::ok);
     }
 
-    // 재고 감소
+    // 재고 감소 (상품별 단일 writer 레인에서 모아서 커밋)
     /**
      * @param id     : 상품 ID
      * @param amount : 감소시킬 재고 수량
      * @return : 업데이트된 상품 정보
      */
     @PatchMapping("/{id}/stock/decrease")
-    public ResponseEntity<ProductDto> decreaseStock(
+    public CompletableFuture<ResponseEntity<ProductDto>> decreaseStock(
             @PathVariable("id") Long id,
             @RequestParam Integer amount) {
-        UpdateStockRequest request = new UpdateStockRequest(-amount);
-        return ResponseEntity.ok(productService.updateStock(id, request));
+        return stockCommandProcessor.submit(id, -amount).thenApply(ResponseEntity::ok);
     }
 
-    // 재고 업데이트
+    // 재고 업데이트 (상품별 단일 writer 레인에서 모아서 커밋)
     @PatchMapping("/{id}/stock")
-    public ResponseEntity<ProductDto> updateStock(
+    public CompletableFuture<ResponseEntity<ProductDto>> updateStock(
             @PathVariable("id") Long id,
             @RequestBody UpdateStockRequest request) {
-        return ResponseEntity.ok(productService.updateStock(id, request));
+        if (request.getAmount() == null || request.getAmount() == 0) {
+            // 변경 없음: 대기열을 거치지 않고 현재 상태 반환
+            return CompletableFuture.completedFuture(ResponseEntity.ok(productService.updateStock(id, request)));
+        }
+        return stockCommandProcessor.submit(id, request.getAmount()).thenApply(ResponseEntity::ok);
+    }
+
+    // 재고 예약 (판매 가능 수량만 줄이고, 유지 시간이 지나면 자동 해제)
+    /**
+     * @param id      : 상품 ID
+     * @param request : 예약 수량, 유지 시간(초, 생략 시 기본값)
+     * @return : 예약 정보 (확정/해제에 쓸 예약 ID 포함)
+     */
+    @PostMapping("/{id}/reservations")
+    public CompletableFuture<ResponseEntity<ReservationDto>> reserveStock(
+            @PathVariable("id") Long id,
+            @RequestBody CreateReservationRequest request) {
+        return stockReservationService.reserve(id, request).thenApply(ResponseEntity::ok);
+    }
+
+    // 재고 예약 조회
+    @GetMapping("/reservations/{reservationId}")
+    public ResponseEntity<ReservationDto> getReservation(@PathVariable("reservationId") String reservationId) {
+        return ResponseEntity.ok(stockReservationService.getReservation(reservationId));
+    }
+
+    // 재고 예약 확정 (예약 수량만큼 재고 차감)
+    @PostMapping("/reservations/{reservationId}/confirm")
+    public CompletableFuture<ResponseEntity<ProductDto>> confirmReservation(
+            @PathVariable("reservationId") String reservationId) {
+        return stockReservationService.confirm(reservationId).thenApply(ResponseEntity::ok);
+    }
+
+    // 재고 예약 해제
+    @DeleteMapping("/reservations/{reservationId}")
+    public CompletableFuture<ResponseEntity<ProductDto>> releaseReservation(
+            @PathVariable("reservationId") String reservationId) {
+        return stockReservationService.release(reservationId).thenApply(ResponseEntity::ok);
+    }
+
+    // 특정 시점 재고 조회 (재고 변동 원장)
+    /**
+     * @param id   : 상품 ID
+     * @param asOf : 조회 시점 (예: 2025-01-01T09:00:00, 생략 시 현재)
+     * @return : 해당 시점 재고
+     */
+    @GetMapping("/{id}/stock")
+    public ResponseEntity<StockAsOfDto> getStockAsOf(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(stockLedgerService.getStockAsOf(id, asOf != null ? asOf : LocalDateTime.now()));
+    }
+
+    // 기간 내 재고 변동 내역 조회
+    /**
+     * @param id   : 상품 ID
+     * @param from : 시작 시각 (미포함)
+     * @param to   : 종료 시각 (포함, 생략 시 현재)
+     * @return : 시간순 변동 목록 (변동 후 재고 포함)
+     */
+    @GetMapping("/{id}/stock/movements")
+    public ResponseEntity<List<StockMovementDto>> getStockMovements(
+            @PathVariable("id") Long id,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(stockLedgerService.getMovements(id, from, to != null ? to : LocalDateTime.now()));
+    }
+
+    // 상품 CSV 일괄 등록
+    /**
+     * @param file : CSV 파일 (헤더: name,category,quantity,minStockLevel,price)
+     * @return : 처리 결과 (실패 행의 줄 번호와 사유 포함)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importProducts(@RequestParam("file") MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(productImportService.importCsv(input));
+        }
+    }
+
+    // 재고 일괄 조정
+    /**
+     * @param requests : (productId, delta) 목록
+     * @return : 항목별 반영 결과 (성공/실패)
+     */
+    @PostMapping("/stock/batch")
+    public ResponseEntity<BatchStockResultDto> updateStockBatch(@RequestBody List<StockAdjustmentRequest> requests) {
+        return ResponseEntity.ok(productService.updateStockBatch(requests));
     }
 
     // 상품 삭제
@@ -124,13 +316,23 @@ public class ProductController {
     }
 
     /**
-     * 상품명으로 검색
+     * 상품명으로 검색 (초성 검색 지원, 일치 품질 순)
+     * 한 번에 최대 100건을 내려주고, 전체 일치 건수는 X-Total-Count 헤더로 알려준다.
+     * (offset + 내려받은 건수 < X-Total-Count 이면 offset 을 늘려 다음 페이지를 요청)
      * 
-     * @param keyword 키워드 검색
+     * @param keyword 키워드 검색 (예: 노트, ㄴㅌㅂ)
+     * @param offset  건너뛸 결과 수 (기본 0)
+     * @param limit   최대 결과 수 (기본 100, 최대 100)
      * @return 검색된 상품 목록
      */
     @GetMapping("/search")
-    public ResponseEntity<List<ProductDto>> searchProducts(@RequestParam("keyword") String keyword) {
-        return ResponseEntity.ok(productService.searchProducts(keyword));
+    public ResponseEntity<List<ProductDto>> searchProducts(
+            @RequestParam("keyword") String keyword,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+        ProductSearchResultDto result = productService.searchProducts(keyword, offset, limit);
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalCount()))
+                .body(result.getContent());
     }
 }
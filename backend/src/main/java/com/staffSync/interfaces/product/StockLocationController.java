@@ -0,0 +1,89 @@
+package com.staffSync.interfaces.product;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.product.StockLocationService;
+import com.staffSync.application.product.dto.StockLocationDto;
+import com.staffSync.application.product.dto.StockTransferRequest;
+import com.staffSync.application.product.dto.UpdateStockLocationRequest;
+import com.staffSync.application.product.dto.UpdateStockRequest;
+import com.staffSync.application.product.dto.WarehouseSummaryDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class StockLocationController {
+
+    private final StockLocationService stockLocationService;
+
+    // 창고별 재고 요약 (창고 코드 순)
+    @GetMapping("/locations/summary")
+    public ResponseEntity<List<WarehouseSummaryDto>> getWarehouseSummaries() {
+        return ResponseEntity.ok(stockLocationService.getWarehouseSummaries());
+    }
+
+    // 창고의 재고 부족 상품 (창고별 최소 재고 기준)
+    @GetMapping("/locations/low-stock")
+    public ResponseEntity<List<StockLocationDto>> getLowStock(@RequestParam("warehouse") String warehouse) {
+        return ResponseEntity.ok(stockLocationService.getLowStock(warehouse));
+    }
+
+    // 상품의 창고별 재고
+    @GetMapping("/{id}/locations")
+    public ResponseEntity<List<StockLocationDto>> getLocations(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(stockLocationService.getLocations(id));
+    }
+
+    // 창고 재고 증감 (입고/출고, 상품 전체 재고도 함께 반영)
+    /**
+     * @param id        : 상품 ID
+     * @param warehouse : 창고 코드
+     * @param request   : 증감 수량 (양수: 입고, 음수: 출고)
+     * @return : 반영 후 창고 재고
+     */
+    @PatchMapping("/{id}/locations/{warehouse}/stock")
+    public CompletableFuture<ResponseEntity<StockLocationDto>> adjustLocationStock(
+            @PathVariable("id") Long id,
+            @PathVariable("warehouse") String warehouse,
+            @RequestBody UpdateStockRequest request) {
+        return stockLocationService.adjustStock(id, warehouse, request.getAmount()).thenApply(ResponseEntity::ok);
+    }
+
+    // 창고별 최소 재고 수량 변경
+    @PutMapping("/{id}/locations/{warehouse}")
+    public CompletableFuture<ResponseEntity<StockLocationDto>> updateLocation(
+            @PathVariable("id") Long id,
+            @PathVariable("warehouse") String warehouse,
+            @RequestBody UpdateStockLocationRequest request) {
+        return stockLocationService.updateLocation(id, warehouse, request).thenApply(ResponseEntity::ok);
+    }
+
+    // 창고 간 재고 이동
+    /**
+     * @param id      : 상품 ID
+     * @param request : 출발/도착 창고 (생략 시 창고 미지정 재고), 이동 수량
+     * @return : 반영 후 출발/도착 창고 재고
+     */
+    @PostMapping("/{id}/locations/transfer")
+    public CompletableFuture<ResponseEntity<List<StockLocationDto>>> transfer(
+            @PathVariable("id") Long id,
+            @RequestBody StockTransferRequest request) {
+        return stockLocationService.transfer(id, request).thenApply(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,127 @@
+package com.staffSync.interfaces.schedule;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.schedule.ScheduleService;
+import com.staffSync.application.schedule.ShiftSetupService;
+import com.staffSync.application.schedule.dto.CoverageRequirementDto;
+import com.staffSync.application.schedule.dto.CoverageRequirementRequest;
+import com.staffSync.application.schedule.dto.CreateScheduleRequest;
+import com.staffSync.application.schedule.dto.CreateShiftTemplateRequest;
+import com.staffSync.application.schedule.dto.CreateUnavailabilityRequest;
+import com.staffSync.application.schedule.dto.ScheduleDto;
+import com.staffSync.application.schedule.dto.ShiftAssignmentDto;
+import com.staffSync.application.schedule.dto.ShiftTemplateDto;
+import com.staffSync.application.schedule.dto.UnavailabilityDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/schedules")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ShiftSetupService shiftSetupService;
+
+    // 근무 형태 목록
+    @GetMapping("/shift-templates")
+    public ResponseEntity<List<ShiftTemplateDto>> getShiftTemplates() {
+        return ResponseEntity.ok(shiftSetupService.getShiftTemplates());
+    }
+
+    // 근무 형태 등록
+    @PostMapping("/shift-templates")
+    public ResponseEntity<ShiftTemplateDto> createShiftTemplate(@RequestBody CreateShiftTemplateRequest request) {
+        return ResponseEntity.ok(shiftSetupService.createShiftTemplate(request));
+    }
+
+    // 부서의 요일/근무 형태별 필요 인원
+    @GetMapping("/coverage/{department}")
+    public ResponseEntity<List<CoverageRequirementDto>> getCoverage(@PathVariable("department") String department) {
+        return ResponseEntity.ok(shiftSetupService.getCoverage(department));
+    }
+
+    // 부서의 필요 인원 교체
+    /**
+     * @param department : 부서명
+     * @param requests   : 요일/근무 형태별 필요 인원 (빈 목록이면 근무표 대상에서 제외)
+     * @return : 저장된 필요 인원
+     */
+    @PutMapping("/coverage/{department}")
+    public ResponseEntity<List<CoverageRequirementDto>> replaceCoverage(
+            @PathVariable("department") String department,
+            @RequestBody List<CoverageRequirementRequest> requests) {
+        return ResponseEntity.ok(shiftSetupService.replaceCoverage(department, requests));
+    }
+
+    // 직원 근무 불가 목록
+    @GetMapping("/unavailability")
+    public ResponseEntity<List<UnavailabilityDto>> getUnavailability(@RequestParam("employeeId") Long employeeId) {
+        return ResponseEntity.ok(shiftSetupService.getUnavailability(employeeId));
+    }
+
+    // 직원 근무 불가 등록
+    @PostMapping("/unavailability")
+    public ResponseEntity<UnavailabilityDto> createUnavailability(@RequestBody CreateUnavailabilityRequest request) {
+        return ResponseEntity.ok(shiftSetupService.createUnavailability(request));
+    }
+
+    // 직원 근무 불가 삭제
+    @DeleteMapping("/unavailability/{id}")
+    public ResponseEntity<Void> deleteUnavailability(@PathVariable("id") Long id) {
+        shiftSetupService.deleteUnavailability(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 근무표 목록
+    @GetMapping
+    public ResponseEntity<List<ScheduleDto>> getSchedules() {
+        return ResponseEntity.ok(scheduleService.getSchedules());
+    }
+
+    // 근무표 작성 시작 (백그라운드 실행, 202 Accepted)
+    /**
+     * @param request : 시작일, 기간(주), 대상 부서 (생략하면 필요 인원이 설정된 모든 부서)
+     * @return : 생성된 근무표 (진행 상황은 GET /{id} 로 조회)
+     */
+    @PostMapping
+    public ResponseEntity<ScheduleDto> startSchedule(@RequestBody CreateScheduleRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scheduleService.startSchedule(request));
+    }
+
+    // 근무표 진행 상황/결과 조회
+    @GetMapping("/{id}")
+    public ResponseEntity<ScheduleDto> getSchedule(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(scheduleService.getSchedule(id));
+    }
+
+    // 근무 배정 조회 (부서 또는 직원 지정)
+    /**
+     * @param id         : 근무표 ID
+     * @param department : 부서 (미배정 자리 포함)
+     * @param employeeId : 직원 ID (지정하면 부서보다 우선)
+     * @return : 날짜 순 배정 목록
+     */
+    @GetMapping("/{id}/assignments")
+    public ResponseEntity<List<ShiftAssignmentDto>> getAssignments(
+            @PathVariable("id") Long id,
+            @RequestParam(value = "department", required = false) String department,
+            @RequestParam(value = "employeeId", required = false) Long employeeId) {
+        return ResponseEntity.ok(scheduleService.getAssignments(id, department, employeeId));
+    }
+}
@@ -0,0 +1,36 @@
+package com.staffSync.interfaces.sync;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.staffSync.application.sync.SyncService;
+import com.staffSync.application.sync.dto.SyncDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5173")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * 변경분 동기화 (상품/직원)
+     * 
+     * @param since 이전 응답의 cursor (생략 시 처음부터)
+     * @param limit 최대 변경 건수 (기본 500, 최대 1000)
+     * @return 등록/수정된 행, 삭제 기록, 다음 커서
+     */
+    @GetMapping
+    public ResponseEntity<SyncDto> getChanges(
+            @RequestParam(value = "since", required = false) String since,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(syncService.getChanges(since, limit));
+    }
+}
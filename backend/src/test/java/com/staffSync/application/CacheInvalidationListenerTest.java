@@ -0,0 +1,81 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.staffSync.application.cache.CacheInvalidationListener;
+import com.staffSync.application.cache.CacheNames;
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.domain.product.StockStatus;
+
+@DisplayName("CacheInvalidationListener 테스트")
+class CacheInvalidationListenerTest {
+
+    private CacheManager cacheManager;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                CacheNames.PRODUCTS, CacheNames.EMPLOYEES, CacheNames.EMPLOYEES_BY_EMPLOYEE_ID);
+        listener = new CacheInvalidationListener(cacheManager);
+    }
+
+    private ProductDto product(Long id, int quantity) {
+        return new ProductDto(id, "노트북", "전자제품", quantity, 10, 1000000.0, StockStatus.IN_STOCK, null, null, 0);
+    }
+
+    private EmployeeDto employee(Long id, String employeeId) {
+        return new EmployeeDto(id, employeeId, "홍길동", "hong@example.com", null, 3000000.0, "개발팀", null);
+    }
+
+    @Nested
+    @DisplayName("onProductChanged 메서드는")
+    class Describe_onProductChanged {
+
+        @Test
+        @DisplayName("변경된 상품만 캐시에서 제거한다")
+        void it_evicts_only_changed_product() {
+            // given
+            cacheManager.getCache(CacheNames.PRODUCTS).put(1L, product(1L, 50));
+            cacheManager.getCache(CacheNames.PRODUCTS).put(2L, product(2L, 5));
+
+            // when
+            listener.onProductChanged(ProductChangedEvent.updated(product(1L, 50), product(1L, 40)));
+
+            // then
+            assertThat(cacheManager.getCache(CacheNames.PRODUCTS).get(1L)).isNull();
+            assertThat(cacheManager.getCache(CacheNames.PRODUCTS).get(2L)).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("onEmployeeChanged 메서드는")
+    class Describe_onEmployeeChanged {
+
+        @Test
+        @DisplayName("삭제된 직원을 ID와 사원번호 캐시 모두에서 제거한다")
+        void it_evicts_both_keys() {
+            // given
+            EmployeeDto cached = employee(1L, "EMP001");
+            cacheManager.getCache(CacheNames.EMPLOYEES).put(1L, cached);
+            cacheManager.getCache(CacheNames.EMPLOYEES_BY_EMPLOYEE_ID).put("EMP001", cached);
+
+            // when
+            listener.onEmployeeChanged(EmployeeChangedEvent.deleted(cached));
+
+            // then
+            assertThat(cacheManager.getCache(CacheNames.EMPLOYEES).get(1L)).isNull();
+            assertThat(cacheManager.getCache(CacheNames.EMPLOYEES_BY_EMPLOYEE_ID).get("EMP001")).isNull();
+        }
+    }
+}
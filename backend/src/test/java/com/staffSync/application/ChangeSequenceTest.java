@@ -0,0 +1,106 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.sync.SyncEntityType;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeSequence 테스트")
+class ChangeSequenceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChangeSequence changeSequence;
+
+    @BeforeEach
+    void setUp() {
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).willReturn(10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(changeSequence);
+    }
+
+    @Nested
+    @DisplayName("stableWatermark 메서드는")
+    class Describe_stableWatermark {
+
+        @Test
+        @DisplayName("DB 최댓값 다음 번호부터 발급한다")
+        void it_continues_from_database_max() {
+            // when & then
+            assertThat(changeSequence.next()).isEqualTo(11L);
+            assertThat(changeSequence.stableWatermark()).isEqualTo(11L);
+        }
+
+        @Test
+        @DisplayName("커밋되지 않은 순번 직전까지만 공개하고, 트랜잭션이 끝나면 경계를 올린다")
+        void it_holds_back_in_flight_sequences() {
+            // given: 트랜잭션 안에서 11, 12 발급
+            TransactionSynchronizationManager.initSynchronization();
+            changeSequence.next();
+            changeSequence.next();
+
+            // then
+            assertThat(changeSequence.stableWatermark()).isEqualTo(10L);
+
+            // when: 트랜잭션 완료
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            assertThat(synchronizations).hasSize(1); // 트랜잭션당 콜백 1개
+            assertThat(changeSequence.stableWatermark()).isEqualTo(12L);
+        }
+    }
+
+    @Nested
+    @DisplayName("lastAssigned 메서드는")
+    class Describe_lastAssigned {
+
+        @Test
+        @DisplayName("트랜잭션이 끝나기 전까지 행별 마지막 순번을 돌려주고, 끝나면 잊는다")
+        void it_remembers_row_sequences_until_completion() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+            changeSequence.next(SyncEntityType.PRODUCT, 1L); // 11
+            changeSequence.next(SyncEntityType.PRODUCT, 1L); // 12
+            changeSequence.next(SyncEntityType.EMPLOYEE, 1L); // 13
+
+            // then
+            assertThat(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 1L)).isEqualTo(12L);
+            assertThat(changeSequence.lastAssigned(SyncEntityType.EMPLOYEE, 1L)).isEqualTo(13L);
+            assertThat(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 2L)).isNull();
+
+            // when: 커밋 후 리스너까지 끝나고 트랜잭션 완료
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // then
+            assertThat(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 1L)).isNull();
+        }
+    }
+}
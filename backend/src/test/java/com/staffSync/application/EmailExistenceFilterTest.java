@@ -0,0 +1,163 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.staffSync.application.cache.EmailFilterProperties;
+import com.staffSync.application.cache.dto.EmailFilterStatsDto;
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.EmployeeEmailFilter;
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.common.util.ScalableBloomFilter;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("EmailExistenceFilter 테스트")
+class EmailExistenceFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Predicate<String> existsByEmail;
+
+    private final List<String> table = new ArrayList<>(List.of("hong@example.com", "kim@example.com"));
+
+    private EmployeeEmailFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 직원 테이블 대역: 시작 시 채우기 / 다시 채우기에서 읽는 이메일 열
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String email : table) {
+                ResultSet rs = mock(ResultSet.class);
+                given(rs.getString(1)).willReturn(email);
+                handler.processRow(rs);
+            }
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        filter = new EmployeeEmailFilter(jdbcTemplate, new EmailFilterProperties());
+    }
+
+    private static EmployeeDto employee(long id, String email) {
+        return new EmployeeDto(id, "EMP00" + id, "직원" + id, email, LocalDate.of(2020, 1, 1), 50000000.0, "개발팀",
+                null);
+    }
+
+    @Nested
+    @DisplayName("exists 메서드는")
+    class Describe_exists {
+
+        @Test
+        @DisplayName("채우기 전에는 모든 검사를 DB 로 보낸다")
+        void it_falls_through_before_seeding() {
+            // given
+            given(existsByEmail.test("new@example.com")).willReturn(false);
+
+            // when
+            boolean exists = filter.exists("new@example.com", existsByEmail);
+
+            // then
+            assertThat(exists).isFalse();
+            verify(existsByEmail).test("new@example.com");
+        }
+
+        @Test
+        @DisplayName("확실히 없는 이메일은 DB 를 조회하지 않고, 있을 수 있는 이메일만 DB 결과를 따른다")
+        void it_skips_definite_negatives() {
+            // given
+            filter.initialize();
+            given(existsByEmail.test("hong@example.com")).willReturn(true);
+
+            // when & then
+            assertThat(filter.exists("hong@example.com", existsByEmail)).isTrue();
+            assertThat(filter.exists("new@example.com", existsByEmail)).isFalse();
+            verify(existsByEmail, never()).test("new@example.com");
+
+            EmailFilterStatsDto stats = filter.getStats();
+            assertThat(stats.isSeeded()).isTrue();
+            assertThat(stats.getEntries()).isEqualTo(2);
+            assertThat(stats.getChecks()).isEqualTo(2);
+            assertThat(stats.getSkippedQueries()).isEqualTo(1);
+            assertThat(stats.getMemoryBytes()).isPositive();
+        }
+
+        @Test
+        @DisplayName("커밋된 등록/이메일 변경을 반영하고, 삭제가 쌓이면 DB 기준으로 다시 채운다")
+        void it_applies_changes() {
+            // given
+            filter.initialize();
+            given(existsByEmail.test(anyString())).willReturn(true);
+
+            // when
+            filter.onEmployeeChanged(EmployeeChangedEvent.created(employee(3, "lee@example.com")));
+            filter.onEmployeeChanged(EmployeeChangedEvent.updated(
+                    employee(1, "hong@example.com"), employee(1, "hong2@example.com")));
+
+            // then
+            assertThat(filter.exists("lee@example.com", existsByEmail)).isTrue();
+            assertThat(filter.exists("hong2@example.com", existsByEmail)).isTrue();
+            assertThat(filter.getStats().getStaleEntries()).isEqualTo(1);
+
+            // when: 삭제가 넣은 수의 1/4 을 넘으면 다시 채움
+            table.remove("kim@example.com");
+            filter.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(2, "kim@example.com")));
+
+            // then
+            verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class));
+            assertThat(filter.getStats().getStaleEntries()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("ScalableBloomFilter 는")
+    class Describe_scalableBloomFilter {
+
+        @Test
+        @DisplayName("용량을 넘기면 층을 늘리고, 넣은 값은 모두 찾으며 오탐률은 목표 근처에 머문다")
+        void it_grows_without_false_negatives() {
+            // given
+            ScalableBloomFilter bloom = new ScalableBloomFilter(1_000, 0.01);
+
+            // when
+            for (int i = 0; i < 20_000; i++) {
+                bloom.put("user" + i + "@example.com");
+            }
+
+            // then
+            assertThat(bloom.layerCount()).isGreaterThan(1);
+            for (int i = 0; i < 20_000; i++) {
+                assertThat(bloom.mightContain("user" + i + "@example.com")).isTrue();
+            }
+            int falsePositives = 0;
+            for (int i = 0; i < 20_000; i++) {
+                if (bloom.mightContain("other" + i + "@example.com")) {
+                    falsePositives++;
+                }
+            }
+            assertThat(falsePositives / 20_000.0).isLessThan(0.02);
+            assertThat(bloom.estimatedFalsePositiveRate()).isLessThan(0.02);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.staffSync.application.employee.EmployeeIdAllocator;
+import com.staffSync.application.employee.EmployeeIdProperties;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("EmployeeIdAllocator 테스트")
+class EmployeeIdAllocatorTest {
+
+    private static final String NEXT_VALUE_SQL = "SELECT NEXT VALUE FOR employee_number_seq";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private EmployeeIdProperties properties;
+    private EmployeeIdAllocator allocator;
+
+    // 시퀀스 대역 (START WITH 로 시작해 INCREMENT BY 만큼 증가)
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeIdProperties();
+        properties.setBlockSize(10);
+        allocator = new EmployeeIdAllocator(jdbcTemplate, properties);
+
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).willReturn(List.of());
+        willAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            long start = Long.parseLong(sql.replaceAll(".*(START|RESTART) WITH (\\d+).*", "$2"));
+            sequence.set(start);
+            return null;
+        }).given(jdbcTemplate).execute(matches(".*(START|RESTART) WITH.*"));
+        given(jdbcTemplate.queryForObject(NEXT_VALUE_SQL, Long.class))
+                .willAnswer(invocation -> sequence.getAndAdd(properties.getBlockSize()));
+    }
+
+    @Nested
+    @DisplayName("next 메서드는")
+    class Describe_next {
+
+        @Test
+        @DisplayName("기존 사원번호 다음 번호부터 형식에 맞춰 발급한다")
+        void it_continues_after_existing_ids() {
+            // given
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                    .willReturn(List.of("EMP001", "EMP007", "EMPX1"));
+
+            // when
+            String first = allocator.next();
+            String second = allocator.next();
+
+            // then
+            assertThat(first).isEqualTo("EMP008");
+            assertThat(second).isEqualTo("EMP009");
+            verify(jdbcTemplate).execute(contains("START WITH 8 INCREMENT BY 10"));
+        }
+
+        @Test
+        @DisplayName("자릿수가 다른 기존 사원번호는 바꾸지 않고 가장 큰 번호 뒤부터 발급한다")
+        void it_leaves_existing_ids_alone() {
+            // given: 다른 자릿수로 발급된 번호가 섞여 있음
+            properties.setDigits(8);
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                    .willReturn(List.of("EMP007", "EMP1000", "EMP00000012"));
+
+            // when
+            String id = allocator.next();
+
+            // then
+            assertThat(id).isEqualTo("EMP00001001");
+            verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+            verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("블록을 다 쓸 때만 시퀀스를 조회한다")
+        void it_fetches_sequence_once_per_block() {
+            // when
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                ids.add(allocator.next());
+            }
+
+            // then
+            assertThat(ids).doesNotHaveDuplicates();
+            assertThat(ids.get(0)).isEqualTo("EMP001");
+            assertThat(ids.get(24)).isEqualTo("EMP025");
+            verify(jdbcTemplate, times(3)).queryForObject(NEXT_VALUE_SQL, Long.class);
+        }
+
+        @Test
+        @DisplayName("설정한 접두어와 자릿수로 0을 채워 발급한다")
+        void it_applies_configured_format() {
+            // given
+            properties.setPrefix("E");
+            properties.setDigits(6);
+
+            // when & then
+            assertThat(allocator.next()).isEqualTo("E000001");
+        }
+
+        @Test
+        @DisplayName("시퀀스가 기존 번호보다 뒤처져 있으면 기존 최댓값 다음으로 다시 시작한다")
+        void it_restarts_stale_sequence() {
+            // given
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                    .willReturn(List.of("EMP040"));
+            willDoNothing().given(jdbcTemplate).execute(startsWith("CREATE SEQUENCE"));
+            sequence.set(11); // 이미 있던 시퀀스
+
+            // when
+            String id = allocator.next();
+
+            // then
+            assertThat(id).isEqualTo("EMP041");
+            verify(jdbcTemplate).execute(contains("RESTART WITH 41"));
+        }
+
+        @Test
+        @DisplayName("동시에 발급해도 번호가 겹치지 않는다")
+        void it_is_unique_under_concurrency() throws Exception {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            Set<String> ids = ConcurrentHashMap.newKeySet();
+            List<Future<?>> futures = new ArrayList<>();
+
+            // when
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        ids.add(allocator.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+
+            // then
+            assertThat(ids).hasSize(4000);
+            verify(jdbcTemplate, times(400)).queryForObject(NEXT_VALUE_SQL, Long.class);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.bulk.BulkImportProperties;
+import com.staffSync.application.bulk.CsvBulkImporter;
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.employee.EmployeeIdAllocator;
+import com.staffSync.application.employee.EmployeeImportService;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.employee.EmployeeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeImportService 테스트")
+class EmployeeImportServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeIdAllocator employeeIdAllocator;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EmployeeImportService employeeImportService;
+
+    @BeforeEach
+    void setUp() {
+        CsvBulkImporter importer = new CsvBulkImporter(new BulkImportProperties(), transactionManager);
+        employeeImportService = new EmployeeImportService(importer, employeeRepository, employeeIdAllocator, jdbcTemplate, changeSequence, eventPublisher);
+    }
+
+    @Nested
+    @DisplayName("importCsv 메서드는")
+    class Describe_importCsv {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("이메일 중복/형식 오류 행을 제외하고 사원번호를 이어서 부여한다")
+        void it_rejects_duplicates_and_assigns_employee_ids() throws Exception {
+            // given
+            given(employeeIdAllocator.next()).willReturn("EMP001", "EMP002");
+            given(employeeRepository.findAllEmails()).willReturn(List.of("hong@example.com"));
+            String content = "name,email,hireDate,salary,department\n"
+                    + "홍길동,hong@example.com,2020-01-01,3000000,개발팀\n" // 기존 이메일
+                    + "김철수,kim@example.com,2021-03-02,3500000,영업팀\n"
+                    + "김철수2,kim@example.com,2021-03-02,3500000,영업팀\n" // 파일 내 중복
+                    + "이영희,not-an-email,2022-05-01,4000000,\n" // 이메일 형식
+                    + "박민수,park@example.com,2023/01/01,4000000,\n" // 날짜 형식
+                    + "최지우,choi@example.com,2024-07-15,4200000,\n";
+
+            // when
+            ImportResultDto result = employeeImportService.importCsv(
+                    new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+            // then
+            assertThat(result.getImportedRows()).isEqualTo(2);
+            assertThat(result.getFailedRows()).isEqualTo(4);
+            assertThat(result.getErrors()).extracting("line").containsExactlyInAnyOrder(2L, 4L, 5L, 6L);
+
+            ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate).batchUpdate(anyString(), batch.capture());
+            assertThat(batch.getValue()).extracting(row -> row[0]).containsExactly("EMP001", "EMP002");
+            assertThat(batch.getValue()).extracting(row -> row[5]).containsExactly("영업팀", null);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package com.staffSync.application;
 
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.EmployeeEmailFilter;
+import com.staffSync.application.employee.EmployeeIdAllocator;
 import com.staffSync.application.employee.EmployeeService;
+import com.staffSync.application.employee.EmployeeSuggestIndex;
+import com.staffSync.application.employee.SalaryAnalytics;
 import com.staffSync.application.employee.dto.CreateEmployeeRequest;
 import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.EmployeePageDto;
+import com.staffSync.application.employee.dto.EmployeeSearchCondition;
 import com.staffSync.application.employee.dto.UpdateEmployeeRequest;
 import com.staffSync.domain.employee.Employee;
 import com.staffSync.domain.employee.EmployeeRepository;
@@ -10,18 +17,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -32,6 +46,21 @@ class EmployeeServiceTest {
     @Mock
     private EmployeeRepository employeeRepository;
 
+    @Mock
+    private EmployeeIdAllocator employeeIdAllocator;
+
+    @Mock
+    private SalaryAnalytics salaryAnalytics;
+
+    @Mock
+    private EmployeeSuggestIndex employeeSuggestIndex;
+
+    @Mock
+    private EmployeeEmailFilter employeeEmailFilter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EmployeeService employeeService;
 
@@ -42,6 +71,10 @@ class EmployeeServiceTest {
 
     @BeforeEach
     void setUp() {
+        // 블룸 필터는 항상 "있을 수 있음" (existsByEmail 로 그대로 넘김)
+        lenient().when(employeeEmailFilter.exists(any(), any())).thenAnswer(
+                invocation -> invocation.<Predicate<String>>getArgument(1).test(invocation.getArgument(0)));
+
         employee1 = createTestEmployee(1L, "EMP001", "홍길동", "hong@example.com", LocalDate.of(2020, 1, 1),
                 50000000.0, "개발팀");
         employee2 = createTestEmployee(2L, "EMP002", "김철수", "kim@example.com", LocalDate.of(2021, 3, 15),
@@ -150,7 +183,7 @@ class EmployeeServiceTest {
     @DisplayName("새로운 직원을 등록한다 (첫 직원) - 성공")
     void createEmployee_firstEmployee_success() {
         // given
-        when(employeeRepository.findTopByOrderByIdDesc()).thenReturn(Optional.empty());
+        when(employeeIdAllocator.next()).thenReturn("EMP001");
         when(employeeRepository.existsByEmail(createRequest.getEmail())).thenReturn(false);
         // when save is called, return the same employee object passed to it.
         when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -161,7 +194,7 @@ class EmployeeServiceTest {
         // then
         assertThat(result.getName()).isEqualTo(createRequest.getName());
         assertThat(result.getEmployeeId()).isEqualTo("EMP001");
-        verify(employeeRepository, times(1)).findTopByOrderByIdDesc();
+        verify(employeeIdAllocator, times(1)).next();
         verify(employeeRepository, times(1)).existsByEmail(createRequest.getEmail());
         verify(employeeRepository, times(1)).save(any(Employee.class));
     }
@@ -170,7 +203,7 @@ class EmployeeServiceTest {
     @DisplayName("새로운 직원을 등록한다 (기존 직원 존재) - 성공")
     void createEmployee_subsequentEmployee_success() {
         // given
-        when(employeeRepository.findTopByOrderByIdDesc()).thenReturn(Optional.of(employee1)); // employee1 has EMP001
+        when(employeeIdAllocator.next()).thenReturn("EMP002"); // EMP001 은 이미 발급됨
         when(employeeRepository.existsByEmail(createRequest.getEmail())).thenReturn(false);
         when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -180,7 +213,7 @@ class EmployeeServiceTest {
         // then
         assertThat(result.getName()).isEqualTo(createRequest.getName());
         assertThat(result.getEmployeeId()).isEqualTo("EMP002");
-        verify(employeeRepository, times(1)).findTopByOrderByIdDesc();
+        verify(employeeIdAllocator, times(1)).next();
         verify(employeeRepository, times(1)).existsByEmail(createRequest.getEmail());
         verify(employeeRepository, times(1)).save(any(Employee.class));
     }
@@ -193,7 +226,7 @@ class EmployeeServiceTest {
         assertThrows(IllegalArgumentException.class, () -> employeeService.createEmployee(createRequest));
 
         verify(employeeRepository, times(1)).existsByEmail(createRequest.getEmail());
-        verify(employeeRepository, never()).findTopByOrderByIdDesc();
+        verify(employeeIdAllocator, never()).next();
         verify(employeeRepository, never()).save(any(Employee.class));
     }
 
@@ -215,6 +248,7 @@ class EmployeeServiceTest {
         // Only verify existsByEmail if email is changing AND it's not the employee's
         // original email
         verify(employeeRepository, times(1)).existsByEmail(updateRequest.getEmail());
+        verify(eventPublisher, times(1)).publishEvent(any(EmployeeChangedEvent.class));
     }
 
     @Test
@@ -241,22 +275,119 @@ class EmployeeServiceTest {
     @Test
     @DisplayName("직원을 삭제한다 - 성공")
     void deleteEmployee_success() {
-        when(employeeRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(employeeRepository).deleteById(1L);
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee1));
 
         employeeService.deleteEmployee(1L);
 
-        verify(employeeRepository, times(1)).existsById(1L);
-        verify(employeeRepository, times(1)).deleteById(1L);
+        verify(employeeRepository, times(1)).findById(1L);
+        verify(employeeRepository, times(1)).delete(employee1);
+        // 캐시 무효화를 위해 삭제 전 정보(사원번호 포함)를 담은 이벤트 발행
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) -> event instanceof EmployeeChangedEvent changed
+                && changed.getAfter() == null
+                && "EMP001".equals(changed.getBefore().getEmployeeId())));
     }
 
     @Test
     @DisplayName("직원을 삭제한다 - 실패 (직원 없음)")
     void deleteEmployee_notFound() {
-        when(employeeRepository.existsById(anyLong())).thenReturn(false);
+        when(employeeRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         assertThrows(IllegalArgumentException.class, () -> employeeService.deleteEmployee(99L));
-        verify(employeeRepository, times(1)).existsById(99L);
-        verify(employeeRepository, never()).deleteById(anyLong());
+        verify(employeeRepository, times(1)).findById(99L);
+        verify(employeeRepository, never()).delete(any(Employee.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private void givenWindow(List<Employee> employees, boolean hasNext) {
+        when(employeeRepository.findBy(ArgumentMatchers.<Specification<Employee>>any(), any()))
+                .thenReturn(Window.from(employees, ScrollPosition::offset, hasNext));
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 첫 페이지는 상한까지 건수를 세고 다음 페이지 커서를 반환한다")
+    void queryEmployees_firstPage_countsAndReturnsCursor() {
+        EmployeeSearchCondition condition = new EmployeeSearchCondition("개발팀", null, null, 40000000.0, null, null);
+        givenWindow(List.of(employee1), true);
+        when(employeeRepository.countUpTo(ArgumentMatchers.<Specification<Employee>>any(), anyInt())).thenReturn(3L);
+
+        EmployeePageDto page = employeeService.queryEmployees(condition, 1, "salary", "asc", null);
+
+        assertThat(page.getContent()).extracting(EmployeeDto::getEmployeeId).containsExactly("EMP001");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotBlank();
+        assertThat(page.getTotalCount()).isEqualTo(3L);
+        assertThat(page.isTotalCountExact()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 다음 페이지는 건수를 다시 세지 않고 커서의 건수를 사용한다")
+    void queryEmployees_nextPage_reusesCount() {
+        EmployeeSearchCondition condition = new EmployeeSearchCondition("개발팀", null, null, null, null, null);
+        givenWindow(List.of(employee1), true);
+        when(employeeRepository.countUpTo(ArgumentMatchers.<Specification<Employee>>any(), anyInt())).thenReturn(2L);
+        String cursor = employeeService.queryEmployees(condition, 1, "hireDate", "desc", null).getNextCursor();
+        givenWindow(List.of(employee2), false);
+
+        EmployeePageDto page = employeeService.queryEmployees(condition, 1, "hireDate", "desc", cursor);
+
+        assertThat(page.getContent()).extracting(EmployeeDto::getEmployeeId).containsExactly("EMP002");
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalCount()).isEqualTo(2L);
+        verify(employeeRepository, times(1)).countUpTo(ArgumentMatchers.<Specification<Employee>>any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 한 페이지로 끝나면 건수를 따로 세지 않는다")
+    void queryEmployees_singlePage_skipsCount() {
+        givenWindow(List.of(employee1, employee2), false);
+
+        EmployeePageDto page = employeeService.queryEmployees(new EmployeeSearchCondition(), 20, "id", "asc", null);
+
+        assertThat(page.getTotalCount()).isEqualTo(2L);
+        assertThat(page.isTotalCountExact()).isTrue();
+        verify(employeeRepository, never()).countUpTo(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 다른 조건으로 만든 커서를 받으면 예외가 발생한다")
+    void queryEmployees_cursorOfOtherCondition() {
+        givenWindow(List.of(employee1), true);
+        String cursor = employeeService.queryEmployees(
+                new EmployeeSearchCondition("개발팀", null, null, null, null, null), 1, "id", "asc", null)
+                .getNextCursor();
+        EmployeeSearchCondition other = new EmployeeSearchCondition("디자인팀", null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(other, 1, "id", "asc", cursor));
+    }
+
+    @Test
+    @DisplayName("복합 조건 조회 - 범위가 뒤집힌 조건이면 예외가 발생한다")
+    void queryEmployees_invalidRange() {
+        EmployeeSearchCondition condition = new EmployeeSearchCondition(
+                null, LocalDate.of(2022, 1, 1), LocalDate.of(2021, 1, 1), null, null, null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(condition, 20, "id", "asc", null));
+        verify(employeeRepository, never()).findBy(ArgumentMatchers.<Specification<Employee>>any(), any());
+    }
+
+    @Test
+    @DisplayName("자동완성 - 메모리 색인에서 찾고 저장소는 조회하지 않는다")
+    void suggestEmployees() {
+        EmployeeDto dto = EmployeeDto.from(employee2);
+        when(employeeSuggestIndex.suggest("김철", 10)).thenReturn(List.of(dto));
+
+        List<EmployeeDto> result = employeeService.suggestEmployees("김철", 10);
+
+        assertThat(result).containsExactly(dto);
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 결과 수가 범위를 벗어나면 예외가 발생한다")
+    void suggestEmployees_invalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> employeeService.suggestEmployees("김", 21));
+        verify(employeeSuggestIndex, never()).suggest(anyString(), anyInt());
     }
 }
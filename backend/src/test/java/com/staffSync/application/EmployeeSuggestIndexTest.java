@@ -0,0 +1,154 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.EmployeeSuggestIndex;
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmployeeSuggestIndex 테스트")
+class EmployeeSuggestIndexTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSuggestIndex(employeeRepository);
+        index.rebuild(List.of(
+                employee(1, "EMP001", "김철수", "chulsoo.kim@example.com"),
+                employee(2, "EMP002", "김철", "kim@example.com"),
+                employee(3, "EMP010", "김영희", "younghee@example.com"),
+                employee(4, "EMP011", "Kevin Lee", "kevin@example.com")));
+    }
+
+    private static EmployeeDto employee(long id, String employeeId, String name, String email) {
+        return new EmployeeDto(id, employeeId, name, email, LocalDate.of(2020, 1, 1), 50000000.0, "개발팀", null);
+    }
+
+    private List<Long> suggestIds(String query, int limit) {
+        return index.suggest(query, limit).stream().map(EmployeeDto::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("suggest 메서드는")
+    class Describe_suggest {
+
+        @Test
+        @DisplayName("이름 접두어(입력 중인 음절 포함)로 찾고 완전 일치를 먼저 반환한다")
+        void it_matches_name_prefix() {
+            assertThat(suggestIds("김철", 10)).containsExactly(2L, 1L);
+            assertThat(suggestIds("김처", 10)).containsExactlyInAnyOrder(1L, 2L);
+            assertThat(suggestIds("김", 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("초성, 사원번호, 이메일 아이디로도 찾는다 (대소문자 무시)")
+        void it_matches_choseong_employee_id_and_email() {
+            assertThat(suggestIds("ㄱㅊㅅ", 10)).containsExactly(1L);
+            assertThat(suggestIds("emp01", 10)).containsExactly(3L, 4L);
+            assertThat(suggestIds("chul", 10)).containsExactly(1L);
+            assertThat(suggestIds("kevinl", 10)).containsExactly(4L);
+            assertThat(suggestIds("example", 10)).isEmpty(); // 도메인은 색인하지 않음
+        }
+
+        @Test
+        @DisplayName("같은 직원이 여러 키로 일치해도 한 번만, limit 명까지만 반환한다")
+        void it_deduplicates_and_limits() {
+            assertThat(suggestIds("k", 10)).containsExactlyInAnyOrder(2L, 4L);
+            assertThat(suggestIds("emp0", 2)).hasSize(2);
+            assertThat(suggestIds("", 10)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("initialize 메서드는")
+    class Describe_initialize {
+
+        @Test
+        @DisplayName("전체 직원을 읽는 동안 들어온 변경 이벤트는 버리지 않고 색인이 열린 뒤 반영한다")
+        void it_applies_events_after_load() throws Exception {
+            // given: 5번을 읽는 동안 이름을 바꾼 커밋의 이벤트가 들어옴 (읽은 행은 바꾸기 전 이름)
+            Employee loaded = new Employee("EMP012", "박민수", "park@example.com", LocalDate.of(2020, 1, 1),
+                    50000000.0, "개발팀");
+            ReflectionTestUtils.setField(loaded, "id", 5L);
+            EmployeeChangedEvent renamed = EmployeeChangedEvent.updated(
+                    employee(5, "EMP012", "박민수", "park@example.com"),
+                    employee(5, "EMP012", "정민수", "park@example.com"));
+            AtomicReference<CompletableFuture<Void>> event = new AtomicReference<>();
+            given(employeeRepository.findAll()).willAnswer(invocation -> {
+                event.set(CompletableFuture.runAsync(() -> index.onEmployeeChanged(renamed)));
+                Thread.sleep(100);
+                assertThat(event.get()).isNotDone(); // 적재가 끝날 때까지 기다린다
+                return List.of(loaded);
+            });
+
+            // when
+            index.initialize();
+            event.get().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(suggestIds("박민", 10)).isEmpty();
+            assertThat(suggestIds("정민", 10)).containsExactly(5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("onEmployeeChanged 메서드는")
+    class Describe_onEmployeeChanged {
+
+        @Test
+        @DisplayName("등록/수정/삭제를 반영하고, 지운 키는 더 이상 찾지 않는다")
+        void it_applies_changes() {
+            // when
+            index.onEmployeeChanged(EmployeeChangedEvent.created(employee(5, "EMP012", "박민수", "park@example.com")));
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(
+                    employee(1, "EMP001", "김철수", "chulsoo.kim@example.com"),
+                    employee(1, "EMP001", "최철수", "chulsoo.kim@example.com")));
+            index.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(2, "EMP002", "김철", "kim@example.com")));
+
+            // then
+            assertThat(suggestIds("박민", 10)).containsExactly(5L);
+            assertThat(suggestIds("김철", 10)).isEmpty();
+            assertThat(suggestIds("최", 10)).containsExactly(1L);
+            assertThat(suggestIds("김", 10)).containsExactly(3L);
+            assertThat(suggestIds("kim", 10)).isEmpty();
+            assertThat(suggestIds("emp00", 10)).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("키가 바뀌지 않은 수정은 응답용 정보만 교체한다")
+        void it_replaces_response_only() {
+            // when
+            EmployeeDto updated = new EmployeeDto(3L, "EMP010", "김영희", "younghee@example.com",
+                    LocalDate.of(2020, 1, 1), 70000000.0, "디자인팀", null);
+            index.onEmployeeChanged(EmployeeChangedEvent.updated(
+                    employee(3, "EMP010", "김영희", "younghee@example.com"), updated));
+
+            // then
+            assertThat(index.suggest("김영", 10)).singleElement()
+                    .extracting(EmployeeDto::getDepartment).isEqualTo("디자인팀");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import com.staffSync.application.cache.FencedCache;
+
+@DisplayName("FencedCache 테스트")
+class FencedCacheTest {
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new FencedCache(new ConcurrentMapCache("products"));
+    }
+
+    @Nested
+    @DisplayName("get(key, loader) 메서드는")
+    class Describe_get {
+
+        @Test
+        @DisplayName("조회 중에 무효화가 없으면 읽은 값을 적재한다")
+        void it_stores_loaded_value() {
+            // when
+            String value = cache.get(1L, () -> "신규");
+
+            // then
+            assertThat(value).isEqualTo("신규");
+            assertThat(cache.get(1L, String.class)).isEqualTo("신규");
+        }
+
+        @Test
+        @DisplayName("조회 중에 커밋 이후 무효화가 끝나면 읽은 값을 반환만 하고 적재하지 않는다")
+        void it_skips_stale_refill() {
+            // when: DB 에서 이전 값을 읽은 뒤, 적재 전에 다른 트랜잭션의 커밋과 무효화가 끝남
+            String value = cache.get(1L, () -> {
+                cache.evict(1L);
+                return "이전";
+            });
+
+            // then
+            assertThat(value).isEqualTo("이전");
+            assertThat(cache.get(1L)).isNull();
+            assertThat(cache.get(1L, () -> "신규")).isEqualTo("신규");
+            assertThat(cache.get(1L, String.class)).isEqualTo("신규");
+        }
+
+        @Test
+        @DisplayName("다른 키의 무효화는 적재를 막지 않는다")
+        void it_ignores_other_keys() {
+            // when
+            cache.get(1L, () -> {
+                cache.evict(2L);
+                return "값";
+            });
+
+            // then
+            assertThat(cache.get(1L, String.class)).isEqualTo("값");
+        }
+
+        @Test
+        @DisplayName("전체 무효화도 진행 중인 조회의 적재를 막는다")
+        void it_skips_refill_after_clear() {
+            // when
+            cache.get(1L, () -> {
+                cache.clear();
+                return "이전";
+            });
+
+            // then
+            assertThat(cache.get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("조회가 실패하면 원래 예외를 감싸 던지고, 다음 조회는 정상 적재한다")
+        void it_wraps_loader_failure() {
+            // when & then
+            assertThatThrownBy(() -> cache.get(1L, () -> {
+                throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+            }))
+                    .isInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(cache.get(1L, () -> "값")).isEqualTo("값");
+            assertThat(cache.get(1L, String.class)).isEqualTo("값");
+        }
+    }
+}
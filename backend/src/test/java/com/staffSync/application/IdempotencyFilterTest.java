@@ -0,0 +1,315 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.staffSync.domain.idempotency.IdempotencyRecord;
+import com.staffSync.domain.idempotency.IdempotencyRecordRepository;
+import com.staffSync.infrastructure.web.IdempotencyFilter;
+import com.staffSync.infrastructure.web.IdempotencyProperties;
+import com.staffSync.infrastructure.web.IdempotencyStore;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter 테스트")
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setWaitTimeoutMs(5000);
+        filter = new IdempotencyFilter(new IdempotencyStore(repository, properties), properties);
+        executions = new AtomicInteger();
+    }
+
+    private MockHttpServletRequest request(String key, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        return request;
+    }
+
+    private MockHttpServletRequest jsonRequest(String key, String uri, String body) {
+        MockHttpServletRequest request = request(key, uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    // 실행 횟수를 세고 실행 번호를 본문으로 쓰는 컨트롤러 대역
+    private FilterChain handler(int status) {
+        return (req, res) -> {
+            int count = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(status);
+            res.setContentType("application/json");
+            res.getOutputStream().write(("{\"run\":" + count + "}").getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    @Nested
+    @DisplayName("같은 키로 다시 보낸 요청은")
+    class Describe_replay {
+
+        @Test
+        @DisplayName("컨트롤러를 다시 실행하지 않고 처음 응답을 돌려준다")
+        void it_replays_first_response() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            MockHttpServletResponse first = send(request("key-1", "/api/employees"), handler(201));
+
+            // when
+            MockHttpServletResponse second = send(request("key-1", "/api/employees"), handler(201));
+
+            // then
+            assertThat(executions.get()).isEqualTo(1);
+            assertThat(first.getContentAsString()).isEqualTo("{\"run\":1}");
+            assertThat(second.getStatus()).isEqualTo(201);
+            assertThat(second.getContentAsString()).isEqualTo("{\"run\":1}");
+            assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            verify(repository).save(any(IdempotencyRecord.class));
+        }
+
+        @Test
+        @DisplayName("메모리에 없으면 DB에 남은 응답을 돌려준다")
+        void it_replays_persisted_response() throws Exception {
+            // given
+            IdempotencyRecord record = new IdempotencyRecord("anonymous:key-1", "POST /api/employees", 201,
+                    "application/json", "{\"run\":7}".getBytes(StandardCharsets.UTF_8), LocalDateTime.now());
+            given(repository.findById("anonymous:key-1")).willReturn(Optional.of(record));
+
+            // when
+            MockHttpServletResponse response = send(request("key-1", "/api/employees"), handler(201));
+
+            // then
+            assertThat(executions.get()).isZero();
+            assertThat(response.getContentAsString()).isEqualTo("{\"run\":7}");
+        }
+
+        @Test
+        @DisplayName("다른 요청에 쓰인 키면 422 를 반환한다")
+        void it_rejects_key_reuse() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            send(request("key-1", "/api/products/1/stock/increase"), handler(200));
+
+            // when
+            MockHttpServletResponse response = send(request("key-1", "/api/products/2/stock/increase"), handler(200));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(executions.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("본문이 있는 요청은")
+    class Describe_body {
+
+        @Test
+        @DisplayName("같은 키에 본문이 다르면 처음 응답을 재현하지 않고 422 를 반환한다")
+        void it_rejects_key_reuse_with_different_body() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            send(jsonRequest("key-1", "/api/employees", "{\"name\":\"김철수\"}"), handler(201));
+
+            // when
+            MockHttpServletResponse response = send(
+                    jsonRequest("key-1", "/api/employees", "{\"name\":\"이영희\"}"), handler(201));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(422);
+            assertThat(executions.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 본문이면 처음 응답을 재현하고, 컨트롤러는 지문 계산 후에도 본문을 그대로 읽는다")
+        void it_replays_same_body() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            String body = "{\"name\":\"김철수\"}";
+            FilterChain echo = (req, res) -> {
+                executions.incrementAndGet();
+                ((HttpServletResponse) res).setStatus(201);
+                res.getOutputStream().write(req.getInputStream().readAllBytes());
+            };
+            MockHttpServletResponse first = send(jsonRequest("key-1", "/api/employees", body), echo);
+
+            // when
+            MockHttpServletResponse second = send(jsonRequest("key-1", "/api/employees", body), echo);
+
+            // then
+            assertThat(first.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(body);
+            assertThat(second.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(body);
+            assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+            assertThat(executions.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("처리에 실패한 요청은")
+    class Describe_failure {
+
+        @Test
+        @DisplayName("저장하지 않고 재시도를 다시 실행한다")
+        void it_releases_key() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            send(request("key-1", "/api/employees"), handler(400));
+
+            // when
+            MockHttpServletResponse retry = send(request("key-1", "/api/employees"), handler(201));
+
+            // then
+            assertThat(executions.get()).isEqualTo(2);
+            assertThat(retry.getStatus()).isEqualTo(201);
+            verify(repository, times(1)).save(any(IdempotencyRecord.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("처리 중인 같은 키의 요청은")
+    class Describe_concurrent {
+
+        @Test
+        @DisplayName("먼저 온 요청이 끝날 때까지 기다렸다가 그 응답을 받는다")
+        void it_waits_for_first_request() throws Exception {
+            // given
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain slow = (req, res) -> {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handler(201).doFilter(req, res);
+            };
+            CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(request("key-1", "/api/employees"), slow);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            entered.await(5, TimeUnit.SECONDS);
+
+            // when
+            CompletableFuture<MockHttpServletResponse> second = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(request("key-1", "/api/employees"), handler(201));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"run\":1}");
+            assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"run\":1}");
+            assertThat(executions.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("완료 캐시가 가득 차도 처리 중인 키는 밀려나지 않아 중복 실행되지 않는다")
+        void it_keeps_in_flight_key_beyond_cache_size() throws Exception {
+            // given
+            IdempotencyProperties properties = new IdempotencyProperties();
+            properties.setWaitTimeoutMs(5000);
+            properties.setMaximumSize(1);
+            filter = new IdempotencyFilter(new IdempotencyStore(repository, properties), properties);
+            given(repository.findById(anyString())).willReturn(Optional.empty());
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            FilterChain slow = (req, res) -> {
+                entered.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handler(201).doFilter(req, res);
+            };
+            CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(request("key-1", "/api/employees"), slow);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            entered.await(5, TimeUnit.SECONDS);
+            for (int i = 2; i <= 50; i++) {
+                send(request("key-" + i, "/api/employees"), handler(201));
+            }
+
+            // when
+            CompletableFuture<MockHttpServletResponse> second = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(request("key-1", "/api/employees"), handler(201));
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            String firstBody = first.get(5, TimeUnit.SECONDS).getContentAsString();
+            assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo(firstBody);
+            assertThat(executions.get()).isEqualTo(50);
+        }
+    }
+
+    @Nested
+    @DisplayName("키가 없는 요청은")
+    class Describe_without_key {
+
+        @Test
+        @DisplayName("매번 실행한다")
+        void it_passes_through() throws Exception {
+            // when
+            send(request(null, "/api/employees"), handler(201));
+            send(request(null, "/api/employees"), handler(201));
+
+            // then
+            assertThat(executions.get()).isEqualTo(2);
+            verifyNoInteractions(repository);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.leave.LeaveAccrualPolicy;
+import com.staffSync.application.leave.LeaveAccrualService;
+import com.staffSync.application.leave.LeaveProperties;
+import com.staffSync.application.leave.dto.LeaveAccrualResultDto;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LeaveAccrualService 테스트")
+class LeaveAccrualServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 3, 2);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LeaveAccrualService accrualService;
+
+    // 잔여 행이 없는 직원 1 ~ 5, 발생일이 지난 직원 11 ~ 17 (id -> 입사일)
+    private final Map<Long, LocalDate> unopened = new ConcurrentHashMap<>();
+    private final Map<Long, LocalDate> due = new ConcurrentHashMap<>();
+
+    private final List<Object[]> inserted = Collections.synchronizedList(new ArrayList<>());
+    private final List<Object[]> updated = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        LeaveProperties properties = new LeaveProperties();
+        properties.setChunkSize(2);
+        properties.setParallelism(3);
+        accrualService = new LeaveAccrualService(new LeaveAccrualPolicy(), jdbcTemplate, transactionManager,
+                properties);
+
+        for (long id = 1; id <= 5; id++) {
+            unopened.put(id, AS_OF.minusMonths(id)); // 입사 1 ~ 5개월
+        }
+        for (long id = 11; id <= 17; id++) {
+            due.put(id, AS_OF.minusYears(id - 10)); // 오늘이 입사 1 ~ 7주년
+        }
+
+        given(jdbcTemplate.query(startsWith("SELECT e.id"), any(RowMapper.class), any(Object[].class)))
+                .willAnswer(invocation -> rows(unopened, invocation.getArgument(1), invocation.getArgument(2),
+                        invocation.getArgument(3)));
+        given(jdbcTemplate.query(startsWith("SELECT b.employee_id"), any(RowMapper.class), any(Object[].class)))
+                .willAnswer(invocation -> rows(due, invocation.getArgument(1), invocation.getArgument(3),
+                        invocation.getArgument(4)));
+        given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO leave_balances"), anyList())).willAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            inserted.addAll(batch);
+            return ones(batch.size());
+        });
+        given(jdbcTemplate.batchUpdate(startsWith("UPDATE leave_balances"), anyList())).willAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            updated.addAll(batch);
+            return ones(batch.size());
+        });
+    }
+
+    // id > afterId 인 직원을 limit 명까지 (id 순)
+    private static List<Object> rows(Map<Long, LocalDate> table, RowMapper<Object> mapper, long afterId, int limit)
+            throws Exception {
+        List<Object> rows = new ArrayList<>();
+        for (long id : table.keySet().stream().sorted().toList()) {
+            if (id > afterId && rows.size() < limit) {
+                rows.add(mapper.mapRow(employeeRow(id, table.get(id)), 0));
+            }
+        }
+        return rows;
+    }
+
+    private static ResultSet employeeRow(long id, LocalDate hireDate) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getDate("hire_date")).willReturn(Date.valueOf(hireDate));
+        return rs;
+    }
+
+    private static int[] ones(int size) {
+        int[] counts = new int[size];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+
+    @Nested
+    @DisplayName("run 메서드는")
+    class Describe_run {
+
+        @Test
+        @DisplayName("잔여 행이 없는 직원은 만들고, 발생일이 지난 직원만 청크 단위로 다시 계산한다")
+        void it_opens_and_accrues_in_chunks() {
+            // when
+            LeaveAccrualResultDto result = accrualService.run(AS_OF);
+
+            // then
+            assertThat(result.getOpenedCount()).isEqualTo(5);
+            assertThat(result.getAccruedCount()).isEqualTo(7);
+            assertThat(inserted).extracting(row -> row[0]).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+            assertThat(inserted).filteredOn(row -> row[0].equals(3L)).singleElement()
+                    .satisfies(row -> assertThat(row[3]).isEqualTo(3.0)); // 입사 3개월: 3일
+            verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO leave_balances"), anyList());
+            verify(jdbcTemplate, times(4)).batchUpdate(startsWith("UPDATE leave_balances"), anyList());
+
+            // 입사 5주년: 새 기간(오늘 시작) 17일, 다음 발생일은 1년 뒤
+            assertThat(updated).filteredOn(row -> row[6].equals(15L)).singleElement().satisfies(row -> {
+                assertThat(row[1]).isEqualTo(Date.valueOf(AS_OF));
+                assertThat(row[3]).isEqualTo(17.0);
+                assertThat(row[4]).isEqualTo(Date.valueOf(AS_OF.plusYears(1)));
+                assertThat(row[7]).isEqualTo(Date.valueOf(AS_OF));
+            });
+        }
+
+        @Test
+        @DisplayName("미래 기준일로는 실행할 수 없다")
+        void it_rejects_future_date() {
+            assertThatThrownBy(() -> accrualService.run(LocalDate.now().plusDays(1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("open 메서드는")
+    class Describe_open {
+
+        @Test
+        @DisplayName("입사일 기준 현재 연차 기간과 발생 일수로 한 행을 만든다")
+        void it_opens_single_balance() {
+            // given
+            given(jdbcTemplate.update(startsWith("INSERT INTO leave_balances"), any(Object[].class))).willReturn(1);
+            LocalDate hired = LocalDate.of(2020, 3, 2);
+
+            // when
+            boolean opened = accrualService.open(9L, hired, AS_OF);
+
+            // then
+            LeaveAccrualPolicy.Entitlement expected = new LeaveAccrualPolicy().entitlement(hired, AS_OF);
+            assertThat(opened).isTrue();
+            verify(jdbcTemplate).update(startsWith("INSERT INTO leave_balances"), eq(9L),
+                    eq(Date.valueOf(expected.periodStart())), eq(Date.valueOf(expected.periodEnd())), eq(17.0),
+                    eq(Date.valueOf(expected.nextAccrualDate())), any());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.leave.LeaveAccrualPolicy;
+import com.staffSync.application.leave.LeaveAccrualService;
+import com.staffSync.application.leave.LeaveService;
+import com.staffSync.application.leave.dto.LeaveBalanceDto;
+import com.staffSync.application.leave.dto.LeaveRecordDto;
+import com.staffSync.application.leave.dto.TakeLeaveRequest;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.leave.LeaveBalance;
+import com.staffSync.domain.leave.LeaveBalanceRepository;
+import com.staffSync.domain.leave.LeaveRecord;
+import com.staffSync.domain.leave.LeaveRecordRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("LeaveService 테스트")
+class LeaveServiceTest {
+
+    @Mock
+    private LeaveBalanceRepository balanceRepository;
+
+    @Mock
+    private LeaveRecordRepository recordRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private LeaveAccrualService accrualService;
+
+    private final LeaveAccrualPolicy policy = new LeaveAccrualPolicy();
+    private LeaveService leaveService;
+
+    // 입사 3년 10일째 직원 (현재 연차 기간 16일)
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate hireDate = today.minusYears(3).minusDays(10);
+    private LeaveBalance balance;
+
+    @BeforeEach
+    void setUp() {
+        leaveService = new LeaveService(balanceRepository, recordRepository, employeeRepository, policy,
+                accrualService);
+
+        LeaveAccrualPolicy.Entitlement entitlement = policy.entitlement(hireDate, today);
+        balance = new LeaveBalance(1L, entitlement.periodStart(), entitlement.periodEnd(), entitlement.days(),
+                entitlement.nextAccrualDate());
+        given(balanceRepository.findByEmployeeId(1L)).willReturn(Optional.of(balance));
+        given(balanceRepository.findForUpdate(1L)).willReturn(Optional.of(balance));
+        given(employeeRepository.findById(1L)).willReturn(Optional.of(
+                new Employee("EMP001", "김철수", "kim@example.com", hireDate, 50000000.0, "개발팀")));
+        given(recordRepository.save(any(LeaveRecord.class))).willAnswer(invocation -> {
+            LeaveRecord record = invocation.getArgument(0);
+            ReflectionTestUtils.setField(record, "id", 100L);
+            return record;
+        });
+    }
+
+    // 오늘 이후 첫 월요일
+    private LocalDate nextMonday() {
+        return today.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    @Nested
+    @DisplayName("LeaveAccrualPolicy 는")
+    class Describe_policy {
+
+        @Test
+        @DisplayName("입사 1년 미만은 매월 입사일 해당일에 1일씩 최대 11일 발생한다 (월말 입사자는 그달 말일)")
+        void it_accrues_monthly_in_first_year() {
+            LocalDate hired = LocalDate.of(2024, 1, 31);
+
+            assertThat(policy.entitlement(hired, LocalDate.of(2024, 2, 28)).days()).isZero();
+            LeaveAccrualPolicy.Entitlement first = policy.entitlement(hired, LocalDate.of(2024, 2, 29));
+            assertThat(first.days()).isEqualTo(1);
+            assertThat(first.nextAccrualDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+            LeaveAccrualPolicy.Entitlement last = policy.entitlement(hired, LocalDate.of(2025, 1, 30));
+            assertThat(last.days()).isEqualTo(11);
+            assertThat(last.periodEnd()).isEqualTo(LocalDate.of(2025, 1, 30));
+            assertThat(last.nextAccrualDate()).isEqualTo(LocalDate.of(2025, 1, 31));
+        }
+
+        @Test
+        @DisplayName("입사 1년부터는 기념일마다 15일, 2년마다 1일씩 더해 최대 25일 발생한다")
+        void it_accrues_by_tenure() {
+            LocalDate hired = LocalDate.of(2020, 3, 2);
+
+            LeaveAccrualPolicy.Entitlement firstYear = policy.entitlement(hired, LocalDate.of(2021, 3, 2));
+            assertThat(firstYear.days()).isEqualTo(15);
+            assertThat(firstYear.periodStart()).isEqualTo(LocalDate.of(2021, 3, 2));
+            assertThat(firstYear.periodEnd()).isEqualTo(LocalDate.of(2022, 3, 1));
+            assertThat(policy.entitlement(hired, LocalDate.of(2023, 3, 1)).days()).isEqualTo(15);
+            assertThat(policy.entitlement(hired, LocalDate.of(2023, 3, 2)).days()).isEqualTo(16);
+            assertThat(policy.entitlement(hired, LocalDate.of(2045, 3, 2)).days()).isEqualTo(25);
+        }
+    }
+
+    @Nested
+    @DisplayName("getBalance 메서드는")
+    class Describe_getBalance {
+
+        @Test
+        @DisplayName("발생일 전이면 저장된 잔여를 다시 계산하지 않고 그대로 반환한다")
+        void it_returns_stored_balance() {
+            // when
+            LeaveBalanceDto result = leaveService.getBalance(1L);
+
+            // then
+            assertThat(result.getAccruedDays()).isEqualTo(16.0);
+            assertThat(result.getRemainingDays()).isEqualTo(16.0);
+            verify(balanceRepository, never()).findForUpdate(any());
+            verify(employeeRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("발생일이 지났으면 그 직원만 새 연차 기간으로 넘기고 사용 일수를 초기화한다")
+        void it_rolls_over_due_balance() {
+            // given: 지난 연차 기간(15일 중 3일 사용) 그대로 남은 행
+            LeaveAccrualPolicy.Entitlement previous = policy.entitlement(hireDate, today.minusYears(1));
+            LeaveBalance stale = new LeaveBalance(1L, previous.periodStart(), previous.periodEnd(), previous.days(),
+                    previous.nextAccrualDate());
+            stale.use(3);
+            given(balanceRepository.findByEmployeeId(1L)).willReturn(Optional.of(stale));
+            given(balanceRepository.findForUpdate(1L)).willReturn(Optional.of(stale));
+
+            // when
+            LeaveBalanceDto result = leaveService.getBalance(1L);
+
+            // then
+            assertThat(result.getPeriodStart()).isEqualTo(hireDate.plusYears(3));
+            assertThat(result.getAccruedDays()).isEqualTo(16.0);
+            assertThat(result.getUsedDays()).isZero();
+            assertThat(result.getNextAccrualDate()).isEqualTo(hireDate.plusYears(4));
+        }
+
+        @Test
+        @DisplayName("잔여 행이 없으면 그 직원 행을 만든 뒤 반환한다")
+        void it_opens_missing_balance() {
+            // given
+            given(balanceRepository.findByEmployeeId(1L)).willReturn(Optional.empty());
+            given(balanceRepository.findForUpdate(1L)).willReturn(Optional.empty(), Optional.of(balance));
+
+            // when
+            LeaveBalanceDto result = leaveService.getBalance(1L);
+
+            // then
+            assertThat(result.getRemainingDays()).isEqualTo(16.0);
+            verify(accrualService).open(1L, hireDate, today);
+        }
+    }
+
+    @Nested
+    @DisplayName("takeLeave 메서드는")
+    class Describe_takeLeave {
+
+        @Test
+        @DisplayName("주말을 뺀 일수를 잔여에서 차감하고, 반차는 0.5일을 차감한다")
+        void it_deducts_working_days() {
+            // given: 월요일 ~ 다음 주 월요일 (평일 6일)
+            LocalDate monday = nextMonday();
+
+            // when
+            LeaveRecordDto week = leaveService.takeLeave(
+                    new TakeLeaveRequest(1L, monday, monday.plusDays(7), null, "여름 휴가"));
+            LeaveRecordDto half = leaveService.takeLeave(
+                    new TakeLeaveRequest(1L, monday.plusDays(8), monday.plusDays(8), true, null));
+
+            // then
+            assertThat(week.getDays()).isEqualTo(6.0);
+            assertThat(half.getDays()).isEqualTo(0.5);
+            assertThat(balance.getUsedDays()).isEqualTo(6.5);
+            assertThat(balance.getRemainingDays()).isEqualTo(9.5);
+        }
+
+        @Test
+        @DisplayName("잔여가 부족하거나 현재 연차 기간 밖이거나 기존 휴가와 겹치면 예외가 발생한다")
+        void it_rejects_invalid_leave() {
+            // given
+            LocalDate monday = nextMonday();
+            balance.use(15);
+            given(recordRepository.existsByEmployeeIdAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                    eq(1L), eq(monday.plusDays(1)), eq(monday.plusDays(1)))).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> leaveService.takeLeave(
+                    new TakeLeaveRequest(1L, monday, monday.plusDays(1), null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("잔여 연차가 부족");
+            assertThatThrownBy(() -> leaveService.takeLeave(
+                    new TakeLeaveRequest(1L, balance.getPeriodEnd(), balance.getPeriodEnd().plusDays(3), null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("현재 연차 기간");
+            assertThatThrownBy(() -> leaveService.takeLeave(
+                    new TakeLeaveRequest(1L, monday.plusDays(1), monday.plusDays(1), null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("겹칩니다");
+            assertThat(balance.getUsedDays()).isEqualTo(15.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("cancelLeave 메서드는")
+    class Describe_cancelLeave {
+
+        @Test
+        @DisplayName("현재 연차 기간의 휴가를 취소하면 잔여로 되돌린다")
+        void it_restores_days() {
+            // given
+            LocalDate monday = nextMonday();
+            LeaveRecord record = new LeaveRecord(1L, monday, monday.plusDays(2), 3, null);
+            balance.use(3);
+            given(recordRepository.findById(100L)).willReturn(Optional.of(record));
+
+            // when
+            leaveService.cancelLeave(100L);
+
+            // then
+            assertThat(balance.getRemainingDays()).isEqualTo(16.0);
+            verify(recordRepository).delete(record);
+        }
+    }
+}
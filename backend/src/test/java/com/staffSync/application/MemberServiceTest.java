@@ -1,5 +1,8 @@
 package com.staffSync.application;
 
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,6 +12,7 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.staffSync.application.member.MemberEmailFilter;
 import com.staffSync.application.member.MemberService;
 import com.staffSync.domain.member.Member;
 import com.staffSync.domain.member.MemberRole;
@@ -35,10 +39,20 @@ class MemberServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private MemberEmailFilter memberEmailFilter;
+
     @Spy
     @InjectMocks
     private MemberService memberService;
 
+    @BeforeEach
+    void setUp() {
+        // 블룸 필터는 항상 "있을 수 있음" (existsByEmail 로 그대로 넘김)
+        lenient().when(memberEmailFilter.exists(any(), any())).thenAnswer(
+                invocation -> invocation.<Predicate<String>>getArgument(1).test(invocation.getArgument(0)));
+    }
+
     @Test
     @DisplayName("이메일 인증 요청 - 성공: 중복이 없다면 인증 코드를 생성하고 이메일로 발송한다")
     void requestVerification_Success() throws MessagingException {
@@ -118,6 +132,7 @@ class MemberServiceTest {
         verify(passwordEncoder).encode(password);
         verify(memberRepository, times(1)).existsByEmail(email);
         verify(memberRepository, times(1)).save(any(Member.class));
+        verify(memberEmailFilter).add(email);
     }
 
     @Test
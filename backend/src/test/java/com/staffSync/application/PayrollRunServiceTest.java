@@ -0,0 +1,242 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.payroll.PayrollCalculator;
+import com.staffSync.application.payroll.PayrollProperties;
+import com.staffSync.application.payroll.PayrollRunService;
+import com.staffSync.application.payroll.dto.PayrollRunDto;
+import com.staffSync.application.payroll.dto.StartPayrollRunRequest;
+import com.staffSync.domain.payroll.PayrollLineRepository;
+import com.staffSync.domain.payroll.PayrollRun;
+import com.staffSync.domain.payroll.PayrollRunRepository;
+import com.staffSync.domain.payroll.PayrollRunStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PayrollRunService 테스트")
+class PayrollRunServiceTest {
+
+    private static final int EMPLOYEE_COUNT = 25;
+
+    @Mock
+    private PayrollRunRepository runRepository;
+
+    @Mock
+    private PayrollLineRepository lineRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PayrollProperties properties;
+    private PayrollCalculator calculator;
+    private PayrollRunService payrollRunService;
+
+    private final AtomicReference<PayrollRun> savedRun = new AtomicReference<>();
+    private final Set<Long> writtenEmployeeIds = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        properties = new PayrollProperties();
+        properties.setChunkSize(10);
+        properties.setParallelism(4);
+        calculator = new PayrollCalculator(properties);
+        payrollRunService = new PayrollRunService(runRepository, lineRepository, calculator, jdbcTemplate,
+                transactionManager, properties);
+
+        given(runRepository.findByPayMonth(anyString())).willReturn(Optional.empty());
+        given(runRepository.save(any(PayrollRun.class))).willAnswer(invocation -> {
+            PayrollRun run = invocation.getArgument(0);
+            ReflectionTestUtils.setField(run, "id", 1L);
+            savedRun.set(run);
+            return run;
+        });
+        given(runRepository.findById(1L)).willAnswer(invocation -> Optional.ofNullable(savedRun.get()));
+
+        // 직원 테이블 대역: id 1 ~ 25 (id > afterId 인 직원을 limit 명까지)
+        given(jdbcTemplate.query(startsWith("SELECT id"), any(RowMapper.class), any(Object[].class)))
+                .willAnswer(invocation -> {
+                    RowMapper<Object> mapper = invocation.getArgument(1);
+                    long afterId = invocation.getArgument(2);
+                    int limit = invocation.getArgument(4);
+                    List<Object> rows = new ArrayList<>();
+                    for (long id = afterId + 1; id <= EMPLOYEE_COUNT && rows.size() < limit; id++) {
+                        rows.add(mapper.mapRow(employeeRow(id), 0));
+                    }
+                    return rows;
+                });
+        given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO payroll_lines"), anyList())).willAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(row -> writtenEmployeeIds.add((Long) row[1]));
+            return new int[batch.size()];
+        });
+        // 체크포인트 UPDATE 는 엔티티에 반영 (재개 시 읽는 값)
+        given(jdbcTemplate.update(startsWith("UPDATE payroll_runs"), any(Object[].class))).willAnswer(invocation -> {
+            ReflectionTestUtils.setField(savedRun.get(), "checkpointEmployeeId", invocation.getArgument(1));
+            ReflectionTestUtils.setField(savedRun.get(), "processedCount", invocation.getArgument(2));
+            return 1;
+        });
+        given(jdbcTemplate.queryForObject(startsWith("SELECT COUNT"), any(RowMapper.class), any(Object[].class)))
+                .willAnswer(invocation -> new long[] { writtenEmployeeIds.size(), 0L, 0L, 0L });
+    }
+
+    private static ResultSet employeeRow(long id) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getString("employee_id")).willReturn(String.format("EMP%03d", id));
+        given(rs.getDate("hire_date")).willReturn(Date.valueOf(LocalDate.of(2020, 1, 1)));
+        given(rs.getDouble("salary")).willReturn(60_000_000.0);
+        return rs;
+    }
+
+    private PayrollRunDto awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (payrollRunService.isRunning(1L) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return payrollRunService.getRun(1L);
+    }
+
+    @Nested
+    @DisplayName("PayrollCalculator 는")
+    class Describe_calculator {
+
+        @Test
+        @DisplayName("연봉 / 12 를 지급액으로 4대 보험과 소득세를 10원 미만 절사해 공제한다")
+        void it_calculates_monthly_pay() {
+            // when
+            PayrollCalculator.Result result = calculator.calculate(60_000_000.0, LocalDate.of(2020, 1, 1),
+                    YearMonth.of(2026, 10));
+
+            // then
+            assertThat(result.grossPay()).isEqualTo(5_000_000L);
+            assertThat(result.nationalPension()).isEqualTo(225_000L);
+            assertThat(result.healthInsurance()).isEqualTo(177_250L);
+            assertThat(result.longTermCare()).isEqualTo(22_950L);
+            assertThat(result.employmentInsurance()).isEqualTo(45_000L);
+            assertThat(result.incomeTax()).isEqualTo(607_150L);
+            assertThat(result.localIncomeTax()).isEqualTo(60_710L);
+            assertThat(result.netPay()).isEqualTo(3_861_940L);
+        }
+
+        @Test
+        @DisplayName("급여 월 중 입사자는 근무 일수 비율로 일할 계산한다")
+        void it_prorates_mid_month_hire() {
+            // when (10월 17일 입사 -> 31일 중 15일 근무)
+            PayrollCalculator.Result result = calculator.calculate(60_000_000.0, LocalDate.of(2026, 10, 17),
+                    YearMonth.of(2026, 10));
+
+            // then
+            assertThat(result.grossPay()).isEqualTo(2_419_350L);
+        }
+    }
+
+    @Nested
+    @DisplayName("startRun 메서드는")
+    class Describe_startRun {
+
+        @Test
+        @DisplayName("모든 직원을 청크 단위로 저장하고 체크포인트를 마지막 직원까지 옮긴 뒤 완료한다")
+        void it_processes_all_chunks() throws Exception {
+            // when
+            payrollRunService.startRun(new StartPayrollRunRequest("2026-10"));
+            PayrollRunDto run = awaitFinished();
+
+            // then
+            assertThat(run.getStatus()).isEqualTo(PayrollRunStatus.COMPLETED);
+            assertThat(run.getCheckpointEmployeeId()).isEqualTo(25L);
+            assertThat(run.getProcessedCount()).isEqualTo(25L);
+            assertThat(run.getEmployeeCount()).isEqualTo(25L);
+            assertThat(writtenEmployeeIds).hasSize(EMPLOYEE_COUNT);
+            verify(jdbcTemplate, times(3)).batchUpdate(startsWith("INSERT INTO payroll_lines"), anyList());
+        }
+
+        @Test
+        @DisplayName("급여 월 형식이 올바르지 않으면 예외가 발생한다")
+        void it_rejects_invalid_month() {
+            assertThatThrownBy(() -> payrollRunService.startRun(new StartPayrollRunRequest("2026/10")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("yyyy-MM");
+        }
+    }
+
+    @Nested
+    @DisplayName("resumeRun 메서드는")
+    class Describe_resumeRun {
+
+        @Test
+        @DisplayName("청크 저장이 실패하면 체크포인트까지 남기고, 재개 시 그 다음 직원부터 처리한다")
+        void it_resumes_from_checkpoint() throws Exception {
+            // given: 두 번째 청크(11 ~ 20) 저장이 한 번 실패
+            properties.setParallelism(1);
+            AtomicBoolean failOnce = new AtomicBoolean(true);
+            given(jdbcTemplate.update(startsWith("DELETE FROM payroll_lines"), any(Object[].class)))
+                    .willAnswer(invocation -> {
+                        if (Long.valueOf(10L).equals(invocation.getArgument(2)) && failOnce.getAndSet(false)) {
+                            throw new DataAccessResourceFailureException("connection lost");
+                        }
+                        return 0;
+                    });
+            payrollRunService.startRun(new StartPayrollRunRequest("2026-10"));
+            PayrollRunDto failed = awaitFinished();
+            assertThat(failed.getStatus()).isEqualTo(PayrollRunStatus.FAILED);
+            assertThat(failed.getCheckpointEmployeeId()).isEqualTo(10L);
+            assertThat(failed.getProcessedCount()).isEqualTo(10L);
+
+            // when
+            payrollRunService.resumeRun(1L);
+            PayrollRunDto resumed = awaitFinished();
+
+            // then
+            assertThat(resumed.getStatus()).isEqualTo(PayrollRunStatus.COMPLETED);
+            assertThat(resumed.getProcessedCount()).isEqualTo(25L);
+            assertThat(writtenEmployeeIds).hasSize(EMPLOYEE_COUNT);
+            verify(jdbcTemplate, times(2)).query(startsWith("SELECT id"), any(RowMapper.class), eq(10L), any(), any());
+        }
+
+        @Test
+        @DisplayName("완료된 급여 계산은 재개할 수 없다")
+        void it_rejects_completed_run() throws Exception {
+            // given
+            payrollRunService.startRun(new StartPayrollRunRequest("2026-10"));
+            awaitFinished();
+
+            // when & then
+            assertThatThrownBy(() -> payrollRunService.resumeRun(1L))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
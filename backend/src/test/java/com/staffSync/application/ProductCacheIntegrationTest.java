@@ -0,0 +1,73 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.staffSync.application.cache.CacheNames;
+import com.staffSync.application.cache.FencedCache;
+import com.staffSync.application.product.ProductService;
+import com.staffSync.application.product.dto.CreateProductRequest;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.UpdateProductRequest;
+
+/**
+ * 캐시 프록시를 거치는 상품 단건 조회 (키 SpEL, 커밋 이후 무효화)
+ */
+@SpringBootTest
+@DisplayName("상품 조회 캐시 통합 테스트")
+class ProductCacheIntegrationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private ProductDto create(String name) {
+        CreateProductRequest request = new CreateProductRequest();
+        request.setName(name);
+        request.setCategory("전자제품");
+        request.setQuantity(50);
+        request.setMinStockLevel(10);
+        request.setPrice(1000000.0);
+        return productService.createProduct(request);
+    }
+
+    @Test
+    @DisplayName("상품 ID를 키로 적재하고, 수정이 커밋되면 그 키만 제거한다")
+    void it_caches_by_product_id_and_evicts_on_commit() {
+        // given
+        ProductDto created = create("캐시 노트북");
+        Cache cache = cacheManager.getCache(CacheNames.PRODUCTS);
+        assertThat(cache).isInstanceOf(FencedCache.class);
+
+        // when
+        ProductDto first = productService.getProductById(created.getId());
+
+        // then
+        assertThat(first.getName()).isEqualTo("캐시 노트북");
+        assertThat(cache.get(created.getId(), ProductDto.class)).isNotNull();
+
+        // when
+        productService.updateProduct(created.getId(), new UpdateProductRequest("캐시 노트북 2", "전자제품", 10, 900000.0));
+
+        // then
+        assertThat(cache.get(created.getId())).isNull();
+        assertThat(productService.getProductById(created.getId()).getName()).isEqualTo("캐시 노트북 2");
+    }
+
+    @Test
+    @DisplayName("없는 상품은 원래 예외(IllegalArgumentException)를 던지고 캐시에 남기지 않는다")
+    void it_propagates_not_found() {
+        assertThatThrownBy(() -> productService.getProductById(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("상품을 찾을 수 없습니다.");
+        assertThat(cacheManager.getCache(CacheNames.PRODUCTS).get(Long.MAX_VALUE)).isNull();
+    }
+}
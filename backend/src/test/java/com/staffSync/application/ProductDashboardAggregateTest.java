@@ -0,0 +1,293 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.ProductDashboardAggregate;
+import com.staffSync.application.product.ProductEventStream;
+import com.staffSync.application.product.dto.DashboardDto;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.ProductStockSummary;
+import com.staffSync.domain.product.StockStatus;
+import com.staffSync.domain.sync.SyncEntityType;
+import com.staffSync.domain.sync.SyncTombstone;
+import com.staffSync.domain.sync.SyncTombstoneRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductDashboardAggregate 테스트")
+class ProductDashboardAggregateTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private ProductEventStream eventStream;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ProductDashboardAggregate dashboardAggregate;
+
+    // 노트북(50개, IN_STOCK) + 마우스(5개, LOW_STOCK) + 키보드(0개, OUT_OF_STOCK)
+    private List<ProductStockSummary> initialSummaries() {
+        return Arrays.asList(
+                new ProductStockSummary("전자제품", StockStatus.IN_STOCK, 1L, 50L, 50000000.0),
+                new ProductStockSummary("전자제품", StockStatus.LOW_STOCK, 1L, 5L, 100000.0),
+                new ProductStockSummary("전자제품", StockStatus.OUT_OF_STOCK, 1L, 0L, 0.0));
+    }
+
+    @Nested
+    @DisplayName("getDashboard 메서드는")
+    class Describe_getDashboard {
+
+        @Test
+        @DisplayName("대시보드 통계 데이터를 정확하게 반환한다")
+        void it_returns_dashboard_statistics() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+
+            // when
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(dashboard.getTotalProducts()).isEqualTo(3);
+            assertThat(dashboard.getInStockCount()).isEqualTo(1);
+            assertThat(dashboard.getLowStockCount()).isEqualTo(1);
+            assertThat(dashboard.getOutOfStockCount()).isEqualTo(1);
+
+            // 총 재고 가치 검증: (50 * 1000000) + (5 * 20000) + (0 * 50000) = 50,100,000
+            assertThat(dashboard.getTotalInventoryValue()).isEqualTo(50100000.0);
+            assertThat(dashboard.getStockByCategory()).containsEntry("전자제품", 55L);
+            assertThat(dashboard.getValueByCategory()).containsEntry("전자제품", 50100000.0);
+        }
+
+        @Test
+        @DisplayName("집계에 반영된 마지막 스트림 이벤트 ID를 함께 반환한다")
+        void it_returns_stream_event_id() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+            given(eventStream.currentEventId()).willReturn("abc-7");
+
+            // when
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(dashboard.getStreamEventId()).isEqualTo("abc-7");
+        }
+
+        @Test
+        @DisplayName("상품이 없을 때 빈 대시보드 데이터를 반환한다")
+        void it_returns_empty_dashboard_when_no_products() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(Arrays.asList());
+
+            // when
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(dashboard.getTotalProducts()).isEqualTo(0);
+            assertThat(dashboard.getInStockCount()).isEqualTo(0);
+            assertThat(dashboard.getTotalInventoryValue()).isEqualTo(0.0);
+            assertThat(dashboard.getStockByCategory()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("한 번 생성된 뒤에는 DB를 다시 조회하지 않는다")
+        void it_queries_database_only_once() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+
+            // when
+            dashboardAggregate.getDashboard();
+            dashboardAggregate.getDashboard();
+
+            // then
+            verify(productRepository, times(1)).summarizeStock(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("onProductChanged 메서드는")
+    class Describe_onProductChanged {
+
+        @Test
+        @DisplayName("재고 변경 차이만큼 상태별 개수와 재고 가치를 갱신한다")
+        void it_applies_stock_delta() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+            dashboardAggregate.initialize();
+            Product mouse = new Product("마우스", "전자제품", 5, 10, 20000.0);
+            ProductDto before = ProductDto.from(mouse);
+            mouse.addStock(15); // LOW_STOCK -> IN_STOCK
+            ProductDto after = ProductDto.from(mouse);
+
+            // when
+            dashboardAggregate.onProductChanged(ProductChangedEvent.updated(before, after));
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(dashboard.getInStockCount()).isEqualTo(2);
+            assertThat(dashboard.getLowStockCount()).isEqualTo(0);
+            assertThat(dashboard.getStockByCategory()).containsEntry("전자제품", 70L);
+            assertThat(dashboard.getTotalInventoryValue()).isEqualTo(50400000.0);
+            verify(eventStream).publishChange(any(ProductChangedEvent.class), eq(true));
+        }
+
+        @Test
+        @DisplayName("등록과 삭제 시 카테고리를 추가하고 비워지면 제거한다")
+        void it_adds_and_removes_category() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+            dashboardAggregate.initialize();
+            ProductDto chair = ProductDto.from(new Product("의자", "가구", 25, 10, 200000.0));
+
+            // when
+            dashboardAggregate.onProductChanged(ProductChangedEvent.created(chair));
+            DashboardDto created = dashboardAggregate.getDashboard();
+            dashboardAggregate.onProductChanged(ProductChangedEvent.deleted(chair));
+            DashboardDto deleted = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(created.getTotalProducts()).isEqualTo(4);
+            assertThat(created.getStockByCategory()).containsEntry("가구", 25L);
+            assertThat(deleted.getTotalProducts()).isEqualTo(3);
+            assertThat(deleted.getStockByCategory()).doesNotContainKey("가구");
+        }
+
+        @Test
+        @DisplayName("스냅샷이 이미 담고 있는 커밋의 변경은 다시 반영하지 않고, 그 뒤의 변경만 반영한다")
+        void it_skips_changes_included_in_snapshot() {
+            // given: 경계(10) 이후 12번 순번으로 마우스 재고가 5 -> 20 으로 커밋되었고, 스냅샷이 그 행을 읽음
+            Product mouse = new Product("마우스", "전자제품", 5, 10, 20000.0);
+            ReflectionTestUtils.setField(mouse, "id", 2L);
+            ProductDto before = ProductDto.from(mouse);
+            mouse.addStock(15);
+            mouse.assignChangeSeq(12L);
+            ProductDto after = ProductDto.from(mouse);
+
+            given(changeSequence.stableWatermark()).willReturn(10L);
+            given(productRepository.summarizeStock(10L)).willReturn(Arrays.asList(
+                    new ProductStockSummary("전자제품", StockStatus.IN_STOCK, 1L, 50L, 50000000.0),
+                    new ProductStockSummary("전자제품", StockStatus.OUT_OF_STOCK, 1L, 0L, 0.0)));
+            given(productRepository.findChanges(eq(10L), eq(Long.MAX_VALUE), any())).willReturn(List.of(mouse));
+            dashboardAggregate.initialize();
+
+            // when: 그 커밋의 차이 이벤트가 스냅샷 뒤에 도착
+            given(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 2L)).willReturn(12L);
+            dashboardAggregate.onProductChanged(ProductChangedEvent.updated(before, after));
+
+            // then: 두 번 세지 않고, 스트림에도 대시보드 변화량 없이 넘긴다
+            assertThat(dashboardAggregate.getDashboard().getStockByCategory()).containsEntry("전자제품", 70L);
+            verify(eventStream).publishChange(any(ProductChangedEvent.class), eq(false));
+
+            // when: 스냅샷 이후에 커밋된 13번 변경 (20 -> 25)
+            mouse.addStock(5);
+            given(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 2L)).willReturn(13L);
+            dashboardAggregate.onProductChanged(ProductChangedEvent.updated(after, ProductDto.from(mouse)));
+
+            // then
+            assertThat(dashboardAggregate.getDashboard().getStockByCategory()).containsEntry("전자제품", 75L);
+        }
+
+        @Test
+        @DisplayName("스냅샷 전에 커밋된 삭제는 다시 빼지 않는다")
+        void it_skips_delete_included_in_snapshot() {
+            // given: 마우스가 경계 이후 15번 순번으로 삭제되어 요약에 없음
+            ProductDto mouse = new ProductDto(2L, "마우스", "전자제품", 5, 10, 20000.0, StockStatus.LOW_STOCK,
+                    null, null, 0);
+            given(changeSequence.stableWatermark()).willReturn(10L);
+            given(productRepository.summarizeStock(10L)).willReturn(Arrays.asList(
+                    new ProductStockSummary("전자제품", StockStatus.IN_STOCK, 1L, 50L, 50000000.0)));
+            SyncTombstone tombstone = mock(SyncTombstone.class);
+            given(tombstone.getChangeSeq()).willReturn(15L);
+            given(tombstone.getEntityType()).willReturn(SyncEntityType.PRODUCT);
+            given(tombstone.getEntityId()).willReturn(2L);
+            given(tombstoneRepository.findChanges(eq(10L), eq(Long.MAX_VALUE), any())).willReturn(List.of(tombstone));
+            dashboardAggregate.initialize();
+
+            // when
+            given(changeSequence.lastAssigned(SyncEntityType.PRODUCT, 2L)).willReturn(15L);
+            dashboardAggregate.onProductChanged(ProductChangedEvent.deleted(mouse));
+
+            // then
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+            assertThat(dashboard.getTotalProducts()).isEqualTo(1);
+            assertThat(dashboard.getLowStockCount()).isZero();
+            assertThat(dashboard.getStockByCategory()).containsEntry("전자제품", 50L);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드는")
+    class Describe_reconcile {
+
+        @Test
+        @DisplayName("DB와 차이가 있으면 DB 기준으로 다시 생성한다")
+        void it_rebuilds_from_database_on_drift() {
+            // given
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries(), Arrays.asList(
+                    new ProductStockSummary("전자제품", StockStatus.IN_STOCK, 2L, 80L, 50600000.0)));
+            dashboardAggregate.initialize();
+
+            // when
+            dashboardAggregate.reconcile();
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+
+            // then
+            assertThat(dashboard.getTotalProducts()).isEqualTo(2);
+            assertThat(dashboard.getInStockCount()).isEqualTo(2);
+            assertThat(dashboard.getOutOfStockCount()).isEqualTo(0);
+            assertThat(dashboard.getStockByCategory()).containsEntry("전자제품", 80L);
+            verify(eventStream).publishReset("reconcile");
+        }
+
+        @Test
+        @DisplayName("스냅샷을 읽는 동안 들어온 변경은 불일치로 보지 않고, 교체 후에도 잃지 않는다")
+        void it_keeps_changes_committed_during_load() {
+            // given
+            ProductDto chair = ProductDto.from(new Product("의자", "가구", 25, 10, 200000.0));
+            given(productRepository.summarizeStock(anyLong())).willReturn(initialSummaries());
+            dashboardAggregate.initialize();
+
+            // 다시 읽는 동안 (모니터 밖) 의자 등록이 커밋되어 이벤트가 먼저 반영됨, 스냅샷에는 없음
+            given(productRepository.summarizeStock(anyLong())).willAnswer(invocation -> {
+                dashboardAggregate.onProductChanged(ProductChangedEvent.created(chair));
+                return initialSummaries();
+            });
+
+            // when
+            dashboardAggregate.reconcile();
+
+            // then
+            DashboardDto dashboard = dashboardAggregate.getDashboard();
+            assertThat(dashboard.getTotalProducts()).isEqualTo(4);
+            assertThat(dashboard.getStockByCategory()).containsEntry("가구", 25L);
+            verify(eventStream, never()).publishReset(anyString());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.staffSync.application.product.ProductEventStream;
+import com.staffSync.application.product.ProductStreamProperties;
+import com.staffSync.application.product.dto.DashboardDeltaDto;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.domain.product.StockStatus;
+
+@DisplayName("ProductEventStream 테스트")
+class ProductEventStreamTest {
+
+    private ProductEventStream eventStream;
+
+    @BeforeEach
+    void setUp() {
+        eventStream = new ProductEventStream(new ProductStreamProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventStream.shutdown();
+    }
+
+    private ProductDto product(int quantity, StockStatus status) {
+        return new ProductDto(1L, "마우스", "전자제품", quantity, 10, 20000.0, status, null, null, 0);
+    }
+
+    @Nested
+    @DisplayName("DashboardDeltaDto.between 메서드는")
+    class Describe_between {
+
+        @Test
+        @DisplayName("재고 감소로 상태가 바뀌면 상태별 개수와 재고 가치 변화량을 계산한다")
+        void it_computes_status_transition_delta() {
+            // when
+            DashboardDeltaDto delta = DashboardDeltaDto.between(
+                    product(12, StockStatus.IN_STOCK), product(5, StockStatus.LOW_STOCK));
+
+            // then
+            assertThat(delta.getTotalProducts()).isZero();
+            assertThat(delta.getInStockCount()).isEqualTo(-1);
+            assertThat(delta.getLowStockCount()).isEqualTo(1);
+            assertThat(delta.getTotalInventoryValue()).isEqualTo(-140000.0);
+            assertThat(delta.getStockByCategory()).containsEntry("전자제품", -7L);
+            assertThat(delta.hasChanges()).isTrue();
+        }
+
+        @Test
+        @DisplayName("상품 등록은 전체 개수와 카테고리 재고를 늘린다")
+        void it_computes_creation_delta() {
+            // when
+            DashboardDeltaDto delta = DashboardDeltaDto.between(null, product(12, StockStatus.IN_STOCK));
+
+            // then
+            assertThat(delta.getTotalProducts()).isEqualTo(1);
+            assertThat(delta.getInStockCount()).isEqualTo(1);
+            assertThat(delta.getStockByCategory()).containsEntry("전자제품", 12L);
+        }
+
+        @Test
+        @DisplayName("대시보드에 영향이 없는 변경은 변화 없음으로 판단한다")
+        void it_reports_no_changes() {
+            // when
+            DashboardDeltaDto delta = DashboardDeltaDto.between(
+                    product(12, StockStatus.IN_STOCK), product(12, StockStatus.IN_STOCK));
+
+            // then
+            assertThat(delta.hasChanges()).isFalse();
+            assertThat(delta.getStockByCategory()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("subscribe 메서드는")
+    class Describe_subscribe {
+
+        @Test
+        @DisplayName("연결을 등록하고 종료 시 해제한다")
+        void it_registers_subscriber() {
+            // when
+            eventStream.subscribe(null);
+            eventStream.subscribe(eventStream.currentEventId());
+
+            // then
+            assertThat(eventStream.getSubscriberCount()).isEqualTo(2);
+
+            // when
+            eventStream.shutdown();
+
+            // then
+            assertThat(eventStream.getSubscriberCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 기동의 이벤트 ID나 형식이 맞지 않는 ID로도 구독할 수 있다 (reset 으로 전체 재조회 유도)")
+        void it_accepts_foreign_event_id() {
+            // when
+            eventStream.subscribe("other-3");
+            eventStream.subscribe("3");
+
+            // then
+            assertThat(eventStream.getSubscriberCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("currentEventId 메서드는")
+    class Describe_currentEventId {
+
+        @Test
+        @DisplayName("기동 epoch 와 순번으로 ID를 만들고 발행할 때마다 순번을 올린다")
+        void it_prefixes_boot_epoch() {
+            // given
+            String first = eventStream.currentEventId();
+
+            // when
+            eventStream.publishReset("import");
+            String second = eventStream.currentEventId();
+
+            // then
+            assertThat(first).endsWith("-0");
+            assertThat(second).endsWith("-1");
+            assertThat(second.substring(0, second.lastIndexOf('-')))
+                    .isEqualTo(first.substring(0, first.lastIndexOf('-')));
+        }
+    }
+}
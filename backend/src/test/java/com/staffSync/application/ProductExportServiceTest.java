@@ -0,0 +1,93 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.product.ProductExportFormat;
+import com.staffSync.application.product.ProductExportService;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductExportService 테스트")
+class ProductExportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ProductExportService productExportService;
+
+    private Product laptop;
+    private Product pen;
+
+    @BeforeEach
+    void setUp() {
+        laptop = new Product("노트북", "전자제품", 50, 10, 1000000.0);
+        pen = new Product("펜, \"고급\"", "문구", 200, 100, 1500.0);
+        ReflectionTestUtils.setField(laptop, "id", 1L);
+        ReflectionTestUtils.setField(pen, "id", 2L);
+    }
+
+    @Test
+    @DisplayName("NDJSON 형식으로 한 줄에 한 상품씩 쓰고 엔티티를 분리한다")
+    void it_writes_ndjson_lines() throws Exception {
+        // given
+        given(productRepository.streamAllByOrderByIdAsc()).willReturn(Stream.of(laptop, pen));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long rows = productExportService.export(ProductExportFormat.NDJSON, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"name\":\"노트북\"").contains("\"status\":\"IN_STOCK\"");
+        assertThat(lines[1]).contains("\"name\":\"펜, \\\"고급\\\"\"");
+        verify(entityManager).detach(laptop);
+        verify(entityManager).detach(pen);
+    }
+
+    @Test
+    @DisplayName("CSV 형식은 헤더를 쓰고 쉼표/따옴표가 있는 값을 감싼다")
+    void it_writes_csv_with_header_and_escaping() throws Exception {
+        // given
+        given(productRepository.streamAllByOrderByIdAsc()).willReturn(Stream.of(pen));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        productExportService.export(ProductExportFormat.CSV, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo("id,name,category,quantity,minStockLevel,price,status,createdAt,updatedAt");
+        assertThat(lines[1]).startsWith("2,\"펜, \"\"고급\"\"\",문구,200,100,1500.0,IN_STOCK,");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이면 예외가 발생한다")
+    void it_throws_exception_when_format_is_unsupported() {
+        assertThatThrownBy(() -> ProductExportFormat.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("지원하지 않는 내보내기 형식입니다");
+    }
+}
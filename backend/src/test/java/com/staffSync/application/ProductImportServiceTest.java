@@ -0,0 +1,102 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.bulk.BulkImportProperties;
+import com.staffSync.application.bulk.CsvBulkImporter;
+import com.staffSync.application.bulk.dto.ImportResultDto;
+import com.staffSync.application.product.ProductImportService;
+import com.staffSync.application.product.ProductsImportedEvent;
+import com.staffSync.application.sync.ChangeSequence;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductImportService 테스트")
+class ProductImportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        BulkImportProperties properties = new BulkImportProperties();
+        properties.setBatchSize(2);
+        CsvBulkImporter importer = new CsvBulkImporter(properties, transactionManager);
+        productImportService = new ProductImportService(importer, jdbcTemplate, changeSequence, eventPublisher);
+    }
+
+    private InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("importCsv 메서드는")
+    class Describe_importCsv {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("잘못된 행은 건너뛰고 나머지를 배치 크기 단위로 저장한다")
+        void it_skips_invalid_rows_and_inserts_in_batches() throws Exception {
+            // given
+            String content = "name,category,quantity,minStockLevel,price\n"
+                    + "노트북,전자제품,50,10,1000000\n"
+                    + "마우스,전자제품,-1,10,20000\n" // 음수 재고
+                    + "\"키보드, 무선\",전자제품,5,10,50000\n"
+                    + "모니터,전자제품,열개,10,300000\n" // 숫자 아님
+                    + "의자,가구,3,5,80000\n";
+
+            // when
+            ImportResultDto result = productImportService.importCsv(csv(content));
+
+            // then
+            assertThat(result.getTotalRows()).isEqualTo(5);
+            assertThat(result.getImportedRows()).isEqualTo(3);
+            assertThat(result.getFailedRows()).isEqualTo(2);
+            assertThat(result.getErrors()).extracting("line").containsExactly(3L, 5L);
+
+            ArgumentCaptor<Collection<?>> batches = ArgumentCaptor.forClass(Collection.class);
+            verify(jdbcTemplate, times(3)).batchUpdate(anyString(), batches.capture(), anyInt(),
+                    any(ParameterizedPreparedStatementSetter.class));
+            assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(1, 1, 1); // 청크(2행)마다 검증 통과 행만 저장
+            verify(eventPublisher).publishEvent(any(ProductsImportedEvent.class));
+        }
+
+        @Test
+        @DisplayName("필수 컬럼이 없으면 예외가 발생한다")
+        void it_throws_exception_when_column_missing() {
+            // when & then
+            assertThatThrownBy(() -> productImportService.importCsv(csv("name,category\n노트북,전자제품\n")))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("quantity");
+        }
+    }
+}
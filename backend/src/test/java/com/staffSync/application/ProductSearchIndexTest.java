@@ -0,0 +1,207 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.ProductSearchIndex;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ProductSearchResultDto;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.StockStatus;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchIndex 테스트")
+class ProductSearchIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchIndex searchIndex;
+
+    private ProductDto product(Long id, String name) {
+        return new ProductDto(id, name, "전자제품", 10, 5, 10000.0, StockStatus.IN_STOCK, null, null, 0);
+    }
+
+    private List<String> names(List<ProductDto> products) {
+        return products.stream().map(ProductDto::getName).toList();
+    }
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.rebuild(Arrays.asList(
+                product(1L, "게이밍 노트북"),
+                product(2L, "노트북"),
+                product(3L, "노트북 거치대"),
+                product(4L, "무선 마우스"),
+                product(5L, "Mechanical Keyboard")));
+    }
+
+    @Nested
+    @DisplayName("search 메서드는")
+    class Describe_search {
+
+        @Test
+        @DisplayName("완전 일치, 접두 일치, 부분 일치 순으로 정렬해 반환한다")
+        void it_ranks_by_match_quality() {
+            // when
+            List<ProductDto> result = searchIndex.search("노트북", 10);
+
+            // then
+            assertThat(names(result)).containsExactly("노트북", "노트북 거치대", "게이밍 노트북");
+        }
+
+        @Test
+        @DisplayName("초성만 입력해도 상품을 찾는다")
+        void it_matches_choseong_query() {
+            // when
+            List<ProductDto> result = searchIndex.search("ㄴㅌㅂ", 10);
+
+            // then
+            assertThat(names(result)).containsExactly("노트북", "노트북 거치대", "게이밍 노트북");
+        }
+
+        @Test
+        @DisplayName("겹받침 자모(ㄳ)는 초성이 아니므로 자모 열에서 찾는다")
+        void it_matches_compound_final_consonant() {
+            // given
+            searchIndex.onProductChanged(ProductChangedEvent.created(product(6L, "품삯 계산기")));
+
+            // when
+            List<ProductDto> result = searchIndex.search("ㄳ", 10);
+
+            // then
+            assertThat(names(result)).containsExactly("품삯 계산기");
+        }
+
+        @Test
+        @DisplayName("입력 중인 음절(노틉)도 자모 단위로 일치시킨다")
+        void it_matches_partial_syllables() {
+            // when
+            List<ProductDto> result = searchIndex.search("노틉", 10);
+
+            // then
+            assertThat(names(result)).contains("노트북");
+        }
+
+        @Test
+        @DisplayName("영문은 대소문자와 공백을 구분하지 않는다")
+        void it_ignores_case_and_whitespace() {
+            // when
+            List<ProductDto> result = searchIndex.search("mechanicalkey", 10);
+
+            // then
+            assertThat(names(result)).containsExactly("Mechanical Keyboard");
+        }
+
+        @Test
+        @DisplayName("조회 개수를 넘는 결과는 자른다")
+        void it_applies_limit() {
+            // when
+            List<ProductDto> result = searchIndex.search("노트북", 1);
+
+            // then
+            assertThat(names(result)).containsExactly("노트북");
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 빈 목록을 반환한다")
+        void it_returns_empty_for_blank_keyword() {
+            // when & then
+            assertThat(searchIndex.search("  ", 10)).isEmpty();
+            verify(productRepository, never()).findAll();
+        }
+
+        @Test
+        @DisplayName("offset 부터 limit 건을 돌려주고 전체 일치 건수를 함께 알려준다")
+        void it_pages_results() {
+            // when
+            ProductSearchResultDto first = searchIndex.search("노트북", 0, 2);
+            ProductSearchResultDto second = searchIndex.search("노트북", 2, 2);
+
+            // then
+            assertThat(first.getTotalCount()).isEqualTo(3);
+            assertThat(names(first.getContent())).containsExactly("노트북", "노트북 거치대");
+            assertThat(second.getTotalCount()).isEqualTo(3);
+            assertThat(names(second.getContent())).containsExactly("게이밍 노트북");
+        }
+    }
+
+    @Nested
+    @DisplayName("initialize 메서드는")
+    class Describe_initialize {
+
+        @Test
+        @DisplayName("전체 상품을 읽는 동안 들어온 변경 이벤트는 읽은 행에 덮이지 않도록 색인이 열린 뒤 반영한다")
+        void it_applies_events_after_load() throws Exception {
+            // given: 1번을 읽는 동안 이름을 바꾼 커밋의 이벤트가 들어옴 (읽은 행은 바꾸기 전 이름)
+            Product laptop = new Product("노트북", "전자제품", 10, 5, 10000.0);
+            ReflectionTestUtils.setField(laptop, "id", 1L);
+            ProductChangedEvent renamed = ProductChangedEvent.updated(product(1L, "노트북"), product(1L, "울트라북"));
+            AtomicReference<CompletableFuture<Void>> event = new AtomicReference<>();
+            given(productRepository.findAll()).willAnswer(invocation -> {
+                event.set(CompletableFuture.runAsync(() -> searchIndex.onProductChanged(renamed)));
+                Thread.sleep(100);
+                assertThat(event.get()).isNotDone(); // 적재가 끝날 때까지 기다린다
+                return List.of(laptop);
+            });
+
+            // when
+            searchIndex.initialize();
+            event.get().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(searchIndex.search("노트북", 10)).isEmpty();
+            assertThat(names(searchIndex.search("울트라", 10))).containsExactly("울트라북");
+        }
+    }
+
+    @Nested
+    @DisplayName("onProductChanged 메서드는")
+    class Describe_onProductChanged {
+
+        @Test
+        @DisplayName("상품명이 바뀌면 새 이름으로 다시 색인한다")
+        void it_reindexes_renamed_product() {
+            // given
+            ProductDto before = product(4L, "무선 마우스");
+            ProductDto after = product(4L, "무선 키보드");
+
+            // when
+            searchIndex.onProductChanged(ProductChangedEvent.updated(before, after));
+
+            // then
+            assertThat(searchIndex.search("마우스", 10)).isEmpty();
+            assertThat(names(searchIndex.search("키보드", 10))).containsExactly("무선 키보드");
+        }
+
+        @Test
+        @DisplayName("삭제된 상품은 검색되지 않는다")
+        void it_removes_deleted_product() {
+            // when
+            searchIndex.onProductChanged(ProductChangedEvent.deleted(product(2L, "노트북")));
+
+            // then
+            assertThat(names(searchIndex.search("노트북", 10))).doesNotContain("노트북");
+        }
+    }
+}
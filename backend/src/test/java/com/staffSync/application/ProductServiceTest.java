@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,18 +14,39 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.ProductDashboardAggregate;
+import com.staffSync.application.product.ProductSearchIndex;
 import com.staffSync.application.product.ProductService;
+import com.staffSync.application.product.dto.BatchStockResultDto;
 import com.staffSync.application.product.dto.CreateProductRequest;
 import com.staffSync.application.product.dto.DashboardDto;
 import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ProductPageDto;
+import com.staffSync.application.product.dto.StockAdjustmentRequest;
+import com.staffSync.application.product.dto.StockAdjustmentResultDto;
+import com.staffSync.application.product.dto.UpdateProductRequest;
 import com.staffSync.application.product.dto.UpdateStockRequest;
+import com.staffSync.application.sync.ChangeSequence;
 import com.staffSync.domain.product.Product;
-import com.staffSync.domain.product.StockStatus;
 import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.StockLocationRepository;
+import com.staffSync.domain.product.StockStatus;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService 테스트")
@@ -33,6 +55,21 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private StockLocationRepository stockLocationRepository;
+
+    @Mock
+    private ProductDashboardAggregate dashboardAggregate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
     @InjectMocks
     private ProductService productService;
 
@@ -53,52 +90,20 @@ class ProductServiceTest {
     class Describe_getDashboard {
 
         @Test
-        @DisplayName("대시보드 통계 데이터를 정확하게 반환한다")
-        void it_returns_dashboard_statistics() {
-            // given
-            List<Product> products = Arrays.asList(testProduct1, testProduct2, testProduct3);
-            given(productRepository.findAll()).willReturn(products);
-            given(productRepository.countByStatus(StockStatus.IN_STOCK)).willReturn(1L);
-            given(productRepository.countByStatus(StockStatus.LOW_STOCK)).willReturn(1L);
-            given(productRepository.countByStatus(StockStatus.OUT_OF_STOCK)).willReturn(1L);
-
-            // when
-            DashboardDto dashboard = productService.getDashboard();
-
-            // then
-            assertThat(dashboard).isNotNull();
-            assertThat(dashboard.getTotalProducts()).isEqualTo(3);
-            assertThat(dashboard.getInStockCount()).isEqualTo(1);
-            assertThat(dashboard.getLowStockCount()).isEqualTo(1);
-            assertThat(dashboard.getOutOfStockCount()).isEqualTo(1);
-
-            // 총 재고 가치 검증: (50 * 1000000) + (5 * 20000) + (0 * 50000) = 50,100,000
-            assertThat(dashboard.getTotalInventoryValue()).isEqualTo(50100000.0);
-
-            // 카테고리별 재고 검증
-            assertThat(dashboard.getStockByCategory()).containsEntry("전자제품", 55L);
-
-            verify(productRepository).findAll();
-            verify(productRepository).countByStatus(StockStatus.IN_STOCK);
-            verify(productRepository).countByStatus(StockStatus.LOW_STOCK);
-            verify(productRepository).countByStatus(StockStatus.OUT_OF_STOCK);
-        }
-
-        @Test
-        @DisplayName("상품이 없을 때 빈 대시보드 데이터를 반환한다")
-        void it_returns_empty_dashboard_when_no_products() {
+        @DisplayName("전체 상품을 조회하지 않고 메모리 집계 결과를 반환한다")
+        void it_returns_aggregate_without_loading_products() {
             // given
-            given(productRepository.findAll()).willReturn(Arrays.asList());
-            given(productRepository.countByStatus(any())).willReturn(0L);
+            DashboardDto expected = new DashboardDto(3, 1, 1, 1, 50100000.0,
+                    Map.of("전자제품", 55L), Map.of("전자제품", 50100000.0), null);
+            given(dashboardAggregate.getDashboard()).willReturn(expected);
 
             // when
             DashboardDto dashboard = productService.getDashboard();
 
             // then
-            assertThat(dashboard.getTotalProducts()).isEqualTo(0);
-            assertThat(dashboard.getInStockCount()).isEqualTo(0);
-            assertThat(dashboard.getTotalInventoryValue()).isEqualTo(0.0);
-            assertThat(dashboard.getStockByCategory()).isEmpty();
+            assertThat(dashboard).isSameAs(expected);
+            verify(productRepository, never()).findAll();
+            verify(productRepository, never()).countByStatus(any());
         }
     }
 
@@ -138,6 +143,116 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getProductPage 메서드는")
+    class Describe_getProductPage {
+
+        @Test
+        @DisplayName("다음 페이지가 있으면 마지막 상품 기준 커서를 반환한다")
+        void it_returns_next_cursor_when_has_next() {
+            // given
+            ReflectionTestUtils.setField(testProduct1, "id", 1L);
+            ReflectionTestUtils.setField(testProduct2, "id", 2L);
+            Window<Product> window = Window.from(Arrays.asList(testProduct1, testProduct2),
+                    ScrollPosition::offset, true);
+            given(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                    .willReturn(window);
+
+            // when
+            ProductPageDto page = productService.getProductPage(2, "name", "asc", null);
+
+            // then
+            assertThat(page.getContent()).extracting(ProductDto::getName).containsExactly("노트북", "마우스");
+            assertThat(page.isHasNext()).isTrue();
+            assertThat(page.getNextCursor()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("커서를 받으면 마지막 (정렬 값, id) 이후부터 조회한다")
+        void it_scrolls_after_cursor() {
+            // given
+            ReflectionTestUtils.setField(testProduct2, "id", 2L);
+            given(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                    .willReturn(Window.from(Arrays.asList(testProduct2), ScrollPosition::offset, true))
+                    .willReturn(Window.from(List.<Product>of(), ScrollPosition::offset, false));
+            String cursor = productService.getProductPage(1, "price", "desc", null).getNextCursor();
+
+            // when
+            ProductPageDto page = productService.getProductPage(1, "price", "desc", cursor);
+
+            // then
+            ArgumentCaptor<ScrollPosition> positionCaptor = ArgumentCaptor.forClass(ScrollPosition.class);
+            ArgumentCaptor<Sort> sortCaptor = ArgumentCaptor.forClass(Sort.class);
+            verify(productRepository, times(2)).findAllBy(positionCaptor.capture(), sortCaptor.capture(), any());
+            KeysetScrollPosition position = (KeysetScrollPosition) positionCaptor.getAllValues().get(1);
+            assertThat(position.getKeys()).containsEntry("price", 20000.0).containsEntry("id", 2L);
+            assertThat(sortCaptor.getAllValues().get(1))
+                    .isEqualTo(Sort.by(Sort.Direction.DESC, "price").and(Sort.by(Sort.Direction.DESC, "id")));
+            assertThat(page.getContent()).isEmpty();
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("다른 정렬 기준의 커서를 받으면 예외가 발생한다")
+        void it_throws_exception_when_cursor_does_not_match_sort() {
+            // given
+            ReflectionTestUtils.setField(testProduct1, "id", 1L);
+            given(productRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                    .willReturn(Window.from(Arrays.asList(testProduct1), ScrollPosition::offset, true));
+            String nameCursor = productService.getProductPage(1, "name", "asc", null).getNextCursor();
+
+            // when & then
+            assertThatThrownBy(() -> productService.getProductPage(1, "quantity", "asc", nameCursor))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("유효하지 않은 커서입니다");
+        }
+
+        @Test
+        @DisplayName("카테고리/검색어가 있으면 서버에서 필터를 적용하고 첫 페이지에 전체 건수를 담는다")
+        void it_filters_on_server_and_counts_first_page() {
+            // given
+            ReflectionTestUtils.setField(testProduct1, "id", 1L);
+            given(productRepository.findBy(ArgumentMatchers.<Specification<Product>>any(), any()))
+                    .willReturn(Window.from(Arrays.asList(testProduct1), ScrollPosition::offset, true));
+            given(productRepository.count(ArgumentMatchers.<Specification<Product>>any())).willReturn(3L);
+
+            // when
+            ProductPageDto page = productService.getProductPage(1, "name", "asc", null, "전자제품", " 노트 ");
+
+            // then
+            assertThat(page.getContent()).extracting(ProductDto::getName).containsExactly("노트북");
+            assertThat(page.getTotalCount()).isEqualTo(3L);
+            assertThat(page.getNextCursor()).isNotBlank();
+            verify(productRepository, never()).findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class));
+        }
+
+        @Test
+        @DisplayName("필터가 바뀐 뒤 이전 필터의 커서를 받으면 예외가 발생한다")
+        void it_throws_exception_when_cursor_does_not_match_filter() {
+            // given
+            ReflectionTestUtils.setField(testProduct1, "id", 1L);
+            given(productRepository.findBy(ArgumentMatchers.<Specification<Product>>any(), any()))
+                    .willReturn(Window.from(Arrays.asList(testProduct1), ScrollPosition::offset, true));
+            String cursor = productService.getProductPage(1, "name", "asc", null, "전자제품", null).getNextCursor();
+
+            // when & then
+            assertThatThrownBy(() -> productService.getProductPage(1, "name", "asc", cursor, "가구", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("유효하지 않은 커서입니다");
+            assertThatThrownBy(() -> productService.getProductPage(1, "name", "asc", cursor))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("유효하지 않은 커서입니다");
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 정렬 기준이면 예외가 발생한다")
+        void it_throws_exception_when_sort_is_unsupported() {
+            assertThatThrownBy(() -> productService.getProductPage(10, "category", "asc", null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("지원하지 않는 정렬 기준입니다");
+        }
+    }
+
     @Nested
     @DisplayName("getLowStockProducts 메서드는")
     class Describe_getLowStockProducts {
@@ -174,6 +289,34 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getMostCriticalProducts 메서드는")
+    class Describe_getMostCriticalProducts {
+
+        @Test
+        @DisplayName("요청한 개수만큼만 조회한다")
+        void it_returns_top_n_critical_products() {
+            // given
+            given(productRepository.findLowStockProducts(PageRequest.of(0, 1)))
+                    .willReturn(Arrays.asList(testProduct3));
+
+            // when
+            List<ProductDto> result = productService.getMostCriticalProducts(1);
+
+            // then
+            assertThat(result).extracting(ProductDto::getName).containsExactly("키보드");
+            verify(productRepository, never()).findLowStockProducts();
+        }
+
+        @Test
+        @DisplayName("조회 개수가 범위를 벗어나면 예외가 발생한다")
+        void it_throws_exception_when_limit_out_of_range() {
+            assertThatThrownBy(() -> productService.getMostCriticalProducts(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("조회 개수는");
+        }
+    }
+
     @Nested
     @DisplayName("createProduct 메서드는")
     class Describe_createProduct {
@@ -202,6 +345,7 @@ class ProductServiceTest {
             assertThat(result.getQuantity()).isEqualTo(30);
             assertThat(result.getPrice()).isEqualTo(300000.0);
             verify(productRepository).save(any(Product.class));
+            verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
         }
 
         @Test
@@ -222,6 +366,42 @@ class ProductServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateProduct 메서드는")
+    class Describe_updateProduct {
+
+        @Test
+        @DisplayName("행을 잠가 읽고 최신 재고 기준으로 상태를 다시 계산한다")
+        void it_locks_row_before_editing() {
+            // given: 재고 50 상품의 최소 재고 수준을 60으로 올림
+            Long productId = 1L;
+            given(productRepository.findByIdForUpdate(productId)).willReturn(Optional.of(testProduct1));
+
+            // when
+            ProductDto result = productService.updateProduct(productId,
+                    new UpdateProductRequest("노트북 프로", null, 60, null));
+
+            // then
+            assertThat(result.getName()).isEqualTo("노트북 프로");
+            assertThat(result.getQuantity()).isEqualTo(50);
+            assertThat(result.getStatus()).isEqualTo(StockStatus.LOW_STOCK);
+            verify(productRepository, never()).findById(any());
+            verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 상품이면 예외가 발생한다")
+        void it_throws_when_not_found() {
+            // given
+            given(productRepository.findByIdForUpdate(999L)).willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> productService.updateProduct(999L, new UpdateProductRequest("x", null, null, null)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("상품을 찾을 수 없습니다");
+        }
+    }
+
     @Nested
     @DisplayName("updateStock 메서드는")
     class Describe_updateStock {
@@ -234,34 +414,49 @@ class ProductServiceTest {
             UpdateStockRequest request = new UpdateStockRequest();
             request.setAmount(20);
 
-            Product product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            Product updated = new Product("노트북", "전자제품", 30, 5, 1000000.0); // UPDATE 이후 상태
+            given(productRepository.increaseStock(eq(productId), eq(20), any(), anyLong())).willReturn(1);
+            given(productRepository.findById(productId)).willReturn(Optional.of(updated));
 
             // when
             ProductDto result = productService.updateStock(productId, request);
 
             // then
             assertThat(result.getQuantity()).isEqualTo(30); // 10 + 20
-            verify(productRepository).findById(productId);
+            verify(productRepository).increaseStock(eq(productId), eq(20), any(), anyLong());
+
+            // 변경 전/후 스냅샷이 이벤트로 발행된다
+            ArgumentCaptor<ProductChangedEvent> captor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getBefore().getQuantity()).isEqualTo(10);
+            assertThat(captor.getValue().getAfter().getQuantity()).isEqualTo(30);
         }
 
         @Test
-        @DisplayName("재고를 차감할 수 있다")
+        @DisplayName("재고를 조건부 UPDATE로 차감할 수 있다")
         void it_can_reduce_stock() {
             // given
             Long productId = 1L;
             UpdateStockRequest request = new UpdateStockRequest();
             request.setAmount(-5);
 
-            Product product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            Product updated = new Product("노트북", "전자제품", 5, 5, 1000000.0); // UPDATE 이후 상태
+            given(productRepository.decreaseStock(eq(productId), eq(5), any(), anyLong())).willReturn(1);
+            given(productRepository.findById(productId)).willReturn(Optional.of(updated));
 
             // when
             ProductDto result = productService.updateStock(productId, request);
 
             // then
             assertThat(result.getQuantity()).isEqualTo(5); // 10 - 5
-            verify(productRepository).findById(productId);
+            assertThat(result.getStatus()).isEqualTo(StockStatus.LOW_STOCK);
+            verify(productRepository).decreaseStock(eq(productId), eq(5), any(), anyLong());
+
+            // 변경 전 상태는 SQL 과 같은 규칙으로 복원된다
+            ArgumentCaptor<ProductChangedEvent> captor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getBefore().getQuantity()).isEqualTo(10);
+            assertThat(captor.getValue().getBefore().getStatus()).isEqualTo(StockStatus.IN_STOCK);
         }
 
         @Test
@@ -272,13 +467,14 @@ class ProductServiceTest {
             UpdateStockRequest request = new UpdateStockRequest();
             request.setAmount(-50); // 현재 재고보다 많이 차감
 
-            Product product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
-            given(productRepository.findById(productId)).willReturn(Optional.of(product));
+            given(productRepository.decreaseStock(eq(productId), eq(50), any(), anyLong())).willReturn(0);
+            given(productRepository.existsById(productId)).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> productService.updateStock(productId, request))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("재고가 부족합니다");
+            verify(eventPublisher, never()).publishEvent(any());
         }
 
         @Test
@@ -289,7 +485,8 @@ class ProductServiceTest {
             UpdateStockRequest request = new UpdateStockRequest();
             request.setAmount(10);
 
-            given(productRepository.findById(productId)).willReturn(Optional.empty());
+            given(productRepository.increaseStock(eq(productId), eq(10), any(), anyLong())).willReturn(0);
+            given(productRepository.existsById(productId)).willReturn(false);
 
             // when & then
             assertThatThrownBy(() -> productService.updateStock(productId, request))
@@ -313,6 +510,56 @@ class ProductServiceTest {
 
             // then
             assertThat(result.getQuantity()).isEqualTo(10); // 변경 없음
+            verify(productRepository, never()).increaseStock(any(), anyInt(), any(), anyLong());
+            verify(productRepository, never()).decreaseStock(any(), anyInt(), any(), anyLong());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("updateStockBatch 메서드는")
+    class Describe_updateStockBatch {
+
+        @Test
+        @DisplayName("대상 상품을 한 번에 잠가 조회하고 항목별 성공/실패를 반환한다")
+        void it_applies_each_item_and_reports_failures() {
+            // given
+            ReflectionTestUtils.setField(testProduct1, "id", 1L); // 재고 50
+            ReflectionTestUtils.setField(testProduct2, "id", 2L); // 재고 5
+            given(productRepository.findAllForUpdate(List.of(1L, 2L, 999L)))
+                    .willReturn(Arrays.asList(testProduct1, testProduct2));
+
+            List<StockAdjustmentRequest> requests = Arrays.asList(
+                    new StockAdjustmentRequest(1L, 20),
+                    new StockAdjustmentRequest(2L, -10), // 재고 부족
+                    new StockAdjustmentRequest(999L, 5), // 없는 상품
+                    new StockAdjustmentRequest(1L, -30));
+
+            // when
+            BatchStockResultDto result = productService.updateStockBatch(requests);
+
+            // then
+            assertThat(result.getSuccessCount()).isEqualTo(2);
+            assertThat(result.getFailureCount()).isEqualTo(2);
+            assertThat(result.getResults()).extracting(StockAdjustmentResultDto::isSuccess)
+                    .containsExactly(true, false, false, true);
+            assertThat(result.getResults().get(1).getMessage()).contains("재고가 부족합니다");
+            assertThat(result.getResults().get(2).getMessage()).contains("상품을 찾을 수 없습니다");
+            assertThat(result.getResults().get(3).getQuantity()).isEqualTo(40); // 50 + 20 - 30
+            assertThat(testProduct2.getQuantity()).isEqualTo(5); // 실패 항목은 변경 없음
+
+            verify(productRepository, times(1)).findAllForUpdate(any());
+            verify(productRepository, never()).findAllById(any());
+            verify(productRepository).flush();
+            verify(eventPublisher, times(2)).publishEvent(any(ProductChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("빈 요청이면 예외가 발생한다")
+        void it_throws_exception_when_empty() {
+            assertThatThrownBy(() -> productService.updateStockBatch(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("조정할 재고 항목이 없습니다");
         }
     }
 
@@ -325,15 +572,15 @@ class ProductServiceTest {
         void it_deletes_existing_product() {
             // given
             Long productId = 1L;
-            given(productRepository.existsById(productId)).willReturn(true);
-            willDoNothing().given(productRepository).deleteById(productId);
+            given(productRepository.findById(productId)).willReturn(Optional.of(testProduct1));
 
             // when
             productService.deleteProduct(productId);
 
             // then
-            verify(productRepository).existsById(productId);
-            verify(productRepository).deleteById(productId);
+            verify(productRepository).findById(productId);
+            verify(productRepository).delete(testProduct1);
+            verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
         }
 
         @Test
@@ -341,15 +588,15 @@ class ProductServiceTest {
         void it_throws_exception_when_product_not_found() {
             // given
             Long productId = 999L;
-            given(productRepository.existsById(productId)).willReturn(false);
+            given(productRepository.findById(productId)).willReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> productService.deleteProduct(productId))
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessageContaining("상품을 찾을 수 없습니다");
 
-            verify(productRepository).existsById(productId);
-            verify(productRepository, never()).deleteById(any());
+            verify(productRepository).findById(productId);
+            verify(productRepository, never()).delete(any());
         }
     }
 }
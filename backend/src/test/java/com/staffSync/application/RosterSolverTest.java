@@ -0,0 +1,217 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.staffSync.application.schedule.RosterProblem;
+import com.staffSync.application.schedule.RosterSolver;
+import com.staffSync.application.schedule.ScheduleProperties;
+
+@DisplayName("RosterSolver 테스트")
+class RosterSolverTest {
+
+    // 주간 09:00 ~ 18:00, 야간 22:00 ~ 다음 날 07:00 (분)
+    private static final int[] SHIFT_STARTS = { 9 * 60, 22 * 60 };
+    private static final int[] SHIFT_ENDS = { 18 * 60, 31 * 60 };
+    private static final int MIN_REST_MINUTES = 11 * 60;
+
+    private RosterSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = new RosterSolver(new ScheduleProperties());
+    }
+
+    // 날마다 근무 형태별 perShift 명이 필요한 문제
+    private static RosterProblem problem(int employees, int days, int perShift, int maxShiftsPerWeek) {
+        List<Integer> slotDays = new ArrayList<>();
+        List<Integer> slotShifts = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            for (int shift = 0; shift < SHIFT_STARTS.length; shift++) {
+                for (int n = 0; n < perShift; n++) {
+                    slotDays.add(day);
+                    slotShifts.add(shift);
+                }
+            }
+        }
+        long[] employeeIds = new long[employees];
+        for (int i = 0; i < employees; i++) {
+            employeeIds[i] = 100L + i;
+        }
+        return new RosterProblem("개발팀", days, SHIFT_STARTS, SHIFT_ENDS,
+                slotDays.stream().mapToInt(Integer::intValue).toArray(),
+                slotShifts.stream().mapToInt(Integer::intValue).toArray(),
+                employeeIds, new BitSet(), maxShiftsPerWeek, MIN_REST_MINUTES);
+    }
+
+    /**
+     * 배정 전체를 처음부터 다시 세는 벌점 (증분 계산 검증용)
+     *
+     * @return { hard, soft }
+     */
+    private static long[] evaluate(RosterProblem problem, int[] assignment) {
+        int employees = problem.employeeCount();
+        int days = problem.days();
+        int[][] daily = new int[employees][days];
+        int[][] weekly = new int[employees][problem.weeks()];
+        int[] totals = new int[employees];
+        List<List<List<Integer>>> shiftsByDay = new ArrayList<>();
+        for (int e = 0; e < employees; e++) {
+            List<List<Integer>> byDay = new ArrayList<>();
+            for (int d = 0; d < days; d++) {
+                byDay.add(new ArrayList<>());
+            }
+            shiftsByDay.add(byDay);
+        }
+
+        long hard = 0;
+        for (int slot = 0; slot < assignment.length; slot++) {
+            int employee = assignment[slot];
+            if (employee < 0) {
+                hard++;
+                continue;
+            }
+            if (problem.isUnavailable(employee, slot)) {
+                hard++;
+            }
+            int day = problem.slotDays()[slot];
+            daily[employee][day]++;
+            weekly[employee][day / 7]++;
+            totals[employee]++;
+            shiftsByDay.get(employee).get(day).add(problem.slotShifts()[slot]);
+        }
+
+        long soft = 0;
+        for (int e = 0; e < employees; e++) {
+            soft += (long) totals[e] * totals[e];
+            for (int w = 0; w < problem.weeks(); w++) {
+                hard += Math.max(0, weekly[e][w] - problem.maxShiftsPerWeek());
+            }
+            for (int d = 0; d < days; d++) {
+                hard += Math.max(0, daily[e][d] - 1);
+                if (d + 1 == days) {
+                    continue;
+                }
+                for (int shift : shiftsByDay.get(e).get(d)) {
+                    for (int next : shiftsByDay.get(e).get(d + 1)) {
+                        if (24 * 60 + problem.shiftStarts()[next] - problem.shiftEnds()[shift] < problem.minRestMinutes()) {
+                            hard++;
+                        }
+                    }
+                }
+            }
+        }
+        return new long[] { hard, soft };
+    }
+
+    @Nested
+    @DisplayName("solve 메서드는")
+    class Describe_solve {
+
+        @Test
+        @DisplayName("풀 수 있는 문제는 필수 조건을 모두 지키고 근무 횟수를 고르게 나눈다")
+        void it_finds_feasible_roster() {
+            // given: 2주 x 2교대 x 2명 = 56자리, 직원 8명 (1인당 7회)
+            RosterProblem problem = problem(8, 14, 2, 5);
+
+            // when
+            RosterSolver.Solution solution = solver.solve(problem, 2_000, 1L);
+
+            // then
+            assertThat(solution.hardPenalty()).isZero();
+            assertThat(solution.uncovered()).isZero();
+            assertThat(solution.softPenalty()).isEqualTo(8L * 7 * 7);
+            assertThat(evaluate(problem, solution.assignment())).containsExactly(0L, solution.softPenalty());
+        }
+
+        @Test
+        @DisplayName("근무 불가 직원은 배정하지 않는다 (하루 전체 / 특정 근무)")
+        void it_respects_unavailability() {
+            // given
+            RosterProblem problem = problem(8, 7, 1, 5);
+            for (int day = 0; day < 7; day++) {
+                problem.unavailable().set(problem.unavailableIndex(0, day, -1)); // 0번: 매일 불가
+                problem.unavailable().set(problem.unavailableIndex(1, day, 1)); // 1번: 야간 불가
+            }
+
+            // when
+            RosterSolver.Solution solution = solver.solve(problem, 2_000, 7L);
+
+            // then
+            assertThat(solution.hardPenalty()).isZero();
+            int[] assignment = solution.assignment();
+            for (int slot = 0; slot < assignment.length; slot++) {
+                assertThat(assignment[slot]).isNotEqualTo(0);
+                if (problem.slotShifts()[slot] == 1) {
+                    assertThat(assignment[slot]).isNotEqualTo(1);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("야간 근무 다음 날 주간 근무처럼 휴식 시간이 부족한 배정은 하지 않는다")
+        void it_respects_minimum_rest() {
+            // given: 2명이 하루 주간/야간 1자리씩, 주 7회까지 허용
+            RosterProblem problem = problem(2, 7, 1, 7);
+
+            // when
+            RosterSolver.Solution solution = solver.solve(problem, 2_000, 3L);
+
+            // then: 한 명이 계속 주간, 다른 한 명이 계속 야간이어야 위반이 없다
+            assertThat(solution.hardPenalty()).isZero();
+            int[] assignment = solution.assignment();
+            for (int slot = 0; slot + 2 < assignment.length; slot++) {
+                if (problem.slotShifts()[slot] == 1) {
+                    assertThat(assignment[slot + 1]).isNotEqualTo(assignment[slot]); // 다음 날 주간
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("인원이 부족하면 조건을 어기는 대신 자리를 비워 두고 그 수를 알려 준다")
+        void it_reports_uncovered_slots() {
+            // given: 1명, 7일 x 주간 1자리, 주 5회까지
+            RosterProblem problem = new RosterProblem("개발팀", 7, new int[] { 9 * 60 }, new int[] { 18 * 60 },
+                    new int[] { 0, 1, 2, 3, 4, 5, 6 }, new int[7], new long[] { 100L }, new BitSet(), 5,
+                    MIN_REST_MINUTES);
+
+            // when
+            RosterSolver.Solution solution = solver.solve(problem, 500, 1L);
+
+            // then
+            assertThat(solution.uncovered()).isEqualTo(2);
+            assertThat(solution.hardPenalty()).isEqualTo(2);
+            assertThat(evaluate(problem, solution.assignment())).containsExactly(2L, 25L);
+        }
+
+        @Test
+        @DisplayName("증분 계산한 벌점이 처음부터 다시 센 벌점과 같다")
+        void it_keeps_incremental_score_consistent() {
+            // given: 근무 불가가 섞인 빠듯한 4주 문제
+            RosterProblem problem = problem(12, 28, 3, 5);
+            SplittableRandom random = new SplittableRandom(42L);
+            for (int i = 0; i < 60; i++) {
+                problem.unavailable().set(problem.unavailableIndex(random.nextInt(12), random.nextInt(28),
+                        random.nextInt(3) - 1));
+            }
+
+            for (long seed = 1; seed <= 5; seed++) {
+                // when
+                RosterSolver.Solution solution = solver.solve(problem, 100, seed);
+
+                // then
+                assertThat(evaluate(problem, solution.assignment()))
+                        .containsExactly(solution.hardPenalty(), solution.softPenalty());
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.staffSync.application.employee.EmployeeChangedEvent;
+import com.staffSync.application.employee.SalaryAnalytics;
+import com.staffSync.application.employee.dto.EmployeeDto;
+import com.staffSync.application.employee.dto.SalaryAnalyticsDto;
+import com.staffSync.application.employee.dto.SalaryStatsDto;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalaryAnalytics 테스트")
+class SalaryAnalyticsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SalaryAnalytics analytics;
+
+    @BeforeEach
+    void setUp() {
+        analytics = new SalaryAnalytics(jdbcTemplate);
+        analytics.initialize(); // 빈 직원 테이블
+    }
+
+    private static EmployeeDto employee(long id, String department, double salary, LocalDate hireDate) {
+        return new EmployeeDto(id, "EMP00" + id, "직원" + id, "e" + id + "@example.com", hireDate, salary,
+                department, null);
+    }
+
+    private void create(long id, String department, double salary, LocalDate hireDate) {
+        analytics.onEmployeeChanged(EmployeeChangedEvent.created(employee(id, department, salary, hireDate)));
+    }
+
+    @Nested
+    @DisplayName("getAnalytics 메서드는")
+    class Describe_getAnalytics {
+
+        @Test
+        @DisplayName("부서별 인원, 합계, 평균, 중앙값, 백분위를 계산한다")
+        void it_aggregates_by_department() {
+            // given
+            LocalDate hired = LocalDate.of(2020, 1, 1);
+            create(1, "개발팀", 100, hired);
+            create(2, "개발팀", 200, hired);
+            create(3, "개발팀", 300, hired);
+            create(4, "개발팀", 400, hired);
+            create(5, "디자인팀", 500, hired);
+            create(6, null, 50, hired);
+
+            // when
+            SalaryAnalyticsDto result = analytics.getAnalytics(null, null);
+
+            // then
+            assertThat(result.getDepartments()).extracting(SalaryStatsDto::getDepartment)
+                    .containsExactly("개발팀", "디자인팀", null);
+            SalaryStatsDto dev = result.getDepartments().get(0);
+            assertThat(dev.getHeadcount()).isEqualTo(4);
+            assertThat(dev.getTotalSalary()).isEqualTo(1000.0);
+            assertThat(dev.getAverageSalary()).isEqualTo(250.0);
+            assertThat(dev.getMinSalary()).isEqualTo(100.0);
+            assertThat(dev.getMaxSalary()).isEqualTo(400.0);
+            assertThat(dev.getMedianSalary()).isEqualTo(250.0);
+            assertThat(dev.getP25Salary()).isEqualTo(175.0);
+            assertThat(dev.getP90Salary()).isCloseTo(370.0, within(1e-9));
+            assertThat(result.getOverall().getHeadcount()).isEqualTo(6);
+            assertThat(result.getOverall().getMedianSalary()).isEqualTo(250.0);
+        }
+
+        @Test
+        @DisplayName("수정/삭제 이벤트를 반영하고, 급여가 바뀐 행을 새 자리로 옮겨도 값이 어긋나지 않는다")
+        void it_applies_updates_and_deletes() {
+            // given
+            LocalDate hired = LocalDate.of(2020, 1, 1);
+            create(1, "개발팀", 100, hired);
+            create(2, "개발팀", 200, hired);
+            create(3, "영업팀", 300, hired);
+            analytics.getAnalytics(null, null); // 캐시 생성
+
+            // when
+            analytics.onEmployeeChanged(EmployeeChangedEvent.deleted(employee(1, "개발팀", 100, hired)));
+            analytics.onEmployeeChanged(EmployeeChangedEvent.updated(
+                    employee(3, "영업팀", 300, hired), employee(3, "개발팀", 600, hired)));
+
+            // then
+            SalaryAnalyticsDto result = analytics.getAnalytics(null, null);
+            assertThat(result.getDepartments()).hasSize(1);
+            assertThat(result.getDepartments().get(0).getHeadcount()).isEqualTo(2);
+            assertThat(result.getDepartments().get(0).getTotalSalary()).isEqualTo(800.0);
+            assertThat(result.getDepartments().get(0).getMinSalary()).isEqualTo(200.0);
+            assertThat(result.getDepartments().get(0).getMaxSalary()).isEqualTo(600.0);
+        }
+
+        @Test
+        @DisplayName("급여 순서와 다르게 들어와도 입사일 범위 안의 부서별/전체 백분위를 정렬된 값 기준으로 구한다")
+        void it_computes_filtered_percentiles() {
+            // given
+            LocalDate in = LocalDate.of(2020, 6, 1);
+            LocalDate out = LocalDate.of(2018, 1, 1);
+            create(1, "개발팀", 400, in);
+            create(2, "영업팀", 150, in);
+            create(3, "개발팀", 100, in);
+            create(4, "개발팀", 50, out);
+            create(5, "개발팀", 300, in);
+            create(6, "영업팀", 250, in);
+            create(7, "개발팀", 200, in);
+
+            // when
+            SalaryAnalyticsDto result = analytics.getAnalytics(LocalDate.of(2020, 1, 1), null);
+
+            // then: 개발팀 100, 200, 300, 400 / 영업팀 150, 250 / 전체 100 ~ 400 여섯 명
+            SalaryStatsDto dev = result.getDepartments().get(0);
+            assertThat(dev.getHeadcount()).isEqualTo(4);
+            assertThat(dev.getMinSalary()).isEqualTo(100.0);
+            assertThat(dev.getMedianSalary()).isEqualTo(250.0);
+            assertThat(dev.getP10Salary()).isCloseTo(130.0, within(1e-9));
+            SalaryStatsDto sales = result.getDepartments().get(1);
+            assertThat(sales.getMedianSalary()).isEqualTo(200.0);
+            assertThat(sales.getMaxSalary()).isEqualTo(250.0);
+            SalaryStatsDto overall = result.getOverall();
+            assertThat(overall.getHeadcount()).isEqualTo(6);
+            assertThat(overall.getMinSalary()).isEqualTo(100.0);
+            assertThat(overall.getMaxSalary()).isEqualTo(400.0);
+            assertThat(overall.getMedianSalary()).isEqualTo(225.0);
+            assertThat(overall.getP75Salary()).isCloseTo(287.5, within(1e-9));
+        }
+
+        @Test
+        @DisplayName("입사일 범위에 드는 직원만 집계한다")
+        void it_filters_by_hire_date() {
+            // given
+            create(1, "개발팀", 100, LocalDate.of(2019, 12, 31));
+            create(2, "개발팀", 200, LocalDate.of(2020, 6, 1));
+            create(3, "개발팀", 300, LocalDate.of(2021, 1, 1));
+
+            // when
+            SalaryAnalyticsDto result = analytics.getAnalytics(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31));
+
+            // then
+            assertThat(result.getOverall().getHeadcount()).isEqualTo(1);
+            assertThat(result.getOverall().getTotalSalary()).isEqualTo(200.0);
+        }
+
+        @Test
+        @DisplayName("부서 구간이 벡터 길이로 나누어떨어지지 않고 두 부서가 섞여 들어와도 구간 끝 행까지 집계한다")
+        void it_aggregates_long_interleaved_segments() {
+            // given: 개발팀 1 ~ 37, 영업팀 101 ~ 137 을 급여 내림차순으로 번갈아 등록, 짝수 번호만 범위 안에 입사
+            LocalDate in = LocalDate.of(2020, 6, 1);
+            LocalDate out = LocalDate.of(2018, 1, 1);
+            for (int i = 37; i >= 1; i--) {
+                create(i, "개발팀", i * 10, i % 2 == 0 ? in : out);
+                create(100 + i, "영업팀", (100 + i) * 10, i % 2 == 0 ? in : out);
+            }
+
+            // when
+            SalaryAnalyticsDto all = analytics.getAnalytics(null, null);
+            SalaryAnalyticsDto filtered = analytics.getAnalytics(LocalDate.of(2020, 1, 1), null);
+
+            // then: 개발팀 10 ~ 370 (합 7,030), 영업팀 1,010 ~ 1,370 (합 44,030)
+            assertThat(all.getDepartments().get(0).getHeadcount()).isEqualTo(37);
+            assertThat(all.getDepartments().get(0).getTotalSalary()).isEqualTo(7030.0);
+            assertThat(all.getDepartments().get(1).getTotalSalary()).isEqualTo(44030.0);
+            assertThat(all.getOverall().getMinSalary()).isEqualTo(10.0);
+            assertThat(all.getOverall().getMaxSalary()).isEqualTo(1370.0);
+            assertThat(all.getOverall().getMedianSalary()).isEqualTo(690.0); // 370 과 1,010 의 가운데
+            // 짝수 번호: 개발팀 20 ~ 360 18명 (합 3,420), 영업팀 1,020 ~ 1,360 18명 (합 21,420)
+            SalaryStatsDto dev = filtered.getDepartments().get(0);
+            assertThat(dev.getHeadcount()).isEqualTo(18);
+            assertThat(dev.getTotalSalary()).isEqualTo(3420.0);
+            assertThat(dev.getMinSalary()).isEqualTo(20.0);
+            assertThat(dev.getMaxSalary()).isEqualTo(360.0);
+            assertThat(filtered.getDepartments().get(1).getTotalSalary()).isEqualTo(21420.0);
+            assertThat(filtered.getOverall().getHeadcount()).isEqualTo(36);
+            assertThat(filtered.getOverall().getMedianSalary()).isEqualTo(690.0);
+        }
+
+        @Test
+        @DisplayName("입사일 범위가 뒤집히면 예외가 발생한다")
+        void it_rejects_inverted_range() {
+            assertThatThrownBy(() -> analytics.getAnalytics(LocalDate.of(2021, 1, 1), LocalDate.of(2020, 1, 1)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
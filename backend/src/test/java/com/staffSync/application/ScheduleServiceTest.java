@@ -0,0 +1,196 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.schedule.RosterSolver;
+import com.staffSync.application.schedule.ScheduleProperties;
+import com.staffSync.application.schedule.ScheduleService;
+import com.staffSync.application.schedule.dto.CreateScheduleRequest;
+import com.staffSync.application.schedule.dto.ScheduleDto;
+import com.staffSync.domain.schedule.CoverageRequirement;
+import com.staffSync.domain.schedule.CoverageRequirementRepository;
+import com.staffSync.domain.schedule.EmployeeUnavailability;
+import com.staffSync.domain.schedule.EmployeeUnavailabilityRepository;
+import com.staffSync.domain.schedule.Schedule;
+import com.staffSync.domain.schedule.ScheduleRepository;
+import com.staffSync.domain.schedule.ScheduleStatus;
+import com.staffSync.domain.schedule.ShiftAssignmentRepository;
+import com.staffSync.domain.schedule.ShiftTemplate;
+import com.staffSync.domain.schedule.ShiftTemplateRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ScheduleService 테스트")
+class ScheduleServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2026, 11, 2); // 월요일
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+
+    @Mock
+    private ShiftAssignmentRepository assignmentRepository;
+
+    @Mock
+    private ShiftTemplateRepository shiftTemplateRepository;
+
+    @Mock
+    private CoverageRequirementRepository coverageRequirementRepository;
+
+    @Mock
+    private EmployeeUnavailabilityRepository unavailabilityRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ScheduleService scheduleService;
+
+    private final AtomicReference<Schedule> savedSchedule = new AtomicReference<>();
+    private final List<Object[]> writtenRows = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ScheduleProperties properties = new ScheduleProperties();
+        properties.setTimeLimitMs(2_000);
+        properties.setParallelism(2);
+        scheduleService = new ScheduleService(scheduleRepository, assignmentRepository, shiftTemplateRepository,
+                coverageRequirementRepository, unavailabilityRepository, new RosterSolver(properties), jdbcTemplate,
+                transactionManager, properties);
+
+        given(scheduleRepository.save(any(Schedule.class))).willAnswer(invocation -> {
+            Schedule schedule = invocation.getArgument(0);
+            ReflectionTestUtils.setField(schedule, "id", 1L);
+            savedSchedule.set(schedule);
+            return schedule;
+        });
+        given(scheduleRepository.findById(1L)).willAnswer(invocation -> Optional.ofNullable(savedSchedule.get()));
+
+        // 근무 형태: 1 주간(09~18), 2 야간(22~07)
+        given(shiftTemplateRepository.findAllByOrderByStartTimeAsc()).willReturn(List.of(
+                template(1L, "주간", LocalTime.of(9, 0), LocalTime.of(18, 0)),
+                template(2L, "야간", LocalTime.of(22, 0), LocalTime.of(7, 0))));
+
+        // 필요 인원: 개발팀 매일 주간/야간 1명, 영업팀 매일 주간 1명
+        List<CoverageRequirement> coverage = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            coverage.add(new CoverageRequirement("개발팀", 1L, day, 1));
+            coverage.add(new CoverageRequirement("개발팀", 2L, day, 1));
+            coverage.add(new CoverageRequirement("영업팀", 1L, day, 1));
+        }
+        given(coverageRequirementRepository.findDepartments()).willReturn(List.of("개발팀", "영업팀"));
+        given(coverageRequirementRepository.findByDepartmentIn(anyCollection())).willReturn(coverage);
+
+        // 직원: 개발팀 1 ~ 6, 영업팀 7 ~ 9
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (long id = 1; id <= 9; id++) {
+                handler.processRow(employeeRow(id, id <= 6 ? "개발팀" : "영업팀"));
+            }
+            return null;
+        }).given(jdbcTemplate).query(startsWith("SELECT id"), any(RowCallbackHandler.class));
+
+        // 1번 직원은 첫날 근무 불가
+        given(unavailabilityRepository.findByWorkDateBetween(any(), any()))
+                .willReturn(List.of(new EmployeeUnavailability(1L, START_DATE, null, "교육")));
+
+        given(jdbcTemplate.batchUpdate(startsWith("INSERT INTO shift_assignments"), anyList()))
+                .willAnswer(invocation -> {
+                    List<Object[]> batch = invocation.getArgument(1);
+                    writtenRows.addAll(batch);
+                    return new int[batch.size()];
+                });
+    }
+
+    private static ShiftTemplate template(Long id, String name, LocalTime start, LocalTime end) {
+        ShiftTemplate template = new ShiftTemplate(name, start, end);
+        ReflectionTestUtils.setField(template, "id", id);
+        return template;
+    }
+
+    private static ResultSet employeeRow(long id, String department) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        given(rs.getLong("id")).willReturn(id);
+        given(rs.getString("department")).willReturn(department);
+        return rs;
+    }
+
+    private ScheduleDto awaitFinished() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (scheduleService.isSolving(1L) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return scheduleService.getSchedule(1L);
+    }
+
+    @Nested
+    @DisplayName("startSchedule 메서드는")
+    class Describe_startSchedule {
+
+        @Test
+        @DisplayName("부서별로 풀어 모든 자리를 조건에 맞게 배정하고 저장한 뒤 완료한다")
+        void it_solves_each_department() throws Exception {
+            // when
+            scheduleService.startSchedule(new CreateScheduleRequest(START_DATE, 1, null));
+            ScheduleDto schedule = awaitFinished();
+
+            // then
+            assertThat(schedule.getStatus()).isEqualTo(ScheduleStatus.SOLVED);
+            assertThat(schedule.getDepartmentCount()).isEqualTo(2);
+            assertThat(schedule.getSlotCount()).isEqualTo(21L);
+            assertThat(schedule.getUncoveredCount()).isZero();
+            assertThat(schedule.getHardPenalty()).isZero();
+            assertThat(writtenRows).hasSize(21);
+            for (Object[] row : writtenRows) {
+                long employeeId = (Long) row[4];
+                assertThat(employeeId <= 6).isEqualTo("개발팀".equals(row[1])); // 다른 부서 직원은 배정하지 않음
+                if (employeeId == 1L) {
+                    assertThat(row[2]).isNotEqualTo(Date.valueOf(START_DATE));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("기간이 범위를 벗어나거나 필요 인원이 없는 부서를 지정하면 예외가 발생한다")
+        void it_rejects_invalid_request() {
+            assertThatThrownBy(() -> scheduleService.startSchedule(new CreateScheduleRequest(START_DATE, 0, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> scheduleService.startSchedule(new CreateScheduleRequest(START_DATE, 7, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> scheduleService.startSchedule(
+                    new CreateScheduleRequest(START_DATE, 1, List.of("인사팀"))))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("인사팀");
+            verify(scheduleRepository, never()).save(any());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.StockCommandProcessor;
+import com.staffSync.application.product.StockQueueProperties;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockCommandProcessor 테스트")
+class StockCommandProcessorTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private StockCommandProcessor processor;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        StockQueueProperties properties = new StockQueueProperties();
+        properties.setLanes(2);
+        properties.setFlushIntervalMs(50); // 명령이 한 배치로 모이도록 넉넉하게
+
+        processor = new StockCommandProcessor(productRepository, transactionManager, eventPublisher, properties);
+        processor.start();
+
+        product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
+        ReflectionTestUtils.setField(product, "id", 1L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    @Test
+    @DisplayName("같은 상품의 명령을 모아 한 번에 커밋하고 재고 부족 명령만 거절하며, 명령마다 자기 반영 직후 상태를 돌려준다")
+    void it_coalesces_commands_and_rejects_insufficient_ones() throws Exception {
+        // given
+        given(productRepository.findAllForUpdate(anyCollection())).willReturn(List.of(product));
+
+        // when
+        List<CompletableFuture<ProductDto>> futures = new ArrayList<>();
+        futures.add(processor.submit(1L, -4)); // 10 -> 6
+        futures.add(processor.submit(1L, -8)); // 재고 부족 (6 < 8)
+        futures.add(processor.submit(1L, 3)); // 6 -> 9
+        futures.add(processor.submit(1L, -9)); // 9 -> 0
+
+        // then
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS).getQuantity()).isEqualTo(6);
+        assertThatThrownBy(() -> futures.get(1).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("재고가 부족합니다");
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS).getQuantity()).isEqualTo(9);
+        assertThat(futures.get(3).get(5, TimeUnit.SECONDS).getQuantity()).isEqualTo(0);
+        assertThat(product.getQuantity()).isEqualTo(0);
+
+        // 한 배치 = 잠금 조회 1회 + 커밋 1회
+        verify(productRepository, times(1)).findAllForUpdate(anyCollection());
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventPublisher, times(1)).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배치가 다른 오류로 롤백되면 명령별로 다시 처리해 실패한 명령만 오류로 완료한다")
+    void it_isolates_unexpected_failures_per_command() throws Exception {
+        // given: 상품 1, 3은 같은 레인
+        Product other = new Product("마우스", "전자제품", 10, 5, 20000.0);
+        ReflectionTestUtils.setField(other, "id", 3L);
+        given(productRepository.findAllForUpdate(anyCollection())).willReturn(List.of(product, other));
+
+        // when
+        CompletableFuture<ProductDto> failing = processor.submit(3L, p -> {
+            throw new IllegalStateException("잠금 대기 시간 초과");
+        });
+        CompletableFuture<ProductDto> first = processor.submit(1L, -4); // 10 -> 6
+        CompletableFuture<ProductDto> second = processor.submit(1L, 2); // 6 -> 8
+
+        // then
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(first.get(5, TimeUnit.SECONDS).getQuantity()).isEqualTo(6);
+        assertThat(second.get(5, TimeUnit.SECONDS).getQuantity()).isEqualTo(8);
+        assertThat(product.getQuantity()).isEqualTo(8);
+        assertThat(other.getQuantity()).isEqualTo(10);
+
+        // 배치 롤백 1회 + 명령별 재처리 (실패 1건 롤백, 2건 커밋)
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 예외로 완료된다")
+    void it_fails_when_product_not_found() {
+        // given
+        given(productRepository.findAllForUpdate(anyCollection())).willReturn(List.of());
+
+        // when
+        CompletableFuture<ProductDto> future = processor.submit(999L, 1);
+
+        // then
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("상품을 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("변경 수량이 0이면 대기열에 넣지 않고 바로 거절한다")
+    void it_rejects_zero_delta_immediately() {
+        CompletableFuture<ProductDto> future = processor.submit(1L, 0);
+
+        assertThat(future).isCompletedExceptionally();
+        verifyNoInteractions(productRepository);
+    }
+}
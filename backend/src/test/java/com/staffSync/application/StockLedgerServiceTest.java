@@ -0,0 +1,158 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.StockLedgerProperties;
+import com.staffSync.application.product.StockLedgerService;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.StockAsOfDto;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.StockMovementRepository;
+import com.staffSync.domain.product.StockSnapshot;
+import com.staffSync.domain.product.StockSnapshotRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerService 테스트")
+class StockLedgerServiceTest {
+
+    @Mock
+    private StockMovementRepository movementRepository;
+
+    @Mock
+    private StockSnapshotRepository snapshotRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private StockLedgerProperties properties = new StockLedgerProperties();
+
+    @InjectMocks
+    private StockLedgerService stockLedgerService;
+
+    @Nested
+    @DisplayName("onProductChanged 메서드는")
+    class Describe_onProductChanged {
+
+        @Test
+        @DisplayName("트랜잭션 안의 재고 변동만 모았다가 커밋 직전에 한 번의 배치 INSERT로 기록한다")
+        @SuppressWarnings("unchecked")
+        void it_writes_movements_in_batch_before_commit() {
+            // given
+            Product product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
+            ProductDto created = ProductDto.from(product);
+            product.addStock(5);
+            ProductDto increased = ProductDto.from(product);
+            product.updateDetails("노트북 Pro", null, null, null); // 재고 변동 없음
+            ProductDto renamed = ProductDto.from(product);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                stockLedgerService.onProductChanged(ProductChangedEvent.created(created));
+                stockLedgerService.onProductChanged(ProductChangedEvent.updated(created, increased));
+                stockLedgerService.onProductChanged(ProductChangedEvent.updated(increased, renamed));
+
+                // then: 커밋 전에는 쓰지 않음
+                verifyNoInteractions(jdbcTemplate);
+
+                // when
+                TransactionSynchronizationUtils.triggerBeforeCommit(false);
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+            List<Object[]> rows = captor.getValue();
+            assertThat(rows).hasSize(2);
+            assertThat(rows.get(0)[1]).isEqualTo(10);
+            assertThat(rows.get(0)[2]).isEqualTo("CREATED");
+            assertThat(rows.get(1)[1]).isEqualTo(5);
+            assertThat(rows.get(1)[2]).isEqualTo("INCREASE");
+            assertThat(TransactionSynchronizationManager.getResource(stockLedgerService)).isNull();
+        }
+
+        @Test
+        @DisplayName("재고 변경 트랜잭션이 롤백되면 변동도 기록하지 않는다")
+        void it_discards_movements_on_rollback() {
+            // given
+            Product product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
+            ProductDto before = ProductDto.from(product);
+            product.addStock(5);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // when
+                stockLedgerService.onProductChanged(ProductChangedEvent.updated(before, ProductDto.from(product)));
+                TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            verifyNoInteractions(jdbcTemplate);
+            assertThat(TransactionSynchronizationManager.getResource(stockLedgerService)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("getStockAsOf 메서드는")
+    class Describe_getStockAsOf {
+
+        @Test
+        @DisplayName("가장 가까운 스냅샷에 이후 변동을 더해 계산한다")
+        void it_replays_from_nearest_snapshot() {
+            // given
+            LocalDateTime snapshotAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+            LocalDateTime asOf = LocalDateTime.of(2025, 1, 1, 9, 0);
+            given(snapshotRepository.findTopByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, asOf))
+                    .willReturn(Optional.of(new StockSnapshot(1L, 40L, snapshotAt)));
+            given(movementRepository.sumDelta(1L, snapshotAt, asOf)).willReturn(-7L);
+
+            // when
+            StockAsOfDto result = stockLedgerService.getStockAsOf(1L, asOf);
+
+            // then
+            assertThat(result.getQuantity()).isEqualTo(33L);
+        }
+
+        @Test
+        @DisplayName("해당 시점 이전 기록이 없으면 예외가 발생한다")
+        void it_throws_exception_when_no_history() {
+            // given
+            LocalDateTime asOf = LocalDateTime.of(2020, 1, 1, 0, 0);
+            given(snapshotRepository.findTopByProductIdAndTakenAtLessThanEqualOrderByTakenAtDesc(1L, asOf))
+                    .willReturn(Optional.empty());
+            given(movementRepository.existsByProductIdAndOccurredAtLessThanEqual(1L, asOf)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> stockLedgerService.getStockAsOf(1L, asOf))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("해당 시점의 재고 기록이 없습니다");
+        }
+    }
+}
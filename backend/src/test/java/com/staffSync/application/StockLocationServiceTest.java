@@ -0,0 +1,261 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.product.StockCommandProcessor;
+import com.staffSync.application.product.StockLocationChangedEvent;
+import com.staffSync.application.product.StockLocationService;
+import com.staffSync.application.product.StockQueueProperties;
+import com.staffSync.application.product.WarehouseStockRollup;
+import com.staffSync.application.product.dto.StockLocationDto;
+import com.staffSync.application.product.dto.StockTransferRequest;
+import com.staffSync.application.product.dto.WarehouseSummaryDto;
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.StockLocation;
+import com.staffSync.domain.product.StockLocationRepository;
+import com.staffSync.domain.product.StockStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StockLocationService 테스트")
+class StockLocationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StockLocationRepository locationRepository;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    private StockCommandProcessor processor;
+    private StockLocationService locationService;
+    private WarehouseStockRollup rollup;
+    private Product product;
+
+    // 창고 재고 저장소 대역 (창고 코드 -> 창고 재고)
+    private final Map<String, StockLocation> locations = new HashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        StockQueueProperties queueProperties = new StockQueueProperties();
+        queueProperties.setLanes(1);
+        queueProperties.setFlushIntervalMs(1);
+        processor = new StockCommandProcessor(productRepository, transactionManager, eventPublisher, queueProperties);
+        processor.start();
+
+        rollup = new WarehouseStockRollup(locationRepository, changeSequence, transactionManager);
+        locationService = new StockLocationService(processor, locationRepository, rollup, eventPublisher,
+                changeSequence);
+
+        product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
+        ReflectionTestUtils.setField(product, "id", 1L);
+        given(productRepository.findAllForUpdate(anyCollection())).willReturn(List.of(product));
+        given(locationRepository.findByProductIdAndWarehouse(eq(1L), anyString()))
+                .willAnswer(invocation -> Optional.ofNullable(locations.get(invocation.getArgument(1, String.class))));
+        given(locationRepository.save(any(StockLocation.class))).willAnswer(invocation -> {
+            StockLocation location = invocation.getArgument(0);
+            ReflectionTestUtils.setField(location, "id", ids.incrementAndGet());
+            locations.put(location.getWarehouse(), location);
+            return location;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.stop();
+    }
+
+    private List<StockLocationDto> transfer(String from, String to, int quantity) throws Exception {
+        return locationService.transfer(1L, new StockTransferRequest(from, to, quantity)).get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("adjustStock 메서드는")
+    class Describe_adjustStock {
+
+        @Test
+        @DisplayName("입고하면 창고 재고를 만들고 상품 전체 재고도 함께 늘린다")
+        void it_receives_into_location() throws Exception {
+            // when
+            StockLocationDto result = locationService.adjustStock(1L, "seoul", 5).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result.getWarehouse()).isEqualTo("SEOUL");
+            assertThat(result.getQuantity()).isEqualTo(5);
+            assertThat(product.getQuantity()).isEqualTo(15);
+            assertThat(product.getAllocatedQuantity()).isEqualTo(5);
+            verify(eventPublisher).publishEvent(any(StockLocationChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("창고 재고보다 많이 출고하면 거절하고 상품 재고는 그대로 둔다")
+        void it_rejects_over_shipment() throws Exception {
+            // given
+            locationService.adjustStock(1L, "SEOUL", 3).get(5, TimeUnit.SECONDS);
+
+            // when & then
+            assertThatThrownBy(() -> locationService.adjustStock(1L, "SEOUL", -4).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(product.getQuantity()).isEqualTo(13);
+            assertThat(locations.get("SEOUL").getQuantity()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("transfer 메서드는")
+    class Describe_transfer {
+
+        @Test
+        @DisplayName("창고 간 이동은 상품 전체 재고를 바꾸지 않는다")
+        void it_moves_between_locations() throws Exception {
+            // given
+            transfer(null, "SEOUL", 8); // 창고 미지정 재고 8 -> 서울
+
+            // when
+            List<StockLocationDto> result = transfer("SEOUL", "BUSAN", 6);
+
+            // then
+            assertThat(result).extracting(StockLocationDto::getWarehouse).containsExactly("SEOUL", "BUSAN");
+            assertThat(result).extracting(StockLocationDto::getQuantity).containsExactly(2, 6);
+            assertThat(product.getQuantity()).isEqualTo(10);
+            assertThat(product.getAllocatedQuantity()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("창고에 배치된 재고는 창고를 지정하지 않은 차감으로 가져갈 수 없다")
+        void it_protects_allocated_stock() throws Exception {
+            // given
+            transfer(null, "SEOUL", 8);
+
+            // when & then
+            assertThatThrownBy(() -> processor.submit(1L, -5).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(product.getQuantity()).isEqualTo(10);
+            assertThat(product.getUnallocatedQuantity()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("예약된 수량은 창고로 옮길 수 없고, 예약을 확정해도 창고 배치 수량 합계가 전체 재고를 넘지 않는다")
+        void it_keeps_reservations_out_of_locations() throws Exception {
+            // given: 10개 중 4개 예약
+            product.reserve(4);
+
+            // when & then: 예약되지 않은 창고 미지정 재고는 6개
+            assertThatThrownBy(() -> transfer(null, "SEOUL", 8))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            transfer(null, "SEOUL", 6);
+
+            // when
+            product.confirmReservation(4);
+
+            // then
+            assertThat(product.getQuantity()).isEqualTo(6);
+            assertThat(product.getAllocatedQuantity()).isEqualTo(6);
+            assertThat(product.getUnallocatedQuantity()).isZero();
+            assertThat(locations.get("SEOUL").getQuantity()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("모든 재고가 창고에 배치되어 있으면 예약할 수 없다")
+        void it_rejects_reservation_of_allocated_stock() throws Exception {
+            // given
+            transfer(null, "SEOUL", 10);
+
+            // when & then
+            assertThatThrownBy(() -> product.reserve(1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("창고 미지정 재고");
+            assertThat(product.getReservedQuantity()).isZero();
+            assertThat(product.getUnallocatedQuantity()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("WarehouseStockRollup 은")
+    class Describe_rollup {
+
+        @Test
+        @DisplayName("커밋된 창고 재고 변경의 차이만 창고별 합계에 반영한다")
+        void it_applies_deltas() {
+            // given
+            rollup.initialize(); // 빈 창고 재고
+            StockLocationDto before = new StockLocationDto(1L, 1L, "SEOUL", 10, 3, StockStatus.IN_STOCK, null, 1L);
+            StockLocationDto after = new StockLocationDto(1L, 1L, "SEOUL", 2, 3, StockStatus.LOW_STOCK, null, 2L);
+
+            // when
+            rollup.onLocationChanged(new StockLocationChangedEvent(null, before));
+            rollup.onLocationChanged(new StockLocationChangedEvent(before, after));
+
+            // then
+            List<WarehouseSummaryDto> summaries = rollup.getSummaries();
+            assertThat(summaries).hasSize(1);
+            assertThat(summaries.get(0).getProductCount()).isEqualTo(1);
+            assertThat(summaries.get(0).getTotalQuantity()).isEqualTo(2);
+            assertThat(summaries.get(0).getLowStockCount()).isEqualTo(1);
+            assertThat(summaries.get(0).getInStockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("스냅샷을 읽기 전에 커밋되어 이미 담긴 변경의 이벤트는 다시 더하지 않는다")
+        void it_skips_changes_already_in_snapshot() {
+            // given: 경계 5 이후 7번 순번으로 바뀐 1번 창고 재고(수량 2)가 스냅샷에 담김
+            StockLocation seoul = new StockLocation(1L, "SEOUL", 3);
+            seoul.addStock(2);
+            seoul.assignChangeSeq(7L);
+            ReflectionTestUtils.setField(seoul, "id", 1L);
+            given(changeSequence.stableWatermark()).willReturn(5L);
+            given(locationRepository.findChanges(eq(5L), eq(Long.MAX_VALUE), any())).willReturn(List.of(seoul));
+            rollup.initialize();
+            StockLocationDto received = new StockLocationDto(1L, 1L, "SEOUL", 2, 3, StockStatus.LOW_STOCK, null, 7L);
+            StockLocationDto shipped = new StockLocationDto(1L, 1L, "SEOUL", 5, 3, StockStatus.IN_STOCK, null, 8L);
+
+            // when: 7번 변경의 이벤트가 스냅샷 뒤에 도착하고, 이어서 8번 변경
+            rollup.onLocationChanged(new StockLocationChangedEvent(null, received));
+            rollup.onLocationChanged(new StockLocationChangedEvent(received, shipped));
+
+            // then
+            List<WarehouseSummaryDto> summaries = rollup.getSummaries();
+            assertThat(summaries).hasSize(1);
+            assertThat(summaries.get(0).getProductCount()).isEqualTo(1);
+            assertThat(summaries.get(0).getTotalQuantity()).isEqualTo(5);
+            assertThat(summaries.get(0).getInStockCount()).isEqualTo(1);
+        }
+    }
+}
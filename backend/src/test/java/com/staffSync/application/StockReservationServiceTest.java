@@ -0,0 +1,251 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.staffSync.application.product.StockCommandProcessor;
+import com.staffSync.application.product.StockQueueProperties;
+import com.staffSync.application.product.StockReservationProperties;
+import com.staffSync.application.product.StockReservationService;
+import com.staffSync.application.product.dto.CreateReservationRequest;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.application.product.dto.ReservationDto;
+import com.staffSync.common.util.HashedTimerWheel;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.product.StockReservationRepository;
+import com.staffSync.domain.product.StockStatus;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("StockReservationService 테스트")
+class StockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StockReservationRepository reservationRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private StockCommandProcessor processor;
+    private StockReservationService reservationService;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        StockQueueProperties queueProperties = new StockQueueProperties();
+        queueProperties.setLanes(1);
+        queueProperties.setFlushIntervalMs(1);
+        processor = new StockCommandProcessor(productRepository, transactionManager, eventPublisher, queueProperties);
+        processor.start();
+
+        StockReservationProperties properties = new StockReservationProperties();
+        properties.setTickMs(10);
+        reservationService = new StockReservationService(processor, reservationRepository, jdbcTemplate, properties);
+        reservationService.start();
+
+        product = new Product("노트북", "전자제품", 10, 5, 1000000.0);
+        ReflectionTestUtils.setField(product, "id", 1L);
+        given(productRepository.findAllForUpdate(anyCollection())).willReturn(List.of(product));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reservationService.stop();
+        processor.stop();
+    }
+
+    private ReservationDto reserve(int quantity, Long ttlSeconds) throws Exception {
+        return reservationService.reserve(1L, new CreateReservationRequest(quantity, ttlSeconds))
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    @Nested
+    @DisplayName("reserve 메서드는")
+    class Describe_reserve {
+
+        @Test
+        @DisplayName("재고 수량은 그대로 두고 판매 가능 수량과 상태만 바꾼다")
+        void it_holds_stock() throws Exception {
+            // when
+            ReservationDto reservation = reserve(6, null);
+
+            // then
+            assertThat(reservation.getQuantity()).isEqualTo(6);
+            assertThat(product.getQuantity()).isEqualTo(10);
+            assertThat(product.getAvailableQuantity()).isEqualTo(4);
+            assertThat(product.getStatus()).isEqualTo(StockStatus.LOW_STOCK); // 판매 가능 4 <= 최소 5
+            verify(jdbcTemplate).update(startsWith("INSERT INTO stock_reservations"), any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("판매 가능 수량보다 많이 예약하면 거절한다")
+        void it_rejects_over_reservation() throws Exception {
+            // given
+            reserve(8, null);
+
+            // when & then
+            assertThatThrownBy(() -> reserve(3, null))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(product.getReservedQuantity()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("예약된 수량은 일반 재고 차감으로 가져갈 수 없다")
+        void it_protects_held_stock_from_decrease() throws Exception {
+            // given
+            reserve(8, null);
+
+            // when & then
+            assertThatThrownBy(() -> processor.submit(1L, -3).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("재고가 부족합니다.");
+            assertThat(product.getQuantity()).isEqualTo(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("confirm 메서드는")
+    class Describe_confirm {
+
+        @Test
+        @DisplayName("예약 수량만큼 재고를 차감하고 예약을 없앤다")
+        void it_consumes_reservation() throws Exception {
+            // given
+            ReservationDto reservation = reserve(6, null);
+
+            // when
+            ProductDto result = reservationService.confirm(reservation.getId()).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result.getQuantity()).isEqualTo(4);
+            assertThat(result.getReservedQuantity()).isZero();
+            assertThat(result.getAvailableQuantity()).isEqualTo(4);
+            verify(jdbcTemplate).update(startsWith("DELETE FROM stock_reservations"), eq(reservation.getId()));
+            assertThatThrownBy(() -> reservationService.confirm(reservation.getId()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("확정이 거절되면 잡아 둔 예약 수량을 돌려놓고 예약 행을 삭제한다")
+        void it_releases_hold_when_confirm_rejected() throws Exception {
+            // given: 예약 후 재고가 모두 창고에 배치된 상태 (확정 차감 불가)
+            ReservationDto reservation = reserve(6, null);
+            ReflectionTestUtils.setField(product, "allocatedQuantity", 10);
+
+            // when & then
+            assertThatThrownBy(() -> reservationService.confirm(reservation.getId()).get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (product.getReservedQuantity() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(product.getReservedQuantity()).isZero();
+            assertThat(product.getQuantity()).isEqualTo(10);
+            verify(jdbcTemplate, timeout(5000)).update(startsWith("DELETE FROM stock_reservations"),
+                    eq(reservation.getId()));
+        }
+    }
+
+    @Nested
+    @DisplayName("만료된 예약은")
+    class Describe_expiry {
+
+        @Test
+        @DisplayName("타이머 휠이 자동으로 해제한다")
+        void it_releases_expired_reservation() throws Exception {
+            // given
+            ReservationDto reservation = reserve(6, 1L);
+
+            // when
+            long deadline = System.currentTimeMillis() + 5000;
+            while (product.getReservedQuantity() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+
+            // then
+            assertThat(product.getReservedQuantity()).isZero();
+            assertThat(product.getQuantity()).isEqualTo(10);
+            assertThat(product.getStatus()).isEqualTo(StockStatus.IN_STOCK);
+            assertThatThrownBy(() -> reservationService.getReservation(reservation.getId()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("HashedTimerWheel 은")
+    class Describe_timer_wheel {
+
+        private final AtomicLong now = new AtomicLong(0);
+        private final HashedTimerWheel wheel = new HashedTimerWheel(10, 8, now::get);
+
+        @Test
+        @DisplayName("만료 시각이 된 tick 에서만 작업을 실행한다")
+        void it_fires_at_deadline() {
+            // given
+            List<String> fired = new ArrayList<>();
+            wheel.schedule(() -> fired.add("a"), 25);
+            wheel.schedule(() -> fired.add("b"), 500); // 휠 한 바퀴(80ms)보다 긴 타이머
+
+            // when & then
+            wheel.advanceTo(20);
+            assertThat(fired).isEmpty();
+            wheel.advanceTo(30);
+            assertThat(fired).containsExactly("a");
+            wheel.advanceTo(490);
+            assertThat(fired).containsExactly("a");
+            wheel.advanceTo(500);
+            assertThat(fired).containsExactly("a", "b");
+        }
+
+        @Test
+        @DisplayName("취소된 작업은 실행하지 않는다")
+        void it_skips_cancelled() {
+            // given
+            List<String> fired = new ArrayList<>();
+            HashedTimerWheel.Timeout timeout = wheel.schedule(() -> fired.add("a"), 20);
+            wheel.advanceTo(10);
+
+            // when
+            timeout.cancel();
+            wheel.advanceTo(100);
+
+            // then
+            assertThat(fired).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.staffSync.application.sync.ChangeSequence;
+import com.staffSync.application.sync.SyncService;
+import com.staffSync.application.sync.dto.SyncDto;
+import com.staffSync.domain.employee.Employee;
+import com.staffSync.domain.employee.EmployeeRepository;
+import com.staffSync.domain.product.Product;
+import com.staffSync.domain.product.ProductRepository;
+import com.staffSync.domain.sync.SyncTombstoneRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncService 테스트")
+class SyncServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private SyncTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private ChangeSequence changeSequence;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    private Product product(long id, long changeSeq) {
+        Product product = new Product("노트북" + id, "전자제품", 10, 5, 1000000.0);
+        ReflectionTestUtils.setField(product, "id", id);
+        product.assignChangeSeq(changeSeq);
+        return product;
+    }
+
+    private Employee employee(long id, long changeSeq) {
+        Employee employee = new Employee("EMP00" + id, "홍길동", "hong" + id + "@example.com",
+                LocalDate.of(2020, 1, 1), 3000000.0, "개발팀");
+        ReflectionTestUtils.setField(employee, "id", id);
+        employee.assignChangeSeq(changeSeq);
+        return employee;
+    }
+
+    @Nested
+    @DisplayName("getChanges 메서드는")
+    class Describe_getChanges {
+
+        @Test
+        @DisplayName("변경분을 순번 순으로 합쳐 limit 건까지 반환하고 마지막 순번을 커서로 준다")
+        void it_merges_changes_up_to_limit() {
+            // given
+            given(changeSequence.stableWatermark()).willReturn(100L);
+            given(productRepository.findChanges(eq(0L), eq(100L), any(Limit.class)))
+                    .willReturn(List.of(product(1L, 3L), product(2L, 7L)));
+            given(employeeRepository.findChanges(eq(0L), eq(100L), any(Limit.class)))
+                    .willReturn(List.of(employee(1L, 5L), employee(2L, 9L)));
+            given(tombstoneRepository.findChanges(eq(0L), eq(100L), any(Limit.class))).willReturn(List.of());
+
+            // when
+            SyncDto result = syncService.getChanges(null, 3);
+
+            // then
+            assertThat(result.isHasMore()).isTrue();
+            assertThat(result.getCursor()).isEqualTo("7");
+            assertThat(result.getProducts()).extracting("id").containsExactly(1L, 2L);
+            assertThat(result.getEmployees()).extracting("id").containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("남은 변경이 없으면 안전한 경계를 커서로 준다")
+        void it_returns_watermark_as_cursor() {
+            // given
+            given(changeSequence.stableWatermark()).willReturn(50L);
+            given(productRepository.findChanges(eq(40L), eq(50L), any(Limit.class))).willReturn(List.of(product(1L, 42L)));
+            given(employeeRepository.findChanges(eq(40L), eq(50L), any(Limit.class))).willReturn(List.of());
+            given(tombstoneRepository.findChanges(eq(40L), eq(50L), any(Limit.class))).willReturn(List.of());
+
+            // when
+            SyncDto result = syncService.getChanges("40", 500);
+
+            // then
+            assertThat(result.isHasMore()).isFalse();
+            assertThat(result.getCursor()).isEqualTo("50");
+            assertThat(result.getProducts()).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("커서 형식이 잘못되면 예외가 발생한다")
+        void it_throws_exception_for_invalid_cursor() {
+            // when & then
+            assertThatThrownBy(() -> syncService.getChanges("abc", 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("유효하지 않은 커서입니다.");
+        }
+    }
+}
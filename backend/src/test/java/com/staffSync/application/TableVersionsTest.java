@@ -0,0 +1,104 @@
+package com.staffSync.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.staffSync.application.cache.TableVersions;
+import com.staffSync.application.product.ProductChangedEvent;
+import com.staffSync.application.product.dto.ProductDto;
+import com.staffSync.infrastructure.web.ConditionalGetInterceptor;
+
+@DisplayName("TableVersions / ConditionalGetInterceptor 테스트")
+class TableVersionsTest {
+
+    private TableVersions tableVersions;
+    private ConditionalGetInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        tableVersions = new TableVersions();
+        interceptor = new ConditionalGetInterceptor(tableVersions, TableVersions.PRODUCTS);
+    }
+
+    private MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products/dashboard");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return request;
+    }
+
+    @Nested
+    @DisplayName("onProductChanged 메서드는")
+    class Describe_onProductChanged {
+
+        @Test
+        @DisplayName("상품 테이블 버전만 올린다")
+        void it_bumps_only_product_version() {
+            // given
+            String productEtag = tableVersions.current(TableVersions.PRODUCTS).etag();
+            String employeeEtag = tableVersions.current(TableVersions.EMPLOYEES).etag();
+
+            // when
+            tableVersions.onProductChanged(ProductChangedEvent.created(new ProductDto()));
+
+            // then
+            assertThat(tableVersions.current(TableVersions.PRODUCTS).etag()).isNotEqualTo(productEtag);
+            assertThat(tableVersions.current(TableVersions.EMPLOYEES).etag()).isEqualTo(employeeEtag);
+        }
+    }
+
+    @Nested
+    @DisplayName("ConditionalGetInterceptor 는")
+    class Describe_interceptor {
+
+        @Test
+        @DisplayName("첫 조회에는 ETag 를 붙여 컨트롤러로 넘긴다")
+        void it_sets_etag_on_first_request() throws Exception {
+            // given
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = interceptor.preHandle(get(null), response, null);
+
+            // then
+            assertThat(proceed).isTrue();
+            assertThat(response.getHeader("ETag")).isEqualTo(tableVersions.current(TableVersions.PRODUCTS).etag());
+        }
+
+        @Test
+        @DisplayName("ETag 가 일치하면 컨트롤러를 실행하지 않고 304 를 반환한다")
+        void it_returns_not_modified() throws Exception {
+            // given
+            String etag = tableVersions.current(TableVersions.PRODUCTS).etag();
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = interceptor.preHandle(get(etag), response, null);
+
+            // then
+            assertThat(proceed).isFalse();
+            assertThat(response.getStatus()).isEqualTo(304);
+        }
+
+        @Test
+        @DisplayName("변경이 커밋된 뒤에는 이전 ETag 로 304 를 받지 않는다")
+        void it_proceeds_after_change() throws Exception {
+            // given
+            String etag = tableVersions.current(TableVersions.PRODUCTS).etag();
+            tableVersions.bump(TableVersions.PRODUCTS);
+
+            // when
+            boolean proceed = interceptor.preHandle(get(etag), new MockHttpServletResponse(), null);
+
+            // then
+            assertThat(proceed).isTrue();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+import api from './axiosConfig';
+
+/**
+ * 상품 실시간 스트림(SSE) 구독
+ *
+ * EventSource 는 Authorization 헤더를 보낼 수 없어 fetch 스트림으로 직접 읽는다.
+ * 연결이 끊기면 마지막 이벤트 ID(Last-Event-ID)로 재연결해 놓친 이벤트를 다시 받는다.
+ *
+ * @param {Object} handlers 이벤트 이름별 핸들러 (stock, status, dashboard, reset)
+ * @param {string} [fromEventId] 이 ID 이후 이벤트부터 받음 (대시보드 응답의 streamEventId)
+ * @returns {Function} 구독 해제 함수
+ */
+export const subscribeProductStream = (handlers, fromEventId = null) => {
+  const controller = new AbortController();
+  let lastEventId = fromEventId;
+
+  const dispatch = (raw) => {
+    let eventName = 'message';
+    const dataLines = [];
+    raw.split('\n').forEach((line) => {
+      if (!line || line.startsWith(':')) return; // 하트비트(주석)
+      const index = line.indexOf(':');
+      const field = index < 0 ? line : line.slice(0, index);
+      let value = index < 0 ? '' : line.slice(index + 1);
+      if (value.startsWith(' ')) value = value.slice(1);
+
+      if (field === 'id') lastEventId = value;
+      else if (field === 'event') eventName = value;
+      else if (field === 'data') dataLines.push(value);
+    });
+
+    const handler = handlers[eventName];
+    if (handler && dataLines.length > 0) {
+      const data = dataLines.join('\n');
+      handler(eventName === 'reset' ? data : JSON.parse(data));
+    }
+  };
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers = { Accept: 'text/event-stream' };
+        const token = localStorage.getItem('accessToken');
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (lastEventId) headers['Last-Event-ID'] = lastEventId;
+
+        const response = await fetch(`${api.defaults.baseURL}/api/products/stream`, {
+          headers,
+          signal: controller.signal,
+        });
+        if (response.status === 401) return; // 인증 만료 시 재연결하지 않음
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value.replace(/\r\n/g, '\n');
+          let boundary;
+          while ((boundary = buffer.indexOf('\n\n')) >= 0) {
+            dispatch(buffer.slice(0, boundary));
+            buffer = buffer.slice(boundary + 2);
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.error('실시간 스트림 연결 끊김:', error);
+      }
+      await new Promise((resolve) => setTimeout(resolve, 3000)); // 재연결 대기
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
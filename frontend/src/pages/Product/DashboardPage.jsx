@@ -1,61 +1,170 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import { useNavigate } from 'react-router-dom';
 import api from '../../api/axiosConfig';
+import { subscribeProductStream } from '../../api/productStream';
 
 const DashboardPage = () => {
   const navigate = useNavigate();
   const [dashboard, setDashboard] = useState(null);
   const [products, setProducts] = useState([]);
-  const [filteredProducts, setFilteredProducts] = useState([]); // 필터링된 상품
   const [lowStockProducts, setLowStockProducts] = useState([]);
   const [loading, setLoading] = useState(true);
 
+  // 커서 페이지 상태
+  const [nextCursor, setNextCursor] = useState(null);
+  const [totalCount, setTotalCount] = useState(0); // 필터 조건에 맞는 전체 상품 수 (첫 페이지 응답 기준)
+  const [sortKey, setSortKey] = useState('id');
+  const [loadingMore, setLoadingMore] = useState(false);
+
   // 검색 & 필터 상태
   const [searchKeyword, setSearchKeyword] = useState('');
   const [selectedCategory, setSelectedCategory] = useState('전체');
+  const [debouncedKeyword, setDebouncedKeyword] = useState(''); // 입력이 멈춘 뒤의 검색어 (서버 조회용)
+
+  // 현재 목록 조회 조건 (스트림 콜백 등 이전 렌더의 함수에서도 최신 조건을 쓰도록 ref 로 보관)
+  const queryRef = useRef({});
+  queryRef.current = {
+    sort: sortKey,
+    category: selectedCategory === '전체' ? undefined : selectedCategory,
+    keyword: debouncedKeyword || undefined,
+  };
+  const pageRequestRef = useRef(0); // 조건이 바뀌기 전에 보낸 요청의 응답은 버린다
+  const streamRef = useRef({ generation: 0, unsubscribe: null }); // 실시간 스트림 구독 (다시 열 때마다 세대 증가)
   
   const categories = ['전체', '전자제품', '가구', '문구', '식품', '의류', '기타'];
-  
+  const sortOptions = [
+    { value: 'id', label: '등록순' },
+    { value: 'name', label: '상품명순' },
+    { value: 'price', label: '가격순' },
+    { value: 'quantity', label: '재고순' },
+    { value: 'updatedAt', label: '최근 수정순' },
+  ];
+  const PAGE_SIZE = 20;
+
+  // 정렬/카테고리/검색어가 바뀌면 커서를 버리고 첫 페이지부터 다시 조회 (필터는 서버에서 적용)
   useEffect(() => {
-    fetchData();
-  }, []);
+    loadFirstPage();
+  }, [sortKey, selectedCategory, debouncedKeyword]);
 
-  // 검색 & 필터링
+  // 검색어 입력 디바운스
   useEffect(() => {
-    let result = products;
-    
-    // 카테고리 필터
-    if (selectedCategory !== '전체') {
-      result = result.filter(p => p.category === selectedCategory);
-    }
-    
-    // 검색어 필터
-    if (searchKeyword.trim()) {
-      result = result.filter(p => 
-        p.name.toLowerCase().includes(searchKeyword.toLowerCase())
-      );
+    const timer = setTimeout(() => setDebouncedKeyword(searchKeyword.trim()), 300);
+    return () => clearTimeout(timer);
+  }, [searchKeyword]);
+
+  // 대시보드 + 실시간 스트림: 변경분만 반영 (재조회 없이 대시보드/목록 갱신)
+  useEffect(() => {
+    openStream();
+    return closeStream;
+  }, []);
+
+  // 대시보드 변화량 적용
+  const applyDashboardDelta = (prev, delta) => {
+    if (!prev) return prev;
+    const addAll = (base, changes) => {
+      const result = { ...base };
+      Object.entries(changes || {}).forEach(([key, value]) => {
+        result[key] = (result[key] || 0) + value;
+      });
+      return result;
+    };
+    return {
+      ...prev,
+      totalProducts: prev.totalProducts + delta.totalProducts,
+      inStockCount: prev.inStockCount + delta.inStockCount,
+      lowStockCount: prev.lowStockCount + delta.lowStockCount,
+      outOfStockCount: prev.outOfStockCount + delta.outOfStockCount,
+      totalInventoryValue: prev.totalInventoryValue + delta.totalInventoryValue,
+      stockByCategory: addAll(prev.stockByCategory, delta.stockByCategory),
+      valueByCategory: addAll(prev.valueByCategory, delta.valueByCategory),
+    };
+  };
+
+  // 상품 목록 한 페이지 조회 (전체 목록 대신 커서 페이지, 카테고리/검색어는 서버에서 필터링)
+  const fetchProductPage = (cursor) =>
+    api.get('http://localhost:8080/api/products', {
+      params: { size: PAGE_SIZE, direction: 'asc', ...queryRef.current, cursor: cursor || undefined },
+    });
+
+  // 현재 조건의 첫 페이지 조회 (이전 조건의 커서와 목록은 버림)
+  const loadFirstPage = async () => {
+    const requestId = ++pageRequestRef.current;
+    try {
+      const res = await fetchProductPage(null);
+      if (requestId !== pageRequestRef.current) return;
+      setProducts(res.data.content);
+      setNextCursor(res.data.nextCursor);
+      setTotalCount(res.data.totalCount ?? res.data.content.length);
+    } catch (error) {
+      console.error('상품 목록 로딩 실패:', error);
+    } finally {
+      if (requestId === pageRequestRef.current) setLoading(false);
     }
-    
-    setFilteredProducts(result);
-  }, [products, selectedCategory, searchKeyword]);
+  };
 
-  const fetchData = async () => {
+  // 대시보드 요약과 재고 부족 목록 조회
+  const fetchSummary = async () => {
     try {
-      const [dashboardRes, productsRes, lowStockRes] = await Promise.all([
+      const [dashboardRes, lowStockRes] = await Promise.all([
         // axios -> api 변경
         api.get('http://localhost:8080/api/products/dashboard'),
-        api.get('http://localhost:8080/api/products'),
         api.get('http://localhost:8080/api/products/low-stock')
       ]);
 
       setDashboard(dashboardRes.data);
-      setProducts(productsRes.data);
-      setFilteredProducts(productsRes.data); // 필터링 초기값 설정
       setLowStockProducts(lowStockRes.data);
+      return dashboardRes.data;
     } catch (error) {
       console.error('데이터 로딩 실패:', error);
+      return null;
+    }
+  };
+
+  const closeStream = () => {
+    const stream = streamRef.current;
+    stream.generation += 1;
+    if (stream.unsubscribe) stream.unsubscribe();
+    stream.unsubscribe = null;
+  };
+
+  // 대시보드를 읽고, 그 집계에 반영된 스트림 이벤트 ID(Last-Event-ID)부터 구독
+  // (읽기와 구독 사이의 변화량은 재전송으로 받고, 이미 집계에 들어간 변화량은 다시 받지 않는다)
+  const openStream = async () => {
+    closeStream();
+    const generation = streamRef.current.generation;
+    const dashboardData = await fetchSummary();
+    if (!dashboardData || generation !== streamRef.current.generation) return; // 그 사이 다시 열었거나 화면을 떠남
+
+    streamRef.current.unsubscribe = subscribeProductStream({
+      dashboard: (delta) => setDashboard((prev) => applyDashboardDelta(prev, delta)),
+      stock: (event) =>
+        setProducts((prev) =>
+          prev.map((p) =>
+            p.id === event.productId ? { ...p, quantity: event.afterQuantity, status: event.status } : p
+          )
+        ),
+      status: () =>
+        api.get('http://localhost:8080/api/products/low-stock').then((res) => setLowStockProducts(res.data)),
+      reset: () => fetchData(), // 놓친 이벤트를 이어 받을 수 없으면 (재시작, 일괄 등록 등) 전체 재조회
+    }, dashboardData.streamEventId);
+  };
+
+  const fetchData = () => Promise.all([openStream(), loadFirstPage()]);
+
+  // 다음 페이지 이어서 불러오기
+  const handleLoadMore = async () => {
+    if (!nextCursor) return;
+    setLoadingMore(true);
+    const requestId = pageRequestRef.current;
+    try {
+      const res = await fetchProductPage(nextCursor);
+      if (requestId !== pageRequestRef.current) return; // 그 사이 조건이 바뀜
+      setProducts((prev) => [...prev, ...res.data.content]);
+      setNextCursor(res.data.nextCursor);
+    } catch (error) {
+      console.error('상품 목록 로딩 실패:', error);
     } finally {
-      setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -64,8 +173,7 @@ const DashboardPage = () => {
     try {
       await api.patch(
         `http://localhost:8080/api/products/${productId}/stock/increase?amount=1`
-      );
-      fetchData(); // 데이터 새로고침
+      ); // 화면 갱신은 실시간 스트림이 처리
     } catch (error) {
       alert('재고 증가 실패: ' + (error.response?.data || error.message));
     }
@@ -76,8 +184,7 @@ const DashboardPage = () => {
     try {
       await api.patch(
         `http://localhost:8080/api/products/${productId}/stock/decrease?amount=1`
-      );
-      fetchData(); // 데이터 새로고침
+      ); // 화면 갱신은 실시간 스트림이 처리
     } catch (error) {
       alert('재고 감소 실패: ' + (error.response?.data || error.message));
     }
@@ -308,9 +415,22 @@ const DashboardPage = () => {
               </select>
             </div>
         
+            {/* 정렬 기준 */}
+            <div className="md:w-48">
+              <select
+                value={sortKey}
+                onChange={(e) => setSortKey(e.target.value)}
+                className="w-full px-4 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-indigo-500 focus:border-transparent"
+              >
+                {sortOptions.map((option) => (
+                  <option key={option.value} value={option.value}>{option.label}</option>
+                ))}
+              </select>
+            </div>
+
             {/* 결과 수 표시 */}
             <div className="flex items-center text-sm text-gray-600">
-              총 {filteredProducts.length}개 상품
+              {products.length}개 표시 / 전체 {totalCount}개
             </div>
           </div>
         </div>
@@ -334,7 +454,7 @@ const DashboardPage = () => {
                 </tr>
               </thead>
               <tbody className="bg-white divide-y divide-gray-200">
-                {filteredProducts.map((product) => (
+                {products.map((product) => (
                   <tr key={product.id} className="hover:bg-gray-50">
                     <td className="px-6 py-4 whitespace-nowrap text-sm font-medium text-gray-900">
                       {product.name}
@@ -376,7 +496,7 @@ const DashboardPage = () => {
                 ))}
 
                 {/* 검색 결과 없을 때 */}
-                {filteredProducts.length === 0 && (
+                {products.length === 0 && (
                   <tr>
                     <td colSpan="7" className="px-6 py-12 text-center text-gray-500">
                       <svg className="w-12 h-12 mx-auto mb-4 text-gray-400" fill="none" stroke="currentColor" viewBox="0 0 24 24">
@@ -390,6 +510,19 @@ const DashboardPage = () => {
               </tbody>
             </table>
           </div>
+
+          {/* 더 보기 (다음 페이지) */}
+          {nextCursor && (
+            <div className="px-6 py-4 border-t border-gray-200 text-center">
+              <button
+                onClick={handleLoadMore}
+                disabled={loadingMore}
+                className="px-6 py-2 bg-gray-100 text-gray-700 text-sm font-semibold rounded-lg hover:bg-gray-200 transition-colors disabled:opacity-50"
+              >
+                {loadingMore ? '불러오는 중...' : '더 보기'}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>